@@ -0,0 +1,46 @@
+package edu.ntnu.stud.boardgame.benchmark;
+
+import edu.ntnu.stud.boardgame.model.Board;
+import edu.ntnu.stud.boardgame.model.Tile;
+import edu.ntnu.stud.boardgame.model.action.LadderAction;
+import edu.ntnu.stud.boardgame.model.action.SkipTurnAction;
+import edu.ntnu.stud.boardgame.model.action.SnakeAction;
+
+/** Builds synthetic Snakes and Ladders boards of any size for the benchmarks. */
+final class BenchmarkBoards {
+
+  private BenchmarkBoards() {}
+
+  /**
+   * Creates a linear board with a ladder, a snake and a skip turn tile in every block of 20 tiles.
+   *
+   * @param tileCount the number of tiles, at least 21
+   * @return the board
+   */
+  static Board createLadderBoard(int tileCount) {
+    int endTileId = tileCount - 1;
+    int columns = (int) Math.ceil(Math.sqrt(tileCount));
+    Board board =
+        new Board(
+            "Benchmark " + tileCount,
+            "Synthetic board with " + tileCount + " tiles",
+            (tileCount + columns - 1) / columns,
+            columns,
+            0,
+            endTileId);
+
+    for (int id = 0; id < tileCount; id++) {
+      board.addTile(new Tile(id));
+    }
+    for (int id = 0; id < endTileId; id++) {
+      board.getTile(id).setNextTile(board.getTile(id + 1));
+    }
+
+    for (int block = 0; block + 20 < endTileId; block += 20) {
+      board.getTile(block + 3).setLandAction(new LadderAction(board.getTile(block + 14)));
+      board.getTile(block + 17).setLandAction(new SnakeAction(board.getTile(block + 6)));
+      board.getTile(block + 9).setLandAction(new SkipTurnAction());
+    }
+    return board;
+  }
+}
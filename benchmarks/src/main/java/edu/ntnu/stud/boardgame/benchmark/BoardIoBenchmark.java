@@ -0,0 +1,67 @@
+package edu.ntnu.stud.boardgame.benchmark;
+
+import edu.ntnu.stud.boardgame.exception.files.BoardParsingException;
+import edu.ntnu.stud.boardgame.exception.files.BoardWritingException;
+import edu.ntnu.stud.boardgame.io.board.BoardFileReaderGson;
+import edu.ntnu.stud.boardgame.io.board.BoardFileWriterGson;
+import edu.ntnu.stud.boardgame.model.Board;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Measures parsing and serializing boards with the Gson reader and writer. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class BoardIoBenchmark {
+
+  @Param({"100", "100000"})
+  private int tileCount;
+
+  private BoardFileReaderGson reader;
+  private BoardFileWriterGson writer;
+  private BoardFileWriterGson compactWriter;
+  private Board board;
+  private String json;
+
+  /**
+   * Builds a board of the requested size and its JSON form.
+   *
+   * @throws BoardWritingException if the board cannot be serialized
+   */
+  @Setup
+  public void setUp() throws BoardWritingException {
+    reader = new BoardFileReaderGson();
+    writer = new BoardFileWriterGson();
+    compactWriter = new BoardFileWriterGson(true);
+    board = BenchmarkBoards.createLadderBoard(tileCount);
+    json = writer.serializeBoardToString(board);
+  }
+
+  @Benchmark
+  public Board parseBoard() throws BoardParsingException {
+    return reader.parseBoard(json);
+  }
+
+  @Benchmark
+  public String serializeBoardToString() throws BoardWritingException {
+    return writer.serializeBoardToString(board);
+  }
+
+  @Benchmark
+  public String serializeBoardToStringCompact() throws BoardWritingException {
+    return compactWriter.serializeBoardToString(board);
+  }
+}
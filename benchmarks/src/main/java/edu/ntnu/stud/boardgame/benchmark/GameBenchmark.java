@@ -0,0 +1,106 @@
+package edu.ntnu.stud.boardgame.benchmark;
+
+import edu.ntnu.stud.boardgame.factory.LadderGameBoardFactory;
+import edu.ntnu.stud.boardgame.factory.MonopolyBoardFactory;
+import edu.ntnu.stud.boardgame.model.Player;
+import edu.ntnu.stud.boardgame.model.enums.PieceType;
+import edu.ntnu.stud.boardgame.model.game.BoardGame;
+import edu.ntnu.stud.boardgame.model.game.LadderGame;
+import edu.ntnu.stud.boardgame.model.game.MonopolyGame;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures a single turn of {@link LadderGame} and {@link MonopolyGame}.
+ *
+ * <p>Each invocation plays one turn and advances to the next player, the same way {@link
+ * edu.ntnu.stud.boardgame.model.BoardGameFacade#playTurn()} does. When a game ends, a new one is
+ * started, so the cost of starting a game is spread over the turns of the game.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GameBenchmark {
+
+  private static final PieceType[] PIECES = PieceType.values();
+  private static final int PLAYER_COUNT = 4;
+
+  private LadderGame ladderGame;
+  private MonopolyGame monopolyGame;
+
+  /** Silences the per-move info logging, which would otherwise measure console output. */
+  @Setup
+  public void setUp() {
+    Logger.getLogger("").setLevel(Level.WARNING);
+    ladderGame = startLadderGame();
+    monopolyGame = startMonopolyGame();
+  }
+
+  private static LadderGame startLadderGame() {
+    LadderGame game = new LadderGame();
+    game.setBoard(LadderGameBoardFactory.createBoard("Classic"));
+    seatPlayersAndStart(game);
+    return game;
+  }
+
+  private static MonopolyGame startMonopolyGame() {
+    MonopolyGame game = new MonopolyGame();
+    game.setBoard(MonopolyBoardFactory.createBoard("Standard"));
+    seatPlayersAndStart(game);
+    return game;
+  }
+
+  private static void seatPlayersAndStart(BoardGame game) {
+    game.createDice(2);
+    for (int i = 0; i < PLAYER_COUNT; i++) {
+      game.addPlayer(new Player("Player " + (i + 1), PIECES[i % PIECES.length]));
+    }
+    game.startGame();
+  }
+
+  /**
+   * Plays one Snakes and Ladders turn.
+   *
+   * @return the game, so the turn cannot be optimised away
+   */
+  @Benchmark
+  public BoardGame ladderGamePlayTurn() {
+    ladderGame.playTurn();
+    if (ladderGame.isGameOver()) {
+      ladderGame = startLadderGame();
+    } else {
+      ladderGame.nextTurn();
+    }
+    return ladderGame;
+  }
+
+  /**
+   * Plays one Monopoly turn.
+   *
+   * @return the game, so the turn cannot be optimised away
+   */
+  @Benchmark
+  public BoardGame monopolyGamePlayTurn() {
+    monopolyGame.playTurn();
+    if (monopolyGame.isGameOver()) {
+      monopolyGame = startMonopolyGame();
+    } else {
+      monopolyGame.nextTurn();
+    }
+    return monopolyGame;
+  }
+}
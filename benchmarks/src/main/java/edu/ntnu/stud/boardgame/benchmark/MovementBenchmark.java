@@ -0,0 +1,60 @@
+package edu.ntnu.stud.boardgame.benchmark;
+
+import edu.ntnu.stud.boardgame.model.Board;
+import edu.ntnu.stud.boardgame.model.CompiledBoard;
+import edu.ntnu.stud.boardgame.model.Player;
+import edu.ntnu.stud.boardgame.model.Tile;
+import edu.ntnu.stud.boardgame.model.enums.PieceType;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures resolving a move, by walking the tile chain with {@link Player#getDestinationTile(int)}
+ * and by looking it up in a {@link CompiledBoard}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MovementBenchmark {
+
+  @Param({"1", "6", "12"})
+  private int steps;
+
+  private Player player;
+  private CompiledBoard compiledBoard;
+  private int fromTileId;
+
+  /** Places a player in the middle of a 1000 tile board. */
+  @Setup
+  public void setUp() {
+    Board board = BenchmarkBoards.createLadderBoard(1_000);
+    Tile fromTile = board.getTile(500);
+    fromTileId = fromTile.getTileId();
+    player = new Player("Benchmark", PieceType.values()[0]);
+    player.setCurrentTile(fromTile);
+    compiledBoard = new CompiledBoard(board, 12);
+  }
+
+  @Benchmark
+  public Tile playerGetDestinationTile() {
+    return player.getDestinationTile(steps);
+  }
+
+  @Benchmark
+  public int compiledBoardAdvance() {
+    return compiledBoard.advance(fromTileId, steps);
+  }
+}
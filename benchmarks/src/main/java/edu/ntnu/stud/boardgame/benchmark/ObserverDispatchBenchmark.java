@@ -0,0 +1,69 @@
+package edu.ntnu.stud.boardgame.benchmark;
+
+import edu.ntnu.stud.boardgame.model.Player;
+import edu.ntnu.stud.boardgame.model.enums.PieceType;
+import edu.ntnu.stud.boardgame.model.game.LadderGame;
+import edu.ntnu.stud.boardgame.observer.GameEvent;
+import edu.ntnu.stud.boardgame.observer.event.DiceRolledEvent;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** Measures {@code BoardGame.notifyObservers} with different numbers of observers. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ObserverDispatchBenchmark {
+
+  @Param({"0", "1", "50"})
+  private int observerCount;
+
+  private DispatchingGame game;
+  private GameEvent event;
+
+  /**
+   * Registers observers that hand every event to the blackhole.
+   *
+   * <p>Console logging is turned off, so the benchmark measures dispatch and log record creation
+   * but not writing to the console.
+   *
+   * @param blackhole the blackhole the observers consume events into
+   */
+  @Setup
+  public void setUp(Blackhole blackhole) {
+    Logger.getLogger("").setLevel(Level.WARNING);
+    game = new DispatchingGame();
+    for (int i = 0; i < observerCount; i++) {
+      game.registerObserver(blackhole::consume);
+    }
+    event = new DiceRolledEvent(7, new Player("Benchmark", PieceType.values()[0]));
+  }
+
+  @Benchmark
+  public void notifyObservers() {
+    game.dispatch(event);
+  }
+
+  /** Exposes the protected dispatch method of the game to the benchmark. */
+  private static final class DispatchingGame extends LadderGame {
+
+    private void dispatch(GameEvent event) {
+      notifyObservers(event);
+    }
+  }
+}
@@ -0,0 +1,143 @@
+package edu.ntnu.stud.boardgame.analysis;
+
+import java.util.Arrays;
+
+/**
+ * Exact game length statistics of a Snakes and Ladders board for a single player.
+ *
+ * <p>A turn is one of the player's turns, including turns lost to a skip turn tile. In a game with
+ * several players this equals the number of rounds the player needs to reach the end tile.
+ *
+ * @see MarkovAnalyzer
+ */
+public class BoardAnalysis {
+
+  private final double[] finishProbabilities;
+  private final double[] cumulativeProbabilities;
+  private final double[] expectedVisits;
+  private final double totalVisits;
+  private final double expectedTurns;
+  private final double unfinishedProbability;
+  private final int stateCount;
+
+  /**
+   * Creates a new board analysis.
+   *
+   * @param finishProbabilities probability of finishing in exactly {@code n} turns, by {@code n}
+   * @param expectedVisits expected number of turns ending on each tile, by tile ID
+   * @param unfinishedProbability probability left when the analysis stopped
+   * @param stateCount number of reachable states in the Markov chain
+   */
+  BoardAnalysis(
+      double[] finishProbabilities,
+      double[] expectedVisits,
+      double unfinishedProbability,
+      int stateCount) {
+    this.finishProbabilities = finishProbabilities.clone();
+    this.expectedVisits = expectedVisits.clone();
+    this.totalVisits = Arrays.stream(expectedVisits).sum();
+    this.unfinishedProbability = unfinishedProbability;
+    this.stateCount = stateCount;
+
+    this.cumulativeProbabilities = new double[finishProbabilities.length];
+    double cumulative = 0;
+    double expected = 0;
+    for (int turns = 0; turns < finishProbabilities.length; turns++) {
+      cumulative += finishProbabilities[turns];
+      cumulativeProbabilities[turns] = cumulative;
+      expected += turns * finishProbabilities[turns];
+    }
+    this.expectedTurns = cumulative == 0 ? Double.POSITIVE_INFINITY : expected / cumulative;
+  }
+
+  /**
+   * Gets the expected number of turns to reach the end tile.
+   *
+   * @return the expected number of turns, or positive infinity if the end tile cannot be reached
+   */
+  public double getExpectedTurns() {
+    return expectedTurns;
+  }
+
+  /**
+   * Gets the probability of reaching the end tile within a number of turns.
+   *
+   * @param turns the number of turns
+   * @return the cumulative probability between 0.0 and 1.0
+   */
+  public double getFinishProbability(int turns) {
+    if (turns < 0 || cumulativeProbabilities.length == 0) {
+      return 0;
+    }
+    return cumulativeProbabilities[Math.min(turns, cumulativeProbabilities.length - 1)];
+  }
+
+  /**
+   * Gets the smallest number of turns within which the end tile is reached with a probability.
+   *
+   * @param probability the probability between 0.0 and 1.0
+   * @return the number of turns, or -1 if the probability is never reached
+   * @throws IllegalArgumentException if probability is outside 0.0 and 1.0
+   */
+  public int getTurnsToFinish(double probability) {
+    if (probability < 0 || probability > 1) {
+      throw new IllegalArgumentException("Probability must be between 0 and 1.");
+    }
+    for (int turns = 0; turns < cumulativeProbabilities.length; turns++) {
+      if (cumulativeProbabilities[turns] >= probability) {
+        return turns;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Gets the distribution of the number of turns to finish.
+   *
+   * @return a copy of the distribution, where index {@code n} holds the probability of finishing in
+   *     exactly {@code n} turns
+   */
+  public double[] getFinishProbabilities() {
+    return finishProbabilities.clone();
+  }
+
+  /**
+   * Gets the expected number of turns that end on a tile, counting the final turn on the end tile.
+   *
+   * @param tileId the tile ID
+   * @return the expected number of visits, or 0 for tiles that do not exist
+   */
+  public double getExpectedVisits(int tileId) {
+    if (tileId < 0 || tileId >= expectedVisits.length) {
+      return 0;
+    }
+    return expectedVisits[tileId];
+  }
+
+  /**
+   * Gets the probability that a turn ends on a tile.
+   *
+   * <p>The visit probabilities of all tiles sum to 1.0. Tiles with a ladder or snake have a visit
+   * probability of 0, since the turn ends where the ladder or snake leads.
+   *
+   * @param tileId the tile ID
+   * @return the visit probability between 0.0 and 1.0
+   */
+  public double getVisitProbability(int tileId) {
+    return totalVisits == 0 ? 0 : getExpectedVisits(tileId) / totalVisits;
+  }
+
+  /**
+   * Gets the probability that is not covered by the distribution, because the analysis stopped at
+   * the turn limit.
+   *
+   * @return the unfinished probability between 0.0 and 1.0
+   */
+  public double getUnfinishedProbability() {
+    return unfinishedProbability;
+  }
+
+  public int getStateCount() {
+    return stateCount;
+  }
+}
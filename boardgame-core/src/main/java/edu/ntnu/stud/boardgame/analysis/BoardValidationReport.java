@@ -0,0 +1,175 @@
+package edu.ntnu.stud.boardgame.analysis;
+
+import java.util.List;
+
+/**
+ * Structured result of checking the tile graph of a board with the {@link BoardValidator}.
+ *
+ * <p>Errors are problems that make a game on the board fail, such as links to tiles that do not
+ * exist or an end tile that cannot be reached. Warnings are problems a game survives, such as a
+ * ladder that leads down or a tile no player can reach. A board is valid when it has no errors.
+ */
+public class BoardValidationReport {
+
+  private final List<Issue> issues;
+  private final int tileCount;
+  private final int reachableTileCount;
+
+  /**
+   * Creates a validation report.
+   *
+   * @param issues the problems found, in the order they were found
+   * @param tileCount the number of tiles on the board
+   * @param reachableTileCount the number of tiles reachable from the start tile
+   */
+  BoardValidationReport(List<Issue> issues, int tileCount, int reachableTileCount) {
+    this.issues = List.copyOf(issues);
+    this.tileCount = tileCount;
+    this.reachableTileCount = reachableTileCount;
+  }
+
+  /**
+   * Checks whether the board is valid.
+   *
+   * @return true if no errors were found
+   */
+  public boolean isValid() {
+    return getErrors().isEmpty();
+  }
+
+  public List<Issue> getIssues() {
+    return issues;
+  }
+
+  /**
+   * Gets the problems that make a game on the board fail.
+   *
+   * @return the errors
+   */
+  public List<Issue> getErrors() {
+    return issues.stream().filter(issue -> issue.getSeverity() == Severity.ERROR).toList();
+  }
+
+  /**
+   * Gets the problems a game on the board survives.
+   *
+   * @return the warnings
+   */
+  public List<Issue> getWarnings() {
+    return issues.stream().filter(issue -> issue.getSeverity() == Severity.WARNING).toList();
+  }
+
+  public int getTileCount() {
+    return tileCount;
+  }
+
+  /**
+   * Gets the number of tiles a player can reach from the start tile by moving or by following
+   * ladders and snakes.
+   *
+   * @return the number of reachable tiles, or 0 if the board has no start tile
+   */
+  public int getReachableTileCount() {
+    return reachableTileCount;
+  }
+
+  /**
+   * Describes the errors in a single line, for use in exception messages.
+   *
+   * @return the first error and the number of further errors, or an empty string if the board is
+   *     valid
+   */
+  public String getErrorSummary() {
+    List<Issue> errors = getErrors();
+    if (errors.isEmpty()) {
+      return "";
+    }
+    String summary = errors.getFirst().getMessage();
+    return errors.size() == 1 ? summary : summary + " (and " + (errors.size() - 1) + " more)";
+  }
+
+  /**
+   * Formats every issue on its own line.
+   *
+   * @return the report
+   */
+  public String formatReport() {
+    StringBuilder report = new StringBuilder();
+    report.append(String.format("%d tiles, %d reachable, %d errors, %d warnings%n", tileCount,
+        reachableTileCount, getErrors().size(), getWarnings().size()));
+    for (Issue issue : issues) {
+      report.append(issue).append(System.lineSeparator());
+    }
+    return report.toString();
+  }
+
+  /** How serious an issue is. */
+  public enum Severity {
+    ERROR,
+    WARNING
+  }
+
+  /** The kinds of problems the validator looks for. */
+  public enum IssueType {
+    NEGATIVE_TILE_ID,
+    MISSING_START_TILE,
+    MISSING_END_TILE,
+    MISSING_NEXT_TILE,
+    MISSING_JUMP_DESTINATION,
+    JUMP_CYCLE,
+    END_NOT_REACHED,
+    LADDER_LEADS_DOWN,
+    SNAKE_LEADS_UP,
+    UNREACHABLE_TILE
+  }
+
+  /** A single problem found on a board. */
+  public static final class Issue {
+
+    private final Severity severity;
+    private final IssueType type;
+    private final int tileId;
+    private final String message;
+
+    /**
+     * Creates an issue.
+     *
+     * @param severity how serious the issue is
+     * @param type the kind of problem
+     * @param tileId the ID of the tile the problem is on
+     * @param message a description of the problem
+     */
+    Issue(Severity severity, IssueType type, int tileId, String message) {
+      this.severity = severity;
+      this.type = type;
+      this.tileId = tileId;
+      this.message = message;
+    }
+
+    public Severity getSeverity() {
+      return severity;
+    }
+
+    public IssueType getType() {
+      return type;
+    }
+
+    /**
+     * Gets the ID of the tile the problem is on.
+     *
+     * @return the tile ID, or the ID of the missing start or end tile
+     */
+    public int getTileId() {
+      return tileId;
+    }
+
+    public String getMessage() {
+      return message;
+    }
+
+    @Override
+    public String toString() {
+      return severity + " " + type + ": " + message;
+    }
+  }
+}
@@ -0,0 +1,256 @@
+package edu.ntnu.stud.boardgame.analysis;
+
+import edu.ntnu.stud.boardgame.analysis.BoardValidationReport.Issue;
+import edu.ntnu.stud.boardgame.analysis.BoardValidationReport.IssueType;
+import edu.ntnu.stud.boardgame.analysis.BoardValidationReport.Severity;
+import edu.ntnu.stud.boardgame.model.Board;
+import edu.ntnu.stud.boardgame.model.CompiledBoard;
+import edu.ntnu.stud.boardgame.model.Tile;
+import edu.ntnu.stud.boardgame.model.action.LadderAction;
+import edu.ntnu.stud.boardgame.model.action.SnakeAction;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Singleton that checks the tile graph of a board before a game is played on it.
+ *
+ * <p>The validator finds missing start and end tiles, links to tiles that do not exist, chains of
+ * ladders and snakes that form a cycle, a chain of next tiles that never reaches the end tile,
+ * ladders that lead down, snakes that lead up and tiles that cannot be reached from the start tile.
+ * Every check visits each tile and link a constant number of times, so validation takes linear
+ * time in the size of the board. Boards are validated when they are read or built, which the board
+ * cache already limits to once per layout, so reports are not cached here.
+ *
+ * @see BoardValidationReport
+ */
+public class BoardValidator {
+
+  private static final int NO_TILE = CompiledBoard.NO_TILE;
+  private static final byte UNVISITED = 0;
+  private static final byte VISITING = 1;
+  private static final byte VISITED = 2;
+
+  private static BoardValidator instance;
+
+  private BoardValidator() {}
+
+  /**
+   * Gets the singleton instance of BoardValidator.
+   *
+   * @return the BoardValidator instance
+   */
+  public static synchronized BoardValidator getInstance() {
+    if (instance == null) {
+      instance = new BoardValidator();
+    }
+    return instance;
+  }
+
+  /**
+   * Validates a board.
+   *
+   * @param board the board to validate
+   * @return the validation report
+   * @throws IllegalArgumentException if board is null
+   */
+  public BoardValidationReport validate(Board board) {
+    if (board == null) {
+      throw new IllegalArgumentException("Board cannot be null.");
+    }
+
+    List<Issue> issues = new ArrayList<>();
+    int maxTileId = NO_TILE;
+    for (Tile tile : board.getTiles().values()) {
+      if (tile.getTileId() < 0) {
+        issues.add(new Issue(Severity.ERROR, IssueType.NEGATIVE_TILE_ID, tile.getTileId(),
+            "Tile ID cannot be negative: " + tile.getTileId() + "."));
+      }
+      maxTileId = Math.max(maxTileId, tile.getTileId());
+    }
+    if (!issues.isEmpty()) {
+      return new BoardValidationReport(issues, board.getTiles().size(), 0);
+    }
+
+    Graph graph = new Graph(board, maxTileId + 1, issues);
+    int startTileId = board.getStartTileId();
+    int endTileId = board.getEndTileId();
+    if (!graph.contains(startTileId)) {
+      issues.add(new Issue(Severity.ERROR, IssueType.MISSING_START_TILE, startTileId,
+          "Start tile (ID: " + startTileId + ") not found on the board."));
+    }
+    if (!graph.contains(endTileId)) {
+      issues.add(new Issue(Severity.ERROR, IssueType.MISSING_END_TILE, endTileId,
+          "End tile (ID: " + endTileId + ") not found on the board."));
+    }
+
+    checkJumpCycles(graph, issues);
+    int reachable = 0;
+    if (graph.contains(startTileId)) {
+      if (graph.contains(endTileId) && !reachesEnd(graph, startTileId, endTileId)) {
+        issues.add(new Issue(Severity.ERROR, IssueType.END_NOT_REACHED, endTileId,
+            "Following the next tiles from the start tile never reaches the end tile (ID: "
+                + endTileId + ")."));
+      }
+      reachable = checkReachability(graph, startTileId, issues);
+    }
+    return new BoardValidationReport(issues, board.getTiles().size(), reachable);
+  }
+
+  /**
+   * Reports every cycle of ladders and snakes once, colouring the tiles of each chain as it is
+   * walked so that no tile is walked twice.
+   *
+   * @param graph the tile graph
+   * @param issues the list to add the issues to
+   */
+  private static void checkJumpCycles(Graph graph, List<Issue> issues) {
+    byte[] state = new byte[graph.size()];
+    int[] chain = new int[graph.size()];
+    for (int id = 0; id < graph.size(); id++) {
+      if (state[id] != UNVISITED || graph.jumps[id] == NO_TILE) {
+        continue;
+      }
+
+      int length = 0;
+      int current = id;
+      while (current != NO_TILE && state[current] == UNVISITED) {
+        state[current] = VISITING;
+        chain[length++] = current;
+        current = graph.jumps[current];
+      }
+      if (current != NO_TILE && state[current] == VISITING) {
+        issues.add(new Issue(Severity.ERROR, IssueType.JUMP_CYCLE, current,
+            "Ladders and snakes form a cycle at tile ID: " + current + "."));
+      }
+      while (length > 0) {
+        state[chain[--length]] = VISITED;
+      }
+    }
+  }
+
+  /**
+   * Checks whether the chain of next tiles from the start tile reaches the end tile.
+   *
+   * @param graph the tile graph
+   * @param startTileId the start tile ID
+   * @param endTileId the end tile ID
+   * @return true if the end tile is on the chain
+   */
+  private static boolean reachesEnd(Graph graph, int startTileId, int endTileId) {
+    boolean[] seen = new boolean[graph.size()];
+    int current = startTileId;
+    while (graph.contains(current) && !seen[current]) {
+      if (current == endTileId) {
+        return true;
+      }
+      seen[current] = true;
+      current = graph.nextTiles[current];
+    }
+    return false;
+  }
+
+  /**
+   * Finds the tiles reachable from the start tile by moving or following ladders and snakes, and
+   * reports the others.
+   *
+   * @param graph the tile graph
+   * @param startTileId the start tile ID
+   * @param issues the list to add the issues to
+   * @return the number of reachable tiles
+   */
+  private static int checkReachability(Graph graph, int startTileId, List<Issue> issues) {
+    boolean[] reached = new boolean[graph.size()];
+    int[] queue = new int[graph.size()];
+    int head = 0;
+    int tail = 0;
+    reached[startTileId] = true;
+    queue[tail++] = startTileId;
+    while (head < tail) {
+      int id = queue[head++];
+      int next = graph.nextTiles[id];
+      if (next != NO_TILE && !reached[next]) {
+        reached[next] = true;
+        queue[tail++] = next;
+      }
+      int jump = graph.jumps[id];
+      if (jump != NO_TILE && !reached[jump]) {
+        reached[jump] = true;
+        queue[tail++] = jump;
+      }
+    }
+
+    for (int id = 0; id < graph.size(); id++) {
+      if (graph.contains(id) && !reached[id]) {
+        issues.add(new Issue(Severity.WARNING, IssueType.UNREACHABLE_TILE, id,
+            "Tile " + id + " cannot be reached from the start tile."));
+      }
+    }
+    return tail;
+  }
+
+  /** The tiles of a board flattened into arrays by tile ID, with their links checked. */
+  private static final class Graph {
+
+    private final boolean[] present;
+    private final int[] nextTiles;
+    private final int[] jumps;
+
+    private Graph(Board board, int size, List<Issue> issues) {
+      this.present = new boolean[size];
+      this.nextTiles = new int[size];
+      this.jumps = new int[size];
+      Arrays.fill(nextTiles, NO_TILE);
+      Arrays.fill(jumps, NO_TILE);
+      for (Tile tile : board.getTiles().values()) {
+        present[tile.getTileId()] = true;
+      }
+
+      for (Tile tile : board.getTiles().values()) {
+        int id = tile.getTileId();
+        if (tile.getNextTile() != null) {
+          int nextId = tile.getNextTile().getTileId();
+          if (contains(nextId)) {
+            nextTiles[id] = nextId;
+          } else {
+            issues.add(new Issue(Severity.ERROR, IssueType.MISSING_NEXT_TILE, id,
+                "Tile " + id + " links to a next tile that does not exist (ID: " + nextId + ")."));
+          }
+        }
+
+        Tile destination = null;
+        if (tile.getLandAction() instanceof LadderAction ladderAction) {
+          destination = ladderAction.getDestinationTile();
+        } else if (tile.getLandAction() instanceof SnakeAction snakeAction) {
+          destination = snakeAction.getDestinationTile();
+        }
+        if (destination == null) {
+          continue;
+        }
+
+        int destinationId = destination.getTileId();
+        if (!contains(destinationId)) {
+          issues.add(new Issue(Severity.ERROR, IssueType.MISSING_JUMP_DESTINATION, id,
+              "Tile " + id + " leads to a tile that does not exist (ID: " + destinationId + ")."));
+          continue;
+        }
+        jumps[id] = destinationId;
+        if (tile.getLandAction() instanceof LadderAction && destinationId <= id) {
+          issues.add(new Issue(Severity.WARNING, IssueType.LADDER_LEADS_DOWN, id,
+              "Ladder on tile " + id + " leads down to tile " + destinationId + "."));
+        } else if (tile.getLandAction() instanceof SnakeAction && destinationId >= id) {
+          issues.add(new Issue(Severity.WARNING, IssueType.SNAKE_LEADS_UP, id,
+              "Snake on tile " + id + " leads up to tile " + destinationId + "."));
+        }
+      }
+    }
+
+    private boolean contains(int tileId) {
+      return tileId >= 0 && tileId < present.length && present[tileId];
+    }
+
+    private int size() {
+      return present.length;
+    }
+  }
+}
@@ -0,0 +1,290 @@
+package edu.ntnu.stud.boardgame.analysis;
+
+import edu.ntnu.stud.boardgame.exception.InvalidGameStateException;
+import edu.ntnu.stud.boardgame.model.Board;
+import edu.ntnu.stud.boardgame.model.CompiledBoard;
+import edu.ntnu.stud.boardgame.model.CompiledBoard.ActionKind;
+import edu.ntnu.stud.boardgame.model.Die;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * Singleton that computes the exact game length distribution of Snakes and Ladders boards.
+ *
+ * <p>The board is modelled as an absorbing Markov chain. A state is a tile together with a flag for
+ * a pending skipped turn, and the transitions follow the rules of {@link
+ * edu.ntnu.stud.boardgame.model.game.LadderGame}: the dice sum is moved along the tile chain,
+ * overshooting the end tile bounces back, ladders and snakes are followed, and a skip turn tile
+ * costs the next turn. Only states reachable from the start tile are built, and the transition
+ * matrix is kept in sparse form.
+ *
+ * <p>The most recently used results are cached by the content hash of the board and the number of
+ * dice, so analysing the same layout again is a map lookup. A hit is only used when the cached
+ * board has the same content, so two layouts whose hashes collide are both analysed.
+ *
+ * @see BoardAnalysis
+ */
+public class MarkovAnalyzer {
+
+  private static final Logger LOGGER = Logger.getLogger(MarkovAnalyzer.class.getName());
+
+  private static final int DEFAULT_NUMBER_OF_DICE = 2;
+  private static final int MAX_TURNS = 10_000;
+  private static final double TOLERANCE = 1e-12;
+  private static final int NOT_VISITED = -1;
+
+  /** Maximum number of analyses kept in the cache. */
+  static final int CACHE_CAPACITY = 64;
+
+  private static MarkovAnalyzer instance;
+
+  private final Map<CacheKey, CachedAnalysis> cache =
+      new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<CacheKey, CachedAnalysis> eldest) {
+          return size() > CACHE_CAPACITY;
+        }
+      };
+
+  private MarkovAnalyzer() {}
+
+  /**
+   * Gets the singleton instance of MarkovAnalyzer.
+   *
+   * @return the MarkovAnalyzer instance
+   */
+  public static synchronized MarkovAnalyzer getInstance() {
+    if (instance == null) {
+      instance = new MarkovAnalyzer();
+    }
+    return instance;
+  }
+
+  /**
+   * Analyses a board played with two dice.
+   *
+   * @param board the board to analyse
+   * @return the analysis
+   * @throws IllegalArgumentException if board is null or has no start or end tile
+   * @throws InvalidGameStateException if ladders and snakes on the board form a cycle or a
+   *     reachable bounce leads to a tile that does not exist
+   */
+  public BoardAnalysis analyze(Board board) {
+    return analyze(board, DEFAULT_NUMBER_OF_DICE);
+  }
+
+  /**
+   * Analyses a board.
+   *
+   * @param board the board to analyse
+   * @param numberOfDice the number of dice rolled each turn
+   * @return the analysis
+   * @throws IllegalArgumentException if board is null, numberOfDice is not positive, or the board
+   *     has no start or end tile
+   * @throws InvalidGameStateException if ladders and snakes on the board form a cycle or a
+   *     reachable bounce leads to a tile that does not exist
+   */
+  public BoardAnalysis analyze(Board board, int numberOfDice) {
+    if (board == null) {
+      throw new IllegalArgumentException("Board cannot be null.");
+    }
+    if (numberOfDice <= 0) {
+      throw new IllegalArgumentException("Number of dice must be positive.");
+    }
+
+    CompiledBoard compiledBoard = new CompiledBoard(board, numberOfDice * Die.SIDES);
+    if (!compiledBoard.contains(compiledBoard.getStartTileId())) {
+      throw new IllegalArgumentException(
+          "Start tile (ID: " + compiledBoard.getStartTileId() + ") not found on the board.");
+    }
+    if (!compiledBoard.contains(compiledBoard.getEndTileId())) {
+      throw new IllegalArgumentException(
+          "End tile (ID: " + compiledBoard.getEndTileId() + ") not found on the board.");
+    }
+
+    CacheKey key = new CacheKey(compiledBoard.getContentHash(), numberOfDice);
+    synchronized (cache) {
+      CachedAnalysis cached = cache.get(key);
+      if (cached != null && cached.compiledBoard().hasSameContent(compiledBoard)) {
+        return cached.analysis();
+      }
+    }
+
+    BoardAnalysis analysis = compute(compiledBoard, numberOfDice);
+    synchronized (cache) {
+      cache.put(key, new CachedAnalysis(compiledBoard, analysis));
+    }
+    return analysis;
+  }
+
+  /** Removes all cached analyses. */
+  public void clearCache() {
+    synchronized (cache) {
+      cache.clear();
+    }
+  }
+
+  /**
+   * Computes the probability of each dice sum by convolving the distribution of a single die.
+   *
+   * @param numberOfDice the number of dice
+   * @return the probabilities, indexed by sum
+   */
+  static double[] diceSumProbabilities(int numberOfDice) {
+    double[] sums = {1.0};
+    for (int die = 0; die < numberOfDice; die++) {
+      double[] next = new double[sums.length + Die.SIDES];
+      for (int sum = 0; sum < sums.length; sum++) {
+        if (sums[sum] == 0) {
+          continue;
+        }
+        for (int face = 1; face <= Die.SIDES; face++) {
+          next[sum + face] += sums[sum] / Die.SIDES;
+        }
+      }
+      sums = next;
+    }
+    return sums;
+  }
+
+  private BoardAnalysis compute(CompiledBoard compiledBoard, int numberOfDice) {
+    long startTime = System.nanoTime();
+    double[] diceSums = diceSumProbabilities(numberOfDice);
+    int endTileId = compiledBoard.getEndTileId();
+
+    int[] stateIndex = new int[compiledBoard.size() * 2];
+    Arrays.fill(stateIndex, NOT_VISITED);
+    int[] stateKeys = new int[16];
+    int stateCount = 0;
+
+    int startKey = stateKey(compiledBoard.getStartTileId(), false);
+    stateIndex[startKey] = stateCount;
+    stateKeys[stateCount++] = startKey;
+
+    TransitionMatrix.Builder builder = new TransitionMatrix.Builder();
+    for (int state = 0; state < stateCount; state++) {
+      builder.startRow();
+      int tileId = stateKeys[state] >> 1;
+      boolean skipPending = (stateKeys[state] & 1) == 1;
+      if (tileId == endTileId) {
+        continue;
+      }
+
+      if (skipPending) {
+        int targetKey = stateKey(tileId, false);
+        if (stateIndex[targetKey] == NOT_VISITED) {
+          stateKeys = ensureCapacity(stateKeys, stateCount);
+          stateIndex[targetKey] = stateCount;
+          stateKeys[stateCount++] = targetKey;
+        }
+        builder.add(stateIndex[targetKey], 1.0);
+        continue;
+      }
+
+      for (int steps = 1; steps < diceSums.length; steps++) {
+        if (diceSums[steps] == 0) {
+          continue;
+        }
+        int targetKey = resolveTurn(compiledBoard, tileId, steps);
+        if (stateIndex[targetKey] == NOT_VISITED) {
+          stateKeys = ensureCapacity(stateKeys, stateCount);
+          stateIndex[targetKey] = stateCount;
+          stateKeys[stateCount++] = targetKey;
+        }
+        builder.add(stateIndex[targetKey], diceSums[steps]);
+      }
+    }
+    TransitionMatrix matrix = builder.build();
+
+    int endIndex = stateIndex[stateKey(endTileId, false)];
+    double[] distribution = new double[stateCount];
+    double[] next = new double[stateCount];
+    double[] finishProbabilities = new double[MAX_TURNS + 1];
+    double[] expectedVisits = new double[compiledBoard.size()];
+    distribution[0] = 1.0;
+    double remaining = 1.0;
+
+    int turns = 0;
+    while (remaining > TOLERANCE && turns < MAX_TURNS) {
+      turns++;
+      matrix.multiply(distribution, next);
+
+      double finished = endIndex == NOT_VISITED ? 0 : next[endIndex];
+      if (endIndex != NOT_VISITED) {
+        next[endIndex] = 0;
+      }
+      finishProbabilities[turns] = finished;
+      remaining -= finished;
+
+      for (int state = 0; state < stateCount; state++) {
+        expectedVisits[stateKeys[state] >> 1] += next[state];
+      }
+      expectedVisits[endTileId] += finished;
+
+      double[] swap = distribution;
+      distribution = next;
+      next = swap;
+    }
+
+    LOGGER.fine(
+        () ->
+            "Analysed board with "
+                + matrix.getStateCount()
+                + " states and "
+                + matrix.getNonZeroCount()
+                + " transitions in "
+                + (System.nanoTime() - startTime) / 1_000_000
+                + " ms");
+
+    return new BoardAnalysis(
+        Arrays.copyOf(finishProbabilities, turns + 1),
+        expectedVisits,
+        Math.max(0, remaining),
+        stateCount);
+  }
+
+  /**
+   * Resolves where a turn that starts on a tile ends, and whether the next turn is skipped.
+   *
+   * @param compiledBoard the board
+   * @param tileId the tile the turn starts on
+   * @param steps the dice sum
+   * @return the state key of the tile the turn ends on
+   */
+  private static int resolveTurn(CompiledBoard compiledBoard, int tileId, int steps) {
+    int endTileId = compiledBoard.getEndTileId();
+    int targetTileId = tileId + steps;
+
+    int landingTileId;
+    if (targetTileId > endTileId) {
+      landingTileId = endTileId - (targetTileId - endTileId);
+      if (!compiledBoard.contains(landingTileId)) {
+        throw new InvalidGameStateException(
+            "Bounced to a non-existent tile ID: " + landingTileId + ". Board may be invalid.");
+      }
+    } else {
+      landingTileId = compiledBoard.advance(tileId, steps);
+    }
+
+    landingTileId = compiledBoard.getRestingTileId(landingTileId);
+    ActionKind kind = compiledBoard.getActionKind(landingTileId);
+
+    boolean skipNextTurn = kind == ActionKind.SKIP_TURN && landingTileId != endTileId;
+    return stateKey(landingTileId, skipNextTurn);
+  }
+
+  private static int stateKey(int tileId, boolean skipPending) {
+    return (tileId << 1) | (skipPending ? 1 : 0);
+  }
+
+  private static int[] ensureCapacity(int[] array, int size) {
+    return size < array.length ? array : Arrays.copyOf(array, array.length * 2);
+  }
+
+  /** Identifies a cached analysis by board layout and number of dice. */
+  private record CacheKey(long contentHash, int numberOfDice) {}
+
+  private record CachedAnalysis(CompiledBoard compiledBoard, BoardAnalysis analysis) {}
+}
@@ -0,0 +1,97 @@
+package edu.ntnu.stud.boardgame.analysis;
+
+import java.util.Arrays;
+
+/**
+ * Sparse row-stochastic matrix in compressed sparse row form.
+ *
+ * <p>Row {@code i} holds the probabilities of moving from state {@code i} to each state it can
+ * reach in one turn. Rows of absorbing states are empty, so their probability mass leaves the
+ * distribution after one multiplication.
+ */
+final class TransitionMatrix {
+
+  private final int[] rowStarts;
+  private final int[] columns;
+  private final double[] probabilities;
+
+  private TransitionMatrix(int[] rowStarts, int[] columns, double[] probabilities) {
+    this.rowStarts = rowStarts;
+    this.columns = columns;
+    this.probabilities = probabilities;
+  }
+
+  int getStateCount() {
+    return rowStarts.length - 1;
+  }
+
+  int getNonZeroCount() {
+    return rowStarts[rowStarts.length - 1];
+  }
+
+  /**
+   * Advances a probability distribution over the states by one turn.
+   *
+   * @param distribution the current distribution, indexed by state
+   * @param result the array to write the next distribution to, indexed by state
+   */
+  void multiply(double[] distribution, double[] result) {
+    Arrays.fill(result, 0);
+    for (int row = 0; row < rowStarts.length - 1; row++) {
+      double mass = distribution[row];
+      if (mass == 0) {
+        continue;
+      }
+      for (int k = rowStarts[row]; k < rowStarts[row + 1]; k++) {
+        result[columns[k]] += mass * probabilities[k];
+      }
+    }
+  }
+
+  /** Builds a matrix one row at a time, merging entries that point to the same column. */
+  static final class Builder {
+
+    private int[] rowStarts = new int[16];
+    private int[] columns = new int[64];
+    private double[] probabilities = new double[64];
+    private int rowCount;
+    private int size;
+
+    /** Starts the next row. */
+    void startRow() {
+      if (rowCount + 1 >= rowStarts.length) {
+        rowStarts = Arrays.copyOf(rowStarts, rowStarts.length * 2);
+      }
+      rowStarts[rowCount++] = size;
+    }
+
+    /**
+     * Adds a probability to a column of the current row.
+     *
+     * @param column the state moved to
+     * @param probability the probability of the move
+     */
+    void add(int column, double probability) {
+      for (int k = rowStarts[rowCount - 1]; k < size; k++) {
+        if (columns[k] == column) {
+          probabilities[k] += probability;
+          return;
+        }
+      }
+      if (size == columns.length) {
+        columns = Arrays.copyOf(columns, size * 2);
+        probabilities = Arrays.copyOf(probabilities, size * 2);
+      }
+      columns[size] = column;
+      probabilities[size] = probability;
+      size++;
+    }
+
+    TransitionMatrix build() {
+      int[] starts = Arrays.copyOf(rowStarts, rowCount + 1);
+      starts[rowCount] = size;
+      return new TransitionMatrix(
+          starts, Arrays.copyOf(columns, size), Arrays.copyOf(probabilities, size));
+    }
+  }
+}
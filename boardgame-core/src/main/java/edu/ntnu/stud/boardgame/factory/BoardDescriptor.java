@@ -0,0 +1,93 @@
+package edu.ntnu.stud.boardgame.factory;
+
+import edu.ntnu.stud.boardgame.model.Board;
+
+/**
+ * Describes a predefined board without building it.
+ *
+ * <p>Descriptors carry the name used to select the board and the metadata shown to players, so
+ * board lists can be presented without constructing any tiles. The board itself is built the first
+ * time it is requested from its factory.
+ *
+ * @see LadderGameBoardFactory
+ * @see MonopolyBoardFactory
+ */
+public final class BoardDescriptor {
+
+  private final String name;
+  private final String title;
+  private final String description;
+  private final int rows;
+  private final int columns;
+  private final int startTileId;
+  private final int endTileId;
+
+  /**
+   * Creates a descriptor for a predefined board.
+   *
+   * @param name the name used to select the board
+   * @param title the title of the board
+   * @param description the description of the board
+   * @param rows number of rows
+   * @param columns number of columns
+   * @param startTileId ID of the starting tile
+   * @param endTileId ID of the ending tile
+   * @throws IllegalArgumentException if name, title or description is null or empty
+   */
+  BoardDescriptor(String name, String title, String description, int rows, int columns,
+      int startTileId, int endTileId) {
+    if (name == null || name.trim().isEmpty()) {
+      throw new IllegalArgumentException("Board name cannot be null or empty.");
+    }
+    if (title == null || title.trim().isEmpty()) {
+      throw new IllegalArgumentException("Board title cannot be null or empty.");
+    }
+    if (description == null) {
+      throw new IllegalArgumentException("Board description cannot be null.");
+    }
+    this.name = name;
+    this.title = title;
+    this.description = description;
+    this.rows = rows;
+    this.columns = columns;
+    this.startTileId = startTileId;
+    this.endTileId = endTileId;
+  }
+
+  /**
+   * Creates an empty board with the metadata of this descriptor.
+   *
+   * @return a board without tiles
+   */
+  Board createEmptyBoard() {
+    return new Board(title, description, rows, columns, startTileId, endTileId);
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public String getTitle() {
+    return title;
+  }
+
+  public String getDescription() {
+    return description;
+  }
+
+  public int getRows() {
+    return rows;
+  }
+
+  public int getColumns() {
+    return columns;
+  }
+
+  public int getStartTileId() {
+    return startTileId;
+  }
+
+  public int getEndTileId() {
+    return endTileId;
+  }
+}
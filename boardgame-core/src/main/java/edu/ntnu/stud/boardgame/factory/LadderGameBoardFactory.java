@@ -6,10 +6,11 @@ import edu.ntnu.stud.boardgame.model.Tile;
 import edu.ntnu.stud.boardgame.model.action.LadderAction;
 import edu.ntnu.stud.boardgame.model.action.SkipTurnAction;
 import edu.ntnu.stud.boardgame.model.action.SnakeAction;
-import java.util.Arrays;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 /**
  * Factory for creating predefined Snakes and Ladders game boards.
@@ -28,6 +29,10 @@ import java.util.Map;
  *   <li><b>Small</b> - A compact 30-tile game
  * </ul>
  *
+ * <p>Boards are described by a {@link BoardDescriptor} and only built the first time they are
+ * requested, so listing the boards does not build any of them. A built board is checked by the
+ * {@link edu.ntnu.stud.boardgame.analysis.BoardValidator} before it is handed out.
+ *
  * <p>This factory is used by the {@link BoardGameFactory} to provide predefined board
  * configurations when creating new Ladder games.
  *
@@ -38,14 +43,59 @@ import java.util.Map;
  */
 public class LadderGameBoardFactory {
 
-  private static final Map<String, Board> PREDEFINED_BOARDS = new HashMap<>();
+  private static final Map<String, PredefinedBoard> PREDEFINED_BOARDS = new LinkedHashMap<>();
 
   static {
-    PREDEFINED_BOARDS.put("Classic", createClassicBoard());
-    PREDEFINED_BOARDS.put("Easy", createEasyBoard());
-    PREDEFINED_BOARDS.put("Hard", createHardBoard());
-    PREDEFINED_BOARDS.put("Extreme", createExtremeBoard());
-    PREDEFINED_BOARDS.put("Small", createSmallBoard());
+    register(
+        new BoardDescriptor(
+            "Classic",
+            "Classic Snakes and Ladders",
+            "The traditional game with balanced snakes and ladders",
+            10,
+            9,
+            0,
+            90),
+        LadderGameBoardFactory::createClassicBoard);
+    register(
+        new BoardDescriptor(
+            "Easy",
+            "Easy Snakes and Ladders",
+            "A beginner-friendly game with more ladders than snakes",
+            10,
+            9,
+            0,
+            90),
+        LadderGameBoardFactory::createEasyBoard);
+    register(
+        new BoardDescriptor(
+            "Hard",
+            "Hard Snakes and Ladders",
+            "A challenging game with more snakes than ladders",
+            10,
+            9,
+            0,
+            90),
+        LadderGameBoardFactory::createHardBoard);
+    register(
+        new BoardDescriptor(
+            "Extreme",
+            "Extreme Snakes and Ladders",
+            "An extremely challenging game with many snakes and few ladders",
+            10,
+            9,
+            0,
+            90),
+        LadderGameBoardFactory::createExtremeBoard);
+    register(
+        new BoardDescriptor(
+            "Small",
+            "Small Snakes and Ladders",
+            "A small 30-tile Snakes and Ladders game",
+            6,
+            5,
+            0,
+            30),
+        LadderGameBoardFactory::createSmallBoard);
   }
 
   private LadderGameBoardFactory() {}
@@ -56,14 +106,30 @@ public class LadderGameBoardFactory {
    * @return a list of predefined board names
    */
   public static List<String> getAvailableBoards() {
-    return Arrays.asList("Classic", "Easy", "Hard", "Extreme", "Small");
+    return new ArrayList<>(PREDEFINED_BOARDS.keySet());
+  }
+
+  /**
+   * Returns descriptors for all predefined boards without building any of them.
+   *
+   * @return list of board descriptors in display order
+   */
+  public static List<BoardDescriptor> getBoardDescriptors() {
+    List<BoardDescriptor> descriptors = new ArrayList<>();
+    for (PredefinedBoard predefinedBoard : PREDEFINED_BOARDS.values()) {
+      descriptors.add(predefinedBoard.getDescriptor());
+    }
+    return descriptors;
   }
 
   /**
-   * Creates a board instance for the specified predefined board configuration.
+   * Gets the board for the specified predefined board configuration.
+   *
+   * <p>The board is a frozen template shared by every game created from it. Use
+   * {@link Board#copy()} to get a board that can be edited.
    *
    * @param boardName the name of the predefined board configuration to create
-   * @return a fully configured {@link Board} instance
+   * @return the frozen {@link Board} template
    * @throws IllegalArgumentException if boardName is null, empty, or not a recognized predefined
    *     board name
    */
@@ -74,7 +140,24 @@ public class LadderGameBoardFactory {
     if (!PREDEFINED_BOARDS.containsKey(boardName)) {
       throw new IllegalArgumentException("Unknown board name: " + boardName);
     }
-    return PREDEFINED_BOARDS.get(boardName);
+    return PREDEFINED_BOARDS.get(boardName).getBoard();
+  }
+
+  /**
+   * Checks whether a predefined board has been built.
+   *
+   * @param boardName the name of the board configuration
+   * @return true if the board has been requested and built
+   */
+  static boolean isBoardBuilt(String boardName) {
+    PredefinedBoard predefinedBoard = PREDEFINED_BOARDS.get(boardName);
+    return predefinedBoard != null && predefinedBoard.isBuilt();
+  }
+
+  private static void register(
+      BoardDescriptor descriptor, Function<BoardDescriptor, Board> builder) {
+    PREDEFINED_BOARDS.put(descriptor.getName(),
+        new PredefinedBoard(descriptor, builder.andThen(PredefinedBoard::requireValid)));
   }
 
   /**
@@ -82,17 +165,11 @@ public class LadderGameBoardFactory {
    *
    * <p>This is the traditional game with balanced numbers of snakes and ladders.
    *
+   * @param descriptor the descriptor of the board
    * @return a configured classic board
    */
-  private static Board createClassicBoard() {
-    Board board =
-        new Board(
-            "Classic Snakes and Ladders",
-            "The traditional game with balanced snakes and ladders",
-            10,
-            9,
-            0,
-            90);
+  private static Board createClassicBoard(BoardDescriptor descriptor) {
+    Board board = descriptor.createEmptyBoard();
 
     initializeLadderBoard(board);
 
@@ -120,17 +197,11 @@ public class LadderGameBoardFactory {
    *
    * <p>This is a beginner-friendly game with more ladders than snakes.
    *
+   * @param descriptor the descriptor of the board
    * @return a configured easy board
    */
-  private static Board createEasyBoard() {
-    Board board =
-        new Board(
-            "Easy Snakes and Ladders",
-            "A beginner-friendly game with more ladders than snakes",
-            10,
-            9,
-            0,
-            90);
+  private static Board createEasyBoard(BoardDescriptor descriptor) {
+    Board board = descriptor.createEmptyBoard();
 
     initializeLadderBoard(board);
 
@@ -158,17 +229,11 @@ public class LadderGameBoardFactory {
    *
    * <p>This is a challenging game with more snakes than ladders.
    *
+   * @param descriptor the descriptor of the board
    * @return a configured hard board
    */
-  private static Board createHardBoard() {
-    Board board =
-        new Board(
-            "Hard Snakes and Ladders",
-            "A challenging game with more snakes than ladders",
-            10,
-            9,
-            0,
-            90);
+  private static Board createHardBoard(BoardDescriptor descriptor) {
+    Board board = descriptor.createEmptyBoard();
 
     initializeLadderBoard(board);
 
@@ -202,17 +267,11 @@ public class LadderGameBoardFactory {
    * <p>This is an extremely challenging game with many snakes, few ladders, and multiple skip turn
    * tiles.
    *
+   * @param descriptor the descriptor of the board
    * @return a configured extreme board
    */
-  private static Board createExtremeBoard() {
-    Board board =
-        new Board(
-            "Extreme Snakes and Ladders",
-            "An extremely challenging game with many snakes and few ladders",
-            10,
-            9,
-            0,
-            90);
+  private static Board createExtremeBoard(BoardDescriptor descriptor) {
+    Board board = descriptor.createEmptyBoard();
 
     initializeLadderBoard(board);
 
@@ -248,12 +307,11 @@ public class LadderGameBoardFactory {
    *
    * <p>This is a compact 30-tile game with fewer game elements.
    *
+   * @param descriptor the descriptor of the board
    * @return a configured small board
    */
-  private static Board createSmallBoard() {
-    Board board =
-        new Board(
-            "Small Snakes and Ladders", "A small 30-tile Snakes and Ladders game", 6, 5, 0, 30);
+  private static Board createSmallBoard(BoardDescriptor descriptor) {
+    Board board = descriptor.createEmptyBoard();
 
     initializeLadderBoard(board);
 
@@ -5,10 +5,11 @@ import edu.ntnu.stud.boardgame.model.Tile;
 import edu.ntnu.stud.boardgame.model.action.PropertyAction;
 import edu.ntnu.stud.boardgame.model.action.StartAction;
 import edu.ntnu.stud.boardgame.model.action.TaxAction;
-import java.util.Arrays;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 /**
  * Factory class for creating Monopoly board game configurations.
@@ -21,17 +22,46 @@ import java.util.Map;
  *   <li>Economic - Higher property values and taxes version
  * </ul>
  *
- * <p>Each board is fully initialized with appropriate tiles, actions, and layout.
+ * <p>Each board is fully initialized with appropriate tiles, actions, and layout. Boards are
+ * described by a {@link BoardDescriptor} and only built the first time they are requested, when
+ * they are also checked by the {@link edu.ntnu.stud.boardgame.analysis.BoardValidator}.
  */
 public class MonopolyBoardFactory {
 
-  private static final Map<String, Board> PREDEFINED_BOARDS = new HashMap<>();
+  private static final Map<String, PredefinedBoard> PREDEFINED_BOARDS = new LinkedHashMap<>();
   private static final int START_BONUS = 50;
 
   static {
-    PREDEFINED_BOARDS.put("Standard", createStandardBoard());
-    PREDEFINED_BOARDS.put("Mini", createMiniBoard());
-    PREDEFINED_BOARDS.put("Economic", createEconomicBoard());
+    register(
+        new BoardDescriptor(
+            "Standard",
+            "Standard Monopoly",
+            "The classic monopoly game with 40 spaces around the board",
+            11,
+            11,
+            0,
+            39),
+        MonopolyBoardFactory::createStandardBoard);
+    register(
+        new BoardDescriptor(
+            "Mini",
+            "Mini Monopoly",
+            "A smaller version with 24 spaces around the board",
+            6,
+            6,
+            0,
+            23),
+        MonopolyBoardFactory::createMiniBoard);
+    register(
+        new BoardDescriptor(
+            "Economic",
+            "Economic Monopoly",
+            "Higher property values and taxes",
+            11,
+            11,
+            0,
+            39),
+        MonopolyBoardFactory::createEconomicBoard);
   }
 
   private MonopolyBoardFactory() {}
@@ -42,14 +72,30 @@ public class MonopolyBoardFactory {
    * @return list of available board configuration names
    */
   public static List<String> getAvailableBoards() {
-    return Arrays.asList("Standard", "Mini", "Economic");
+    return new ArrayList<>(PREDEFINED_BOARDS.keySet());
+  }
+
+  /**
+   * Returns descriptors for all predefined boards without building any of them.
+   *
+   * @return list of board descriptors in display order
+   */
+  public static List<BoardDescriptor> getBoardDescriptors() {
+    List<BoardDescriptor> descriptors = new ArrayList<>();
+    for (PredefinedBoard predefinedBoard : PREDEFINED_BOARDS.values()) {
+      descriptors.add(predefinedBoard.getDescriptor());
+    }
+    return descriptors;
   }
 
   /**
-   * Creates a board based on the provided board name.
+   * Gets the board for the provided board name.
+   *
+   * <p>The board is a frozen template shared by every game created from it. Each game keeps its own
+   * property ownership, so games created from the same board do not affect each other.
    *
    * @param boardName the name of the board configuration to create
-   * @return the configured board instance
+   * @return the frozen board template
    * @throws IllegalArgumentException if boardName is null, empty, or not recognized
    */
   public static Board createBoard(String boardName) {
@@ -59,23 +105,34 @@ public class MonopolyBoardFactory {
     if (!PREDEFINED_BOARDS.containsKey(boardName)) {
       throw new IllegalArgumentException("Unknown board name: " + boardName);
     }
-    return PREDEFINED_BOARDS.get(boardName);
+    return PREDEFINED_BOARDS.get(boardName).getBoard();
+  }
+
+  /**
+   * Checks whether a predefined board has been built.
+   *
+   * @param boardName the name of the board configuration
+   * @return true if the board has been requested and built
+   */
+  static boolean isBoardBuilt(String boardName) {
+    PredefinedBoard predefinedBoard = PREDEFINED_BOARDS.get(boardName);
+    return predefinedBoard != null && predefinedBoard.isBuilt();
+  }
+
+  private static void register(
+      BoardDescriptor descriptor, Function<BoardDescriptor, Board> builder) {
+    PREDEFINED_BOARDS.put(descriptor.getName(),
+        new PredefinedBoard(descriptor, builder.andThen(PredefinedBoard::requireValid)));
   }
 
   /**
    * Creates the standard Monopoly board with 40 spaces.
    *
+   * @param descriptor the descriptor of the board
    * @return a configured standard Monopoly board
    */
-  private static Board createStandardBoard() {
-    Board board =
-        new Board(
-            "Standard Monopoly",
-            "The classic monopoly game with 40 spaces around the board",
-            11,
-            11,
-            0,
-            39);
+  private static Board createStandardBoard(BoardDescriptor descriptor) {
+    Board board = descriptor.createEmptyBoard();
 
     initializeStandardBoard(board);
 
@@ -85,12 +142,11 @@ public class MonopolyBoardFactory {
   /**
    * Creates a mini version of the Monopoly board with 24 spaces.
    *
+   * @param descriptor the descriptor of the board
    * @return a configured mini Monopoly board
    */
-  private static Board createMiniBoard() {
-    Board board =
-        new Board(
-            "Mini Monopoly", "A smaller version with 24 spaces around the board", 6, 6, 0, 23);
+  private static Board createMiniBoard(BoardDescriptor descriptor) {
+    Board board = descriptor.createEmptyBoard();
 
     initializeMiniBoard(board);
 
@@ -100,10 +156,11 @@ public class MonopolyBoardFactory {
   /**
    * Creates an economic variant of the Monopoly board with higher values.
    *
+   * @param descriptor the descriptor of the board
    * @return a configured economic Monopoly board
    */
-  private static Board createEconomicBoard() {
-    Board board = new Board("Economic Monopoly", "Higher property values and taxes", 11, 11, 0, 39);
+  private static Board createEconomicBoard(BoardDescriptor descriptor) {
+    Board board = descriptor.createEmptyBoard();
 
     initializeEconomicBoard(board);
 
@@ -0,0 +1,82 @@
+package edu.ntnu.stud.boardgame.factory;
+
+import edu.ntnu.stud.boardgame.analysis.BoardValidationReport;
+import edu.ntnu.stud.boardgame.analysis.BoardValidator;
+import edu.ntnu.stud.boardgame.exception.InvalidGameStateException;
+import edu.ntnu.stud.boardgame.model.Board;
+import java.util.function.Function;
+
+/**
+ * A predefined board that is built on first use.
+ *
+ * <p>The board is built once from its descriptor, frozen and then shared by every later request.
+ * Building is thread-safe, so concurrent first requests still build the board only once.
+ */
+final class PredefinedBoard {
+
+  private final BoardDescriptor descriptor;
+  private final Function<BoardDescriptor, Board> builder;
+  private volatile Board board;
+
+  /**
+   * Creates a predefined board.
+   *
+   * @param descriptor the descriptor of the board
+   * @param builder function that builds the board from its descriptor
+   */
+  PredefinedBoard(BoardDescriptor descriptor, Function<BoardDescriptor, Board> builder) {
+    this.descriptor = descriptor;
+    this.builder = builder;
+  }
+
+  BoardDescriptor getDescriptor() {
+    return descriptor;
+  }
+
+  /**
+   * Gets the board, building and freezing it on the first call.
+   *
+   * @return the frozen board
+   */
+  Board getBoard() {
+    Board result = board;
+    if (result == null) {
+      synchronized (this) {
+        result = board;
+        if (result == null) {
+          result = builder.apply(descriptor);
+          result.freeze();
+          board = result;
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Checks a freshly built board with the {@link BoardValidator}, for use after the builder of a
+   * factory's predefined board.
+   *
+   * @param board the built board
+   * @return the same board
+   * @throws InvalidGameStateException if the board has errors, which means the factory
+   *     configuration is wrong
+   */
+  static Board requireValid(Board board) {
+    BoardValidationReport report = BoardValidator.getInstance().validate(board);
+    if (!report.isValid()) {
+      throw new InvalidGameStateException("Predefined board " + board.getName()
+          + " is invalid: " + report.getErrorSummary() + ". Check factory configuration.");
+    }
+    return board;
+  }
+
+  /**
+   * Checks whether the board has been built.
+   *
+   * @return true if the board has been built
+   */
+  boolean isBuilt() {
+    return board != null;
+  }
+}
@@ -0,0 +1,78 @@
+package edu.ntnu.stud.boardgame.io.board;
+
+/**
+ * Layout of the binary board file format shared by {@link BoardFileWriterBinary} and
+ * {@link BoardFileReaderBinary}.
+ *
+ * <p>All values are big-endian. A file consists of three sections:
+ * <ol>
+ *   <li>A fixed-size header with the magic number, format version, board dimensions, start and
+ *   end tile IDs, tile count and the offset of the string table.</li>
+ *   <li>The tile columns. Each column holds one 32-bit value per tile, and the columns follow each
+ *   other in the order id, row, column, next tile ID, name offset, action kind and action value.
+ *   Tiles are stored in ascending ID order, and the name offset is relative to the start of the
+ *   string table.</li>
+ *   <li>The string table with the board name, the board description and the tile names. Each
+ *   string is stored as a 32-bit byte length followed by its UTF-8 bytes.</li>
+ * </ol>
+ *
+ * <p>Missing optional values, such as a tile without a row or without a next tile, are stored as
+ * {@link #NONE}.
+ */
+final class BinaryBoardFormat {
+
+  /** Magic number at the start of every binary board file, the ASCII characters "BGBD". */
+  static final int MAGIC = 0x42474244;
+
+  /** Current version of the format. */
+  static final short VERSION = 1;
+
+  /** Size of the header in bytes. */
+  static final int HEADER_SIZE = 32;
+
+  /** Number of 32-bit columns stored per tile. */
+  static final int COLUMN_COUNT = 7;
+
+  /** Marker for a missing optional value. */
+  static final int NONE = Integer.MIN_VALUE;
+
+  static final int MAGIC_OFFSET = 0;
+  static final int VERSION_OFFSET = 4;
+  static final int ROWS_OFFSET = 8;
+  static final int COLUMNS_OFFSET = 12;
+  static final int START_TILE_OFFSET = 16;
+  static final int END_TILE_OFFSET = 20;
+  static final int TILE_COUNT_OFFSET = 24;
+  static final int STRINGS_OFFSET = 28;
+
+  static final int ID_COLUMN = 0;
+  static final int ROW_COLUMN = 1;
+  static final int COLUMN_COLUMN = 2;
+  static final int NEXT_COLUMN = 3;
+  static final int NAME_COLUMN = 4;
+  static final int ACTION_KIND_COLUMN = 5;
+  static final int ACTION_VALUE_COLUMN = 6;
+
+  static final int ACTION_NONE = 0;
+  static final int ACTION_LADDER = 1;
+  static final int ACTION_SNAKE = 2;
+  static final int ACTION_SKIP_TURN = 3;
+  static final int ACTION_PROPERTY = 4;
+  static final int ACTION_TAX = 5;
+  static final int ACTION_START = 6;
+
+  private BinaryBoardFormat() {
+  }
+
+  /**
+   * Gets the byte offset of a value in a tile column.
+   *
+   * @param column the column index
+   * @param tileCount the number of tiles in the file
+   * @param index the index of the tile within the column
+   * @return the byte offset of the value
+   */
+  static int columnOffset(int column, int tileCount, int index) {
+    return HEADER_SIZE + (column * tileCount + index) * Integer.BYTES;
+  }
+}
@@ -0,0 +1,96 @@
+package edu.ntnu.stud.boardgame.io.board;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Streams for reading and writing board files that may be gzip-compressed.
+ *
+ * <p>Compressed files are recognised by the gzip magic bytes at the start of the file, not by their
+ * name, so a compressed and a plain file are read the same way whatever they are called. Files are
+ * written compressed when their name ends with {@value #GZIP_EXTENSION}.
+ */
+final class BoardFileCompression {
+
+  /** Extension of gzip-compressed board files, following the format extension. */
+  static final String GZIP_EXTENSION = ".gz";
+
+  private static final int GZIP_MAGIC_FIRST_BYTE = GZIPInputStream.GZIP_MAGIC & 0xff;
+  private static final int GZIP_MAGIC_SECOND_BYTE = GZIPInputStream.GZIP_MAGIC >> 8;
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private BoardFileCompression() {
+  }
+
+  /**
+   * Opens a file for reading, decompressing it on the fly if it starts with the gzip magic bytes.
+   *
+   * @param path the file to read
+   * @return a buffered stream of the uncompressed contents
+   * @throws IOException if the file cannot be opened
+   */
+  static InputStream openInputStream(Path path) throws IOException {
+    BufferedInputStream in = new BufferedInputStream(Files.newInputStream(path), BUFFER_SIZE);
+    try {
+      in.mark(2);
+      int first = in.read();
+      int second = in.read();
+      in.reset();
+      if (first == GZIP_MAGIC_FIRST_BYTE && second == GZIP_MAGIC_SECOND_BYTE) {
+        return new GZIPInputStream(in, BUFFER_SIZE);
+      }
+      return in;
+    } catch (IOException e) {
+      in.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Opens a file for writing, compressing it if its name ends with {@value #GZIP_EXTENSION}. An
+   * existing file is replaced.
+   *
+   * @param path the file to write
+   * @return a buffered stream that writes the file
+   * @throws IOException if the file cannot be opened
+   */
+  static OutputStream openOutputStream(Path path) throws IOException {
+    OutputStream out = Files.newOutputStream(path);
+    if (isCompressedName(path)) {
+      return new GZIPOutputStream(out, BUFFER_SIZE);
+    }
+    return new BufferedOutputStream(out, BUFFER_SIZE);
+  }
+
+  /**
+   * Checks whether a buffer starts with the gzip magic bytes. The position of the buffer is not
+   * changed.
+   *
+   * @param buffer the buffer to check
+   * @return true if the buffer holds gzip-compressed data
+   */
+  static boolean isCompressed(ByteBuffer buffer) {
+    int position = buffer.position();
+    return buffer.remaining() >= 2
+        && (buffer.get(position) & 0xff) == GZIP_MAGIC_FIRST_BYTE
+        && (buffer.get(position + 1) & 0xff) == GZIP_MAGIC_SECOND_BYTE;
+  }
+
+  /**
+   * Checks whether a file is named as a compressed board file.
+   *
+   * @param path the file to check
+   * @return true if the file name ends with {@value #GZIP_EXTENSION}
+   */
+  static boolean isCompressedName(Path path) {
+    return path.getFileName().toString().toLowerCase().endsWith(GZIP_EXTENSION);
+  }
+}
@@ -0,0 +1,70 @@
+package edu.ntnu.stud.boardgame.io.board;
+
+import edu.ntnu.stud.boardgame.exception.files.BoardParsingException;
+import edu.ntnu.stud.boardgame.model.Board;
+import java.nio.file.Path;
+import java.util.concurrent.CancellationException;
+
+/**
+ * Interface for reading board game configurations from files.
+ *
+ * <p>Implementations of this interface are responsible for parsing and loading
+ * board data from various file formats into {@link Board} objects.
+ * </p>
+ *
+ * @see Board
+ * @see BoardParsingException
+ */
+public interface BoardFileReader {
+
+  /**
+   * Reads a board configuration from the specified file path.
+   *
+   * @param path the file path containing the board configuration data
+   * @return a {@link Board} object populated with the configuration from the file
+   * @throws BoardParsingException if the file cannot be read or contains invalid board data
+   */
+  Board readBoard(Path path) throws BoardParsingException;
+
+  /**
+   * Reads a board configuration while reporting progress to a monitor.
+   *
+   * <p>The default implementation reads the whole board and reports all of its tiles at once.
+   * Implementations that parse tiles one by one override it to report progress as they go and to
+   * stop early when the monitor is cancelled.
+   *
+   * @param path the file path containing the board configuration data
+   * @param monitor receives the number of tiles parsed and tells when to stop
+   * @return a {@link Board} object populated with the configuration from the file
+   * @throws BoardParsingException if the file cannot be read or contains invalid board data
+   * @throws CancellationException if the monitor is cancelled before the board has been read
+   */
+  default Board readBoard(Path path, BoardReadMonitor monitor) throws BoardParsingException {
+    if (monitor == null) {
+      throw new IllegalArgumentException("Monitor cannot be null.");
+    }
+    if (monitor.isCancelled()) {
+      throw new CancellationException("Board loading was cancelled");
+    }
+    Board board = readBoard(path);
+    monitor.tilesParsed(board.getTiles().size());
+    return board;
+  }
+
+  /**
+   * Reads only the top-level properties of a board file, without reading its tiles.
+   *
+   * <p>The default implementation reads the whole board. Implementations override it to stop
+   * reading as soon as the header is known.
+   *
+   * @param path the file path containing the board configuration data
+   * @return the header of the board
+   * @throws BoardParsingException if the file cannot be read or its header is invalid
+   */
+  default BoardHeader readBoardHeader(Path path) throws BoardParsingException {
+    Board board = readBoard(path);
+    return new BoardHeader(board.getName(), board.getDescription(), board.getRows(),
+        board.getColumns(), board.getStartTileId(), board.getEndTileId(),
+        board.getTiles().size());
+  }
+}
\ No newline at end of file
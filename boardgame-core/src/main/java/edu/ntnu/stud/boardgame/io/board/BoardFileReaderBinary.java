@@ -0,0 +1,355 @@
+package edu.ntnu.stud.boardgame.io.board;
+
+import static edu.ntnu.stud.boardgame.io.board.BinaryBoardFormat.ACTION_KIND_COLUMN;
+import static edu.ntnu.stud.boardgame.io.board.BinaryBoardFormat.ACTION_VALUE_COLUMN;
+import static edu.ntnu.stud.boardgame.io.board.BinaryBoardFormat.COLUMN_COLUMN;
+import static edu.ntnu.stud.boardgame.io.board.BinaryBoardFormat.ID_COLUMN;
+import static edu.ntnu.stud.boardgame.io.board.BinaryBoardFormat.NAME_COLUMN;
+import static edu.ntnu.stud.boardgame.io.board.BinaryBoardFormat.NEXT_COLUMN;
+import static edu.ntnu.stud.boardgame.io.board.BinaryBoardFormat.NONE;
+import static edu.ntnu.stud.boardgame.io.board.BinaryBoardFormat.ROW_COLUMN;
+import static edu.ntnu.stud.boardgame.io.board.BinaryBoardFormat.columnOffset;
+
+import edu.ntnu.stud.boardgame.exception.files.BoardParsingException;
+import edu.ntnu.stud.boardgame.model.Board;
+import edu.ntnu.stud.boardgame.model.Tile;
+import edu.ntnu.stud.boardgame.model.action.LadderAction;
+import edu.ntnu.stud.boardgame.model.action.PropertyAction;
+import edu.ntnu.stud.boardgame.model.action.SkipTurnAction;
+import edu.ntnu.stud.boardgame.model.action.SnakeAction;
+import edu.ntnu.stud.boardgame.model.action.StartAction;
+import edu.ntnu.stud.boardgame.model.action.TaxAction;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+
+/**
+ * Implementation of {@link BoardFileReader} that reads boards in the binary format described by
+ * {@link BinaryBoardFormat}.
+ *
+ * <p>The file is memory-mapped through {@link FileChannel#map}, and only the header and the board
+ * name and description are read when the board is opened, so opening a board takes the same time
+ * regardless of its size. The tiles are decoded from the mapped columns the first time the board's
+ * tiles are accessed, after which the board drops the mapping so the file can be replaced. Reading
+ * only the header does not map the file at all. A gzip-compressed file, recognised by its magic
+ * bytes, is decompressed into memory instead of being mapped.
+ *
+ * <p>Problems with the header are reported as a {@link BoardParsingException} when the board is
+ * opened. Since the tiles are decoded later, a tile column that refers to a missing tile or an
+ * unknown action is reported as an {@link IllegalStateException} on first tile access.
+ *
+ * @see BoardFileWriterBinary
+ */
+public class BoardFileReaderBinary implements BoardFileReader {
+
+  @Override
+  public Board readBoard(Path path) throws BoardParsingException {
+    return parseBoard(mapFile(path));
+  }
+
+  /**
+   * Reads the header of a binary board file. Only the fixed-size header and the board name and
+   * description are read into heap buffers, so the cost does not depend on the number of tiles and
+   * the file is not mapped. A gzip-compressed file has to be decompressed as a whole.
+   *
+   * @param path the file path containing the binary board
+   * @return the header of the board, including its tile count
+   * @throws BoardParsingException if the file cannot be read or its header is invalid
+   */
+  @Override
+  public BoardHeader readBoardHeader(Path path) throws BoardParsingException {
+    if (path == null) {
+      throw new IllegalArgumentException("Path cannot be null.");
+    }
+
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      ByteBuffer header = readAt(channel, 0, BinaryBoardFormat.HEADER_SIZE);
+      if (!BoardFileCompression.isCompressed(header)) {
+        if (header.limit() < BinaryBoardFormat.HEADER_SIZE) {
+          throw new BoardParsingException("Board file is too short to be a binary board");
+        }
+        int stringsOffset = checkHeader(header, channel.size());
+        ByteBuffer nameLength = readAt(channel, stringsOffset, Integer.BYTES);
+        String name = readString(channel, stringsOffset);
+        String description =
+            readString(channel, (long) stringsOffset + Integer.BYTES + nameLength.getInt(0));
+        return new BoardHeader(name, description, header.getInt(BinaryBoardFormat.ROWS_OFFSET),
+            header.getInt(BinaryBoardFormat.COLUMNS_OFFSET),
+            header.getInt(BinaryBoardFormat.START_TILE_OFFSET),
+            header.getInt(BinaryBoardFormat.END_TILE_OFFSET),
+            header.getInt(BinaryBoardFormat.TILE_COUNT_OFFSET));
+      }
+    } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+      throw new BoardParsingException("Invalid board header: " + e.getMessage(), e);
+    } catch (IOException e) {
+      throw new BoardParsingException("Failed to read board file: " + e.getMessage(), e);
+    }
+    return parseBoardHeader(decompressFile(path));
+  }
+
+  /**
+   * Parses the header of a binary board from a buffer without decoding any tiles.
+   *
+   * @param buffer the buffer holding the binary board, from its position to its limit
+   * @return the header of the board, including its tile count
+   * @throws BoardParsingException if the buffer does not hold a valid binary board
+   */
+  public BoardHeader parseBoardHeader(ByteBuffer buffer) throws BoardParsingException {
+    MappedBoard board = (MappedBoard) parseBoard(buffer);
+    return new BoardHeader(board.getName(), board.getDescription(), board.getRows(),
+        board.getColumns(), board.getStartTileId(), board.getEndTileId(), board.tileCount);
+  }
+
+  /**
+   * Maps a binary board file into memory. A gzip-compressed file cannot be mapped, so it is
+   * decompressed into a heap buffer instead.
+   */
+  private static ByteBuffer mapFile(Path path) throws BoardParsingException {
+    if (path == null) {
+      throw new IllegalArgumentException("Path cannot be null.");
+    }
+
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      long size = channel.size();
+      if (size > Integer.MAX_VALUE) {
+        throw new BoardParsingException("Board file is too large: " + size + " bytes");
+      }
+      ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+      if (!BoardFileCompression.isCompressed(mapped)) {
+        return mapped;
+      }
+    } catch (IOException e) {
+      throw new BoardParsingException("Failed to read board file: " + e.getMessage(), e);
+    }
+
+    return decompressFile(path);
+  }
+
+  private static ByteBuffer decompressFile(Path path) throws BoardParsingException {
+    try (InputStream in = BoardFileCompression.openInputStream(path)) {
+      return ByteBuffer.wrap(in.readAllBytes());
+    } catch (IOException e) {
+      throw new BoardParsingException("Failed to read board file: " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Reads up to {@code length} bytes at a position of a file into a heap buffer.
+   *
+   * @return a buffer whose limit is the number of bytes read, less than length at the end of file
+   */
+  private static ByteBuffer readAt(FileChannel channel, long position, int length)
+      throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate(length);
+    while (buffer.hasRemaining()) {
+      int read = channel.read(buffer, position + buffer.position());
+      if (read < 0) {
+        break;
+      }
+    }
+    return buffer.flip();
+  }
+
+  /** Reads a length-prefixed string at a position of a file. */
+  private static String readString(FileChannel channel, long offset) throws IOException {
+    ByteBuffer length = readAt(channel, offset, Integer.BYTES);
+    if (length.limit() < Integer.BYTES) {
+      throw new IndexOutOfBoundsException("String at offset " + offset + " is out of bounds");
+    }
+    int byteCount = length.getInt(0);
+    if (byteCount < 0 || byteCount > channel.size() - offset - Integer.BYTES) {
+      throw new IndexOutOfBoundsException("String at offset " + offset + " is out of bounds");
+    }
+    ByteBuffer bytes = readAt(channel, offset + Integer.BYTES, byteCount);
+    return StandardCharsets.UTF_8.decode(bytes).toString();
+  }
+
+  /**
+   * Checks the magic number, version and tile count of a binary board header.
+   *
+   * @param header the buffer holding at least the fixed-size header
+   * @param size the size of the whole board file
+   * @return the offset of the string table
+   * @throws BoardParsingException if the header is invalid or the file is truncated
+   */
+  private static int checkHeader(ByteBuffer header, long size) throws BoardParsingException {
+    if (header.getInt(BinaryBoardFormat.MAGIC_OFFSET) != BinaryBoardFormat.MAGIC) {
+      throw new BoardParsingException("Board file is not a binary board");
+    }
+    short version = header.getShort(BinaryBoardFormat.VERSION_OFFSET);
+    if (version != BinaryBoardFormat.VERSION) {
+      throw new BoardParsingException("Unsupported binary board version: " + version);
+    }
+
+    int tileCount = header.getInt(BinaryBoardFormat.TILE_COUNT_OFFSET);
+    int stringsOffset = header.getInt(BinaryBoardFormat.STRINGS_OFFSET);
+    long columnsEnd = BinaryBoardFormat.HEADER_SIZE
+        + (long) BinaryBoardFormat.COLUMN_COUNT * tileCount * Integer.BYTES;
+    if (tileCount < 0 || stringsOffset != columnsEnd || stringsOffset > size) {
+      throw new BoardParsingException("Board file is truncated or has an invalid tile count");
+    }
+    return stringsOffset;
+  }
+
+  /**
+   * Parses a board from a buffer holding a binary board file. This method contains pure parsing
+   * logic and can be tested without file I/O.
+   *
+   * <p>The buffer is not copied, so it must not be modified while the returned board is in use.
+   *
+   * @param buffer the buffer holding the binary board, from its position to its limit
+   * @return a board whose tiles are decoded from the buffer on first access
+   * @throws BoardParsingException if the buffer does not hold a valid binary board
+   */
+  public Board parseBoard(ByteBuffer buffer) throws BoardParsingException {
+    if (buffer == null) {
+      throw new BoardParsingException("Failed to parse board: input is null");
+    }
+
+    ByteBuffer data = buffer.slice();
+    if (data.limit() < BinaryBoardFormat.HEADER_SIZE) {
+      throw new BoardParsingException("Board file is too short to be a binary board");
+    }
+    int stringsOffset = checkHeader(data, data.limit());
+    int tileCount = data.getInt(BinaryBoardFormat.TILE_COUNT_OFFSET);
+
+    ByteBuffer strings = data.slice(stringsOffset, data.limit() - stringsOffset);
+    try {
+      String name = readString(strings, 0);
+      String description = readString(strings, Integer.BYTES + strings.getInt(0));
+      return new MappedBoard(name, description, data.getInt(BinaryBoardFormat.ROWS_OFFSET),
+          data.getInt(BinaryBoardFormat.COLUMNS_OFFSET),
+          data.getInt(BinaryBoardFormat.START_TILE_OFFSET),
+          data.getInt(BinaryBoardFormat.END_TILE_OFFSET), data, strings, tileCount);
+    } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+      throw new BoardParsingException("Invalid board header: " + e.getMessage(), e);
+    }
+  }
+
+  private static String readString(ByteBuffer strings, int offset) {
+    int length = strings.getInt(offset);
+    if (length < 0 || length > strings.limit() - offset - Integer.BYTES) {
+      throw new IndexOutOfBoundsException("String at offset " + offset + " is out of bounds");
+    }
+    byte[] bytes = new byte[length];
+    strings.get(offset + Integer.BYTES, bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Board backed by the mapped tile columns. The tiles are decoded and linked once, the first time
+   * any tile is accessed or added, and the buffers are then released so that the mapping does not
+   * live as long as the board.
+   */
+  private static final class MappedBoard extends Board {
+
+    private ByteBuffer data;
+    private ByteBuffer strings;
+    private final int tileCount;
+    private volatile boolean tilesLoaded;
+
+    private MappedBoard(String name, String description, int rows, int columns, int startTileId,
+        int endTileId, ByteBuffer data, ByteBuffer strings, int tileCount) {
+      super(name, description, rows, columns, startTileId, endTileId);
+      this.data = data;
+      this.strings = strings;
+      this.tileCount = tileCount;
+    }
+
+    @Override
+    public void addTile(Tile tile) {
+      ensureTilesLoaded();
+      super.addTile(tile);
+    }
+
+    @Override
+    public Tile getTile(int tileId) {
+      ensureTilesLoaded();
+      return super.getTile(tileId);
+    }
+
+    @Override
+    public Map<Integer, Tile> getTiles() {
+      ensureTilesLoaded();
+      return super.getTiles();
+    }
+
+    private void ensureTilesLoaded() {
+      if (tilesLoaded) {
+        return;
+      }
+      synchronized (this) {
+        if (!tilesLoaded) {
+          loadTiles();
+          data = null;
+          strings = null;
+          tilesLoaded = true;
+        }
+      }
+    }
+
+    private void loadTiles() {
+      Tile[] tiles = new Tile[tileCount];
+      for (int i = 0; i < tileCount; i++) {
+        Tile tile = new Tile(column(ID_COLUMN, i));
+        int row = column(ROW_COLUMN, i);
+        if (row != NONE) {
+          tile.setRow(row);
+        }
+        int tileColumn = column(COLUMN_COLUMN, i);
+        if (tileColumn != NONE) {
+          tile.setColumn(tileColumn);
+        }
+        int nameOffset = column(NAME_COLUMN, i);
+        if (nameOffset != NONE) {
+          tile.setName(readString(strings, nameOffset));
+        }
+        tiles[i] = tile;
+        super.addTile(tile);
+      }
+
+      for (int i = 0; i < tileCount; i++) {
+        Tile tile = tiles[i];
+        int nextTileId = column(NEXT_COLUMN, i);
+        if (nextTileId != NONE) {
+          tile.setNextTile(resolve(nextTileId, "next tile"));
+        }
+        int value = column(ACTION_VALUE_COLUMN, i);
+        switch (column(ACTION_KIND_COLUMN, i)) {
+          case BinaryBoardFormat.ACTION_NONE -> {
+            // Tile without an action.
+          }
+          case BinaryBoardFormat.ACTION_LADDER ->
+              tile.setLandAction(new LadderAction(resolve(value, "LadderAction")));
+          case BinaryBoardFormat.ACTION_SNAKE ->
+              tile.setLandAction(new SnakeAction(resolve(value, "SnakeAction")));
+          case BinaryBoardFormat.ACTION_SKIP_TURN -> tile.setLandAction(new SkipTurnAction());
+          case BinaryBoardFormat.ACTION_PROPERTY -> tile.setLandAction(new PropertyAction(value));
+          case BinaryBoardFormat.ACTION_TAX -> tile.setLandAction(new TaxAction(value));
+          case BinaryBoardFormat.ACTION_START -> tile.setLandAction(new StartAction(value));
+          default -> throw new IllegalStateException(
+              "Unknown action kind " + column(ACTION_KIND_COLUMN, i) + " on tile "
+                  + tile.getTileId());
+        }
+      }
+    }
+
+    private int column(int column, int index) {
+      return data.getInt(columnOffset(column, tileCount, index));
+    }
+
+    private Tile resolve(int tileId, String reference) {
+      Tile tile = super.getTile(tileId);
+      if (tile == null) {
+        throw new IllegalStateException("Destination tile not found for " + reference + ": "
+            + tileId);
+      }
+      return tile;
+    }
+  }
+}
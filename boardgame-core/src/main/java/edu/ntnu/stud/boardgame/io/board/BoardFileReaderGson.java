@@ -0,0 +1,561 @@
+package edu.ntnu.stud.boardgame.io.board;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.MalformedJsonException;
+import edu.ntnu.stud.boardgame.exception.files.BoardParsingException;
+import edu.ntnu.stud.boardgame.model.Board;
+import edu.ntnu.stud.boardgame.model.Tile;
+import edu.ntnu.stud.boardgame.model.action.LadderAction;
+import edu.ntnu.stud.boardgame.model.action.PropertyAction;
+import edu.ntnu.stud.boardgame.model.action.SkipTurnAction;
+import edu.ntnu.stud.boardgame.model.action.SnakeAction;
+import edu.ntnu.stud.boardgame.model.action.StartAction;
+import edu.ntnu.stud.boardgame.model.action.TaxAction;
+import edu.ntnu.stud.boardgame.model.action.TileAction;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+
+/**
+ * Implementation of {@link BoardFileReader} that reads board configurations from JSON files using
+ * the Gson library.
+ *
+ * <p>The file is read in a single pass with a streaming {@link JsonReader}, so the JSON tree of
+ * the file is never held in memory. Tiles may refer to tiles that come later in the file through
+ * {@code nextTileId} and {@code destinationTileId}. These references are recorded while reading and
+ * resolved once every tile has been read.
+ *
+ * <p>{@link #readBoardHeader(Path)} reads the same top-level properties but stops before the
+ * {@code tiles} array. Files written by {@link BoardFileWriterGson} record a {@code tileCount}
+ * ahead of the tiles, so their header is complete without reading any tile.
+ *
+ * <p>Gzip-compressed files are recognised by their magic bytes and decompressed while they are
+ * read, so reading the header of a compressed file still only decompresses its beginning.
+ *
+ * <p>When a {@link BoardReadMonitor} is given, the number of tiles parsed is reported every
+ * {@value #PROGRESS_INTERVAL} tiles, and the read stops with a {@link CancellationException} at the
+ * next report after the monitor has been cancelled.
+ */
+public class BoardFileReaderGson implements BoardFileReader {
+
+  private static final String AMOUNT_PROPERTY = "amount";
+  private static final String PRICE_PROPERTY = "price";
+  private static final String TYPE_PROPERTY = "type";
+  private static final String DESTINATION_TILE_ID_PROPERTY = "destinationTileId";
+  private static final String TILES_PROPERTY = "tiles";
+  private static final String LADDER_ACTION = "LadderAction";
+  private static final String SNAKE_ACTION = "SnakeAction";
+  private static final int INITIAL_CAPACITY = 64;
+  private static final int PROGRESS_INTERVAL = 256;
+
+  /**
+   * Implementation of {@link BoardFileReader} that reads board configurations from JSON files using
+   * the Gson library.
+   *
+   * <p>This class parses JSON formatted board files and converts them into {@link Board} objects
+   * with appropriate tiles and actions. The expected JSON structure includes board properties
+   * (name, description, dimensions) and an array of tiles with their respective properties and
+   * actions.
+   * </p>
+   *
+   * <p>Supported tile actions include:
+   * <ul>
+   *   <li>LadderAction - moves player to a specified destination tile</li>
+   *   <li>SnakeAction - moves player to a specified destination tile</li>
+   *   <li>SkipTurnAction - causes player to skip their next turn</li>
+   *   <li>PropertyAction - represents purchasable property with a price</li>
+   *   <li>TaxAction - charges player a specified amount</li>
+   *   <li>StartAction - awards player a specified amount</li>
+   * </ul>
+   * </p>
+   *
+   * @see BoardFileReader
+   * @see Board
+   * @see Tile
+   * @see TileAction
+   */
+  @Override
+  public Board readBoard(Path path) throws BoardParsingException {
+    return readBoard(path, BoardReadMonitor.NONE);
+  }
+
+  @Override
+  public Board readBoard(Path path, BoardReadMonitor monitor) throws BoardParsingException {
+    if (path == null) {
+      throw new IllegalArgumentException("Path cannot be null.");
+    }
+
+    try (Reader reader = openReader(path)) {
+      return parseBoard(reader, monitor);
+    } catch (IOException e) {
+      throw new BoardParsingException("Failed to read board file: " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Reads the top-level properties of a JSON board file, stopping before its tiles. The tile count
+   * is only known if the file records a {@code tileCount}.
+   *
+   * @param path the file path containing the board configuration data
+   * @return the header of the board
+   * @throws BoardParsingException if the file cannot be read or its header is invalid
+   */
+  @Override
+  public BoardHeader readBoardHeader(Path path) throws BoardParsingException {
+    if (path == null) {
+      throw new IllegalArgumentException("Path cannot be null.");
+    }
+
+    try (Reader reader = openReader(path)) {
+      return parseBoardHeader(reader);
+    } catch (IOException e) {
+      throw new BoardParsingException("Failed to read board file: " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Parses the top-level properties of a board configuration from a Reader, stopping before the
+   * tiles. The rest of the input is left unread.
+   *
+   * @param reader the reader containing JSON board configuration
+   * @return the header of the board
+   * @throws BoardParsingException if parsing fails
+   */
+  public BoardHeader parseBoardHeader(Reader reader) throws BoardParsingException {
+    try {
+      JsonReader jsonReader = new JsonReader(reader);
+      jsonReader.setLenient(true);
+      return readHeaderObject(jsonReader);
+    } catch (MalformedJsonException | EOFException e) {
+      throw new BoardParsingException("Invalid JSON syntax: " + e.getMessage(), e);
+    } catch (IOException | IllegalStateException | NumberFormatException e) {
+      throw new BoardParsingException("Failed to parse JSON: " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Parses a board configuration from a Reader. This method contains pure parsing logic and can be
+   * tested without file I/O.
+   *
+   * @param reader the reader containing JSON board configuration
+   * @return a fully initialized Board object
+   * @throws BoardParsingException if parsing fails
+   */
+  public Board parseBoard(Reader reader) throws BoardParsingException {
+    return parseBoard(reader, BoardReadMonitor.NONE);
+  }
+
+  /**
+   * Parses a board configuration from a Reader while reporting the number of tiles parsed.
+   *
+   * @param reader the reader containing JSON board configuration
+   * @param monitor receives the number of tiles parsed and tells when to stop
+   * @return a fully initialized Board object
+   * @throws BoardParsingException if parsing fails
+   * @throws CancellationException if the monitor is cancelled before the board has been parsed
+   */
+  public Board parseBoard(Reader reader, BoardReadMonitor monitor) throws BoardParsingException {
+    if (monitor == null) {
+      throw new IllegalArgumentException("Monitor cannot be null.");
+    }
+    checkCancelled(monitor);
+
+    try {
+      JsonReader jsonReader = new JsonReader(reader);
+      jsonReader.setLenient(true);
+      Board board = readBoardObject(jsonReader, monitor);
+      if (jsonReader.peek() != JsonToken.END_DOCUMENT) {
+        throw new BoardParsingException("Failed to parse JSON: document was not fully consumed");
+      }
+      return board;
+    } catch (CancellationException e) {
+      throw e;
+    } catch (MalformedJsonException | EOFException e) {
+      throw new BoardParsingException("Invalid JSON syntax: " + e.getMessage(), e);
+    } catch (IOException | IllegalStateException | NumberFormatException e) {
+      throw new BoardParsingException("Failed to parse JSON: " + e.getMessage(), e);
+    } catch (BoardParsingException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new BoardParsingException("Unexpected error: " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Parses a board configuration from a JSON string. Convenience method for testing with string
+   * input.
+   *
+   * @param jsonString the JSON string containing board configuration
+   * @return a fully initialized Board object
+   * @throws BoardParsingException if parsing fails
+   */
+  public Board parseBoard(String jsonString) throws BoardParsingException {
+    if (jsonString == null) {
+      throw new BoardParsingException("Failed to parse JSON: input is null");
+    }
+    return parseBoard(new StringReader(jsonString));
+  }
+
+  /**
+   * Reads the top-level board object.
+   *
+   * <p>The board properties may appear in any order, also after the tiles, so the tiles are kept in
+   * a list until the board can be created.
+   *
+   * @param reader the JSON reader, positioned before the board object
+   * @param monitor receives the number of tiles parsed and tells when to stop
+   * @return the board
+   * @throws IOException if the JSON cannot be read
+   * @throws BoardParsingException if the board is invalid
+   */
+  private Board readBoardObject(JsonReader reader, BoardReadMonitor monitor)
+      throws IOException, BoardParsingException {
+    if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+      throw new IllegalStateException("Expected a JSON object but was " + reader.peek());
+    }
+
+    HeaderFields header = new HeaderFields();
+    TileBuffer tiles = null;
+
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String property = reader.nextName();
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+      } else if (property.equals(TILES_PROPERTY)) {
+        tiles = readTiles(reader, monitor);
+      } else {
+        header.read(property, reader);
+      }
+    }
+    reader.endObject();
+
+    header.validate();
+    if (tiles == null) {
+      throw new BoardParsingException("Board must have a 'tiles' array");
+    }
+
+    Board board = new Board(header.name, header.description, header.rows, header.columns,
+        header.startTileId, header.endTileId);
+    tiles.resolveInto(board);
+    return board;
+  }
+
+  /**
+   * Reads the top-level properties of the board object. Reading stops at the tiles once the board
+   * properties are known, or as soon as the tile count is known as well. Tiles that come before the
+   * board properties are skipped without being created.
+   *
+   * @param reader the JSON reader, positioned before the board object
+   * @return the header of the board
+   * @throws IOException if the JSON cannot be read
+   * @throws BoardParsingException if the header is invalid
+   */
+  private BoardHeader readHeaderObject(JsonReader reader)
+      throws IOException, BoardParsingException {
+    if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+      throw new IllegalStateException("Expected a JSON object but was " + reader.peek());
+    }
+
+    HeaderFields header = new HeaderFields();
+    reader.beginObject();
+    while (!(header.isComplete() && header.tileCount != null) && reader.hasNext()) {
+      String property = reader.nextName();
+      if (property.equals(TILES_PROPERTY) && header.isComplete()) {
+        break;
+      }
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+      } else if (property.equals(TILES_PROPERTY)) {
+        reader.skipValue();
+      } else {
+        header.read(property, reader);
+      }
+    }
+
+    header.validate();
+    return new BoardHeader(header.name, header.description, header.rows, header.columns,
+        header.startTileId, header.endTileId,
+        header.tileCount != null ? header.tileCount : BoardHeader.UNKNOWN_TILE_COUNT);
+  }
+
+  private TileBuffer readTiles(JsonReader reader, BoardReadMonitor monitor)
+      throws IOException, BoardParsingException {
+    if (reader.peek() != JsonToken.BEGIN_ARRAY) {
+      throw new BoardParsingException("Board 'tiles' field must be a valid array");
+    }
+
+    TileBuffer tiles = new TileBuffer();
+    int tilesParsed = 0;
+    reader.beginArray();
+    while (reader.hasNext()) {
+      readTile(reader, tiles);
+      tilesParsed++;
+      if (tilesParsed % PROGRESS_INTERVAL == 0) {
+        monitor.tilesParsed(tilesParsed);
+        checkCancelled(monitor);
+      }
+    }
+    reader.endArray();
+    monitor.tilesParsed(tilesParsed);
+    return tiles;
+  }
+
+  private static Reader openReader(Path path) throws IOException {
+    return new InputStreamReader(BoardFileCompression.openInputStream(path), StandardCharsets.UTF_8);
+  }
+
+  private static void checkCancelled(BoardReadMonitor monitor) {
+    if (monitor.isCancelled()) {
+      throw new CancellationException("Board loading was cancelled");
+    }
+  }
+
+  private void readTile(JsonReader reader, TileBuffer tiles)
+      throws IOException, BoardParsingException {
+    Integer id = null;
+    Integer row = null;
+    Integer column = null;
+    String name = null;
+    Integer nextTileId = null;
+    ActionFields action = null;
+
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String property = reader.nextName();
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        continue;
+      }
+      switch (property) {
+        case "id" -> id = reader.nextInt();
+        case "row" -> row = reader.nextInt();
+        case "column" -> column = reader.nextInt();
+        case "name" -> name = reader.nextString();
+        case "nextTileId" -> nextTileId = reader.nextInt();
+        case "action" -> action = readAction(reader);
+        default -> reader.skipValue();
+      }
+    }
+    reader.endObject();
+
+    if (id == null) {
+      throw new BoardParsingException("Tile must have id, row, and column");
+    }
+
+    Tile tile = new Tile(id);
+    if (row != null) {
+      tile.setRow(row);
+    }
+    if (column != null) {
+      tile.setColumn(column);
+    }
+    if (name != null) {
+      tile.setName(name);
+    }
+
+    int index = tiles.add(tile);
+    if (nextTileId != null) {
+      tiles.addNextTileLink(index, nextTileId);
+    }
+    if (action != null) {
+      addTileAction(tiles, index, tile, action);
+    }
+  }
+
+  private ActionFields readAction(JsonReader reader) throws IOException {
+    ActionFields action = new ActionFields();
+
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String property = reader.nextName();
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        continue;
+      }
+      switch (property) {
+        case TYPE_PROPERTY -> action.type = reader.nextString();
+        case DESTINATION_TILE_ID_PROPERTY -> action.destinationTileId = reader.nextInt();
+        case PRICE_PROPERTY -> action.price = reader.nextInt();
+        case AMOUNT_PROPERTY -> action.amount = reader.nextInt();
+        default -> reader.skipValue();
+      }
+    }
+    reader.endObject();
+    return action;
+  }
+
+  /**
+   * Sets the action of a tile. Ladders and snakes are recorded as pending jumps, since their
+   * destination may not have been read yet.
+   */
+  private void addTileAction(TileBuffer tiles, int index, Tile tile, ActionFields action)
+      throws BoardParsingException {
+    if (action.type == null) {
+      throw new BoardParsingException("Action must have type");
+    }
+
+    switch (action.type) {
+      case LADDER_ACTION, SNAKE_ACTION -> {
+        if (action.destinationTileId == null) {
+          throw new BoardParsingException(action.type + " must have destinationTileId");
+        }
+        tiles.addJump(index, action.destinationTileId, action.type.equals(LADDER_ACTION));
+      }
+      case "SkipTurnAction" -> tile.setLandAction(new SkipTurnAction());
+      case "PropertyAction" -> {
+        if (action.price == null) {
+          throw new BoardParsingException("PropertyAction must have price");
+        }
+        tile.setLandAction(new PropertyAction(action.price));
+      }
+      case "TaxAction" -> {
+        if (action.amount == null) {
+          throw new BoardParsingException("TaxAction must have amount");
+        }
+        tile.setLandAction(new TaxAction(action.amount));
+      }
+      case "StartAction" -> {
+        if (action.amount == null) {
+          throw new BoardParsingException("StartAction must have amount");
+        }
+        tile.setLandAction(new StartAction(action.amount));
+      }
+      default -> throw new BoardParsingException("Unknown action type: " + action.type);
+    }
+  }
+
+  /** The top-level properties of a board object, collected before the board is created. */
+  private static final class HeaderFields {
+
+    private String name;
+    private String description;
+    private Integer rows;
+    private Integer columns;
+    private Integer startTileId;
+    private Integer endTileId;
+    private Integer tileCount;
+
+    private void read(String property, JsonReader reader) throws IOException {
+      switch (property) {
+        case "name" -> name = reader.nextString();
+        case "description" -> description = reader.nextString();
+        case "rows" -> rows = reader.nextInt();
+        case "columns" -> columns = reader.nextInt();
+        case "startTileId" -> startTileId = reader.nextInt();
+        case "endTileId" -> endTileId = reader.nextInt();
+        case "tileCount" -> tileCount = reader.nextInt();
+        default -> reader.skipValue();
+      }
+    }
+
+    private boolean isComplete() {
+      return name != null && description != null && rows != null && columns != null
+          && startTileId != null && endTileId != null;
+    }
+
+    private void validate() throws BoardParsingException {
+      if (!isComplete()) {
+        throw new BoardParsingException("Board must have name, description, rows, and columns");
+      }
+    }
+  }
+
+  /** The fields of an action object, collected before the action is created. */
+  private static final class ActionFields {
+
+    private String type;
+    private Integer destinationTileId;
+    private Integer price;
+    private Integer amount;
+  }
+
+  /**
+   * The tiles read so far, with the references to other tiles that are resolved once the whole
+   * array has been read. References are kept in parallel int arrays to avoid an object per link on
+   * large boards.
+   */
+  private static final class TileBuffer {
+
+    private final List<Tile> tiles = new ArrayList<>();
+    private int[] linkTileIndexes = new int[INITIAL_CAPACITY];
+    private int[] linkTargetIds = new int[INITIAL_CAPACITY];
+    private int linkCount;
+    private int[] jumpTileIndexes = new int[INITIAL_CAPACITY];
+    private int[] jumpTargetIds = new int[INITIAL_CAPACITY];
+    private boolean[] jumpIsLadder = new boolean[INITIAL_CAPACITY];
+    private int jumpCount;
+
+    private int add(Tile tile) {
+      tiles.add(tile);
+      return tiles.size() - 1;
+    }
+
+    private void addNextTileLink(int tileIndex, int nextTileId) {
+      if (linkCount == linkTileIndexes.length) {
+        linkTileIndexes = Arrays.copyOf(linkTileIndexes, linkCount * 2);
+        linkTargetIds = Arrays.copyOf(linkTargetIds, linkCount * 2);
+      }
+      linkTileIndexes[linkCount] = tileIndex;
+      linkTargetIds[linkCount] = nextTileId;
+      linkCount++;
+    }
+
+    private void addJump(int tileIndex, int destinationTileId, boolean ladder) {
+      if (jumpCount == jumpTileIndexes.length) {
+        jumpTileIndexes = Arrays.copyOf(jumpTileIndexes, jumpCount * 2);
+        jumpTargetIds = Arrays.copyOf(jumpTargetIds, jumpCount * 2);
+        jumpIsLadder = Arrays.copyOf(jumpIsLadder, jumpCount * 2);
+      }
+      jumpTileIndexes[jumpCount] = tileIndex;
+      jumpTargetIds[jumpCount] = destinationTileId;
+      jumpIsLadder[jumpCount] = ladder;
+      jumpCount++;
+    }
+
+    /**
+     * Adds the tiles to a board and resolves the pending references. A next tile that does not
+     * exist is ignored, while a missing ladder or snake destination is an error.
+     *
+     * @param board the board to add the tiles to
+     * @throws BoardParsingException if a ladder or snake destination does not exist
+     */
+    private void resolveInto(Board board) throws BoardParsingException {
+      for (Tile tile : tiles) {
+        board.addTile(tile);
+      }
+
+      for (int i = 0; i < linkCount; i++) {
+        Tile nextTile = board.getTile(linkTargetIds[i]);
+        if (nextTile != null) {
+          tiles.get(linkTileIndexes[i]).setNextTile(nextTile);
+        }
+      }
+
+      for (int i = 0; i < jumpCount; i++) {
+        Tile destinationTile = board.getTile(jumpTargetIds[i]);
+        Tile tile = tiles.get(jumpTileIndexes[i]);
+        if (jumpIsLadder[i]) {
+          if (destinationTile == null) {
+            throw new BoardParsingException("Destination tile not found for " + LADDER_ACTION);
+          }
+          tile.setLandAction(new LadderAction(destinationTile));
+        } else {
+          if (destinationTile == null) {
+            throw new BoardParsingException("Destination tile not found for " + SNAKE_ACTION);
+          }
+          tile.setLandAction(new SnakeAction(destinationTile));
+        }
+      }
+    }
+  }
+}
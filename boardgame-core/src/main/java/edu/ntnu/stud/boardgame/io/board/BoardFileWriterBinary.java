@@ -0,0 +1,199 @@
+package edu.ntnu.stud.boardgame.io.board;
+
+import static edu.ntnu.stud.boardgame.io.board.BinaryBoardFormat.ACTION_KIND_COLUMN;
+import static edu.ntnu.stud.boardgame.io.board.BinaryBoardFormat.ACTION_VALUE_COLUMN;
+import static edu.ntnu.stud.boardgame.io.board.BinaryBoardFormat.COLUMN_COLUMN;
+import static edu.ntnu.stud.boardgame.io.board.BinaryBoardFormat.COLUMN_COUNT;
+import static edu.ntnu.stud.boardgame.io.board.BinaryBoardFormat.ID_COLUMN;
+import static edu.ntnu.stud.boardgame.io.board.BinaryBoardFormat.NAME_COLUMN;
+import static edu.ntnu.stud.boardgame.io.board.BinaryBoardFormat.NEXT_COLUMN;
+import static edu.ntnu.stud.boardgame.io.board.BinaryBoardFormat.NONE;
+import static edu.ntnu.stud.boardgame.io.board.BinaryBoardFormat.ROW_COLUMN;
+
+import edu.ntnu.stud.boardgame.exception.files.BoardWritingException;
+import edu.ntnu.stud.boardgame.model.Board;
+import edu.ntnu.stud.boardgame.model.Tile;
+import edu.ntnu.stud.boardgame.model.action.LadderAction;
+import edu.ntnu.stud.boardgame.model.action.PropertyAction;
+import edu.ntnu.stud.boardgame.model.action.SkipTurnAction;
+import edu.ntnu.stud.boardgame.model.action.SnakeAction;
+import edu.ntnu.stud.boardgame.model.action.StartAction;
+import edu.ntnu.stud.boardgame.model.action.TaxAction;
+import edu.ntnu.stud.boardgame.model.action.TileAction;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Implementation of {@link BoardFileWriter} that writes boards in the binary format described by
+ * {@link BinaryBoardFormat}.
+ *
+ * <p>Tiles are written in ascending ID order as fixed-width columns, so that
+ * {@link BoardFileReaderBinary} can memory-map the file and read the tiles without parsing.
+ *
+ * @see BoardFileReaderBinary
+ */
+public class BoardFileWriterBinary implements BoardFileWriter {
+
+  /**
+   * Writes a board object to the specified file path in the binary board format. An existing file
+   * at the path is replaced. The file is gzip-compressed if its name ends with {@code .gz}.
+   */
+  @Override
+  public void writeBoard(Path path, Board board) throws BoardWritingException {
+    if (path == null) {
+      throw new IllegalArgumentException("Path cannot be null.");
+    }
+    if (board == null) {
+      throw new IllegalArgumentException("Board cannot be null.");
+    }
+
+    ByteBuffer buffer = serializeBoard(board);
+    if (BoardFileCompression.isCompressedName(path)) {
+      try (WritableByteChannel channel =
+          Channels.newChannel(BoardFileCompression.openOutputStream(path))) {
+        while (buffer.hasRemaining()) {
+          channel.write(buffer);
+        }
+      } catch (IOException e) {
+        throw new BoardWritingException("Failed to write board file: " + e.getMessage(), e);
+      }
+      return;
+    }
+
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+        StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+    } catch (IOException e) {
+      throw new BoardWritingException("Failed to write board file: " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Serializes a board object into a buffer. This method contains pure serialization logic and can
+   * be tested without file I/O.
+   *
+   * @param board the board object to serialize
+   * @return a buffer positioned at the start of the serialized board
+   * @throws BoardWritingException if a tile has an action that cannot be serialized
+   */
+  public ByteBuffer serializeBoard(Board board) throws BoardWritingException {
+    if (board == null) {
+      throw new IllegalArgumentException("Board cannot be null.");
+    }
+
+    List<Tile> tiles = new ArrayList<>(board.getTiles().values());
+    tiles.sort(Comparator.comparingInt(Tile::getTileId));
+    int tileCount = tiles.size();
+
+    StringTable strings = new StringTable();
+    strings.add(board.getName());
+    strings.add(board.getDescription());
+
+    int[] columns = new int[COLUMN_COUNT * tileCount];
+    for (int i = 0; i < tileCount; i++) {
+      Tile tile = tiles.get(i);
+      columns[ID_COLUMN * tileCount + i] = tile.getTileId();
+      columns[ROW_COLUMN * tileCount + i] = tile.getRow() != null ? tile.getRow() : NONE;
+      columns[COLUMN_COLUMN * tileCount + i] = tile.getColumn() != null ? tile.getColumn() : NONE;
+      columns[NEXT_COLUMN * tileCount + i] =
+          tile.getNextTile() != null ? tile.getNextTile().getTileId() : NONE;
+      columns[NAME_COLUMN * tileCount + i] =
+          tile.getName() != null ? strings.add(tile.getName()) : NONE;
+      writeAction(tile.getLandAction(), columns, tileCount, i);
+    }
+
+    long stringsOffset = BinaryBoardFormat.HEADER_SIZE + (long) columns.length * Integer.BYTES;
+    if (stringsOffset + strings.size() > Integer.MAX_VALUE) {
+      throw new BoardWritingException("Board is too large for the binary format: " + tileCount
+          + " tiles");
+    }
+
+    ByteBuffer buffer = ByteBuffer.allocate((int) stringsOffset + strings.size());
+    buffer.putInt(BinaryBoardFormat.MAGIC);
+    buffer.putShort(BinaryBoardFormat.VERSION);
+    buffer.putShort((short) 0);
+    buffer.putInt(board.getRows());
+    buffer.putInt(board.getColumns());
+    buffer.putInt(board.getStartTileId());
+    buffer.putInt(board.getEndTileId());
+    buffer.putInt(tileCount);
+    buffer.putInt((int) stringsOffset);
+    buffer.asIntBuffer().put(columns);
+    buffer.position((int) stringsOffset);
+    buffer.put(strings.toByteArray());
+    buffer.flip();
+    return buffer;
+  }
+
+  private static void writeAction(TileAction action, int[] columns, int tileCount, int index)
+      throws BoardWritingException {
+    int kind;
+    int value = NONE;
+
+    switch (action) {
+      case null -> kind = BinaryBoardFormat.ACTION_NONE;
+      case LadderAction ladderAction -> {
+        kind = BinaryBoardFormat.ACTION_LADDER;
+        value = ladderAction.getDestinationTile().getTileId();
+      }
+      case SnakeAction snakeAction -> {
+        kind = BinaryBoardFormat.ACTION_SNAKE;
+        value = snakeAction.getDestinationTile().getTileId();
+      }
+      case SkipTurnAction skipTurnAction -> kind = BinaryBoardFormat.ACTION_SKIP_TURN;
+      case PropertyAction propertyAction -> {
+        kind = BinaryBoardFormat.ACTION_PROPERTY;
+        value = propertyAction.getPrice();
+      }
+      case TaxAction taxAction -> {
+        kind = BinaryBoardFormat.ACTION_TAX;
+        value = taxAction.getAmount();
+      }
+      case StartAction startAction -> {
+        kind = BinaryBoardFormat.ACTION_START;
+        value = startAction.getAmount();
+      }
+      default -> throw new BoardWritingException("Unknown action type: " + action.getClass());
+    }
+
+    columns[ACTION_KIND_COLUMN * tileCount + index] = kind;
+    columns[ACTION_VALUE_COLUMN * tileCount + index] = value;
+  }
+
+  /**
+   * Collects the strings of a board and records the offset of each string relative to the start
+   * of the string table.
+   */
+  private static final class StringTable {
+
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+    private int add(String value) {
+      int offset = bytes.size();
+      byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+      bytes.writeBytes(ByteBuffer.allocate(Integer.BYTES).putInt(encoded.length).array());
+      bytes.writeBytes(encoded);
+      return offset;
+    }
+
+    private int size() {
+      return bytes.size();
+    }
+
+    private byte[] toByteArray() {
+      return bytes.toByteArray();
+    }
+  }
+}
@@ -0,0 +1,242 @@
+package edu.ntnu.stud.boardgame.io.board;
+
+import com.google.gson.stream.JsonWriter;
+import edu.ntnu.stud.boardgame.exception.files.BoardWritingException;
+import edu.ntnu.stud.boardgame.model.Board;
+import edu.ntnu.stud.boardgame.model.Tile;
+import edu.ntnu.stud.boardgame.model.action.LadderAction;
+import edu.ntnu.stud.boardgame.model.action.PropertyAction;
+import edu.ntnu.stud.boardgame.model.action.SkipTurnAction;
+import edu.ntnu.stud.boardgame.model.action.SnakeAction;
+import edu.ntnu.stud.boardgame.model.action.StartAction;
+import edu.ntnu.stud.boardgame.model.action.TaxAction;
+import edu.ntnu.stud.boardgame.model.action.TileAction;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Implementation of {@link BoardFileWriter} that writes boards as JSON with Gson's streaming
+ * {@link JsonWriter}.
+ *
+ * <p>The board is written property by property straight to the output, so no JSON tree of the
+ * board is built in memory. Tiles are written in id order, which keeps the files of equal boards
+ * identical and easy to compare.</p>
+ *
+ * <p>A file whose name ends with {@code .gz} is gzip-compressed as it is written.</p>
+ *
+ * <p>By default the JSON is pretty-printed with two spaces of indentation so that boards can be
+ * edited by hand. Machine-generated boards can use the compact mode, which writes no whitespace
+ * between tokens.</p>
+ *
+ * <p>The writer handles different types of tile actions by converting them to appropriate
+ * JSON objects with type information and relevant properties.</p>
+ *
+ * @see BoardFileWriter
+ * @see Board
+ * @see TileAction
+ */
+public class BoardFileWriterGson implements BoardFileWriter {
+
+  private static final String INDENT = "  ";
+
+  private final boolean compact;
+
+  /**
+   * Constructs a new BoardFileWriterGson that pretty-prints the JSON.
+   */
+  public BoardFileWriterGson() {
+    this(false);
+  }
+
+  /**
+   * Constructs a new BoardFileWriterGson.
+   *
+   * @param compact true to write the JSON without any whitespace, false to pretty-print it
+   */
+  public BoardFileWriterGson(boolean compact) {
+    this.compact = compact;
+  }
+
+  /**
+   * Checks whether this writer writes compact JSON.
+   *
+   * @return true if the JSON is written without whitespace
+   */
+  public boolean isCompact() {
+    return compact;
+  }
+
+  private static void writeAction(JsonWriter json, Tile tile, TileAction action)
+      throws IOException, BoardWritingException {
+    json.name("action").beginObject();
+
+    switch (action) {
+      case LadderAction ladderAction -> {
+        int destinationId = ladderAction.getDestinationTile().getTileId();
+        json.name("type").value("LadderAction");
+        json.name("destinationTileId").value(destinationId);
+        json.name("description")
+            .value("Ladder from " + tile.getTileId() + " to " + destinationId);
+      }
+      case SnakeAction snakeAction -> {
+        int destinationId = snakeAction.getDestinationTile().getTileId();
+        json.name("type").value("SnakeAction");
+        json.name("destinationTileId").value(destinationId);
+        json.name("description")
+            .value("Snake from " + tile.getTileId() + " to " + destinationId);
+      }
+      case SkipTurnAction skipTurnAction -> {
+        json.name("type").value("SkipTurnAction");
+        json.name("description").value("Skip turn for player");
+      }
+      case PropertyAction propertyAction -> {
+        json.name("type").value("PropertyAction");
+        json.name("price").value(propertyAction.getPrice());
+        json.name("description").value("Property with price: " + propertyAction.getPrice());
+      }
+      case TaxAction taxAction -> {
+        json.name("type").value("TaxAction");
+        json.name("amount").value(taxAction.getAmount());
+        json.name("description").value("Tax with amount: " + taxAction.getAmount());
+      }
+      case StartAction startAction -> {
+        json.name("type").value("StartAction");
+        json.name("amount").value(startAction.getAmount());
+        json.name("description").value("Start tile with amount: " + startAction.getAmount());
+      }
+      default -> throw new BoardWritingException("Unknown action type: " + action.getClass());
+    }
+
+    json.endObject();
+  }
+
+  private static void writeTile(JsonWriter json, Tile tile)
+      throws IOException, BoardWritingException {
+    json.beginObject();
+    json.name("id").value(tile.getTileId());
+
+    if (tile.getRow() != null) {
+      json.name("row").value(tile.getRow());
+    }
+
+    if (tile.getColumn() != null) {
+      json.name("column").value(tile.getColumn());
+    }
+
+    if (tile.getName() != null) {
+      json.name("name").value(tile.getName());
+    }
+
+    if (tile.getNextTile() != null) {
+      json.name("nextTileId").value(tile.getNextTile().getTileId());
+    }
+
+    TileAction action = tile.getLandAction();
+    if (action != null) {
+      writeAction(json, tile, action);
+    }
+    json.endObject();
+  }
+
+  /**
+   * Writes a board object to the specified file path in JSON format. This method handles file I/O
+   * and delegates serialization to serializeBoard().
+   */
+  @Override
+  public void writeBoard(Path path, Board board) throws BoardWritingException {
+    if (path == null) {
+      throw new IllegalArgumentException("Path cannot be null.");
+    }
+    if (board == null) {
+      throw new IllegalArgumentException("Board cannot be null.");
+    }
+
+    try (Writer writer = new OutputStreamWriter(BoardFileCompression.openOutputStream(path),
+        StandardCharsets.UTF_8)) {
+      serializeBoard(writer, board);
+    } catch (IOException e) {
+      throw new BoardWritingException("Failed to write board file: " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Serializes a board object to a Writer. This method contains pure serialization logic and can be
+   * tested without file I/O.
+   *
+   * <p>The writer is flushed but not closed.
+   *
+   * @param writer the writer to output JSON to
+   * @param board  the board object to serialize
+   * @throws BoardWritingException if serialization fails
+   */
+  public void serializeBoard(Writer writer, Board board) throws BoardWritingException {
+    if (writer == null) {
+      throw new IllegalArgumentException("Writer cannot be null.");
+    }
+    if (board == null) {
+      throw new IllegalArgumentException("Board cannot be null.");
+    }
+
+    try {
+      JsonWriter json = new JsonWriter(writer);
+      json.setIndent(compact ? "" : INDENT);
+      json.setSerializeNulls(false);
+      writeBoardObject(json, board);
+      json.flush();
+    } catch (BoardWritingException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new BoardWritingException("Unexpected error during serialization: " + e.getMessage(),
+          e);
+    }
+  }
+
+  /**
+   * Serializes a board object to a JSON string. Convenience method for testing with string output.
+   *
+   * @param board the board object to serialize
+   * @return JSON string representation of the board
+   * @throws BoardWritingException if serialization fails
+   */
+  public String serializeBoardToString(Board board) throws BoardWritingException {
+    if (board == null) {
+      throw new IllegalArgumentException("Board cannot be null.");
+    }
+
+    StringWriter writer = new StringWriter();
+    serializeBoard(writer, board);
+    return writer.toString();
+  }
+
+  /**
+   * Writes the JSON object of a board. This method contains the core serialization logic.
+   */
+  private void writeBoardObject(JsonWriter json, Board board)
+      throws IOException, BoardWritingException {
+    List<Tile> tiles = new ArrayList<>(board.getTiles().values());
+    tiles.sort(Comparator.comparingInt(Tile::getTileId));
+
+    json.beginObject();
+    json.name("name").value(board.getName());
+    json.name("description").value(board.getDescription());
+    json.name("rows").value(board.getRows());
+    json.name("columns").value(board.getColumns());
+    json.name("startTileId").value(board.getStartTileId());
+    json.name("endTileId").value(board.getEndTileId());
+    json.name("tileCount").value(tiles.size());
+
+    json.name("tiles").beginArray();
+    for (Tile tile : tiles) {
+      writeTile(json, tile);
+    }
+    json.endArray();
+    json.endObject();
+  }
+}
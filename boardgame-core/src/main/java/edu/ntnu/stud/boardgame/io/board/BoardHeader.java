@@ -0,0 +1,78 @@
+package edu.ntnu.stud.boardgame.io.board;
+
+/**
+ * The top-level properties of a board file, read without reading its tiles.
+ *
+ * <p>A header is what is needed to present a board in a list: its name and description, its
+ * dimensions, its start and end tile and, when the file records it, its tile count.
+ *
+ * @see BoardFileReader#readBoardHeader(java.nio.file.Path)
+ */
+public final class BoardHeader {
+
+  /** Tile count of a header read from a file that does not record its number of tiles. */
+  public static final int UNKNOWN_TILE_COUNT = -1;
+
+  private final String name;
+  private final String description;
+  private final int rows;
+  private final int columns;
+  private final int startTileId;
+  private final int endTileId;
+  private final int tileCount;
+
+  /**
+   * Creates a board header.
+   *
+   * @param name the name of the board
+   * @param description the description of the board
+   * @param rows number of rows
+   * @param columns number of columns
+   * @param startTileId id of the start tile
+   * @param endTileId id of the end tile
+   * @param tileCount number of tiles, or {@link #UNKNOWN_TILE_COUNT} if the file does not record it
+   */
+  public BoardHeader(String name, String description, int rows, int columns, int startTileId,
+      int endTileId, int tileCount) {
+    this.name = name;
+    this.description = description;
+    this.rows = rows;
+    this.columns = columns;
+    this.startTileId = startTileId;
+    this.endTileId = endTileId;
+    this.tileCount = tileCount;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public String getDescription() {
+    return description;
+  }
+
+  public int getRows() {
+    return rows;
+  }
+
+  public int getColumns() {
+    return columns;
+  }
+
+  public int getStartTileId() {
+    return startTileId;
+  }
+
+  public int getEndTileId() {
+    return endTileId;
+  }
+
+  /**
+   * Gets the number of tiles of the board.
+   *
+   * @return the number of tiles, or {@link #UNKNOWN_TILE_COUNT} if the file does not record it
+   */
+  public int getTileCount() {
+    return tileCount;
+  }
+}
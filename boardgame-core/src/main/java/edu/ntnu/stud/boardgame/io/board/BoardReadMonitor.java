@@ -0,0 +1,41 @@
+package edu.ntnu.stud.boardgame.io.board;
+
+/**
+ * Receives the progress of a board being read and lets the reader know when to stop.
+ *
+ * <p>Readers report the number of tiles parsed so far at regular intervals and check
+ * {@link #isCancelled()} at the same points. A cancelled read ends with a
+ * {@link java.util.concurrent.CancellationException}.
+ *
+ * @see BoardFileReader#readBoard(java.nio.file.Path, BoardReadMonitor)
+ */
+public interface BoardReadMonitor {
+
+  /** Monitor that ignores progress and is never cancelled. */
+  BoardReadMonitor NONE =
+      new BoardReadMonitor() {
+        @Override
+        public void tilesParsed(int tilesParsed) {
+          // Progress is not reported.
+        }
+
+        @Override
+        public boolean isCancelled() {
+          return false;
+        }
+      };
+
+  /**
+   * Called with the number of tiles parsed so far.
+   *
+   * @param tilesParsed the number of tiles parsed so far
+   */
+  void tilesParsed(int tilesParsed);
+
+  /**
+   * Checks whether the read should stop.
+   *
+   * @return true if the read has been cancelled
+   */
+  boolean isCancelled();
+}
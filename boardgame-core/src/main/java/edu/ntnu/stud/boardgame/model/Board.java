@@ -1,5 +1,7 @@
 package edu.ntnu.stud.boardgame.model;
 
+import edu.ntnu.stud.boardgame.exception.InvalidGameStateException;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -7,6 +9,10 @@ import java.util.Map;
  * Represents a game board with tiles and their connections.
  *
  * <p>Manages the board's dimensions, tile layout, and start/end positions.
+ *
+ * <p>A board can be frozen with {@link #freeze()} to make it a read-only template. A frozen board
+ * and its tiles can be shared by any number of games, since games keep their mutable state, such
+ * as player positions and property ownership, to themselves.
  */
 public class Board {
 
@@ -17,6 +23,7 @@ public class Board {
   private final String description;
   private final int startTileId;
   private final int endTileId;
+  private volatile boolean frozen;
 
   /**
    * Creates a new board with the specified dimensions and properties.
@@ -64,11 +71,15 @@ public class Board {
    *
    * @param tile the tile to add
    * @throws IllegalArgumentException if tile is null
+   * @throws InvalidGameStateException if the board is frozen
    */
   public void addTile(Tile tile) {
     if (tile == null) {
       throw new IllegalArgumentException("Cannot add a null tile to the board.");
     }
+    if (frozen) {
+      throw new InvalidGameStateException("Cannot add a tile to a frozen board.");
+    }
     tiles.put(tile.getTileId(), tile);
   }
 
@@ -85,10 +96,10 @@ public class Board {
   /**
    * Gets all tiles on the board.
    *
-   * @return map of tile IDs to tiles
+   * @return map of tile IDs to tiles, which is unmodifiable if the board is frozen
    */
   public Map<Integer, Tile> getTiles() {
-    return tiles;
+    return frozen ? Collections.unmodifiableMap(tiles) : tiles;
   }
 
   public int getRows() {
@@ -114,4 +125,61 @@ public class Board {
   public int getEndTileId() {
     return endTileId;
   }
+
+  /**
+   * Makes this board and its tiles read-only, so it can be shared between games as a template.
+   * Freezing a frozen board has no effect.
+   */
+  public void freeze() {
+    if (frozen) {
+      return;
+    }
+    for (Tile tile : getTiles().values()) {
+      tile.freeze();
+    }
+    frozen = true;
+  }
+
+  /**
+   * Checks whether this board has been frozen.
+   *
+   * @return true if the board is read-only
+   */
+  public boolean isFrozen() {
+    return frozen;
+  }
+
+  /**
+   * Creates a copy of this board with its own tiles and actions.
+   *
+   * <p>The copy has the same layout, tile connections and actions as this board, and is never
+   * frozen, so it can be used to edit a board based on a frozen template.
+   *
+   * @return a copy of this board
+   */
+  public Board copy() {
+    Board copy = new Board(name, description, rows, columns, startTileId, endTileId);
+    Map<Integer, Tile> sourceTiles = getTiles();
+
+    for (Tile source : sourceTiles.values()) {
+      Tile tile = new Tile(source.getTileId());
+      tile.setRow(source.getRow());
+      tile.setColumn(source.getColumn());
+      if (source.getName() != null) {
+        tile.setName(source.getName());
+      }
+      copy.addTile(tile);
+    }
+
+    for (Tile source : sourceTiles.values()) {
+      Tile tile = copy.getTile(source.getTileId());
+      if (source.getNextTile() != null) {
+        tile.setNextTile(copy.getTile(source.getNextTile().getTileId()));
+      }
+      if (source.getLandAction() != null) {
+        tile.setLandAction(source.getLandAction().copyFor(copy));
+      }
+    }
+    return copy;
+  }
 }
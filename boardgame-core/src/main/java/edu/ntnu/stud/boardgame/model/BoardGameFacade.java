@@ -0,0 +1,433 @@
+package edu.ntnu.stud.boardgame.model;
+
+import edu.ntnu.stud.boardgame.analysis.BoardAnalysis;
+import edu.ntnu.stud.boardgame.analysis.MarkovAnalyzer;
+import edu.ntnu.stud.boardgame.exception.BoardGameException;
+import edu.ntnu.stud.boardgame.exception.InvalidGameStateException;
+import edu.ntnu.stud.boardgame.factory.BoardGameFactory;
+import edu.ntnu.stud.boardgame.model.enums.BoardGameType;
+import edu.ntnu.stud.boardgame.model.enums.PieceType;
+import edu.ntnu.stud.boardgame.model.game.BoardGame;
+import edu.ntnu.stud.boardgame.observer.BoardGameObserver;
+import edu.ntnu.stud.boardgame.observer.GameEvent.EventType;
+import edu.ntnu.stud.boardgame.observer.GameEventBus;
+import edu.ntnu.stud.boardgame.observer.GameEventBus.OverflowPolicy;
+import edu.ntnu.stud.boardgame.service.BoardFileService;
+import edu.ntnu.stud.boardgame.service.BoardSummary;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.logging.Logger;
+
+/**
+ * Facade providing a simplified interface to the board game system.
+ *
+ * <p>Coordinates game creation, player management, board operations, and observer notifications.
+ * Acts as the main entry point for game operations.
+ */
+public class BoardGameFacade {
+
+  /** The largest number of turns {@link #playUntilGameOver()} plays. */
+  public static final int MAX_AUTOPLAY_TURNS = 100_000;
+
+  private static final Logger LOGGER = Logger.getLogger(BoardGameFacade.class.getName());
+
+  private final BoardGameFactory factory;
+  private final BoardFileService boardFileService;
+  private final List<BoardGameObserver> observers;
+  private final List<ObserverRegistration> registrations;
+  private BoardGame currentGame;
+  private BoardGameType currentGameType;
+
+  /** Creates a new facade with required services. */
+  public BoardGameFacade() {
+    this.boardFileService = BoardFileService.getInstance();
+    this.factory = new BoardGameFactory(boardFileService);
+    this.observers = new ArrayList<>();
+    this.registrations = new ArrayList<>();
+  }
+
+  /**
+   * Creates a new game with the specified board.
+   *
+   * @param boardName name of the board to use
+   * @throws BoardGameException if game type not selected or creation fails
+   */
+  public void createGame(String boardName) throws BoardGameException {
+    if (currentGameType == null) {
+      throw new InvalidGameStateException("No game type has been selected");
+    }
+
+    try {
+      installGame(factory.createGame(currentGameType, boardName));
+    } catch (Exception e) {
+      throw new BoardGameException("Failed to create game with board: " + boardName, e);
+    }
+  }
+
+  /**
+   * Creates a new game with the specified board, loading the board on a background thread.
+   *
+   * <p>Once the board has been loaded, the game is made current and the observers are notified on
+   * {@code completionExecutor}, typically the UI thread. Cancelling the returned future stops the
+   * loading, and the current game is left unchanged.
+   *
+   * @param boardName name of the board to use
+   * @param progress receives the number of tiles parsed so far, on the loading thread
+   * @param completionExecutor executor that makes the loaded game current
+   * @return a future completed once the game is current, or exceptionally if loading fails
+   * @throws InvalidGameStateException if no game type selected
+   * @throws IllegalArgumentException if any parameter is null or boardName is empty
+   */
+  public CompletableFuture<Void> createGameAsync(
+      String boardName, IntConsumer progress, Executor completionExecutor) {
+    if (currentGameType == null) {
+      throw new InvalidGameStateException("No game type has been selected");
+    }
+    if (completionExecutor == null) {
+      throw new IllegalArgumentException("Completion executor cannot be null.");
+    }
+
+    CompletableFuture<BoardGame> loading =
+        factory.createGameAsync(currentGameType, boardName, progress);
+    CompletableFuture<Void> created = loading.thenAcceptAsync(this::installGame, completionExecutor);
+    created.whenComplete(
+        (result, error) -> {
+          if (created.isCancelled()) {
+            loading.cancel(false);
+          }
+        });
+    return created;
+  }
+
+  private void installGame(BoardGame game) {
+    currentGame = game;
+    currentGame.registerObservers(observers);
+    for (ObserverRegistration registration : registrations) {
+      registration.registerWith(currentGame);
+    }
+    currentGame.notifyGameCreated();
+  }
+
+  /**
+   * Saves the current board to a file.
+   *
+   * @param fileName name of the file to save to
+   * @throws BoardGameException if no game exists or save fails
+   */
+  public void saveCurrentBoard(String fileName) throws BoardGameException {
+    if (currentGame == null || currentGame.getBoard() == null) {
+      throw new BoardGameException("No game has been created");
+    }
+
+    try {
+      boardFileService.saveBoard(currentGameType, fileName, currentGame.getBoard());
+    } catch (Exception e) {
+      throw new BoardGameException("Failed to save board: " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Starts the current game.
+   *
+   * @throws BoardGameException if no game exists or start fails
+   */
+  public void startGame() throws BoardGameException {
+    if (currentGame == null) {
+      throw new BoardGameException("No game has been created");
+    }
+
+    try {
+      currentGame.startGame();
+    } catch (IllegalStateException e) {
+      throw new BoardGameException("Failed to start game: " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Adds a player to the current game.
+   *
+   * @param name player's name
+   * @param pieceType player's piece type
+   * @throws BoardGameException if no game exists
+   */
+  public void addPlayer(String name, PieceType pieceType) throws BoardGameException {
+    if (currentGame == null) {
+      throw new BoardGameException("No game has been created");
+    }
+
+    Player player = new Player(name, pieceType);
+    currentGame.addPlayer(player);
+  }
+
+  /**
+   * Executes a turn in the current game.
+   *
+   * <p>The events of the turn are published to the observers as a single batch once the turn is
+   * over.
+   *
+   * @throws BoardGameException if no game exists or game is over
+   */
+  public void playTurn() throws BoardGameException {
+    if (currentGame == null) {
+      throw new BoardGameException("No game has been created");
+    }
+
+    if (currentGame.isGameOver()) {
+      throw new BoardGameException("Game is already over");
+    }
+
+    currentGame.beginEventBatch();
+    try {
+      currentGame.playTurn();
+
+      if (!currentGame.isGameOver()) {
+        currentGame.nextTurn();
+      }
+    } finally {
+      currentGame.flushEvents();
+    }
+  }
+
+  /**
+   * Plays a number of turns in a tight loop, stopping early if the game ends.
+   *
+   * <p>The events of all turns are published as a single batch once the loop is over, with the
+   * moves and dice rolls of each player merged into one summary event, so observers redraw once
+   * instead of animating every move.
+   *
+   * @param turns the number of turns to play
+   * @return the number of turns played
+   * @throws IllegalArgumentException if turns is negative
+   * @throws BoardGameException if no game exists or game is over
+   * @see edu.ntnu.stud.boardgame.observer.MoveCoalescer
+   */
+  public int playTurns(int turns) throws BoardGameException {
+    if (turns < 0) {
+      throw new IllegalArgumentException("Number of turns cannot be negative.");
+    }
+    if (currentGame == null) {
+      throw new BoardGameException("No game has been created");
+    }
+
+    if (currentGame.isGameOver()) {
+      throw new BoardGameException("Game is already over");
+    }
+
+    int played = 0;
+    currentGame.beginEventBatch();
+    try {
+      while (played < turns && !currentGame.isGameOver()) {
+        currentGame.playTurn();
+        played++;
+
+        if (!currentGame.isGameOver()) {
+          currentGame.nextTurn();
+        }
+      }
+    } finally {
+      currentGame.flushEvents(true);
+    }
+    return played;
+  }
+
+  /**
+   * Plays turns until the game is over, or until {@link #MAX_AUTOPLAY_TURNS} turns have been
+   * played in case the game cannot end.
+   *
+   * @return the number of turns played
+   * @throws BoardGameException if no game exists or game is over
+   * @see #playTurns(int)
+   */
+  public int playUntilGameOver() throws BoardGameException {
+    return playTurns(MAX_AUTOPLAY_TURNS);
+  }
+
+  public BoardGame getCurrentGame() {
+    return currentGame;
+  }
+
+  public BoardGameType getCurrentGameType() {
+    return currentGameType;
+  }
+
+  public void setCurrentGameType(BoardGameType currentGameType) {
+    this.currentGameType = currentGameType;
+  }
+
+  /**
+   * Gets a list of available board configurations.
+   *
+   * @return list of board names
+   * @throws InvalidGameStateException if no game type selected
+   */
+  public List<String> getAvailableGameBoards() {
+    if (currentGameType == null) {
+      throw new InvalidGameStateException("No game type has been selected");
+    }
+
+    return factory.getAvailableGameBoards(currentGameType);
+  }
+
+  /**
+   * Gets the metadata of the saved board configurations without loading them.
+   *
+   * @return summaries of the saved boards
+   * @throws InvalidGameStateException if no game type selected
+   */
+  public List<BoardSummary> getSavedBoardSummaries() {
+    if (currentGameType == null) {
+      throw new InvalidGameStateException("No game type has been selected");
+    }
+
+    return factory.getSavedBoardSummaries(currentGameType);
+  }
+
+  /**
+   * Adds a listener that is told, on a background thread, when the saved boards of a game type
+   * have been indexed or have changed on disk.
+   *
+   * @param listener the listener, called with the game type whose saved boards changed
+   * @throws IllegalArgumentException if listener is null
+   */
+  public void addSavedBoardListener(Consumer<BoardGameType> listener) {
+    factory.addSavedBoardListener(listener);
+  }
+
+  /**
+   * Computes the game length statistics of a Snakes and Ladders board in the background.
+   *
+   * <p>Saved boards are loaded on the board loading thread, so a board that is then selected for
+   * a game is taken from the board cache. The analysis itself runs on the common fork/join pool.
+   * Cancelling the returned future also cancels the loading of the board.
+   *
+   * @param boardName name of the board to analyse
+   * @return a future completed with the analysis of the board, or exceptionally if the board
+   *     cannot be loaded or analysed
+   * @throws InvalidGameStateException if the current game type is not a ladder game
+   * @throws IllegalArgumentException if boardName is null or empty
+   */
+  public CompletableFuture<BoardAnalysis> analyzeBoardAsync(String boardName) {
+    if (currentGameType != BoardGameType.LADDER) {
+      throw new InvalidGameStateException("Only ladder game boards can be analysed");
+    }
+
+    CompletableFuture<Board> loading =
+        factory.loadBoardAsync(currentGameType, boardName, tilesParsed -> {});
+    CompletableFuture<BoardAnalysis> analysis =
+        loading.thenApplyAsync(
+            board -> MarkovAnalyzer.getInstance().analyze(board), ForkJoinPool.commonPool());
+    analysis.whenComplete(
+        (result, error) -> {
+          if (analysis.isCancelled()) {
+            loading.cancel(false);
+          }
+        });
+    return analysis;
+  }
+
+  /**
+   * Registers an observer for game events.
+   *
+   * @param observer the observer to register
+   */
+  public void registerObserver(BoardGameObserver observer) {
+    if (observer == null) {
+      LOGGER.warning("Attempted to register a null observer.");
+      return;
+    }
+    observers.add(observer);
+
+    if (currentGame != null) {
+      currentGame.registerObserver(observer);
+    }
+  }
+
+  /**
+   * Registers an observer for game events of some types.
+   *
+   * @param observer the observer to register
+   * @param eventTypes the event types the observer receives
+   */
+  public void registerObserver(BoardGameObserver observer, EnumSet<EventType> eventTypes) {
+    registerObserver(
+        observer,
+        GameEventBus.DIRECT_EXECUTOR,
+        GameEventBus.DEFAULT_CAPACITY,
+        OverflowPolicy.BLOCK,
+        eventTypes);
+  }
+
+  /**
+   * Registers an observer that receives batches of game events on its own executor.
+   *
+   * @param observer the observer to register
+   * @param executor the executor the observer is notified on
+   * @param capacity the number of event batches buffered for the observer
+   * @param policy what to do when the observer falls behind and its buffer is full
+   */
+  public void registerObserver(
+      BoardGameObserver observer, Executor executor, int capacity, OverflowPolicy policy) {
+    registerObserver(observer, executor, capacity, policy, EnumSet.allOf(EventType.class));
+  }
+
+  /**
+   * Registers an observer that receives batches of game events of some types on its own executor.
+   *
+   * @param observer the observer to register
+   * @param executor the executor the observer is notified on
+   * @param capacity the number of event batches buffered for the observer
+   * @param policy what to do when the observer falls behind and its buffer is full
+   * @param eventTypes the event types the observer receives
+   */
+  public void registerObserver(
+      BoardGameObserver observer,
+      Executor executor,
+      int capacity,
+      OverflowPolicy policy,
+      EnumSet<EventType> eventTypes) {
+    if (observer == null) {
+      LOGGER.warning("Attempted to register a null observer.");
+      return;
+    }
+    ObserverRegistration registration =
+        new ObserverRegistration(observer, executor, capacity, policy, eventTypes);
+    registrations.add(registration);
+
+    if (currentGame != null) {
+      registration.registerWith(currentGame);
+    }
+  }
+
+  /** An observer registered with its options, kept so it can be registered with later games. */
+  private static final class ObserverRegistration {
+
+    private final BoardGameObserver observer;
+    private final Executor executor;
+    private final int capacity;
+    private final OverflowPolicy policy;
+    private final EnumSet<EventType> eventTypes;
+
+    private ObserverRegistration(
+        BoardGameObserver observer,
+        Executor executor,
+        int capacity,
+        OverflowPolicy policy,
+        EnumSet<EventType> eventTypes) {
+      this.observer = observer;
+      this.executor = executor;
+      this.capacity = capacity;
+      this.policy = policy;
+      this.eventTypes = eventTypes;
+    }
+
+    private void registerWith(BoardGame game) {
+      game.registerObserver(observer, executor, capacity, policy, eventTypes);
+    }
+  }
+}
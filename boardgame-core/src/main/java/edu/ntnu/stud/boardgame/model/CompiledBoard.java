@@ -0,0 +1,447 @@
+package edu.ntnu.stud.boardgame.model;
+
+import edu.ntnu.stud.boardgame.exception.InvalidGameStateException;
+import edu.ntnu.stud.boardgame.model.action.LadderAction;
+import edu.ntnu.stud.boardgame.model.action.PropertyAction;
+import edu.ntnu.stud.boardgame.model.action.SkipTurnAction;
+import edu.ntnu.stud.boardgame.model.action.SnakeAction;
+import edu.ntnu.stud.boardgame.model.action.StartAction;
+import edu.ntnu.stud.boardgame.model.action.TaxAction;
+import edu.ntnu.stud.boardgame.model.action.TileAction;
+import java.util.Arrays;
+
+/**
+ * Read-only snapshot of a {@link Board} flattened into primitive arrays indexed by tile ID.
+ *
+ * <p>Holds the next tile, the destination of a ladder or snake and the kind of land action for
+ * every tile, plus a table of the tile reached after each possible number of steps. Moving a player
+ * then costs a single array lookup instead of walking the {@link Tile#getNextTile()} chain or
+ * boxing the ID for a map lookup.
+ *
+ * <p>Chains of ladders and snakes are compressed as well: every tile knows the tile a player finally
+ * comes to rest on after following all of them, and how many jumps it takes to get there. Boards
+ * where ladders and snakes form a cycle are rejected.
+ *
+ * <p>The snapshot is taken when the compiled board is created; later changes to the board are not
+ * reflected.
+ */
+public final class CompiledBoard {
+
+  /** Value used in the tables for a tile that does not exist. */
+  public static final int NO_TILE = -1;
+
+  private static final ActionKind[] ACTION_KINDS = ActionKind.values();
+  private static final int UNRESOLVED = -1;
+  private static final int RESOLVING = -2;
+
+  private final Tile[] tiles;
+  private final int[] nextTileIds;
+  private final int[] destinationTileIds;
+  private final int[] restingTileIds;
+  private final int[] jumpCounts;
+  private final byte[] actionKinds;
+  private final int[] stepTable;
+  private final int maxSteps;
+  private final int tileCount;
+  private final int startTileId;
+  private final int endTileId;
+  private final long contentHash;
+
+  /**
+   * Compiles a board.
+   *
+   * @param board the board to compile
+   * @param maxSteps the largest number of steps to precompute destinations for
+   * @throws IllegalArgumentException if board is null, maxSteps is negative or the board contains a
+   *     negative tile ID
+   * @throws InvalidGameStateException if ladders and snakes on the board form a cycle
+   */
+  public CompiledBoard(Board board, int maxSteps) {
+    if (board == null) {
+      throw new IllegalArgumentException("Board cannot be null.");
+    }
+    if (maxSteps < 0) {
+      throw new IllegalArgumentException("Max steps cannot be negative.");
+    }
+
+    int maxTileId = -1;
+    for (Tile tile : board.getTiles().values()) {
+      if (tile.getTileId() < 0) {
+        throw new IllegalArgumentException("Tile ID cannot be negative: " + tile.getTileId());
+      }
+      maxTileId = Math.max(maxTileId, tile.getTileId());
+    }
+
+    int size = maxTileId + 1;
+    this.tiles = new Tile[size];
+    this.nextTileIds = new int[size];
+    this.destinationTileIds = new int[size];
+    this.restingTileIds = new int[size];
+    this.jumpCounts = new int[size];
+    this.actionKinds = new byte[size];
+    this.maxSteps = maxSteps;
+    this.tileCount = board.getTiles().size();
+    this.startTileId = board.getStartTileId();
+    this.endTileId = board.getEndTileId();
+
+    for (int id = 0; id < size; id++) {
+      nextTileIds[id] = NO_TILE;
+      destinationTileIds[id] = NO_TILE;
+    }
+
+    for (Tile tile : board.getTiles().values()) {
+      int id = tile.getTileId();
+      tiles[id] = tile;
+      nextTileIds[id] = tile.getNextTile() != null ? tile.getNextTile().getTileId() : NO_TILE;
+      destinationTileIds[id] = id;
+
+      TileAction action = tile.getLandAction();
+      ActionKind kind = ActionKind.of(action);
+      actionKinds[id] = (byte) kind.ordinal();
+      if (action instanceof LadderAction ladderAction) {
+        destinationTileIds[id] = ladderAction.getDestinationTile().getTileId();
+      } else if (action instanceof SnakeAction snakeAction) {
+        destinationTileIds[id] = snakeAction.getDestinationTile().getTileId();
+      }
+    }
+
+    resolveJumps(size);
+    this.stepTable = buildStepTable(size);
+    this.contentHash = computeContentHash();
+  }
+
+  /**
+   * Computes a 64-bit hash of everything that affects how pieces move on the board.
+   *
+   * @return the content hash
+   */
+  private long computeContentHash() {
+    long hash = mix(size());
+    hash = mix(hash ^ startTileId);
+    hash = mix(hash ^ endTileId);
+    for (int id = 0; id < tiles.length; id++) {
+      if (tiles[id] == null) {
+        continue;
+      }
+      hash = mix(hash ^ id);
+      hash = mix(hash ^ nextTileIds[id]);
+      hash = mix(hash ^ destinationTileIds[id]);
+      hash = mix(hash ^ actionKinds[id]);
+    }
+    return hash;
+  }
+
+  /**
+   * Scrambles the bits of a value, using the finalizer of SplitMix64.
+   *
+   * @param value the value to scramble
+   * @return the scrambled value
+   */
+  private static long mix(long value) {
+    value += 0x9E3779B97F4A7C15L;
+    value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+    value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+    return value ^ (value >>> 31);
+  }
+
+  /**
+   * Fills in the resting tile and jump count of every tile.
+   *
+   * <p>Every chain of ladders and snakes is walked once: the walk stops at a tile without a jump or
+   * a tile that was already resolved, and the tiles on the way are then resolved backwards. A walk
+   * that runs into a tile it is still resolving has found a cycle. This takes linear time in the
+   * number of tiles, however the chains are laid out.
+   *
+   * @param size the table size
+   * @throws InvalidGameStateException if ladders and snakes form a cycle
+   */
+  private void resolveJumps(int size) {
+    for (int id = 0; id < size; id++) {
+      if (tiles[id] == null) {
+        restingTileIds[id] = NO_TILE;
+        jumpCounts[id] = 0;
+      } else if (isJump(id)) {
+        jumpCounts[id] = UNRESOLVED;
+      } else {
+        restingTileIds[id] = id;
+        jumpCounts[id] = 0;
+      }
+    }
+
+    int[] chain = new int[size];
+    for (int id = 0; id < size; id++) {
+      if (jumpCounts[id] != UNRESOLVED) {
+        continue;
+      }
+
+      int length = 0;
+      int current = id;
+      while (contains(current) && jumpCounts[current] == UNRESOLVED) {
+        jumpCounts[current] = RESOLVING;
+        chain[length++] = current;
+        current = destinationTileIds[current];
+      }
+      if (contains(current) && jumpCounts[current] == RESOLVING) {
+        throw new InvalidGameStateException(
+            "Ladders and snakes form a cycle at tile ID: " + current + ".");
+      }
+
+      int restingTileId = contains(current) ? restingTileIds[current] : current;
+      int jumps = contains(current) ? jumpCounts[current] : 0;
+      while (length > 0) {
+        int tileId = chain[--length];
+        restingTileIds[tileId] = restingTileId;
+        jumpCounts[tileId] = ++jumps;
+      }
+    }
+  }
+
+  private boolean isJump(int tileId) {
+    ActionKind kind = ACTION_KINDS[actionKinds[tileId]];
+    return kind == ActionKind.LADDER || kind == ActionKind.SNAKE;
+  }
+
+  /**
+   * Builds the table of destinations for every tile and every step count up to {@code maxSteps}.
+   *
+   * <p>Row {@code id} holds the tile reached after 0, 1, ..., maxSteps steps, stopping at the last
+   * tile of the chain the same way {@link Player#getDestinationTile(int)} does.
+   *
+   * @param size the number of rows
+   * @return the flattened step table
+   */
+  private int[] buildStepTable(int size) {
+    int stride = maxSteps + 1;
+    int[] table = new int[size * stride];
+    for (int id = 0; id < size; id++) {
+      int row = id * stride;
+      if (tiles[id] == null) {
+        for (int step = 0; step < stride; step++) {
+          table[row + step] = NO_TILE;
+        }
+        continue;
+      }
+      int current = id;
+      table[row] = current;
+      for (int step = 1; step < stride; step++) {
+        int next = nextTileIds[current];
+        if (next != NO_TILE && next < size && tiles[next] != null) {
+          current = next;
+        }
+        table[row + step] = current;
+      }
+    }
+    return table;
+  }
+
+  /**
+   * Checks if a tile ID is part of the compiled board.
+   *
+   * @param tileId the tile ID
+   * @return true if the tile exists
+   */
+  public boolean contains(int tileId) {
+    return tileId >= 0 && tileId < tiles.length && tiles[tileId] != null;
+  }
+
+  /**
+   * Gets the tile with an ID.
+   *
+   * @param tileId the tile ID
+   * @return the tile, or null if it does not exist
+   */
+  public Tile getTile(int tileId) {
+    return contains(tileId) ? tiles[tileId] : null;
+  }
+
+  /**
+   * Gets the ID of the tile reached after moving a number of steps.
+   *
+   * @param tileId the ID of the tile to move from
+   * @param steps the number of steps to move
+   * @return the destination tile ID
+   * @throws IllegalArgumentException if the tile does not exist or steps is negative
+   */
+  public int advance(int tileId, int steps) {
+    if (!contains(tileId)) {
+      throw new IllegalArgumentException("Tile not found on compiled board: " + tileId);
+    }
+    if (steps < 0) {
+      throw new IllegalArgumentException("Steps cannot be negative");
+    }
+    if (steps <= maxSteps) {
+      return stepTable[tileId * (maxSteps + 1) + steps];
+    }
+
+    int current = stepTable[tileId * (maxSteps + 1) + maxSteps];
+    for (int step = maxSteps; step < steps; step++) {
+      int next = nextTileIds[current];
+      if (!contains(next)) {
+        break;
+      }
+      current = next;
+    }
+    return current;
+  }
+
+  /**
+   * Gets the ID of the next tile in sequence.
+   *
+   * @param tileId the tile ID
+   * @return the next tile ID, or {@link #NO_TILE} if there is none
+   */
+  public int getNextTileId(int tileId) {
+    return contains(tileId) ? nextTileIds[tileId] : NO_TILE;
+  }
+
+  /**
+   * Gets the ID of the tile a ladder or snake on a tile leads to.
+   *
+   * @param tileId the tile ID
+   * @return the destination of the ladder or snake, the tile itself if it has no ladder or snake,
+   *     or {@link #NO_TILE} if the tile does not exist
+   */
+  public int getDestinationTileId(int tileId) {
+    return contains(tileId) ? destinationTileIds[tileId] : NO_TILE;
+  }
+
+  /**
+   * Gets the ID of the tile a player comes to rest on after landing on a tile and following every
+   * ladder and snake from there.
+   *
+   * @param tileId the tile ID
+   * @return the resting tile ID, the tile itself if it has no ladder or snake, or {@link #NO_TILE}
+   *     if the tile does not exist
+   */
+  public int getRestingTileId(int tileId) {
+    return contains(tileId) ? restingTileIds[tileId] : NO_TILE;
+  }
+
+  /**
+   * Gets the number of ladders and snakes a player follows after landing on a tile.
+   *
+   * @param tileId the tile ID
+   * @return the number of jumps, or 0 if the tile has no ladder or snake or does not exist
+   */
+  public int getJumpCount(int tileId) {
+    return contains(tileId) ? jumpCounts[tileId] : 0;
+  }
+
+  /**
+   * Gets the tiles a player passes through after landing on a tile, one for each ladder or snake
+   * followed, so every hop can be shown.
+   *
+   * @param tileId the tile ID
+   * @return the IDs of the tiles reached by each jump, ending with the resting tile, or an empty
+   *     array if the tile has no ladder or snake or does not exist
+   */
+  public int[] getJumpPath(int tileId) {
+    int[] path = new int[getJumpCount(tileId)];
+    int current = tileId;
+    for (int hop = 0; hop < path.length; hop++) {
+      current = destinationTileIds[current];
+      path[hop] = current;
+    }
+    return path;
+  }
+
+  /**
+   * Gets the kind of land action on a tile.
+   *
+   * @param tileId the tile ID
+   * @return the action kind, {@link ActionKind#NONE} if the tile has no action or does not exist
+   */
+  public ActionKind getActionKind(int tileId) {
+    return contains(tileId) ? ACTION_KINDS[actionKinds[tileId]] : ActionKind.NONE;
+  }
+
+  /**
+   * Gets the size of the tables, which is one more than the largest tile ID.
+   *
+   * @return the table size
+   */
+  public int size() {
+    return tiles.length;
+  }
+
+  public int getTileCount() {
+    return tileCount;
+  }
+
+  public int getMaxSteps() {
+    return maxSteps;
+  }
+
+  public int getStartTileId() {
+    return startTileId;
+  }
+
+  public int getEndTileId() {
+    return endTileId;
+  }
+
+  /**
+   * Gets a hash of the tiles, links and actions of the board.
+   *
+   * <p>Two boards with the same layout, ladders, snakes and action kinds have the same hash, even
+   * if they are separate objects or have different names. The step table size is not part of the
+   * hash.
+   *
+   * @return the content hash
+   */
+  public long getContentHash() {
+    return contentHash;
+  }
+
+  /**
+   * Checks whether another compiled board has the same tiles, links and actions, which is what
+   * {@link #getContentHash()} covers. Used to confirm that two boards with the same hash really have
+   * the same layout.
+   *
+   * @param other the compiled board to compare with
+   * @return true if pieces move the same way on both boards
+   */
+  public boolean hasSameContent(CompiledBoard other) {
+    if (other == this) {
+      return true;
+    }
+    return other != null
+        && contentHash == other.contentHash
+        && startTileId == other.startTileId
+        && endTileId == other.endTileId
+        && Arrays.equals(nextTileIds, other.nextTileIds)
+        && Arrays.equals(destinationTileIds, other.destinationTileIds)
+        && Arrays.equals(actionKinds, other.actionKinds);
+  }
+
+  /** The kinds of land actions a tile can have. */
+  public enum ActionKind {
+    NONE,
+    LADDER,
+    SNAKE,
+    SKIP_TURN,
+    PROPERTY,
+    TAX,
+    START,
+    OTHER;
+
+    /**
+     * Gets the kind of an action.
+     *
+     * @param action the action, may be null
+     * @return the matching kind, {@link #NONE} for null and {@link #OTHER} for unknown actions
+     */
+    public static ActionKind of(TileAction action) {
+      return switch (action) {
+        case null -> NONE;
+        case LadderAction ladderAction -> LADDER;
+        case SnakeAction snakeAction -> SNAKE;
+        case SkipTurnAction skipTurnAction -> SKIP_TURN;
+        case PropertyAction propertyAction -> PROPERTY;
+        case TaxAction taxAction -> TAX;
+        case StartAction startAction -> START;
+        default -> OTHER;
+      };
+    }
+  }
+}
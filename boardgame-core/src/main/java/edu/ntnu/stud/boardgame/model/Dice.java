@@ -0,0 +1,94 @@
+package edu.ntnu.stud.boardgame.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Represents a collection of dice for rolling in board games.
+ *
+ * <p>Manages multiple dice and provides methods for rolling them. All dice in a collection share
+ * one {@link RandomGenerator}, so dice created with the same seed roll the same sequence.
+ */
+public class Dice {
+
+  private final List<Die> dice;
+
+  /**
+   * Creates a collection of dice with an unseeded random generator.
+   *
+   * @param numberOfDice number of dice to create
+   * @throws IllegalArgumentException if numberOfDice is not positive
+   */
+  public Dice(int numberOfDice) {
+    this(numberOfDice, new SplittableRandom());
+  }
+
+  /**
+   * Creates a collection of dice that replays the same rolls for the same seed.
+   *
+   * @param numberOfDice number of dice to create
+   * @param seed the seed for the random generator
+   * @throws IllegalArgumentException if numberOfDice is not positive
+   */
+  public Dice(int numberOfDice, long seed) {
+    this(numberOfDice, new SplittableRandom(seed));
+  }
+
+  /**
+   * Creates a collection of dice that roll with the given random generator.
+   *
+   * @param numberOfDice number of dice to create
+   * @param random the random generator shared by all dice
+   * @throws IllegalArgumentException if numberOfDice is not positive or random is null
+   */
+  public Dice(int numberOfDice, RandomGenerator random) {
+    if (numberOfDice <= 0) {
+      throw new IllegalArgumentException("Number of dice must be positive.");
+    }
+    if (random == null) {
+      throw new IllegalArgumentException("Random generator cannot be null.");
+    }
+    this.dice = new ArrayList<>();
+    for (int i = 0; i < numberOfDice; i++) {
+      this.dice.add(new Die(random));
+    }
+  }
+
+  /**
+   * Rolls all dice and returns the total.
+   *
+   * @return sum of all dice values
+   */
+  public int roll() {
+    int total = 0;
+    for (Die die : dice) {
+      total += die.roll();
+    }
+    return total;
+  }
+
+  /**
+   * Gets the highest total a single roll of all dice can give.
+   *
+   * @return the maximum roll
+   */
+  public int getMaxRoll() {
+    return dice.size() * Die.SIDES;
+  }
+
+  /**
+   * Gets the value of a specific die.
+   *
+   * @param dieNumber index of the die
+   * @return current value of the die
+   * @throws IndexOutOfBoundsException if dieNumber is invalid
+   */
+  public int getDie(int dieNumber) {
+    if (dieNumber < 0 || dieNumber >= dice.size()) {
+      throw new IndexOutOfBoundsException("Die number out of bounds");
+    }
+    return dice.get(dieNumber).getValue();
+  }
+}
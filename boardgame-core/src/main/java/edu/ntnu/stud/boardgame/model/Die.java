@@ -0,0 +1,57 @@
+package edu.ntnu.stud.boardgame.model;
+
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Represents a single six-sided die.
+ *
+ * <p>Simulates rolling a die and tracks its last rolled value. Each die draws from its own {@link
+ * RandomGenerator} instead of the shared generator behind {@link Math#random()}, so dice on
+ * different threads never contend and a seeded generator replays the same rolls.
+ */
+public class Die {
+
+  /** Number of sides on the die. */
+  public static final int SIDES = 6;
+
+  private final RandomGenerator random;
+  private int lastRolledValue = 0;
+
+  /** Creates a die with its own unseeded random generator. */
+  public Die() {
+    this(new SplittableRandom());
+  }
+
+  /**
+   * Creates a die that rolls with the given random generator.
+   *
+   * @param random the random generator to roll with
+   * @throws IllegalArgumentException if random is null
+   */
+  public Die(RandomGenerator random) {
+    if (random == null) {
+      throw new IllegalArgumentException("Random generator cannot be null.");
+    }
+    this.random = random;
+  }
+
+  /**
+   * Rolls the die and returns a random value between 1 and 6.
+   *
+   * @return the rolled value
+   */
+  public int roll() {
+    lastRolledValue = random.nextInt(1, SIDES + 1);
+    return lastRolledValue;
+  }
+
+  /**
+   * Gets the last rolled value.
+   *
+   * @return the last value rolled, or 0 if never rolled
+   */
+  public int getValue() {
+    return lastRolledValue;
+  }
+}
@@ -1,5 +1,6 @@
 package edu.ntnu.stud.boardgame.model;
 
+import edu.ntnu.stud.boardgame.model.action.TileActionContext;
 import edu.ntnu.stud.boardgame.model.enums.PieceType;
 
 /**
@@ -39,11 +40,22 @@ public class Player {
    * @throws IllegalArgumentException if tile is null
    */
   public void placeOnTile(Tile tile) {
+    placeOnTile(tile, TileActionContext.NONE);
+  }
+
+  /**
+   * Places the player on a tile and triggers any tile actions, reporting their effects to a game.
+   *
+   * @param tile tile to place the player on
+   * @param context the game the tile actions report their effects to
+   * @throws IllegalArgumentException if tile or context is null
+   */
+  public void placeOnTile(Tile tile, TileActionContext context) {
     if (tile == null) {
       throw new IllegalArgumentException("Cannot place player on a null tile.");
     }
     this.currentTile = tile;
-    tile.landPlayer(this);
+    tile.landPlayer(this, context);
   }
 
   /**
@@ -1,11 +1,14 @@
 package edu.ntnu.stud.boardgame.model;
 
+import edu.ntnu.stud.boardgame.exception.InvalidGameStateException;
 import edu.ntnu.stud.boardgame.model.action.TileAction;
+import edu.ntnu.stud.boardgame.model.action.TileActionContext;
 
 /**
  * Represents a tile on the game board.
  *
- * <p>Manages tile properties, actions, and connections to other tiles.
+ * <p>Manages tile properties, actions, and connections to other tiles. A tile becomes read-only
+ * when the board it belongs to is frozen, see {@link Board#freeze()}.
  */
 public class Tile {
 
@@ -15,6 +18,7 @@ public class Tile {
   private TileAction landAction;
   private Tile nextTile;
   private String name;
+  private boolean frozen;
 
   /**
    * Creates a new tile with the specified ID.
@@ -32,11 +36,25 @@ public class Tile {
    * @throws IllegalArgumentException if player is null
    */
   public void landPlayer(Player player) {
+    landPlayer(player, TileActionContext.NONE);
+  }
+
+  /**
+   * Executes the tile's action when a player lands on it, reporting its effects to a game.
+   *
+   * @param player the player landing on the tile
+   * @param context the game the action reports its effects to
+   * @throws IllegalArgumentException if player or context is null
+   */
+  public void landPlayer(Player player, TileActionContext context) {
     if (player == null) {
       throw new IllegalArgumentException("Player cannot be null when landing on tile.");
     }
+    if (context == null) {
+      throw new IllegalArgumentException("Context cannot be null when landing on tile.");
+    }
     if (landAction != null) {
-      landAction.perform(player);
+      landAction.perform(player, context);
     }
   }
 
@@ -53,8 +71,10 @@ public class Tile {
    * Sets the action to be performed when landing on this tile.
    *
    * @param action the action to set
+   * @throws InvalidGameStateException if the tile is frozen
    */
   public void setLandAction(TileAction action) {
+    checkNotFrozen();
     this.landAction = action;
   }
 
@@ -71,8 +91,10 @@ public class Tile {
    * Sets the next tile in sequence.
    *
    * @param nextTile the next tile
+   * @throws InvalidGameStateException if the tile is frozen
    */
   public void setNextTile(Tile nextTile) {
+    checkNotFrozen();
     this.nextTile = nextTile;
   }
 
@@ -85,6 +107,7 @@ public class Tile {
   }
 
   public void setRow(Integer row) {
+    checkNotFrozen();
     this.row = row;
   }
 
@@ -93,6 +116,7 @@ public class Tile {
   }
 
   public void setColumn(Integer column) {
+    checkNotFrozen();
     this.column = column;
   }
 
@@ -105,11 +129,24 @@ public class Tile {
    *
    * @param name the name to set
    * @throws IllegalArgumentException if name is null
+   * @throws InvalidGameStateException if the tile is frozen
    */
   public void setName(String name) {
     if (name == null) {
       throw new IllegalArgumentException("Tile name cannot be null.");
     }
+    checkNotFrozen();
     this.name = name;
   }
+
+  /** Makes this tile read-only. Called by {@link Board#freeze()}. */
+  void freeze() {
+    frozen = true;
+  }
+
+  private void checkNotFrozen() {
+    if (frozen) {
+      throw new InvalidGameStateException("Tile " + tileId + " belongs to a frozen board.");
+    }
+  }
 }
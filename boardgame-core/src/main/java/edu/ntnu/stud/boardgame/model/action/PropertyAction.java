@@ -1,17 +1,20 @@
 package edu.ntnu.stud.boardgame.model.action;
 
 import edu.ntnu.stud.boardgame.model.Player;
-import edu.ntnu.stud.boardgame.model.action.registry.MonopolyActionRegistry;
 
 /**
  * Represents a property tile action in Monopoly.
  *
- * <p>Handles property ownership and rent payments between players.
+ * <p>Charges rent when a player lands on a property owned by another player. Rent is 1/5 of the
+ * price. The action itself is immutable: the owner is looked up through the
+ * {@link TileActionContext}, so every game keeps its own ownership and the same board can be
+ * shared by many games.
  */
 public class PropertyAction implements TileAction {
 
+  private static final int RENT_DIVISOR = 5;
+
   private final int price;
-  private Player owner;
 
   /**
    * Creates a property action with the specified price.
@@ -24,33 +27,29 @@ public class PropertyAction implements TileAction {
       throw new IllegalArgumentException("Property price cannot be negative.");
     }
     this.price = price;
-    this.owner = null;
   }
 
   @Override
-  public void perform(Player player) {
+  public void perform(Player player, TileActionContext context) {
     if (player == null) {
       throw new IllegalArgumentException("Player cannot be null for PropertyAction.");
     }
-    MonopolyActionRegistry.getInstance().executePropertyAction(player, this);
-  }
-
-  /**
-   * Gets the current owner of this property.
-   *
-   * @return the owner, or null if unowned
-   */
-  public Player getOwner() {
-    return owner;
+    if (context == null) {
+      throw new IllegalArgumentException("Context cannot be null for PropertyAction.");
+    }
+    Player owner = context.getPropertyOwner(this);
+    if (owner != null && owner != player) {
+      context.payRent(player, owner, getRent());
+    }
   }
 
   /**
-   * Sets the owner of this property.
+   * Gets the rent other players pay when landing on this property.
    *
-   * @param owner the new owner
+   * @return the rent
    */
-  public void setOwner(Player owner) {
-    this.owner = owner;
+  public int getRent() {
+    return price / RENT_DIVISOR;
   }
 
   /**
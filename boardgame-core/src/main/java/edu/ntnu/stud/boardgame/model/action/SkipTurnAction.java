@@ -6,7 +6,7 @@ import edu.ntnu.stud.boardgame.model.Player;
 public class SkipTurnAction implements TileAction {
 
   @Override
-  public void perform(Player player) {
+  public void perform(Player player, TileActionContext context) {
     if (player == null) {
       throw new IllegalArgumentException("Player cannot be null for SkipTurnAction.");
     }
@@ -1,5 +1,6 @@
 package edu.ntnu.stud.boardgame.model.action;
 
+import edu.ntnu.stud.boardgame.model.Board;
 import edu.ntnu.stud.boardgame.model.Player;
 import edu.ntnu.stud.boardgame.model.Tile;
 
@@ -27,12 +28,12 @@ public class SnakeAction implements TileAction {
   }
 
   @Override
-  public void perform(Player player) {
+  public void perform(Player player, TileActionContext context) {
     if (player == null) {
       throw new IllegalArgumentException("Player cannot be null");
     }
 
-    player.placeOnTile(destinationTile);
+    player.placeOnTile(destinationTile, context);
   }
 
   /**
@@ -43,4 +44,15 @@ public class SnakeAction implements TileAction {
   public Tile getDestinationTile() {
     return destinationTile;
   }
+
+  /**
+   * Creates a snake leading to the tile with the same ID on the given board.
+   *
+   * @param board the copy of the board the snake is placed on
+   * @return a snake to the destination tile of the copy
+   */
+  @Override
+  public TileAction copyFor(Board board) {
+    return new SnakeAction(board.getTile(destinationTile.getTileId()));
+  }
 }
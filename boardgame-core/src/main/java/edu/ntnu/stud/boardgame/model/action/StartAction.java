@@ -1,7 +1,6 @@
 package edu.ntnu.stud.boardgame.model.action;
 
 import edu.ntnu.stud.boardgame.model.Player;
-import edu.ntnu.stud.boardgame.model.action.registry.MonopolyActionRegistry;
 
 /**
  * Represents the start tile action in Monopoly.
@@ -22,11 +21,16 @@ public class StartAction implements TileAction {
   }
 
   @Override
-  public void perform(Player player) {
+  public void perform(Player player, TileActionContext context) {
     if (player == null) {
       throw new IllegalArgumentException("Player cannot be null for StartAction.");
     }
-    MonopolyActionRegistry.getInstance().executeStartAction(player, amount);
+    if (context == null) {
+      throw new IllegalArgumentException("Context cannot be null for StartAction.");
+    }
+    if (amount >= 0) {
+      context.receiveStartMoney(player, amount);
+    }
   }
 
   /**
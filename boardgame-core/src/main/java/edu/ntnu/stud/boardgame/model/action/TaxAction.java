@@ -1,7 +1,6 @@
 package edu.ntnu.stud.boardgame.model.action;
 
 import edu.ntnu.stud.boardgame.model.Player;
-import edu.ntnu.stud.boardgame.model.action.registry.MonopolyActionRegistry;
 
 /**
  * Represents a tax tile action in Monopoly.
@@ -26,11 +25,14 @@ public class TaxAction implements TileAction {
   }
 
   @Override
-  public void perform(Player player) {
+  public void perform(Player player, TileActionContext context) {
     if (player == null) {
       throw new IllegalArgumentException("Player cannot be null for TaxAction.");
     }
-    MonopolyActionRegistry.getInstance().executeTaxAction(player, amount);
+    if (context == null) {
+      throw new IllegalArgumentException("Context cannot be null for TaxAction.");
+    }
+    context.payTax(player, amount);
   }
 
   /**
@@ -0,0 +1,40 @@
+package edu.ntnu.stud.boardgame.model.action;
+
+import edu.ntnu.stud.boardgame.model.Board;
+import edu.ntnu.stud.boardgame.model.Player;
+
+/** Interface for actions that can be performed when a player lands on a tile. */
+public interface TileAction {
+
+  /**
+   * Performs the tile action for the given player.
+   *
+   * @param player the player performing the action
+   * @param context the game the action reports its effects to
+   * @throws IllegalArgumentException if player or context is null
+   */
+  void perform(Player player, TileActionContext context);
+
+  /**
+   * Performs the tile action for the given player outside of any game.
+   *
+   * @param player the player performing the action
+   * @throws IllegalArgumentException if player is null
+   */
+  default void perform(Player player) {
+    perform(player, TileActionContext.NONE);
+  }
+
+  /**
+   * Gets the action to place on the corresponding tile of a copy of the board.
+   *
+   * <p>Actions without state or tile references are shared between copies, so the default returns
+   * this action.
+   *
+   * @param board the copy of the board the action is placed on
+   * @return the action for the copy
+   */
+  default TileAction copyFor(Board board) {
+    return this;
+  }
+}
@@ -0,0 +1,51 @@
+package edu.ntnu.stud.boardgame.model.action;
+
+import edu.ntnu.stud.boardgame.model.Player;
+
+/**
+ * Game that tile actions report their effects to.
+ *
+ * <p>Each game passes itself, or another per-game context, to the actions it triggers, so actions
+ * never need to look up the game through global state. All methods do nothing by default, which
+ * suits games without money such as Snakes and Ladders.
+ */
+public interface TileActionContext {
+
+  /** Context that ignores every effect. */
+  TileActionContext NONE = new TileActionContext() {};
+
+  /**
+   * Handles rent payment between players.
+   *
+   * @param tenant the player paying rent
+   * @param owner the player receiving rent
+   * @param amount the rent amount
+   */
+  default void payRent(Player tenant, Player owner, int amount) {}
+
+  /**
+   * Handles tax payment for a player.
+   *
+   * @param player the player paying tax
+   * @param amount the tax amount
+   */
+  default void payTax(Player player, int amount) {}
+
+  /**
+   * Awards money to a player for passing the start tile.
+   *
+   * @param player the player receiving money
+   * @param amount the bonus amount
+   */
+  default void receiveStartMoney(Player player, int amount) {}
+
+  /**
+   * Gets the owner of a property in this game.
+   *
+   * @param property the property action of the tile a player landed on
+   * @return the owner, or null if the property is unowned
+   */
+  default Player getPropertyOwner(PropertyAction property) {
+    return null;
+  }
+}
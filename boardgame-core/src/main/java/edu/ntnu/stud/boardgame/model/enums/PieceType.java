@@ -1,21 +1,23 @@
 package edu.ntnu.stud.boardgame.model.enums;
 
-import javafx.scene.paint.Color;
-
-/** Represents the available game piece types with their associated colors. */
+/**
+ * Represents the available game piece types with their associated colors.
+ *
+ * <p>Colors are stored as web hex strings so the model does not depend on a UI toolkit.
+ */
 public enum PieceType {
-  RED("RedToken", Color.RED),
-  BLUE("BlueToken", Color.BLUE),
-  GREEN("GreenToken", Color.GREEN),
-  YELLOW("YellowToken", Color.YELLOW),
-  BLACK("BlackToken", Color.BLACK);
+  RED("RedToken", "#FF0000"),
+  BLUE("BlueToken", "#0000FF"),
+  GREEN("GreenToken", "#008000"),
+  YELLOW("YellowToken", "#FFFF00"),
+  BLACK("BlackToken", "#000000");
 
   private final String displayName;
-  private final Color color;
+  private final String colorHex;
 
-  PieceType(String displayName, Color color) {
+  PieceType(String displayName, String colorHex) {
     this.displayName = displayName;
-    this.color = color;
+    this.colorHex = colorHex;
   }
 
   /**
@@ -50,10 +52,10 @@ public enum PieceType {
   /**
    * Gets the color associated with this piece type.
    *
-   * @return the piece color
+   * @return the piece color as a web hex string, for example {@code #FF0000}
    */
-  public Color getColor() {
-    return color;
+  public String getColorHex() {
+    return colorHex;
   }
 
   /**
@@ -2,11 +2,16 @@ package edu.ntnu.stud.boardgame.model.game;
 
 import edu.ntnu.stud.boardgame.exception.InvalidGameStateException;
 import edu.ntnu.stud.boardgame.model.Board;
+import edu.ntnu.stud.boardgame.model.CompiledBoard;
 import edu.ntnu.stud.boardgame.model.Dice;
 import edu.ntnu.stud.boardgame.model.Player;
 import edu.ntnu.stud.boardgame.model.Tile;
 import edu.ntnu.stud.boardgame.observer.BoardGameObserver;
 import edu.ntnu.stud.boardgame.observer.GameEvent;
+import edu.ntnu.stud.boardgame.observer.GameEvent.EventType;
+import edu.ntnu.stud.boardgame.observer.GameEventBus;
+import edu.ntnu.stud.boardgame.observer.GameEventBus.OverflowPolicy;
+import edu.ntnu.stud.boardgame.observer.MoveCoalescer;
 import edu.ntnu.stud.boardgame.observer.event.GameCreatedEvent;
 import edu.ntnu.stud.boardgame.observer.event.GameEndedEvent;
 import edu.ntnu.stud.boardgame.observer.event.GameStartedEvent;
@@ -14,7 +19,10 @@ import edu.ntnu.stud.boardgame.observer.event.PlayerAddedEvent;
 import edu.ntnu.stud.boardgame.observer.event.PlayerWonEvent;
 import edu.ntnu.stud.boardgame.observer.event.TurnChangedEvent;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -31,12 +39,21 @@ public abstract class BoardGame {
   /** List of observers registered to receive game events. */
   protected final List<BoardGameObserver> observers;
 
+  /** Bus that delivers game events to the registered observers. */
+  protected final GameEventBus eventBus;
+
+  /** Events collected since {@link #beginEventBatch()}, or null when no batch is open. */
+  private List<GameEvent> eventBatch;
+
   /** List of players participating in the game. */
   protected final List<Player> players;
 
   /** The game board containing tiles and game state. */
   protected Board board;
 
+  /** Array-based snapshot of the board taken when the game starts, used to resolve moves. */
+  protected CompiledBoard compiledBoard;
+
   /** The dice used for player moves. */
   protected Dice dice;
 
@@ -55,6 +72,7 @@ public abstract class BoardGame {
   /** Constructs a new BoardGame with default values. */
   public BoardGame() {
     this.observers = new ArrayList<>();
+    this.eventBus = new GameEventBus();
     this.players = new ArrayList<>();
     this.currentPlayerIndex = 0;
     this.gameOver = false;
@@ -69,6 +87,16 @@ public abstract class BoardGame {
     this.dice = new Dice(numberOfDice);
   }
 
+  /**
+   * Creates seeded dice for the game, so the same seed and moves replay the same game.
+   *
+   * @param numberOfDice number of dice to create
+   * @param seed the seed for the dice
+   */
+  public void createDice(int numberOfDice, long seed) {
+    this.dice = new Dice(numberOfDice, seed);
+  }
+
   /**
    * Adds a player to the game.
    *
@@ -103,6 +131,8 @@ public abstract class BoardGame {
       throw new InvalidGameStateException("Dice has not been created");
     }
 
+    compiledBoard = new CompiledBoard(board, dice.getMaxRoll());
+
     for (Player player : players) {
       Tile startTile = board.getTile(board.getStartTileId());
       if (startTile == null) {
@@ -120,6 +150,39 @@ public abstract class BoardGame {
     notifyObservers(new GameStartedEvent(currentPlayer, players, board));
   }
 
+  /**
+   * Gets the tile a player reaches after moving a number of steps.
+   *
+   * <p>Uses the compiled board when the player's tile is part of it, and falls back to walking the
+   * tile chain otherwise.
+   *
+   * @param player the player to move
+   * @param steps number of steps to move
+   * @return the destination tile
+   */
+  protected Tile resolveDestination(Player player, int steps) {
+    Tile currentTile = player.getCurrentTile();
+    if (compiledBoard != null
+        && currentTile != null
+        && compiledBoard.contains(currentTile.getTileId())) {
+      return compiledBoard.getTile(compiledBoard.advance(currentTile.getTileId(), steps));
+    }
+    return player.getDestinationTile(steps);
+  }
+
+  /**
+   * Gets a tile by its ID, using the compiled board when possible.
+   *
+   * @param tileId the ID of the tile
+   * @return the tile, or null if not found
+   */
+  protected Tile getTile(int tileId) {
+    if (compiledBoard != null && compiledBoard.contains(tileId)) {
+      return compiledBoard.getTile(tileId);
+    }
+    return board.getTile(tileId);
+  }
+
   /** Executes a turn for the current player. */
   public abstract void playTurn();
 
@@ -138,7 +201,9 @@ public abstract class BoardGame {
       return;
     }
 
-    notifyObservers(new TurnChangedEvent(currentPlayer));
+    if (hasObservers(EventType.TURN_CHANGED)) {
+      notifyObservers(new TurnChangedEvent(currentPlayer));
+    }
   }
 
   /**
@@ -155,17 +220,65 @@ public abstract class BoardGame {
   }
 
   /**
-   * Registers a single observer.
+   * Registers a single observer that receives events on the game thread.
    *
    * @param observer the observer to register
    */
   public void registerObserver(BoardGameObserver observer) {
+    registerObserver(observer, EnumSet.allOf(EventType.class));
+  }
+
+  /**
+   * Registers a single observer that receives events of some types on the game thread.
+   *
+   * @param observer the observer to register
+   * @param eventTypes the event types the observer receives
+   */
+  public void registerObserver(BoardGameObserver observer, EnumSet<EventType> eventTypes) {
+    registerObserver(
+        observer,
+        GameEventBus.DIRECT_EXECUTOR,
+        GameEventBus.DEFAULT_CAPACITY,
+        OverflowPolicy.BLOCK,
+        eventTypes);
+  }
+
+  /**
+   * Registers a single observer that receives events on its own executor.
+   *
+   * @param observer the observer to register
+   * @param executor the executor the observer is notified on
+   * @param capacity the number of event batches buffered for the observer
+   * @param policy what to do when the observer falls behind and its buffer is full
+   */
+  public void registerObserver(
+      BoardGameObserver observer, Executor executor, int capacity, OverflowPolicy policy) {
+    registerObserver(observer, executor, capacity, policy, EnumSet.allOf(EventType.class));
+  }
+
+  /**
+   * Registers a single observer that receives events of some types on its own executor.
+   *
+   * @param observer the observer to register
+   * @param executor the executor the observer is notified on
+   * @param capacity the number of event batches buffered for the observer
+   * @param policy what to do when the observer falls behind and its buffer is full
+   * @param eventTypes the event types the observer receives
+   * @see GameEventBus#subscribe(BoardGameObserver, Executor, int, OverflowPolicy, EnumSet)
+   */
+  public void registerObserver(
+      BoardGameObserver observer,
+      Executor executor,
+      int capacity,
+      OverflowPolicy policy,
+      EnumSet<EventType> eventTypes) {
     if (observer == null) {
       LOGGER.warning("Attempted to register a null observer.");
       return;
     }
     if (!observers.contains(observer)) {
       observers.add(observer);
+      eventBus.subscribe(observer, executor, capacity, policy, eventTypes);
     }
   }
 
@@ -184,9 +297,59 @@ public abstract class BoardGame {
     }
   }
 
+  /**
+   * Starts collecting events into a batch instead of publishing them one by one.
+   *
+   * <p>The batch is published when {@link #flushEvents()} is called. Calling this while a batch is
+   * already open has no effect.
+   */
+  public void beginEventBatch() {
+    if (eventBatch == null) {
+      eventBatch = new ArrayList<>();
+    }
+  }
+
+  /** Publishes the events collected since {@link #beginEventBatch()} as a single batch. */
+  public void flushEvents() {
+    flushEvents(false);
+  }
+
+  /**
+   * Publishes the events collected since {@link #beginEventBatch()} as a single batch.
+   *
+   * @param coalesceMoves whether to merge the moves of each player into one summary event
+   * @see MoveCoalescer
+   */
+  public void flushEvents(boolean coalesceMoves) {
+    if (eventBatch == null) {
+      return;
+    }
+    List<GameEvent> batch = eventBatch;
+    eventBatch = null;
+    eventBus.publish(coalesceMoves ? MoveCoalescer.coalesce(batch) : batch);
+  }
+
+  /**
+   * Checks if any observer receives events of a type. Used to skip creating events that would not
+   * reach anyone.
+   *
+   * <p>Dice rolls and moves are also needed by observers of move summaries, since the summaries are
+   * built from them when a batch is flushed.
+   *
+   * @param type the event type
+   * @return true if an observer is registered for the type, or for the summaries built from it
+   */
+  protected boolean hasObservers(EventType type) {
+    return eventBus.hasSubscribers(type)
+        || (MoveCoalescer.isSummarized(type) && eventBus.hasSubscribers(EventType.MOVES_SUMMARY));
+  }
+
   /**
    * Notifies all observers of a game event.
    *
+   * <p>The event is published right away, or added to the open batch if {@link
+   * #beginEventBatch()} has been called.
+   *
    * @param event the event to notify about
    */
   protected void notifyObservers(GameEvent event) {
@@ -194,12 +357,16 @@ public abstract class BoardGame {
       LOGGER.warning("Attempted to notify observers with a null event.");
       return;
     }
-    String eventType = event.getClass().getSimpleName();
-    LOGGER.info(
-        String.format("Notifying %d observers about event: %s", observers.size(), eventType));
+    if (LOGGER.isLoggable(Level.FINE)) {
+      LOGGER.fine(
+          String.format(
+              "Notifying observers about event: %s", event.getClass().getSimpleName()));
+    }
 
-    for (BoardGameObserver observer : observers) {
-      observer.onGameEvent(event);
+    if (eventBatch != null) {
+      eventBatch.add(event);
+    } else {
+      eventBus.publish(List.of(event));
     }
   }
 
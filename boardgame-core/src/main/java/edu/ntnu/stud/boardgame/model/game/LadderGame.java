@@ -0,0 +1,183 @@
+package edu.ntnu.stud.boardgame.model.game;
+
+import edu.ntnu.stud.boardgame.exception.InvalidGameStateException;
+import edu.ntnu.stud.boardgame.model.CompiledBoard.ActionKind;
+import edu.ntnu.stud.boardgame.model.Tile;
+import edu.ntnu.stud.boardgame.model.action.LadderAction;
+import edu.ntnu.stud.boardgame.model.action.SnakeAction;
+import edu.ntnu.stud.boardgame.observer.GameEvent.EventType;
+import edu.ntnu.stud.boardgame.observer.event.BounceBackEvent;
+import edu.ntnu.stud.boardgame.observer.event.DiceRolledEvent;
+import edu.ntnu.stud.boardgame.observer.event.LadderClimbedEvent;
+import edu.ntnu.stud.boardgame.observer.event.PlayerMovedEvent;
+import edu.ntnu.stud.boardgame.observer.event.SnakeEncounteredEvent;
+import java.util.logging.Logger;
+
+/**
+ * Implementation of Snakes and Ladders board game.
+ *
+ * <p>Handles game mechanics including dice rolls, player movement, snake/ladder actions, and
+ * bounce-back from the end tile.
+ */
+public class LadderGame extends BoardGame {
+
+  private static final Logger LOGGER = Logger.getLogger(LadderGame.class.getName());
+
+  @Override
+  public void playTurn() {
+    if (gameOver) {
+      return;
+    }
+
+    if (currentPlayer.shouldSkipNextTurn()) {
+      currentPlayer.setSkipNextTurn(false);
+      return;
+    }
+
+    int steps = dice.roll();
+    if (hasObservers(EventType.DICE_ROLLED)) {
+      notifyObservers(new DiceRolledEvent(steps, currentPlayer));
+    }
+
+    Tile currentTile = currentPlayer.getCurrentTile();
+    if (currentTile == null) {
+      throw new InvalidGameStateException(
+          "Player " + currentPlayer.getName() + " is not on any tile. Cannot play turn.");
+    }
+
+    Tile endTile = getTile(board.getEndTileId());
+    if (endTile == null) {
+      throw new InvalidGameStateException(
+          "End tile (ID: "
+              + board.getEndTileId()
+              + ") not found on the board. Cannot determine game end.");
+    }
+
+    int targetTileId = currentTile.getTileId() + steps;
+
+    if (targetTileId > endTile.getTileId()) {
+      Tile beforeTile = currentPlayer.getCurrentTile();
+      currentPlayer.setCurrentTile(endTile);
+      if (hasObservers(EventType.PLAYER_MOVED)) {
+        notifyObservers(new PlayerMovedEvent(currentPlayer, beforeTile, endTile, steps, board));
+      }
+
+      int overshoot = targetTileId - endTile.getTileId();
+      int bouncedTileId = endTile.getTileId() - overshoot;
+      Tile bouncedTile = getTile(bouncedTileId);
+
+      if (bouncedTile == null) {
+        throw new InvalidGameStateException(
+            "Bounced to a non-existent tile ID: " + bouncedTileId + ". Board may be invalid.");
+      }
+
+      currentPlayer.setCurrentTile(bouncedTile);
+      if (hasObservers(EventType.BOUNCE_BACK)) {
+        notifyObservers(new BounceBackEvent(currentPlayer, endTile, bouncedTile, 0, board));
+      }
+
+      triggerLandAction(bouncedTile);
+
+    } else {
+      Tile targetTile = resolveDestination(currentPlayer, steps);
+      if (targetTile == null) {
+        throw new InvalidGameStateException(
+            "Player "
+                + currentPlayer.getName()
+                + " attempted to move to a null tile from tile ID: "
+                + currentTile.getTileId()
+                + " with steps: "
+                + steps);
+      }
+      Tile beforeTile = currentPlayer.getCurrentTile();
+
+      currentPlayer.setCurrentTile(targetTile);
+      if (hasObservers(EventType.PLAYER_MOVED)) {
+        notifyObservers(new PlayerMovedEvent(currentPlayer, beforeTile, targetTile, steps, board));
+      }
+
+      triggerLandAction(targetTile);
+    }
+
+    Tile finalPlayerTile = currentPlayer.getCurrentTile();
+    if (finalPlayerTile != null && finalPlayerTile.equals(endTile)) {
+      endGame(currentPlayer);
+    }
+  }
+
+  /**
+   * Triggers any actions associated with landing on a tile.
+   *
+   * <p>Ladders and snakes are followed using the jump chains of the compiled board, so a chain of
+   * them is resolved without re-entering their actions, and observers are notified of every hop.
+   * Any other action on the tile the player comes to rest on is then performed.
+   *
+   * @param targetTile the tile to check for actions
+   * @throws InvalidGameStateException if a ladder or snake leads to a tile that is not on the board
+   */
+  private void triggerLandAction(Tile targetTile) {
+    if (targetTile == null) {
+      LOGGER.warning("triggerLandAction called with a null targetTile.");
+      return;
+    }
+    if (compiledBoard == null || !compiledBoard.contains(targetTile.getTileId())) {
+      performLandAction(targetTile);
+      return;
+    }
+
+    for (int hopTileId : compiledBoard.getJumpPath(targetTile.getTileId())) {
+      Tile beforeJumpTile = currentPlayer.getCurrentTile();
+      Tile afterJumpTile = compiledBoard.getTile(hopTileId);
+      if (afterJumpTile == null) {
+        throw new InvalidGameStateException(
+            "Tile ID "
+                + beforeJumpTile.getTileId()
+                + " leads to a non-existent tile ID: "
+                + hopTileId
+                + ". Board may be invalid.");
+      }
+      currentPlayer.setCurrentTile(afterJumpTile);
+
+      ActionKind kind = compiledBoard.getActionKind(beforeJumpTile.getTileId());
+      if (kind == ActionKind.LADDER && hasObservers(EventType.LADDER_CLIMBED)) {
+        notifyObservers(
+            new LadderClimbedEvent(currentPlayer, beforeJumpTile, afterJumpTile, 0, board));
+      } else if (kind == ActionKind.SNAKE && hasObservers(EventType.SNAKE_ENCOUNTERED)) {
+        notifyObservers(
+            new SnakeEncounteredEvent(currentPlayer, beforeJumpTile, afterJumpTile, 0, board));
+      }
+    }
+
+    Tile restingTile = currentPlayer.getCurrentTile();
+    if (restingTile.getLandAction() != null) {
+      restingTile.landPlayer(currentPlayer);
+    }
+  }
+
+  /**
+   * Performs the land action of a tile that is not part of the compiled board, notifying observers
+   * of where it took the player.
+   *
+   * @param targetTile the tile the player landed on
+   */
+  private void performLandAction(Tile targetTile) {
+    if (targetTile.getLandAction() == null) {
+      return;
+    }
+    Tile beforeActionTile = currentPlayer.getCurrentTile();
+    targetTile.landPlayer(currentPlayer);
+    Tile afterActionTile = currentPlayer.getCurrentTile();
+
+    if (!afterActionTile.equals(beforeActionTile)) {
+      if (targetTile.getLandAction() instanceof LadderAction
+          && hasObservers(EventType.LADDER_CLIMBED)) {
+        notifyObservers(
+            new LadderClimbedEvent(currentPlayer, beforeActionTile, afterActionTile, 0, board));
+      } else if (targetTile.getLandAction() instanceof SnakeAction
+          && hasObservers(EventType.SNAKE_ENCOUNTERED)) {
+        notifyObservers(
+            new SnakeEncounteredEvent(currentPlayer, beforeActionTile, afterActionTile, 0, board));
+      }
+    }
+  }
+}
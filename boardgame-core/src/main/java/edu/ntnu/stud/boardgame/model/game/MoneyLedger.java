@@ -0,0 +1,115 @@
+package edu.ntnu.stud.boardgame.model.game;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Balances and bankruptcy status of the players in a game, indexed by seat.
+ *
+ * <p>Balances are kept in an {@code int[]} and bankruptcy in a {@link BitSet}, together with a
+ * running count of players still in the game. Every update and every end-of-game check is
+ * constant time and does not allocate.
+ */
+final class MoneyLedger {
+
+  private final int[] balances;
+  private final BitSet bankrupt;
+  private int activeCount;
+
+  /**
+   * Creates a ledger where every seat starts with the same balance.
+   *
+   * @param seats the number of seats
+   * @param startingBalance the balance of each seat
+   * @throws IllegalArgumentException if seats is negative
+   */
+  MoneyLedger(int seats, int startingBalance) {
+    if (seats < 0) {
+      throw new IllegalArgumentException("Number of seats cannot be negative.");
+    }
+    this.balances = new int[seats];
+    this.bankrupt = new BitSet(seats);
+    this.activeCount = seats;
+    Arrays.fill(balances, startingBalance);
+  }
+
+  int size() {
+    return balances.length;
+  }
+
+  /**
+   * Checks if a seat is part of the ledger.
+   *
+   * @param seat the seat index
+   * @return true if the seat exists
+   */
+  boolean contains(int seat) {
+    return seat >= 0 && seat < balances.length;
+  }
+
+  int getBalance(int seat) {
+    return balances[seat];
+  }
+
+  /**
+   * Adds money to a seat.
+   *
+   * @param seat the seat index
+   * @param amount the amount to add
+   */
+  void deposit(int seat, int amount) {
+    balances[seat] += amount;
+  }
+
+  /**
+   * Takes money from a seat, but never more than the seat has.
+   *
+   * @param seat the seat index
+   * @param amount the amount to take
+   * @return the amount actually taken
+   */
+  int withdraw(int seat, int amount) {
+    int paid = Math.min(balances[seat], amount);
+    balances[seat] -= paid;
+    return paid;
+  }
+
+  /**
+   * Marks a seat as bankrupt.
+   *
+   * @param seat the seat index
+   * @return true if the seat was not bankrupt before
+   */
+  boolean markBankrupt(int seat) {
+    if (bankrupt.get(seat)) {
+      return false;
+    }
+    bankrupt.set(seat);
+    activeCount--;
+    return true;
+  }
+
+  /**
+   * Checks if a seat is bankrupt.
+   *
+   * @param seat the seat index
+   * @return true if bankrupt, false if not or if the seat does not exist
+   */
+  boolean isBankrupt(int seat) {
+    return seat >= 0 && bankrupt.get(seat);
+  }
+
+  int getActiveCount() {
+    return activeCount;
+  }
+
+  /**
+   * Gets the lowest seat that is not bankrupt.
+   *
+   * @return the seat index, or -1 if every seat is bankrupt
+   */
+  int firstActiveSeat() {
+    int seat = bankrupt.nextClearBit(0);
+    return seat < balances.length ? seat : -1;
+  }
+}
@@ -3,7 +3,8 @@ package edu.ntnu.stud.boardgame.model.game;
 import edu.ntnu.stud.boardgame.model.Player;
 import edu.ntnu.stud.boardgame.model.Tile;
 import edu.ntnu.stud.boardgame.model.action.PropertyAction;
-import edu.ntnu.stud.boardgame.model.action.registry.MonopolyActionRegistry;
+import edu.ntnu.stud.boardgame.model.action.TileActionContext;
+import edu.ntnu.stud.boardgame.observer.GameEvent.EventType;
 import edu.ntnu.stud.boardgame.observer.event.DiceRolledEvent;
 import edu.ntnu.stud.boardgame.observer.event.GameEndedEvent;
 import edu.ntnu.stud.boardgame.observer.event.MoneyTransferEvent;
@@ -13,7 +14,8 @@ import edu.ntnu.stud.boardgame.observer.event.PlayerWonEvent;
 import edu.ntnu.stud.boardgame.observer.event.PropertyPurchasedEvent;
 import edu.ntnu.stud.boardgame.observer.event.TurnChangedEvent;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.logging.Logger;
@@ -22,34 +24,61 @@ import java.util.logging.Logger;
  * Implementation of the Monopoly board game.
  *
  * <p>Handles game mechanics including property ownership, money transactions, and bankruptcy
- * conditions.
+ * conditions. The game is the {@link TileActionContext} for the property, tax and start actions its
+ * players land on, so every game instance keeps its own money and any number of games can run
+ * side by side.
+ *
+ * <p>Property ownership is also kept by the game, as an array holding the owner's seat for each
+ * property on the board. The board's tiles and actions are never modified, so games can share a
+ * frozen board template.
  */
-public class MonopolyGame extends BoardGame {
+public class MonopolyGame extends BoardGame implements TileActionContext {
 
   private static final Logger LOGGER = Logger.getLogger(MonopolyGame.class.getName());
 
   private static final int STARTING_MONEY = 1500;
   private static final int START_BONUS = 50;
+  private static final int NO_OWNER = -1;
 
-  private final Map<Player, Integer> playerMoney = new HashMap<>();
-  private final List<Player> bankruptPlayers = new ArrayList<>();
+  private final Map<Player, Integer> seats = new IdentityHashMap<>();
+  private final Map<PropertyAction, Integer> propertySlots = new IdentityHashMap<>();
+  private MoneyLedger ledger = new MoneyLedger(0, STARTING_MONEY);
+  private int[] propertyOwners = new int[0];
 
-  /** Creates a new Monopoly game and registers it with the action registry. */
+  /** Creates a new Monopoly game. */
   public MonopolyGame() {
     super();
-    MonopolyActionRegistry.getInstance().registerGame(this);
   }
 
   @Override
   public void startGame() {
     super.startGame();
 
-    playerMoney.clear();
-    bankruptPlayers.clear();
+    seats.clear();
+    for (int seat = 0; seat < players.size(); seat++) {
+      seats.put(players.get(seat), seat);
+    }
+    ledger = new MoneyLedger(players.size(), STARTING_MONEY);
 
-    for (Player player : players) {
-      playerMoney.put(player, STARTING_MONEY);
+    propertySlots.clear();
+    for (Tile tile : board.getTiles().values()) {
+      if (tile.getLandAction() instanceof PropertyAction propertyAction) {
+        propertySlots.putIfAbsent(propertyAction, propertySlots.size());
+      }
     }
+    propertyOwners = new int[propertySlots.size()];
+    Arrays.fill(propertyOwners, NO_OWNER);
+  }
+
+  /**
+   * Gets the seat index of a player in this game.
+   *
+   * @param player the player
+   * @return the seat index, or -1 if the player is not seated in this game
+   */
+  private int seatOf(Player player) {
+    Integer seat = seats.get(player);
+    return seat != null ? seat : -1;
   }
 
   @Override
@@ -58,14 +87,16 @@ public class MonopolyGame extends BoardGame {
       return;
     }
 
-    if (bankruptPlayers.contains(currentPlayer)) {
+    if (ledger.isBankrupt(currentPlayerIndex)) {
       LOGGER.info(currentPlayer.getName() + " is bankrupt and skips their turn.");
       nextTurn();
       return;
     }
 
     int steps = dice.roll();
-    notifyObservers(new DiceRolledEvent(steps, currentPlayer));
+    if (hasObservers(EventType.DICE_ROLLED)) {
+      notifyObservers(new DiceRolledEvent(steps, currentPlayer));
+    }
 
     Tile fromTile = currentPlayer.getCurrentTile();
     if (fromTile == null) {
@@ -75,7 +106,7 @@ public class MonopolyGame extends BoardGame {
     }
     int startPosition = fromTile.getTileId();
 
-    Tile toTile = currentPlayer.getDestinationTile(steps);
+    Tile toTile = resolveDestination(currentPlayer, steps);
     if (toTile == null) {
       LOGGER.severe(
           "Player "
@@ -92,8 +123,10 @@ public class MonopolyGame extends BoardGame {
       receiveStartMoney(currentPlayer, START_BONUS);
     }
 
-    currentPlayer.placeOnTile(toTile);
-    notifyObservers(new PlayerMovedEvent(currentPlayer, fromTile, toTile, steps, board));
+    currentPlayer.placeOnTile(toTile, this);
+    if (hasObservers(EventType.PLAYER_MOVED)) {
+      notifyObservers(new PlayerMovedEvent(currentPlayer, fromTile, toTile, steps, board));
+    }
 
     checkGameEnd();
   }
@@ -110,12 +143,12 @@ public class MonopolyGame extends BoardGame {
       currentPlayerIndex = (currentPlayerIndex + 1) % players.size();
       currentPlayer = players.get(currentPlayerIndex);
 
-      if (currentPlayerIndex == originalIndex && bankruptPlayers.contains(currentPlayer)) {
+      if (currentPlayerIndex == originalIndex && ledger.isBankrupt(currentPlayerIndex)) {
         LOGGER.warning("All players are bankrupt! Ending game.");
         endGame(null);
         return;
       }
-    } while (bankruptPlayers.contains(currentPlayer) || currentPlayer.shouldSkipNextTurn());
+    } while (ledger.isBankrupt(currentPlayerIndex) || currentPlayer.shouldSkipNextTurn());
 
     if (currentPlayer.shouldSkipNextTurn()) {
       currentPlayer.setSkipNextTurn(false);
@@ -123,7 +156,9 @@ public class MonopolyGame extends BoardGame {
       return;
     }
 
-    notifyObservers(new TurnChangedEvent(currentPlayer));
+    if (hasObservers(EventType.TURN_CHANGED)) {
+      notifyObservers(new TurnChangedEvent(currentPlayer));
+    }
   }
 
   @Override
@@ -153,20 +188,20 @@ public class MonopolyGame extends BoardGame {
       return false;
     }
 
-    if (propertyAction.getOwner() != null) {
+    Integer slot = propertySlots.get(propertyAction);
+    if (slot == null || propertyOwners[slot] != NO_OWNER) {
       return false;
     }
 
+    int seat = seatOf(player);
     int price = propertyAction.getPrice();
-    int playerMoney = getPlayerMoney(player);
-
-    if (playerMoney < price) {
+    if (seat < 0 || ledger.getBalance(seat) < price) {
       return false;
     }
 
-    this.playerMoney.put(player, playerMoney - price);
+    ledger.withdraw(seat, price);
 
-    propertyAction.setOwner(player);
+    propertyOwners[slot] = seat;
 
     LOGGER.info(player.getName() + " bought property for $" + price + " at " + property.getName());
 
@@ -175,6 +210,34 @@ public class MonopolyGame extends BoardGame {
     return true;
   }
 
+  /**
+   * Gets the owner of a property in this game.
+   *
+   * @param property the property action
+   * @return the owner, or null if the property is unowned or not on this game's board
+   */
+  @Override
+  public Player getPropertyOwner(PropertyAction property) {
+    Integer slot = propertySlots.get(property);
+    if (slot == null || propertyOwners[slot] == NO_OWNER) {
+      return null;
+    }
+    return players.get(propertyOwners[slot]);
+  }
+
+  /**
+   * Gets the owner of a property tile in this game.
+   *
+   * @param property the property tile
+   * @return the owner, or null if the tile is not an owned property
+   */
+  public Player getPropertyOwner(Tile property) {
+    if (property == null || !(property.getLandAction() instanceof PropertyAction propertyAction)) {
+      return null;
+    }
+    return getPropertyOwner(propertyAction);
+  }
+
   /**
    * Handles rent payment between players.
    *
@@ -182,31 +245,27 @@ public class MonopolyGame extends BoardGame {
    * @param owner the player receiving rent
    * @param amount the rent amount
    */
+  @Override
   public void payRent(Player tenant, Player owner, int amount) {
     if (tenant == null || owner == null || amount <= 0) {
       return;
     }
+    int tenantSeat = seatOf(tenant);
+    int ownerSeat = seatOf(owner);
+    if (tenantSeat < 0 || ownerSeat < 0) {
+      return;
+    }
 
-    int tenantMoney = playerMoney.getOrDefault(tenant, 0);
-    int ownerMoney = playerMoney.getOrDefault(owner, 0);
-
-    int actualPayment = Math.min(tenantMoney, amount);
-
-    playerMoney.put(tenant, tenantMoney - actualPayment);
-    playerMoney.put(owner, ownerMoney + actualPayment);
+    int actualPayment = ledger.withdraw(tenantSeat, amount);
+    ledger.deposit(ownerSeat, actualPayment);
 
     LOGGER.info(tenant.getName() + " paid $" + actualPayment + " rent to " + owner.getName());
 
-    notifyObservers(new MoneyTransferEvent(tenant, owner, actualPayment, "rent"));
-
-    if (tenantMoney - actualPayment <= 0) {
-      bankruptPlayers.add(tenant);
-      LOGGER.info(tenant.getName() + " is bankrupt!");
-
-      notifyObservers(new PlayerBankruptEvent(tenant));
-
-      checkGameEnd();
+    if (hasObservers(EventType.MONEY_TRANSFER)) {
+      notifyObservers(new MoneyTransferEvent(tenant, owner, actualPayment, "rent"));
     }
+
+    checkBankruptcy(tenant, tenantSeat);
   }
 
   /**
@@ -215,29 +274,25 @@ public class MonopolyGame extends BoardGame {
    * @param player the player paying tax
    * @param amount the tax amount
    */
+  @Override
   public void payTax(Player player, int amount) {
     if (player == null || amount <= 0) {
       return;
     }
+    int seat = seatOf(player);
+    if (seat < 0) {
+      return;
+    }
 
-    int money = playerMoney.getOrDefault(player, 0);
-
-    int actualPayment = Math.min(money, amount);
-
-    playerMoney.put(player, money - actualPayment);
+    int actualPayment = ledger.withdraw(seat, amount);
 
     LOGGER.info(player.getName() + " paid $" + actualPayment + " in tax");
 
-    notifyObservers(new MoneyTransferEvent(player, null, actualPayment, "tax"));
-
-    if (money - actualPayment <= 0) {
-      bankruptPlayers.add(player);
-      LOGGER.info(player.getName() + " is bankrupt!");
-
-      notifyObservers(new PlayerBankruptEvent(player));
-
-      checkGameEnd();
+    if (hasObservers(EventType.MONEY_TRANSFER)) {
+      notifyObservers(new MoneyTransferEvent(player, null, actualPayment, "tax"));
     }
+
+    checkBankruptcy(player, seat);
   }
 
   /**
@@ -246,34 +301,45 @@ public class MonopolyGame extends BoardGame {
    * @param player the player receiving money
    * @param amount the bonus amount
    */
+  @Override
   public void receiveStartMoney(Player player, int amount) {
     if (player == null || amount <= 0) {
       return;
     }
+    int seat = seatOf(player);
+    if (seat < 0) {
+      return;
+    }
 
-    int money = playerMoney.getOrDefault(player, 0);
-
-    playerMoney.put(player, money + amount);
+    ledger.deposit(seat, amount);
 
     LOGGER.info(player.getName() + " received $" + amount + " for passing GO");
 
-    notifyObservers(new MoneyTransferEvent(null, player, amount, "passing GO"));
+    if (hasObservers(EventType.MONEY_TRANSFER)) {
+      notifyObservers(new MoneyTransferEvent(null, player, amount, "passing GO"));
+    }
   }
 
-  /** Checks if the game should end due to bankruptcy conditions. */
-  private void checkGameEnd() {
-    int activePlayers = 0;
-    Player lastActivePlayer = null;
+  /**
+   * Marks a player as bankrupt when they have run out of money.
+   *
+   * @param player the player who just paid
+   * @param seat the seat of the player
+   */
+  private void checkBankruptcy(Player player, int seat) {
+    if (ledger.getBalance(seat) <= 0 && ledger.markBankrupt(seat)) {
+      LOGGER.info(player.getName() + " is bankrupt!");
 
-    for (Player player : players) {
-      if (!bankruptPlayers.contains(player)) {
-        activePlayers++;
-        lastActivePlayer = player;
-      }
+      notifyObservers(new PlayerBankruptEvent(player));
+
+      checkGameEnd();
     }
+  }
 
-    if (activePlayers == 1 && lastActivePlayer != null) {
-      endGame(lastActivePlayer);
+  /** Checks if the game should end due to bankruptcy conditions. */
+  private void checkGameEnd() {
+    if (ledger.getActiveCount() == 1) {
+      endGame(players.get(ledger.firstActiveSeat()));
     }
   }
 
@@ -288,7 +354,8 @@ public class MonopolyGame extends BoardGame {
       LOGGER.warning("Attempted to get money for a null player. Returning 0.");
       return 0;
     }
-    return playerMoney.getOrDefault(player, 0);
+    int seat = seatOf(player);
+    return seat >= 0 ? ledger.getBalance(seat) : 0;
   }
 
   /**
@@ -302,15 +369,21 @@ public class MonopolyGame extends BoardGame {
       LOGGER.warning("Attempted to check bankruptcy status for a null player. Returning false.");
       return false;
     }
-    return bankruptPlayers.contains(player);
+    return ledger.isBankrupt(seatOf(player));
   }
 
   /**
    * Gets a list of all bankrupt players.
    *
-   * @return list of bankrupt players
+   * @return list of bankrupt players in seat order
    */
   public List<Player> getBankruptPlayers() {
-    return new ArrayList<>(bankruptPlayers);
+    List<Player> bankruptPlayers = new ArrayList<>();
+    for (int seat = 0; seat < ledger.size(); seat++) {
+      if (ledger.isBankrupt(seat)) {
+        bankruptPlayers.add(players.get(seat));
+      }
+    }
+    return bankruptPlayers;
   }
 }
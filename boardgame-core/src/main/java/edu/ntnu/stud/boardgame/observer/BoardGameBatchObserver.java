@@ -0,0 +1,32 @@
+package edu.ntnu.stud.boardgame.observer;
+
+import java.util.List;
+
+/**
+ * Observer that receives the events of a turn together as a single batch.
+ *
+ * <p>Implement this instead of {@link BoardGameObserver} when handling an event has a fixed cost
+ * that can be shared across the batch, such as scheduling work on the JavaFX Application Thread or
+ * writing to disk.
+ *
+ * @see GameEventBus
+ */
+public interface BoardGameBatchObserver extends BoardGameObserver {
+
+  /**
+   * Called with the events published together, in the order they occurred.
+   *
+   * @param events the events of the batch, never empty
+   */
+  void onGameEvents(List<GameEvent> events);
+
+  /**
+   * Called when a single game event occurs. Delegates to {@link #onGameEvents(List)}.
+   *
+   * @param event the game event that occurred
+   */
+  @Override
+  default void onGameEvent(GameEvent event) {
+    onGameEvents(List.of(event));
+  }
+}
@@ -65,6 +65,8 @@ public abstract class GameEvent {
     /** Event when a player encounters a snake. */
     SNAKE_ENCOUNTERED,
     /** Event when a player bounces back from the end tile. */
-    BOUNCE_BACK
+    BOUNCE_BACK,
+    /** Event summarizing the moves a player made over several fast-forwarded turns. */
+    MOVES_SUMMARY
   }
 }
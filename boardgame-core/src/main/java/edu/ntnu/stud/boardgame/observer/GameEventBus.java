@@ -0,0 +1,468 @@
+package edu.ntnu.stud.boardgame.observer;
+
+import edu.ntnu.stud.boardgame.observer.GameEvent.EventType;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Delivers batches of game events to observers on their own executors.
+ *
+ * <p>Every subscriber gets a bounded ring buffer of batches and a drain task that runs on the
+ * executor given when subscribing. Publishing only copies the batch into the buffers and schedules
+ * the drain tasks, so the game thread does not wait for rendering, sound or persistence. A
+ * subscriber registered with {@link #DIRECT_EXECUTOR} is drained on the publishing thread before
+ * {@link #publish(List)} returns, unless it is already being drained: when an observer publishes
+ * from its own callback, or another thread is draining it at the same time, the new batch is left
+ * to that drain, which delivers it right after the batch in hand, and {@code publish} returns
+ * before it is delivered.
+ *
+ * <p>A {@link RuntimeException} thrown by an observer is not caught. With {@link #DIRECT_EXECUTOR}
+ * it propagates out of {@code publish} to the game, and the remaining subscribers of the batch are
+ * not notified; with another executor it ends the drain task on that executor. Batches still
+ * buffered for the observer are delivered by the next drain.
+ *
+ * <p>A subscriber can limit itself to a set of {@link EventType}s. The bus keeps the subscribers
+ * of each type in an array, so publishing an event only reaches the interested subscribers, and
+ * {@link #hasSubscribers(EventType)} lets a game skip creating events nobody listens to.
+ *
+ * <p>When the buffer of a slow subscriber is full, its {@link OverflowPolicy} decides whether the
+ * publisher waits, a batch is dropped or the buffer grows. Batches are delivered to each subscriber
+ * in the order they were published.
+ *
+ * @see BoardGameBatchObserver
+ */
+public class GameEventBus {
+
+  /** Executor that runs the drain task on the publishing thread. */
+  public static final Executor DIRECT_EXECUTOR = Runnable::run;
+
+  /** Default number of batches buffered per subscriber. */
+  public static final int DEFAULT_CAPACITY = 64;
+
+  private static final Logger LOGGER = Logger.getLogger(GameEventBus.class.getName());
+
+  private static final Subscription[] NO_SUBSCRIPTIONS = new Subscription[0];
+
+  private final List<Subscription> subscriptions;
+
+  /** Subscribers of each event type. Replaced, never modified, when subscriptions change. */
+  private volatile EnumMap<EventType, Subscription[]> subscriptionsByType;
+
+  /** Creates a new event bus without subscribers. */
+  public GameEventBus() {
+    this.subscriptions = new CopyOnWriteArrayList<>();
+    this.subscriptionsByType = indexByType(List.of());
+  }
+
+  /**
+   * Subscribes an observer that is drained on the publishing thread.
+   *
+   * @param observer the observer to subscribe
+   * @return true if the observer was subscribed, false if it already was
+   * @throws IllegalArgumentException if observer is null
+   */
+  public boolean subscribe(BoardGameObserver observer) {
+    return subscribe(observer, EnumSet.allOf(EventType.class));
+  }
+
+  /**
+   * Subscribes an observer to some event types. It is drained on the publishing thread.
+   *
+   * @param observer the observer to subscribe
+   * @param eventTypes the event types the observer receives
+   * @return true if the observer was subscribed, false if it already was
+   * @throws IllegalArgumentException if any argument is null or eventTypes is empty
+   */
+  public boolean subscribe(BoardGameObserver observer, EnumSet<EventType> eventTypes) {
+    return subscribe(
+        observer, DIRECT_EXECUTOR, DEFAULT_CAPACITY, OverflowPolicy.BLOCK, eventTypes);
+  }
+
+  /**
+   * Subscribes an observer to all event types. It is drained on an executor.
+   *
+   * @param observer the observer to subscribe
+   * @param executor the executor the observer is drained on
+   * @param capacity the number of batches buffered for the observer
+   * @param policy what to do when the buffer is full
+   * @return true if the observer was subscribed, false if it already was
+   * @throws IllegalArgumentException if any argument is null or capacity is not positive
+   * @see #subscribe(BoardGameObserver, Executor, int, OverflowPolicy, EnumSet)
+   */
+  public boolean subscribe(
+      BoardGameObserver observer, Executor executor, int capacity, OverflowPolicy policy) {
+    return subscribe(observer, executor, capacity, policy, EnumSet.allOf(EventType.class));
+  }
+
+  /**
+   * Subscribes an observer to some event types. It is drained on an executor.
+   *
+   * <p>{@link OverflowPolicy#BLOCK} must not be combined with an executor that defers the drain
+   * task to the publishing thread, such as the JavaFX Application Thread when events are published
+   * from it, since the publisher would then wait for a drain that can never run. Use
+   * {@link OverflowPolicy#GROW} for such a subscriber if it must not miss any batch.
+   *
+   * @param observer the observer to subscribe
+   * @param executor the executor the observer is drained on
+   * @param capacity the number of batches buffered for the observer
+   * @param policy what to do when the buffer is full
+   * @param eventTypes the event types the observer receives
+   * @return true if the observer was subscribed, false if it already was
+   * @throws IllegalArgumentException if any argument is null, capacity is not positive or
+   *     eventTypes is empty
+   */
+  public synchronized boolean subscribe(
+      BoardGameObserver observer,
+      Executor executor,
+      int capacity,
+      OverflowPolicy policy,
+      EnumSet<EventType> eventTypes) {
+    if (observer == null) {
+      throw new IllegalArgumentException("Observer cannot be null.");
+    }
+    if (executor == null) {
+      throw new IllegalArgumentException("Executor cannot be null.");
+    }
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("Capacity must be positive.");
+    }
+    if (policy == null) {
+      throw new IllegalArgumentException("Overflow policy cannot be null.");
+    }
+    if (eventTypes == null || eventTypes.isEmpty()) {
+      throw new IllegalArgumentException("Event types cannot be null or empty.");
+    }
+    if (findSubscription(observer) != null) {
+      return false;
+    }
+    subscriptions.add(new Subscription(observer, executor, capacity, policy, eventTypes));
+    subscriptionsByType = indexByType(subscriptions);
+    return true;
+  }
+
+  /**
+   * Unsubscribes an observer. Batches already buffered for it are discarded.
+   *
+   * @param observer the observer to unsubscribe
+   * @return true if the observer was subscribed
+   */
+  public synchronized boolean unsubscribe(BoardGameObserver observer) {
+    Subscription subscription = findSubscription(observer);
+    if (subscription == null) {
+      return false;
+    }
+    subscriptions.remove(subscription);
+    subscriptionsByType = indexByType(subscriptions);
+    subscription.clear();
+    return true;
+  }
+
+  private static EnumMap<EventType, Subscription[]> indexByType(List<Subscription> subscriptions) {
+    EnumMap<EventType, Subscription[]> index = new EnumMap<>(EventType.class);
+    for (EventType type : EventType.values()) {
+      List<Subscription> matching = new ArrayList<>();
+      for (Subscription subscription : subscriptions) {
+        if (subscription.eventTypes.contains(type)) {
+          matching.add(subscription);
+        }
+      }
+      index.put(type, matching.toArray(NO_SUBSCRIPTIONS));
+    }
+    return index;
+  }
+
+  private Subscription findSubscription(BoardGameObserver observer) {
+    for (Subscription subscription : subscriptions) {
+      if (subscription.observer == observer) {
+        return subscription;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Publishes a batch of events to every subscriber.
+   *
+   * <p>Each subscriber receives the events of the batch it is subscribed to, and nothing if there
+   * are none.
+   *
+   * @param events the events to publish, in the order they occurred
+   * @throws IllegalArgumentException if events is null
+   */
+  public void publish(List<GameEvent> events) {
+    if (events == null) {
+      throw new IllegalArgumentException("Events cannot be null.");
+    }
+    if (events.isEmpty()) {
+      return;
+    }
+
+    List<GameEvent> batch = List.copyOf(events);
+    if (batch.size() == 1) {
+      for (Subscription subscription : subscriptionsByType.get(batch.get(0).getEventType())) {
+        subscription.publish(batch);
+      }
+      return;
+    }
+
+    for (Subscription subscription : subscriptions) {
+      List<GameEvent> filtered = subscription.filter(batch);
+      if (!filtered.isEmpty()) {
+        subscription.publish(filtered);
+      }
+    }
+  }
+
+  /**
+   * Checks if any observer is subscribed to an event type.
+   *
+   * @param type the event type
+   * @return true if publishing an event of the type would reach an observer
+   */
+  public boolean hasSubscribers(EventType type) {
+    return subscriptionsByType.get(type).length > 0;
+  }
+
+  /**
+   * Gets the number of subscribed observers.
+   *
+   * @return the subscriber count
+   */
+  public int getSubscriberCount() {
+    return subscriptions.size();
+  }
+
+  /**
+   * Gets the number of batches dropped for an observer because its buffer was full.
+   *
+   * @param observer the observer
+   * @return the number of dropped batches, or 0 if the observer is not subscribed
+   */
+  public long getDroppedBatchCount(BoardGameObserver observer) {
+    Subscription subscription = findSubscription(observer);
+    return subscription == null ? 0 : subscription.getDroppedBatches();
+  }
+
+  /** What to do when a batch is published to a subscriber whose buffer is full. */
+  public enum OverflowPolicy {
+    /** Wait on the publishing thread until the subscriber has drained a batch. */
+    BLOCK,
+    /** Drop the oldest buffered batch to make room for the new one. */
+    DROP_OLDEST,
+    /** Drop the new batch and keep the buffered ones. */
+    DROP_NEWEST,
+    /**
+     * Double the buffer, so no batch is ever dropped and the publisher never waits. The capacity
+     * is only the initial size of the buffer.
+     */
+    GROW
+  }
+
+  /** The ring buffer and drain task of a single subscriber. */
+  private static final class Subscription {
+
+    private final BoardGameObserver observer;
+    private final Executor executor;
+    private final OverflowPolicy policy;
+    private final EnumSet<EventType> eventTypes;
+    private final boolean allEventTypes;
+    private Object[] ring;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notFull = lock.newCondition();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private int head;
+    private int size;
+    private long droppedBatches;
+
+    private Subscription(
+        BoardGameObserver observer,
+        Executor executor,
+        int capacity,
+        OverflowPolicy policy,
+        EnumSet<EventType> eventTypes) {
+      this.observer = observer;
+      this.executor = executor;
+      this.policy = policy;
+      this.eventTypes = EnumSet.copyOf(eventTypes);
+      this.allEventTypes = this.eventTypes.size() == EventType.values().length;
+      this.ring = new Object[capacity];
+    }
+
+    /**
+     * Gets the events of a batch this subscriber is subscribed to.
+     *
+     * @param batch the batch
+     * @return the batch itself if every event matches, otherwise a filtered copy
+     */
+    private List<GameEvent> filter(List<GameEvent> batch) {
+      if (allEventTypes) {
+        return batch;
+      }
+      List<GameEvent> filtered = new ArrayList<>(batch.size());
+      for (GameEvent event : batch) {
+        if (eventTypes.contains(event.getEventType())) {
+          filtered.add(event);
+        }
+      }
+      return filtered.size() == batch.size() ? batch : filtered;
+    }
+
+    private void publish(List<GameEvent> batch) {
+      if (offer(batch)) {
+        schedule();
+      }
+    }
+
+    /**
+     * Adds a batch to the buffer, applying the overflow policy if it is full.
+     *
+     * @param batch the batch to add
+     * @return true if the batch was buffered
+     */
+    private boolean offer(List<GameEvent> batch) {
+      lock.lock();
+      try {
+        while (size == ring.length) {
+          switch (policy) {
+            case BLOCK -> {
+              try {
+                notFull.await();
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                droppedBatches++;
+                return false;
+              }
+            }
+            case DROP_OLDEST -> {
+              ring[head] = null;
+              head = (head + 1) % ring.length;
+              size--;
+              droppedBatches++;
+            }
+            case DROP_NEWEST -> {
+              droppedBatches++;
+              return false;
+            }
+            case GROW -> grow();
+          }
+        }
+        ring[(head + size) % ring.length] = batch;
+        size++;
+        return true;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    /** Doubles the ring buffer, moving the buffered batches to its start. Called with the lock. */
+    private void grow() {
+      Object[] grown = new Object[ring.length * 2];
+      for (int i = 0; i < size; i++) {
+        grown[i] = ring[(head + i) % ring.length];
+      }
+      ring = grown;
+      head = 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<GameEvent> poll() {
+      lock.lock();
+      try {
+        if (size == 0) {
+          return null;
+        }
+        List<GameEvent> batch = (List<GameEvent>) ring[head];
+        ring[head] = null;
+        head = (head + 1) % ring.length;
+        size--;
+        notFull.signal();
+        return batch;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    private boolean isEmpty() {
+      lock.lock();
+      try {
+        return size == 0;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    private void clear() {
+      lock.lock();
+      try {
+        while (size > 0) {
+          ring[head] = null;
+          head = (head + 1) % ring.length;
+          size--;
+        }
+        notFull.signalAll();
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    private long getDroppedBatches() {
+      lock.lock();
+      try {
+        return droppedBatches;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    /** Submits the drain task unless it is already pending or running. */
+    private void schedule() {
+      if (!scheduled.compareAndSet(false, true)) {
+        return;
+      }
+      try {
+        executor.execute(this::drain);
+      } catch (RejectedExecutionException e) {
+        scheduled.set(false);
+        LOGGER.log(Level.WARNING, "Executor rejected event delivery to observer.", e);
+      }
+    }
+
+    /**
+     * Delivers buffered batches until the buffer is empty. Checks the buffer again after clearing
+     * the scheduled flag, so a batch offered while the flag was being cleared is not left behind.
+     * The flag is also cleared when the observer throws, so the next publish schedules a new drain.
+     */
+    private void drain() {
+      do {
+        try {
+          List<GameEvent> batch;
+          while ((batch = poll()) != null) {
+            deliver(batch);
+          }
+        } finally {
+          scheduled.set(false);
+        }
+      } while (!isEmpty() && scheduled.compareAndSet(false, true));
+    }
+
+    private void deliver(List<GameEvent> batch) {
+      if (observer instanceof BoardGameBatchObserver batchObserver) {
+        batchObserver.onGameEvents(batch);
+      } else {
+        for (GameEvent event : batch) {
+          observer.onGameEvent(event);
+        }
+      }
+    }
+  }
+}
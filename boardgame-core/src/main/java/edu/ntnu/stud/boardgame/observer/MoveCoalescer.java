@@ -0,0 +1,133 @@
+package edu.ntnu.stud.boardgame.observer;
+
+import edu.ntnu.stud.boardgame.model.Board;
+import edu.ntnu.stud.boardgame.model.Player;
+import edu.ntnu.stud.boardgame.model.Tile;
+import edu.ntnu.stud.boardgame.observer.GameEvent.EventType;
+import edu.ntnu.stud.boardgame.observer.event.DiceRolledEvent;
+import edu.ntnu.stud.boardgame.observer.event.MovesSummaryEvent;
+import edu.ntnu.stud.boardgame.observer.event.PlayerMovedEvent;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Merges the moves of a batch of fast-forwarded turns into one summary event per player.
+ *
+ * <p>For every player that moved more than once in the batch, their dice rolls, moves, ladders,
+ * snakes and bounces are replaced by a single {@link MovesSummaryEvent} from the tile they started
+ * on to the tile they ended up on. The summary takes the place of the player's last move, so events
+ * caused by that move, such as a win, still come after it. Only the last turn change is kept, since
+ * the earlier ones are already out of date. All other events are kept in order.
+ */
+public final class MoveCoalescer {
+
+  private MoveCoalescer() {}
+
+  /**
+   * Coalesces the moves in a batch of events.
+   *
+   * @param events the events, in the order they occurred
+   * @return the coalesced events, or the same list if nothing was merged
+   * @throws IllegalArgumentException if events is null
+   */
+  public static List<GameEvent> coalesce(List<GameEvent> events) {
+    if (events == null) {
+      throw new IllegalArgumentException("Events cannot be null.");
+    }
+
+    Map<Player, Summary> summaries = new IdentityHashMap<>();
+    int lastTurnChange = -1;
+    int turnChanges = 0;
+    for (int i = 0; i < events.size(); i++) {
+      GameEvent event = events.get(i);
+      if (event instanceof DiceRolledEvent diceEvent && diceEvent.getCurrentPlayer() != null) {
+        summaries.computeIfAbsent(diceEvent.getCurrentPlayer(), player -> new Summary()).lastIndex =
+            i;
+      } else if (event instanceof PlayerMovedEvent moveEvent) {
+        summaries.computeIfAbsent(moveEvent.getPlayer(), player -> new Summary()).add(moveEvent, i);
+      } else if (event.getEventType() == EventType.TURN_CHANGED) {
+        lastTurnChange = i;
+        turnChanges++;
+      }
+    }
+
+    boolean merging = turnChanges > 1;
+    for (Summary summary : summaries.values()) {
+      merging |= summary.moves > 1;
+    }
+    if (!merging) {
+      return events;
+    }
+
+    List<GameEvent> coalesced = new ArrayList<>();
+    for (int i = 0; i < events.size(); i++) {
+      GameEvent event = events.get(i);
+      Player mover = getMover(event);
+      Summary summary = mover != null ? summaries.get(mover) : null;
+      if (summary != null && summary.moves > 1) {
+        if (i == summary.lastIndex) {
+          coalesced.add(summary.toEvent(mover));
+        }
+      } else if (event.getEventType() != EventType.TURN_CHANGED || i == lastTurnChange) {
+        coalesced.add(event);
+      }
+    }
+    return coalesced;
+  }
+
+  /**
+   * Checks if events of a type are merged into move summaries.
+   *
+   * @param type the event type
+   * @return true for dice rolls and the moves a summary is built from
+   */
+  public static boolean isSummarized(EventType type) {
+    return switch (type) {
+      case DICE_ROLLED, PLAYER_MOVED, LADDER_CLIMBED, SNAKE_ENCOUNTERED, BOUNCE_BACK -> true;
+      default -> false;
+    };
+  }
+
+  private static Player getMover(GameEvent event) {
+    if (event instanceof DiceRolledEvent diceEvent) {
+      return diceEvent.getCurrentPlayer();
+    }
+    if (event instanceof PlayerMovedEvent moveEvent) {
+      return moveEvent.getPlayer();
+    }
+    return null;
+  }
+
+  /** The moves of one player in a batch. */
+  private static final class Summary {
+
+    private Tile fromTile;
+    private Tile toTile;
+    private Board board;
+    private int steps;
+    private int moves;
+    private int lastIndex;
+
+    private void add(PlayerMovedEvent event, int index) {
+      if (fromTile == null) {
+        fromTile = event.getFromTile();
+      }
+      toTile = event.getToTile();
+      board = event.getBoard();
+      if (event instanceof MovesSummaryEvent summaryEvent) {
+        steps += summaryEvent.getSteps();
+        moves += summaryEvent.getMoves();
+      } else if (event.getEventType() == EventType.PLAYER_MOVED) {
+        steps += event.getSteps();
+        moves++;
+      }
+      lastIndex = index;
+    }
+
+    private MovesSummaryEvent toEvent(Player player) {
+      return new MovesSummaryEvent(player, fromTile, toTile, steps, moves, board);
+    }
+  }
+}
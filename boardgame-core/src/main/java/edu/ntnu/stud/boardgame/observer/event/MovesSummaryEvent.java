@@ -0,0 +1,41 @@
+package edu.ntnu.stud.boardgame.observer.event;
+
+import edu.ntnu.stud.boardgame.model.Board;
+import edu.ntnu.stud.boardgame.model.Player;
+import edu.ntnu.stud.boardgame.model.Tile;
+
+/**
+ * Event summarizing the moves a player made over several fast-forwarded turns.
+ *
+ * <p>Extends PlayerMovedEvent, so observers that handle moves draw the player once on the tile the
+ * summarized turns ended on, instead of animating every move.
+ */
+public class MovesSummaryEvent extends PlayerMovedEvent {
+
+  private final int moves;
+
+  /**
+   * Creates a new moves summary event.
+   *
+   * @param player the player that moved
+   * @param fromTile the tile the player was on before the first summarized move
+   * @param toTile the tile the player ended up on after the last summarized move
+   * @param steps total number of steps rolled across the summarized moves
+   * @param moves number of summarized moves
+   * @param board current board state
+   */
+  public MovesSummaryEvent(
+      Player player, Tile fromTile, Tile toTile, int steps, int moves, Board board) {
+    super(EventType.MOVES_SUMMARY, player, fromTile, toTile, steps, board);
+    this.moves = moves;
+  }
+
+  /**
+   * Gets the number of summarized moves.
+   *
+   * @return number of moves
+   */
+  public int getMoves() {
+    return moves;
+  }
+}
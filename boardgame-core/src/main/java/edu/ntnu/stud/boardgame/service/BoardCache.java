@@ -0,0 +1,169 @@
+package edu.ntnu.stud.boardgame.service;
+
+import edu.ntnu.stud.boardgame.model.Board;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Least-recently-used cache of parsed boards, keyed by file path.
+ *
+ * <p>Each entry remembers the size and modification time the file had when it was parsed, and is
+ * dropped when the file no longer matches. The cache keeps its estimated memory use within a
+ * budget by evicting the least recently used boards.
+ *
+ * <p>The cached boards are shared, so callers should only cache frozen boards, see
+ * {@link Board#freeze()}.
+ */
+class BoardCache {
+
+  /** Rough estimate of the heap used by one tile with its action and map entry. */
+  static final long ESTIMATED_BYTES_PER_TILE = 160;
+
+  /** Rough estimate of the heap used by a board without its tiles. */
+  static final long ESTIMATED_BYTES_PER_BOARD = 512;
+
+  private final Map<Path, CachedBoard> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private long memoryBudget;
+  private long usedBytes;
+
+  /**
+   * Creates a cache with the given memory budget.
+   *
+   * @param memoryBudget the estimated number of bytes the cached boards may use
+   * @throws IllegalArgumentException if memoryBudget is negative
+   */
+  BoardCache(long memoryBudget) {
+    setMemoryBudget(memoryBudget);
+  }
+
+  /**
+   * Gets the cached board for a file, if the file has not changed since it was cached.
+   *
+   * @param path the path of the board file
+   * @param size the current size of the file
+   * @param lastModified the current modification time of the file
+   * @return the cached board template, or null if there is no up-to-date entry
+   */
+  synchronized Board get(Path path, long size, FileTime lastModified) {
+    Path key = normalize(path);
+    CachedBoard entry = entries.get(key);
+    if (entry == null) {
+      return null;
+    }
+    if (entry.size != size || !entry.lastModified.equals(lastModified)) {
+      remove(key);
+      return null;
+    }
+    return entry.board;
+  }
+
+  /**
+   * Caches a board parsed from a file. Boards larger than the whole budget are not cached.
+   *
+   * @param path the path of the board file
+   * @param size the size of the file when it was read
+   * @param lastModified the modification time of the file when it was read
+   * @param board the parsed board
+   */
+  synchronized void put(Path path, long size, FileTime lastModified, Board board) {
+    Path key = normalize(path);
+    remove(key);
+
+    long estimatedBytes = estimateBytes(board);
+    if (estimatedBytes > memoryBudget) {
+      return;
+    }
+    entries.put(key, new CachedBoard(board, size, lastModified, estimatedBytes));
+    usedBytes += estimatedBytes;
+    evictToBudget();
+  }
+
+  /**
+   * Removes the cached board for a file.
+   *
+   * @param path the path of the board file
+   */
+  synchronized void invalidate(Path path) {
+    remove(normalize(path));
+  }
+
+  /** Removes all cached boards. */
+  synchronized void clear() {
+    entries.clear();
+    usedBytes = 0;
+  }
+
+  /**
+   * Sets the memory budget and evicts boards until the cache fits within it.
+   *
+   * @param memoryBudget the estimated number of bytes the cached boards may use
+   * @throws IllegalArgumentException if memoryBudget is negative
+   */
+  synchronized void setMemoryBudget(long memoryBudget) {
+    if (memoryBudget < 0) {
+      throw new IllegalArgumentException("Memory budget cannot be negative.");
+    }
+    this.memoryBudget = memoryBudget;
+    evictToBudget();
+  }
+
+  synchronized long getMemoryBudget() {
+    return memoryBudget;
+  }
+
+  synchronized long getUsedBytes() {
+    return usedBytes;
+  }
+
+  synchronized int size() {
+    return entries.size();
+  }
+
+  /**
+   * Estimates the heap used by a board from its number of tiles.
+   *
+   * @param board the board
+   * @return the estimated number of bytes
+   */
+  static long estimateBytes(Board board) {
+    return ESTIMATED_BYTES_PER_BOARD + board.getTiles().size() * ESTIMATED_BYTES_PER_TILE;
+  }
+
+  private void evictToBudget() {
+    Iterator<CachedBoard> iterator = entries.values().iterator();
+    while (usedBytes > memoryBudget && iterator.hasNext()) {
+      usedBytes -= iterator.next().estimatedBytes;
+      iterator.remove();
+    }
+  }
+
+  private void remove(Path key) {
+    CachedBoard removed = entries.remove(key);
+    if (removed != null) {
+      usedBytes -= removed.estimatedBytes;
+    }
+  }
+
+  private static Path normalize(Path path) {
+    return path.toAbsolutePath().normalize();
+  }
+
+  /** A cached board together with the file state it was parsed from. */
+  private static final class CachedBoard {
+
+    private final Board board;
+    private final long size;
+    private final FileTime lastModified;
+    private final long estimatedBytes;
+
+    private CachedBoard(Board board, long size, FileTime lastModified, long estimatedBytes) {
+      this.board = board;
+      this.size = size;
+      this.lastModified = lastModified;
+      this.estimatedBytes = estimatedBytes;
+    }
+  }
+}
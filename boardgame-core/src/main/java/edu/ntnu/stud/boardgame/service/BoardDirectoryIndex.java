@@ -0,0 +1,336 @@
+package edu.ntnu.stud.boardgame.service;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import edu.ntnu.stud.boardgame.exception.files.BoardFileException;
+import edu.ntnu.stud.boardgame.model.enums.BoardGameType;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * Index of the saved board files in the per-game-type directories under a base directory.
+ *
+ * <p>When the index is started, a background thread scans every game type directory and then keeps
+ * the index up to date with a {@link WatchService}, so listing boards never touches the file
+ * system. Until the first scan of a directory is done, listing returns the boards indexed so far,
+ * and listeners are told when the scan completes and whenever a watched change alters the index. A
+ * file is only read again when its size or modification time has changed. If the file system does
+ * not support watching, every listing rescans the directory on the caller instead, which still
+ * only reads changed files.
+ *
+ * <p>A board stored in several formats is listed once, using the file with the lowest
+ * {@link BoardFileService#formatRank}, matching how {@link BoardFileService#loadBoard} resolves a
+ * name without extension.
+ */
+class BoardDirectoryIndex implements AutoCloseable {
+
+  private static final Logger LOGGER = Logger.getLogger(BoardDirectoryIndex.class.getName());
+
+  private final Path baseDirectory;
+  private final SummaryReader summaryReader;
+  private final Map<BoardGameType, Map<Path, BoardSummary>> summaries =
+      new EnumMap<>(BoardGameType.class);
+  private final Set<BoardGameType> scanned = ConcurrentHashMap.newKeySet();
+  private final Map<WatchKey, BoardGameType> watchKeys = new ConcurrentHashMap<>();
+  private final List<Consumer<BoardGameType>> listeners = new CopyOnWriteArrayList<>();
+  private WatchService watchService;
+  private Thread watcherThread;
+
+  /**
+   * Reads the summary of a board file.
+   */
+  @FunctionalInterface
+  interface SummaryReader {
+
+    /**
+     * Reads the summary of a board file.
+     *
+     * @param path the board file
+     * @param fileName the name the board is loaded by, without extension
+     * @param attributes the attributes of the file
+     * @return the summary of the board
+     * @throws BoardFileException if the file is not a valid board
+     */
+    BoardSummary read(Path path, String fileName, BasicFileAttributes attributes)
+        throws BoardFileException;
+  }
+
+  /**
+   * Creates an index over the game type directories under a base directory.
+   *
+   * @param baseDirectory the directory holding one subdirectory per game type
+   * @param summaryReader reads the summary of a board file
+   * @throws IllegalArgumentException if any parameter is null
+   */
+  BoardDirectoryIndex(Path baseDirectory, SummaryReader summaryReader) {
+    if (baseDirectory == null) {
+      throw new IllegalArgumentException("Base directory cannot be null.");
+    }
+    if (summaryReader == null) {
+      throw new IllegalArgumentException("Summary reader cannot be null.");
+    }
+    this.baseDirectory = baseDirectory;
+    this.summaryReader = summaryReader;
+    for (BoardGameType type : BoardGameType.values()) {
+      summaries.put(type, new ConcurrentHashMap<>());
+    }
+  }
+
+  /**
+   * Starts scanning and watching the game type directories in the background. If the file system
+   * cannot be watched, the index falls back to rescanning on every listing.
+   */
+  synchronized void start() {
+    if (watchService != null) {
+      return;
+    }
+    try {
+      watchService = FileSystems.getDefault().newWatchService();
+      for (BoardGameType type : BoardGameType.values()) {
+        Path directory = getDirectory(type);
+        Files.createDirectories(directory);
+        watchKeys.put(directory.register(watchService, ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY),
+            type);
+      }
+    } catch (IOException | UnsupportedOperationException e) {
+      LOGGER.log(Level.WARNING, "Cannot watch board directories, rescanning on demand: {0}",
+          e.getMessage());
+      closeWatchService();
+      return;
+    }
+
+    watcherThread = new Thread(this::scanAndWatch, "board-directory-index");
+    watcherThread.setDaemon(true);
+    watcherThread.start();
+  }
+
+  /**
+   * Adds a listener that is told, on the watcher thread, when the boards of a game type have been
+   * scanned for the first time or have changed.
+   *
+   * @param listener the listener, called with the game type whose boards changed
+   * @throws IllegalArgumentException if listener is null
+   */
+  void addListener(Consumer<BoardGameType> listener) {
+    if (listener == null) {
+      throw new IllegalArgumentException("Listener cannot be null.");
+    }
+    listeners.add(listener);
+  }
+
+  /**
+   * Gets the summaries of the saved boards of a game type, sorted by file name. While the
+   * directory is still being scanned in the background, only the boards found so far are listed.
+   *
+   * @param type the game type
+   * @return the board summaries
+   * @throws IllegalArgumentException if type is null
+   */
+  public List<BoardSummary> getBoards(BoardGameType type) {
+    if (type == null) {
+      throw new IllegalArgumentException("Game type cannot be null.");
+    }
+    if (!isWatching()) {
+      rescan(type);
+    }
+
+    Map<String, BoardSummary> byName = new LinkedHashMap<>();
+    summaries.get(type).entrySet().stream()
+        .sorted(Map.Entry.comparingByKey(Comparator.comparingInt(
+            (Path path) -> BoardFileService.formatRank(path.getFileName().toString()))))
+        .forEach(entry -> byName.putIfAbsent(entry.getValue().getFileName(), entry.getValue()));
+
+    List<BoardSummary> boards = new ArrayList<>(byName.values());
+    boards.sort(Comparator.comparing(BoardSummary::getFileName, String.CASE_INSENSITIVE_ORDER));
+    return boards;
+  }
+
+  /**
+   * Checks whether the directory of a game type has been scanned completely at least once.
+   *
+   * @param type the game type
+   * @return true if the boards of the game type are fully indexed
+   */
+  boolean isScanned(BoardGameType type) {
+    return scanned.contains(type);
+  }
+
+  /**
+   * Updates the index entry of a single board file, for example right after it has been saved.
+   *
+   * @param type the game type the file belongs to
+   * @param file the board file
+   * @return true if the index entry changed
+   */
+  boolean refresh(BoardGameType type, Path file) {
+    Path key = file.toAbsolutePath().normalize();
+    String fileName = key.getFileName().toString();
+    if (!BoardFileService.isBoardFile(fileName)) {
+      return false;
+    }
+
+    Map<Path, BoardSummary> typeSummaries = summaries.get(type);
+    try {
+      BasicFileAttributes attributes = Files.readAttributes(key, BasicFileAttributes.class);
+      BoardSummary current = typeSummaries.get(key);
+      if (current != null && current.matches(attributes.size(), attributes.lastModifiedTime())) {
+        return false;
+      }
+      typeSummaries.put(key, summaryReader.read(key, BoardFileService.stripExtension(fileName),
+          attributes));
+      return true;
+    } catch (NoSuchFileException e) {
+      return typeSummaries.remove(key) != null;
+    } catch (IOException | BoardFileException e) {
+      LOGGER.log(Level.WARNING, "Skipping unreadable board file {0}: {1}",
+          new Object[]{key, e.getMessage()});
+      return typeSummaries.remove(key) != null;
+    }
+  }
+
+  /**
+   * Rescans the directory of a game type, reading only new and changed files.
+   *
+   * @param type the game type
+   */
+  void rescan(BoardGameType type) {
+    Path directory = getDirectory(type);
+    Map<Path, BoardSummary> typeSummaries = summaries.get(type);
+    Set<Path> files = new HashSet<>();
+    if (Files.isDirectory(directory)) {
+      try (Stream<Path> pathStream = Files.list(directory)) {
+        pathStream.filter(path -> BoardFileService.isBoardFile(path.getFileName().toString()))
+            .map(path -> path.toAbsolutePath().normalize())
+            .forEach(files::add);
+      } catch (IOException e) {
+        LOGGER.log(Level.WARNING, "Failed to list board directory {0}: {1}",
+            new Object[]{directory, e.getMessage()});
+        return;
+      }
+    }
+
+    typeSummaries.keySet().removeIf(path -> !files.contains(path) && !Files.exists(path));
+    for (Path file : files) {
+      refresh(type, file);
+    }
+    scanned.add(type);
+  }
+
+  /**
+   * Checks whether the index is kept up to date by a watch service.
+   *
+   * @return true if the board directories are being watched
+   */
+  synchronized boolean isWatching() {
+    return watchService != null;
+  }
+
+  /** Stops watching the board directories. */
+  @Override
+  public synchronized void close() {
+    closeWatchService();
+    if (watcherThread != null) {
+      watcherThread.interrupt();
+      watcherThread = null;
+    }
+  }
+
+  private Path getDirectory(BoardGameType type) {
+    return baseDirectory.resolve(type.name().toLowerCase());
+  }
+
+  /**
+   * Runs on the watcher thread: scans every game type directory once, then applies the watched
+   * changes. Changes made during the first scan are queued by the watch service and applied after
+   * it.
+   */
+  private void scanAndWatch() {
+    WatchService service;
+    synchronized (this) {
+      service = watchService;
+    }
+    try {
+      for (BoardGameType type : BoardGameType.values()) {
+        if (Thread.currentThread().isInterrupted()) {
+          return;
+        }
+        rescan(type);
+        notifyListeners(type);
+      }
+
+      while (!Thread.currentThread().isInterrupted()) {
+        WatchKey key = service.take();
+        BoardGameType type = watchKeys.get(key);
+        Path directory = (Path) key.watchable();
+        boolean changed = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+          if (type == null) {
+            continue;
+          }
+          if (event.kind() == OVERFLOW) {
+            rescan(type);
+            changed = true;
+          } else {
+            changed |= refresh(type, directory.resolve((Path) event.context()));
+          }
+        }
+        key.reset();
+        if (changed) {
+          notifyListeners(type);
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ClosedWatchServiceException e) {
+      LOGGER.fine("Board directory watch service closed.");
+    }
+  }
+
+  private void notifyListeners(BoardGameType type) {
+    for (Consumer<BoardGameType> listener : listeners) {
+      try {
+        listener.accept(type);
+      } catch (RuntimeException e) {
+        LOGGER.log(Level.WARNING, "Board index listener failed: {0}", e.getMessage());
+      }
+    }
+  }
+
+  private void closeWatchService() {
+    if (watchService == null) {
+      return;
+    }
+    try {
+      watchService.close();
+    } catch (IOException e) {
+      LOGGER.log(Level.WARNING, "Failed to close watch service: {0}", e.getMessage());
+    }
+    watchService = null;
+    watchKeys.clear();
+  }
+}
@@ -0,0 +1,488 @@
+package edu.ntnu.stud.boardgame.service;
+
+import edu.ntnu.stud.boardgame.analysis.BoardValidationReport;
+import edu.ntnu.stud.boardgame.analysis.BoardValidator;
+import edu.ntnu.stud.boardgame.exception.files.BoardFileException;
+import edu.ntnu.stud.boardgame.io.board.BoardFileReader;
+import edu.ntnu.stud.boardgame.io.board.BoardFileReaderBinary;
+import edu.ntnu.stud.boardgame.io.board.BoardFileReaderGson;
+import edu.ntnu.stud.boardgame.io.board.BoardFileWriter;
+import edu.ntnu.stud.boardgame.io.board.BoardFileWriterBinary;
+import edu.ntnu.stud.boardgame.io.board.BoardFileWriterGson;
+import edu.ntnu.stud.boardgame.io.board.BoardHeader;
+import edu.ntnu.stud.boardgame.io.board.BoardReadMonitor;
+import edu.ntnu.stud.boardgame.model.Board;
+import edu.ntnu.stud.boardgame.model.enums.BoardGameType;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Singleton Service for handling board file operations such as loading, saving, and listing
+ * available boards.
+ *
+ * <p>Boards are stored either as JSON ({@code .json}) or in the memory-mapped binary format
+ * ({@code .board}), either of them optionally gzip-compressed ({@code .json.gz},
+ * {@code .board.gz}). A file name without an extension refers to the first of {@code .board},
+ * {@code .board.gz}, {@code .json} and {@code .json.gz} that exists, and the board is listed from
+ * that same file. Files of the same name further down that order are kept, but shadowed.
+ * Compression is detected from the contents of a file when it is read, so compressed and plain
+ * boards are loaded and listed the same way.
+ *
+ * <p>Every board that is read is checked by the {@link BoardValidator}, and a board with errors is
+ * rejected instead of failing in the middle of a game.
+ *
+ * <p>Parsed boards are frozen and kept in a least-recently-used cache keyed by path. A cached
+ * board is reused until the size or modification time of its file changes. Games keep their
+ * mutable state themselves, so every game loaded from the same file shares the cached board.
+ *
+ * <p>The saved boards of each game type are listed from a {@link BoardDirectoryIndex} that keeps
+ * the name, description, dimensions and tile count of every board up to date in the background.
+ *
+ * <p>{@link #loadBoardAsync} loads boards on a background thread, reporting the number of tiles
+ * parsed and stopping when the returned future is cancelled.
+ */
+public class BoardFileService {
+
+  private static final Logger LOGGER = Logger.getLogger(BoardFileService.class.getName());
+  private static final Path BOARDS_BASE_DIRECTORY = Paths.get("data/boards");
+  private static final String JSON_EXTENSION = ".json";
+  private static final String BINARY_EXTENSION = ".board";
+  private static final String GZIP_EXTENSION = ".gz";
+  private static final List<String> EXTENSIONS = List.of(BINARY_EXTENSION,
+      BINARY_EXTENSION + GZIP_EXTENSION, JSON_EXTENSION, JSON_EXTENSION + GZIP_EXTENSION);
+  private static final long DEFAULT_CACHE_MEMORY_BUDGET = 32L * 1024 * 1024;
+
+  private static BoardFileService instance;
+
+  private final BoardFileReader boardReader;
+  private final BoardFileWriter boardWriter;
+  private final BoardFileReader binaryBoardReader;
+  private final BoardFileWriter binaryBoardWriter;
+  private final BoardCache boardCache;
+  private final BoardDirectoryIndex boardIndex;
+  private final ExecutorService loadExecutor;
+
+  private BoardFileService() {
+    this.boardReader = new BoardFileReaderGson();
+    this.boardWriter = new BoardFileWriterGson();
+    this.binaryBoardReader = new BoardFileReaderBinary();
+    this.binaryBoardWriter = new BoardFileWriterBinary();
+    this.boardCache = new BoardCache(DEFAULT_CACHE_MEMORY_BUDGET);
+    createDirectoryIfNotExists(BOARDS_BASE_DIRECTORY);
+    this.boardIndex = new BoardDirectoryIndex(BOARDS_BASE_DIRECTORY, this::readSummary);
+    this.boardIndex.start();
+    this.loadExecutor = Executors.newSingleThreadExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "board-loader");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  /**
+   * Gets the singleton instance of BoardFileService.
+   *
+   * @return the BoardFileService instance
+   */
+  public static synchronized BoardFileService getInstance() {
+    if (instance == null) {
+      instance = new BoardFileService();
+    }
+    return instance;
+  }
+
+  /**
+   * Gets the directory for a specific game type.
+   *
+   * @param gameType the type of board game
+   * @return the path to the game type directory
+   * @throws IllegalArgumentException if gameType is null
+   */
+  private Path getGameTypeDirectory(final BoardGameType gameType) {
+    if (gameType == null) {
+      throw new IllegalArgumentException(
+          "Game type cannot be null when getting game type directory.");
+    }
+    Path gameTypeDir = BOARDS_BASE_DIRECTORY.resolve(gameType.name().toLowerCase());
+    createDirectoryIfNotExists(gameTypeDir);
+    return gameTypeDir;
+  }
+
+  /**
+   * Loads a board from a file.
+   *
+   * <p>The file is only parsed if it is not cached or has changed since it was cached. The
+   * returned board is frozen. Use {@link Board#copy()} to get a board that can be edited.
+   *
+   * @param gameType the type of board game
+   * @param fileName the name of the file, with or without extension
+   * @return the loaded board
+   * @throws BoardFileException       if the board cannot be loaded
+   * @throws IllegalArgumentException if gameType is null or fileName is null or empty
+   */
+  public Board loadBoard(final BoardGameType gameType, final String fileName)
+      throws BoardFileException {
+    return loadBoard(gameType, fileName, BoardReadMonitor.NONE);
+  }
+
+  /**
+   * Loads a board from a file on a background thread.
+   *
+   * <p>The number of tiles parsed so far is reported to {@code progress} on the loading thread as
+   * the board is read. A cached board reports all of its tiles at once. Cancelling the returned
+   * future stops the read at the next progress report.
+   *
+   * @param gameType the type of board game
+   * @param fileName the name of the file, with or without extension
+   * @param progress receives the number of tiles parsed so far
+   * @return a future completed with the frozen board, or exceptionally with a
+   *     {@link BoardFileException} if the board cannot be loaded
+   * @throws IllegalArgumentException if any parameter is null or fileName is empty
+   */
+  public CompletableFuture<Board> loadBoardAsync(final BoardGameType gameType,
+      final String fileName, final IntConsumer progress) {
+    if (gameType == null) {
+      throw new IllegalArgumentException("Game type cannot be null.");
+    }
+    if (fileName == null || fileName.trim().isEmpty()) {
+      throw new IllegalArgumentException("File name cannot be null or empty.");
+    }
+    if (progress == null) {
+      throw new IllegalArgumentException("Progress consumer cannot be null.");
+    }
+
+    CompletableFuture<Board> future = new CompletableFuture<>();
+    BoardReadMonitor monitor = new BoardReadMonitor() {
+      @Override
+      public void tilesParsed(int tilesParsed) {
+        progress.accept(tilesParsed);
+      }
+
+      @Override
+      public boolean isCancelled() {
+        return future.isCancelled();
+      }
+    };
+    loadExecutor.execute(() -> {
+      if (future.isCancelled()) {
+        return;
+      }
+      try {
+        future.complete(loadBoard(gameType, fileName, monitor));
+      } catch (CancellationException e) {
+        future.cancel(false);
+      } catch (Exception e) {
+        future.completeExceptionally(e);
+      }
+    });
+    return future;
+  }
+
+  private Board loadBoard(final BoardGameType gameType, final String fileName,
+      final BoardReadMonitor monitor) throws BoardFileException {
+    if (gameType == null) {
+      throw new IllegalArgumentException("Game type cannot be null.");
+    }
+    if (fileName == null || fileName.trim().isEmpty()) {
+      throw new IllegalArgumentException("File name cannot be null or empty.");
+    }
+
+    Path gameTypeDir = getGameTypeDirectory(gameType);
+    Path boardPath = resolveExistingBoardPath(gameTypeDir, fileName);
+
+    if (!Files.exists(boardPath)) {
+      throw new BoardFileException("Board file does not exist: " + boardPath);
+    }
+
+    try {
+      BasicFileAttributes attributes = Files.readAttributes(boardPath, BasicFileAttributes.class);
+      Board template = boardCache.get(boardPath, attributes.size(), attributes.lastModifiedTime());
+      if (template == null) {
+        LOGGER.info(() -> "Loading board from: " + boardPath);
+        template = isBinary(boardPath.getFileName().toString())
+            ? binaryBoardReader.readBoard(boardPath, monitor)
+            : boardReader.readBoard(boardPath, monitor);
+        validate(template, boardPath);
+        template.freeze();
+        boardCache.put(boardPath, attributes.size(), attributes.lastModifiedTime(), template);
+      } else {
+        monitor.tilesParsed(template.getTiles().size());
+      }
+      return template;
+    } catch (CancellationException e) {
+      LOGGER.info(() -> "Cancelled loading board from: " + boardPath);
+      throw e;
+    } catch (Exception e) {
+      LOGGER.log(Level.SEVERE, "Failed to load board from: {0}. Error: {1}",
+          new Object[]{boardPath, e.getMessage()});
+      throw new BoardFileException("Failed to load board: " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Checks the tile graph of a board that was just read, logging warnings.
+   *
+   * @param board the board
+   * @param boardPath the path the board was read from
+   * @throws BoardFileException if the board has errors
+   */
+  private void validate(final Board board, final Path boardPath) throws BoardFileException {
+    BoardValidationReport report = BoardValidator.getInstance().validate(board);
+    for (BoardValidationReport.Issue warning : report.getWarnings()) {
+      LOGGER.warning(() -> "Board " + boardPath + ": " + warning.getMessage());
+    }
+    if (!report.isValid()) {
+      throw new BoardFileException("Board is invalid: " + report.getErrorSummary());
+    }
+  }
+
+  /**
+   * Saves a board to a file.
+   *
+   * <p>The board is written in the binary format if the file name ends with {@code .board}, and as
+   * JSON otherwise. A name ending with {@code .json.gz} or {@code .board.gz} is written
+   * gzip-compressed. A name without extension is saved over the file {@link #loadBoard} currently
+   * resolves it to, or as JSON if there is none. Files of the same name in other formats are never
+   * touched, so a name with an extension that another existing file would shadow is rejected.
+   *
+   * @param gameType the type of board game
+   * @param fileName the name of the file
+   * @param board    the board to save
+   * @throws BoardFileException       if the board cannot be saved, or would be shadowed by a file of
+   *                                  the same name in another format
+   * @throws IllegalArgumentException if any parameter is null or fileName is empty
+   */
+  public void saveBoard(final BoardGameType gameType, final String fileName, final Board board)
+      throws BoardFileException {
+    if (gameType == null) {
+      throw new IllegalArgumentException("Game type cannot be null.");
+    }
+    if (fileName == null || fileName.trim().isEmpty()) {
+      throw new IllegalArgumentException("File name cannot be null or empty.");
+    }
+    if (board == null) {
+      throw new IllegalArgumentException("Board cannot be null.");
+    }
+
+    Path gameTypeDir = getGameTypeDirectory(gameType);
+    Path boardPath = resolveExistingBoardPath(gameTypeDir, fileName);
+    String boardFileName = boardPath.getFileName().toString();
+    Path shadowingPath = resolveExistingBoardPath(gameTypeDir, stripExtension(boardFileName));
+    if (Files.exists(shadowingPath)
+        && formatRank(shadowingPath.getFileName().toString()) < formatRank(boardFileName)) {
+      throw new BoardFileException(String.format(
+          "Board '%s' would be hidden by the existing file '%s'. Save it without an extension "
+              + "or under another name.", boardFileName, shadowingPath.getFileName()));
+    }
+    boolean binary = isBinary(boardFileName);
+
+    boardCache.invalidate(boardPath);
+    try {
+      LOGGER.info(() -> "Saving board to: " + boardPath);
+      if (binary) {
+        binaryBoardWriter.writeBoard(boardPath, board);
+      } else {
+        boardWriter.writeBoard(boardPath, board);
+      }
+    } catch (Exception e) {
+      String errorMsg = String.format("Failed to save board for game '%s' to file '%s'",
+          gameType.name(), boardPath.getFileName());
+      LOGGER.log(Level.SEVERE, errorMsg, e);
+      throw new BoardFileException(errorMsg, e);
+    }
+    boardIndex.refresh(gameType, boardPath);
+  }
+
+  /**
+   * Sets the estimated memory the board cache may use. Boards are evicted, least recently used
+   * first, until the cache fits within the new budget. A budget of zero disables the cache.
+   *
+   * @param bytes the memory budget in bytes
+   * @throws IllegalArgumentException if bytes is negative
+   */
+  public void setCacheMemoryBudget(final long bytes) {
+    boardCache.setMemoryBudget(bytes);
+  }
+
+  /**
+   * Removes all boards from the board cache.
+   */
+  public void clearCache() {
+    boardCache.clear();
+  }
+
+  /**
+   * Lists all available boards for a game type.
+   *
+   * <p>A board stored both as JSON and in the binary format is listed once.
+   *
+   * @param gameType the type of board game
+   * @return a list of available board names (without extension), sorted by name
+   */
+  public List<String> listAvailableBoards(final BoardGameType gameType) {
+    List<String> boardNames = new ArrayList<>();
+
+    if (gameType == null) {
+      LOGGER.warning("Cannot list boards: game type is null.");
+      return boardNames;
+    }
+
+    for (BoardSummary summary : boardIndex.getBoards(gameType)) {
+      boardNames.add(summary.getFileName());
+    }
+    return boardNames;
+  }
+
+  /**
+   * Gets the metadata of all saved boards for a game type without loading the boards.
+   *
+   * @param gameType the type of board game
+   * @return the board summaries, sorted by name
+   * @throws IllegalArgumentException if gameType is null
+   */
+  public List<BoardSummary> getBoardSummaries(final BoardGameType gameType) {
+    if (gameType == null) {
+      throw new IllegalArgumentException("Game type cannot be null.");
+    }
+    return boardIndex.getBoards(gameType);
+  }
+
+  /**
+   * Adds a listener that is told when the saved boards of a game type have been indexed for the
+   * first time or have changed on disk. The listener is called on a background thread.
+   *
+   * @param listener the listener, called with the game type whose boards changed
+   * @throws IllegalArgumentException if listener is null
+   */
+  public void addBoardListListener(final Consumer<BoardGameType> listener) {
+    boardIndex.addListener(listener);
+  }
+
+  /**
+   * Reads the summary of a board file for the board index.
+   *
+   * @param path the board file
+   * @param fileName the name the board is loaded by, without extension
+   * @param attributes the attributes of the file
+   * @return the summary of the board
+   * @throws BoardFileException if the file is not a valid board
+   */
+  private BoardSummary readSummary(final Path path, final String fileName,
+      final BasicFileAttributes attributes) throws BoardFileException {
+    BoardHeader header = isBinary(path.getFileName().toString())
+        ? binaryBoardReader.readBoardHeader(path)
+        : boardReader.readBoardHeader(path);
+    return new BoardSummary(fileName, header.getName(), header.getDescription(), header.getRows(),
+        header.getColumns(), header.getTileCount(), attributes.size(),
+        attributes.lastModifiedTime());
+  }
+
+  /**
+   * Creates a directory if it does not exist.
+   *
+   * @param directory the directory to create
+   */
+  private void createDirectoryIfNotExists(final Path directory) {
+    try {
+      if (!Files.exists(directory)) {
+        Files.createDirectories(directory);
+        LOGGER.info(() -> "Created directory: " + directory);
+      }
+    } catch (IOException e) {
+      LOGGER.log(Level.SEVERE, "Failed to create directory: {0}. Error: {1}",
+          new Object[]{directory, e.getMessage()});
+    }
+  }
+
+  /**
+   * Resolves the file of an existing board. A file name without extension refers to the existing
+   * file with the lowest {@link #formatRank}, and to the JSON file if there is none.
+   *
+   * @param gameTypeDir the directory of the game type
+   * @param fileName the file name, with or without extension
+   * @return the path of the board file
+   */
+  private Path resolveExistingBoardPath(final Path gameTypeDir, final String fileName) {
+    if (isBoardFile(fileName)) {
+      return gameTypeDir.resolve(fileName);
+    }
+    for (String extension : EXTENSIONS) {
+      Path boardPath = gameTypeDir.resolve(fileName + extension);
+      if (Files.exists(boardPath)) {
+        return boardPath;
+      }
+    }
+    return gameTypeDir.resolve(fileName + JSON_EXTENSION);
+  }
+
+  /**
+   * Gets the position of a board file's format in the order a name without extension is resolved
+   * in: {@code .board}, {@code .board.gz}, {@code .json}, {@code .json.gz}.
+   *
+   * @param fileName the file name
+   * @return the rank of the format, lower ranks shadowing higher ones, or the number of formats if
+   *     the file name is not a board file
+   */
+  static int formatRank(final String fileName) {
+    String lowerCaseName = fileName.toLowerCase();
+    for (int rank = 0; rank < EXTENSIONS.size(); rank++) {
+      if (lowerCaseName.endsWith(EXTENSIONS.get(rank))) {
+        return rank;
+      }
+    }
+    return EXTENSIONS.size();
+  }
+
+  /**
+   * Checks whether a file name refers to a board in the binary format.
+   *
+   * @param fileName the file name to check
+   * @return true if the file name has the .board or .board.gz extension
+   */
+  static boolean isBinary(final String fileName) {
+    return withoutGzipExtension(fileName).toLowerCase().endsWith(BINARY_EXTENSION);
+  }
+
+  /**
+   * Checks whether a file name refers to a board file in either format.
+   *
+   * @param fileName the file name to check
+   * @return true if the file name has the .board or .json extension, optionally followed by .gz
+   */
+  static boolean isBoardFile(final String fileName) {
+    return isBinary(fileName)
+        || withoutGzipExtension(fileName).toLowerCase().endsWith(JSON_EXTENSION);
+  }
+
+  /**
+   * Removes the board file extension from a file name.
+   *
+   * @param fileName a file name with the .board or .json extension, optionally followed by .gz
+   * @return the file name without extension
+   */
+  static String stripExtension(final String fileName) {
+    String uncompressedName = withoutGzipExtension(fileName);
+    int extensionLength = isBinary(uncompressedName)
+        ? BINARY_EXTENSION.length()
+        : JSON_EXTENSION.length();
+    return uncompressedName.substring(0, uncompressedName.length() - extensionLength);
+  }
+
+  private static String withoutGzipExtension(final String fileName) {
+    return fileName.toLowerCase().endsWith(GZIP_EXTENSION)
+        ? fileName.substring(0, fileName.length() - GZIP_EXTENSION.length())
+        : fileName;
+  }
+}
\ No newline at end of file
@@ -0,0 +1,100 @@
+package edu.ntnu.stud.boardgame.service;
+
+import java.nio.file.attribute.FileTime;
+
+/**
+ * Metadata of a saved board file, as kept by the {@link BoardDirectoryIndex}.
+ *
+ * <p>A summary holds what a board selection screen needs to present a board without loading it:
+ * the name the board is loaded by, its title and description, its dimensions and its tile count.
+ */
+public final class BoardSummary {
+
+  private final String fileName;
+  private final String title;
+  private final String description;
+  private final int rows;
+  private final int columns;
+  private final int tileCount;
+  private final long fileSize;
+  private final FileTime lastModified;
+
+  /**
+   * Creates a board summary.
+   *
+   * @param fileName the name the board is loaded by, without extension
+   * @param title the title stored in the board
+   * @param description the description stored in the board
+   * @param rows number of rows
+   * @param columns number of columns
+   * @param tileCount number of tiles, or a negative value if the file does not record it
+   * @param fileSize size of the file the summary was read from
+   * @param lastModified modification time of the file the summary was read from
+   * @throws IllegalArgumentException if fileName or lastModified is null
+   */
+  public BoardSummary(String fileName, String title, String description, int rows, int columns,
+      int tileCount, long fileSize, FileTime lastModified) {
+    if (fileName == null) {
+      throw new IllegalArgumentException("File name cannot be null.");
+    }
+    if (lastModified == null) {
+      throw new IllegalArgumentException("Last modified time cannot be null.");
+    }
+    this.fileName = fileName;
+    this.title = title;
+    this.description = description;
+    this.rows = rows;
+    this.columns = columns;
+    this.tileCount = tileCount;
+    this.fileSize = fileSize;
+    this.lastModified = lastModified;
+  }
+
+  /**
+   * Checks whether this summary was read from a file with the given size and modification time.
+   *
+   * @param size the current size of the file
+   * @param modified the current modification time of the file
+   * @return true if the file is unchanged since the summary was read
+   */
+  boolean matches(long size, FileTime modified) {
+    return fileSize == size && lastModified.equals(modified);
+  }
+
+  public String getFileName() {
+    return fileName;
+  }
+
+  public String getTitle() {
+    return title;
+  }
+
+  public String getDescription() {
+    return description;
+  }
+
+  public int getRows() {
+    return rows;
+  }
+
+  public int getColumns() {
+    return columns;
+  }
+
+  /**
+   * Gets the number of tiles of the board.
+   *
+   * @return the number of tiles, or a negative value if the file does not record it
+   */
+  public int getTileCount() {
+    return tileCount;
+  }
+
+  public long getFileSize() {
+    return fileSize;
+  }
+
+  public FileTime getLastModified() {
+    return lastModified;
+  }
+}
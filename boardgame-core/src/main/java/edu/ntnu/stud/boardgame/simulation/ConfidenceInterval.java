@@ -0,0 +1,87 @@
+package edu.ntnu.stud.boardgame.simulation;
+
+/**
+ * A 95% confidence interval around an estimate from simulated games.
+ */
+public final class ConfidenceInterval {
+
+  /** The standard normal quantile for a two-sided 95% interval. */
+  static final double Z_95 = 1.96;
+
+  private final double estimate;
+  private final double lower;
+  private final double upper;
+
+  private ConfidenceInterval(double estimate, double lower, double upper) {
+    this.estimate = estimate;
+    this.lower = lower;
+    this.upper = upper;
+  }
+
+  /**
+   * Creates the Wilson score interval for a proportion.
+   *
+   * <p>Unlike the normal approximation, the Wilson interval stays within 0 and 1 and remains
+   * meaningful for win rates close to either end.
+   *
+   * @param successes the number of successes
+   * @param trials the number of trials
+   * @return the interval, or an interval of zeros if there were no trials
+   */
+  static ConfidenceInterval forProportion(long successes, long trials) {
+    if (trials == 0) {
+      return new ConfidenceInterval(0, 0, 0);
+    }
+    double proportion = (double) successes / trials;
+    double zSquared = Z_95 * Z_95;
+    double denominator = 1 + zSquared / trials;
+    double center = (proportion + zSquared / (2.0 * trials)) / denominator;
+    double halfWidth = Z_95 / denominator
+        * Math.sqrt(proportion * (1 - proportion) / trials + zSquared / (4.0 * trials * trials));
+    return new ConfidenceInterval(proportion, Math.max(0, center - halfWidth),
+        Math.min(1, center + halfWidth));
+  }
+
+  /**
+   * Creates the normal interval for the mean of a sample.
+   *
+   * @param count the sample size
+   * @param mean the sample mean
+   * @param variance the sample variance
+   * @return the interval, which has no width if the sample has fewer than two values
+   */
+  static ConfidenceInterval forMean(long count, double mean, double variance) {
+    if (count < 2) {
+      return new ConfidenceInterval(mean, mean, mean);
+    }
+    double halfWidth = Z_95 * Math.sqrt(variance / count);
+    return new ConfidenceInterval(mean, mean - halfWidth, mean + halfWidth);
+  }
+
+  public double getEstimate() {
+    return estimate;
+  }
+
+  public double getLower() {
+    return lower;
+  }
+
+  public double getUpper() {
+    return upper;
+  }
+
+  /**
+   * Checks whether a value lies within the interval.
+   *
+   * @param value the value
+   * @return true if the value is between the lower and upper bound, inclusive
+   */
+  public boolean contains(double value) {
+    return value >= lower && value <= upper;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%.3f [%.3f, %.3f]", estimate, lower, upper);
+  }
+}
@@ -0,0 +1,138 @@
+package edu.ntnu.stud.boardgame.simulation;
+
+import java.util.Arrays;
+
+/**
+ * Distribution of the number of rounds simulated games lasted.
+ *
+ * <p>Only games that ended with a winner are part of the distribution. Games stopped at the round
+ * limit are counted separately as unfinished.
+ */
+public final class GameLengthDistribution {
+
+  private final long[] histogram;
+  private final long unfinishedGames;
+  private final long finishedGames;
+  private final double mean;
+  private final double variance;
+
+  /**
+   * Creates a distribution.
+   *
+   * @param histogram number of finished games per game length in rounds
+   * @param unfinishedGames number of games that hit the round limit
+   */
+  GameLengthDistribution(long[] histogram, long unfinishedGames) {
+    int length = histogram.length;
+    while (length > 0 && histogram[length - 1] == 0) {
+      length--;
+    }
+    this.histogram = Arrays.copyOf(histogram, length);
+    this.unfinishedGames = unfinishedGames;
+
+    long count = 0;
+    double sum = 0;
+    for (int rounds = 0; rounds < length; rounds++) {
+      count += histogram[rounds];
+      sum += (double) rounds * histogram[rounds];
+    }
+    this.finishedGames = count;
+    this.mean = count == 0 ? 0 : sum / count;
+
+    double squaredDeviations = 0;
+    for (int rounds = 0; rounds < length; rounds++) {
+      double deviation = rounds - mean;
+      squaredDeviations += deviation * deviation * histogram[rounds];
+    }
+    this.variance = count < 2 ? 0 : squaredDeviations / (count - 1);
+  }
+
+  /**
+   * Combines distributions.
+   *
+   * @param distributions the distributions to combine
+   * @return a distribution holding the games of all of them
+   */
+  static GameLengthDistribution merge(Iterable<GameLengthDistribution> distributions) {
+    long[] combined = new long[0];
+    long unfinished = 0;
+    for (GameLengthDistribution distribution : distributions) {
+      if (distribution.histogram.length > combined.length) {
+        combined = Arrays.copyOf(combined, distribution.histogram.length);
+      }
+      for (int rounds = 0; rounds < distribution.histogram.length; rounds++) {
+        combined[rounds] += distribution.histogram[rounds];
+      }
+      unfinished += distribution.unfinishedGames;
+    }
+    return new GameLengthDistribution(combined, unfinished);
+  }
+
+  /**
+   * Gets the game length histogram.
+   *
+   * @return a copy of the histogram, where index {@code n} holds the number of games that ended in
+   *     round {@code n}
+   */
+  public long[] getHistogram() {
+    return histogram.clone();
+  }
+
+  public long getFinishedGames() {
+    return finishedGames;
+  }
+
+  public long getUnfinishedGames() {
+    return unfinishedGames;
+  }
+
+  /**
+   * Gets the mean length of the finished games.
+   *
+   * @return the average number of rounds, or 0 if no game finished
+   */
+  public double getAverage() {
+    return mean;
+  }
+
+  /**
+   * Gets the sample standard deviation of the length of the finished games.
+   *
+   * @return the standard deviation in rounds
+   */
+  public double getStandardDeviation() {
+    return Math.sqrt(variance);
+  }
+
+  /**
+   * Gets the 95% confidence interval of the mean game length.
+   *
+   * @return the interval around {@link #getAverage()}
+   */
+  public ConfidenceInterval getAverageInterval() {
+    return ConfidenceInterval.forMean(finishedGames, mean, variance);
+  }
+
+  /**
+   * Gets the game length below which a share of the finished games ended.
+   *
+   * @param fraction the share of games, between 0.0 and 1.0
+   * @return the smallest number of rounds that at least that share of games finished within, or 0
+   *     if no game finished
+   * @throws IllegalArgumentException if fraction is outside 0.0 and 1.0
+   */
+  public int getPercentile(double fraction) {
+    if (!(fraction >= 0 && fraction <= 1)) {
+      throw new IllegalArgumentException("Fraction must be between 0 and 1.");
+    }
+    long target = (long) Math.ceil(fraction * finishedGames);
+    long seen = 0;
+    for (int rounds = 0; rounds < histogram.length; rounds++) {
+      seen += histogram[rounds];
+      if (seen >= target && seen > 0) {
+        return rounds;
+      }
+    }
+    return 0;
+  }
+}
@@ -0,0 +1,88 @@
+package edu.ntnu.stud.boardgame.simulation;
+
+/**
+ * Result of the games two purchase strategies played against each other on one board.
+ *
+ * <p>The strategies take turns moving first, so a first-move advantage does not favour either of
+ * them.
+ *
+ * @see MonopolyTournament
+ */
+public final class MatchResult {
+
+  private final String boardName;
+  private final String firstStrategy;
+  private final String secondStrategy;
+  private final long gamesPlayed;
+  private final long firstWins;
+  private final long secondWins;
+  private final GameLengthDistribution gameLengths;
+
+  /**
+   * Creates a match result.
+   *
+   * @param boardName the name of the board the match was played on
+   * @param firstStrategy the name of the first strategy
+   * @param secondStrategy the name of the second strategy
+   * @param gamesPlayed the number of games played
+   * @param firstWins the number of games the first strategy won
+   * @param secondWins the number of games the second strategy won
+   * @param gameLengths the lengths of the finished games
+   */
+  MatchResult(String boardName, String firstStrategy, String secondStrategy, long gamesPlayed,
+      long firstWins, long secondWins, GameLengthDistribution gameLengths) {
+    this.boardName = boardName;
+    this.firstStrategy = firstStrategy;
+    this.secondStrategy = secondStrategy;
+    this.gamesPlayed = gamesPlayed;
+    this.firstWins = firstWins;
+    this.secondWins = secondWins;
+    this.gameLengths = gameLengths;
+  }
+
+  public String getBoardName() {
+    return boardName;
+  }
+
+  public String getFirstStrategy() {
+    return firstStrategy;
+  }
+
+  public String getSecondStrategy() {
+    return secondStrategy;
+  }
+
+  public long getGamesPlayed() {
+    return gamesPlayed;
+  }
+
+  public long getFirstWins() {
+    return firstWins;
+  }
+
+  public long getSecondWins() {
+    return secondWins;
+  }
+
+  /**
+   * Gets the share of games the first strategy won, with its 95% confidence interval.
+   *
+   * @return the win rate of the first strategy
+   */
+  public ConfidenceInterval getFirstWinRate() {
+    return ConfidenceInterval.forProportion(firstWins, gamesPlayed);
+  }
+
+  /**
+   * Gets the share of games the second strategy won, with its 95% confidence interval.
+   *
+   * @return the win rate of the second strategy
+   */
+  public ConfidenceInterval getSecondWinRate() {
+    return ConfidenceInterval.forProportion(secondWins, gamesPlayed);
+  }
+
+  public GameLengthDistribution getGameLengths() {
+    return gameLengths;
+  }
+}
@@ -0,0 +1,109 @@
+package edu.ntnu.stud.boardgame.simulation;
+
+import edu.ntnu.stud.boardgame.model.Board;
+import edu.ntnu.stud.boardgame.model.CompiledBoard;
+import edu.ntnu.stud.boardgame.model.Die;
+import edu.ntnu.stud.boardgame.model.Tile;
+import edu.ntnu.stud.boardgame.model.action.PropertyAction;
+import edu.ntnu.stud.boardgame.model.action.StartAction;
+import edu.ntnu.stud.boardgame.model.action.TaxAction;
+import java.util.Arrays;
+
+/**
+ * A compiled Monopoly board with the prices, rents and amounts of its actions in tables by tile ID.
+ *
+ * <p>Every property tile gets a slot, so the owners of the properties can be kept in a small array
+ * by {@link MonopolyState}.
+ */
+final class MonopolyBoardTable {
+
+  /** Number of dice rolled each turn. */
+  static final int NUMBER_OF_DICE = 2;
+
+  /** Slot of a tile that is not a property. */
+  static final int NO_PROPERTY = -1;
+
+  private final String name;
+  private final CompiledBoard compiledBoard;
+  private final int[] values;
+  private final int[] rents;
+  private final int[] propertySlots;
+  private final int propertyCount;
+
+  /**
+   * Compiles a board.
+   *
+   * @param board the board to compile
+   * @throws IllegalArgumentException if board is null or has no start tile
+   */
+  MonopolyBoardTable(Board board) {
+    if (board == null) {
+      throw new IllegalArgumentException("Board cannot be null.");
+    }
+    if (board.getTile(board.getStartTileId()) == null) {
+      throw new IllegalArgumentException(
+          "Start tile (ID: " + board.getStartTileId() + ") not found on the board.");
+    }
+
+    this.name = board.getName();
+    this.compiledBoard = new CompiledBoard(board, NUMBER_OF_DICE * Die.SIDES);
+    this.values = new int[compiledBoard.size()];
+    this.rents = new int[compiledBoard.size()];
+    this.propertySlots = new int[compiledBoard.size()];
+    Arrays.fill(propertySlots, NO_PROPERTY);
+
+    int slots = 0;
+    for (int tileId = 0; tileId < compiledBoard.size(); tileId++) {
+      Tile tile = compiledBoard.getTile(tileId);
+      if (tile == null) {
+        continue;
+      }
+      if (tile.getLandAction() instanceof PropertyAction property) {
+        values[tileId] = property.getPrice();
+        rents[tileId] = property.getRent();
+        propertySlots[tileId] = slots++;
+      } else if (tile.getLandAction() instanceof TaxAction tax) {
+        values[tileId] = tax.getAmount();
+      } else if (tile.getLandAction() instanceof StartAction start) {
+        values[tileId] = start.getAmount();
+      }
+    }
+    this.propertyCount = slots;
+  }
+
+  String getName() {
+    return name;
+  }
+
+  CompiledBoard getCompiledBoard() {
+    return compiledBoard;
+  }
+
+  /**
+   * Gets the value of the action on a tile.
+   *
+   * @param tileId the tile ID
+   * @return the price of a property, the amount of a tax or start action, or 0 for other tiles
+   */
+  int getValue(int tileId) {
+    return values[tileId];
+  }
+
+  int getRent(int tileId) {
+    return rents[tileId];
+  }
+
+  /**
+   * Gets the property slot of a tile.
+   *
+   * @param tileId the tile ID
+   * @return the slot, or {@link #NO_PROPERTY} if the tile is not a property
+   */
+  int getPropertySlot(int tileId) {
+    return tileId >= 0 && tileId < propertySlots.length ? propertySlots[tileId] : NO_PROPERTY;
+  }
+
+  int getPropertyCount() {
+    return propertyCount;
+  }
+}
@@ -0,0 +1,398 @@
+package edu.ntnu.stud.boardgame.simulation;
+
+import edu.ntnu.stud.boardgame.model.Die;
+import edu.ntnu.stud.boardgame.model.Player;
+import edu.ntnu.stud.boardgame.model.Tile;
+import edu.ntnu.stud.boardgame.model.game.MonopolyGame;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Compact, cheaply copied state of a Monopoly game: positions, balances, property owners, skip
+ * flags and bankruptcy of every seat, and whose turn it is.
+ *
+ * <p>A state plays turns by the same rules as {@link MonopolyGame}, without players, events or log
+ * records. It is used to play tournaments between {@link PurchaseStrategy purchase strategies} and
+ * to play random rollouts from a snapshot of a running game. A state is not thread-safe, so every
+ * thread works on its own copy.
+ */
+public final class MonopolyState {
+
+  static final int STARTING_MONEY = 1500;
+  static final int START_BONUS = 50;
+  static final int NO_OWNER = -1;
+
+  private final MonopolyBoardTable table;
+  private final int[] positions;
+  private final int[] balances;
+  private final int[] ownedProperties;
+  private final boolean[] bankrupt;
+  private final boolean[] skipNextTurn;
+  private final int[] owners;
+  private int activeCount;
+  private int currentSeat;
+  private int round;
+
+  /**
+   * Creates the state of a new game, with every seat on the start tile.
+   *
+   * @param table the board the game is played on
+   * @param seats the number of seats
+   */
+  MonopolyState(MonopolyBoardTable table, int seats) {
+    this.table = table;
+    this.positions = new int[seats];
+    this.balances = new int[seats];
+    this.ownedProperties = new int[seats];
+    this.bankrupt = new boolean[seats];
+    this.skipNextTurn = new boolean[seats];
+    this.owners = new int[table.getPropertyCount()];
+    reset();
+  }
+
+  private MonopolyState(MonopolyState other) {
+    this.table = other.table;
+    this.positions = other.positions.clone();
+    this.balances = other.balances.clone();
+    this.ownedProperties = other.ownedProperties.clone();
+    this.bankrupt = other.bankrupt.clone();
+    this.skipNextTurn = other.skipNextTurn.clone();
+    this.owners = other.owners.clone();
+    this.activeCount = other.activeCount;
+    this.currentSeat = other.currentSeat;
+    this.round = other.round;
+  }
+
+  /**
+   * Takes a snapshot of a running game.
+   *
+   * <p>Seats are numbered in the order of {@link MonopolyGame#getPlayers()}. The round counter of
+   * the snapshot starts at 1.
+   *
+   * @param game the game
+   * @return the state of the game
+   * @throws IllegalArgumentException if game is null, has no board or players, or a player is not
+   *     on a tile
+   */
+  public static MonopolyState of(MonopolyGame game) {
+    if (game == null) {
+      throw new IllegalArgumentException("Game cannot be null.");
+    }
+    if (game.getBoard() == null) {
+      throw new IllegalArgumentException("Game has no board.");
+    }
+    List<Player> players = game.getPlayers();
+    if (players.isEmpty()) {
+      throw new IllegalArgumentException("Game has no players.");
+    }
+
+    MonopolyBoardTable table = new MonopolyBoardTable(game.getBoard());
+    MonopolyState state = new MonopolyState(table, players.size());
+    state.activeCount = 0;
+    for (int seat = 0; seat < players.size(); seat++) {
+      Player player = players.get(seat);
+      if (player.getCurrentTile() == null) {
+        throw new IllegalArgumentException("Player " + player.getName() + " is not on a tile.");
+      }
+      state.positions[seat] = player.getCurrentTile().getTileId();
+      state.balances[seat] = game.getPlayerMoney(player);
+      state.bankrupt[seat] = game.isBankrupt(player);
+      state.skipNextTurn[seat] = player.shouldSkipNextTurn();
+      if (!state.bankrupt[seat]) {
+        state.activeCount++;
+      }
+      if (player == game.getCurrentPlayer()) {
+        state.currentSeat = seat;
+      }
+    }
+
+    for (int tileId = 0; tileId < table.getCompiledBoard().size(); tileId++) {
+      int slot = table.getPropertySlot(tileId);
+      if (slot == MonopolyBoardTable.NO_PROPERTY) {
+        continue;
+      }
+      Tile tile = table.getCompiledBoard().getTile(tileId);
+      Player owner = game.getPropertyOwner(tile);
+      state.owners[slot] = owner != null ? seatOf(players, owner) : NO_OWNER;
+      if (state.owners[slot] != NO_OWNER) {
+        state.ownedProperties[state.owners[slot]]++;
+      }
+    }
+    return state;
+  }
+
+  /**
+   * Finds the seat of a player, comparing by identity like the game does.
+   *
+   * @param players the players of the game, in seat order
+   * @param player the player
+   * @return the seat, or -1 if the player is not in the game
+   */
+  static int seatOf(List<Player> players, Player player) {
+    for (int seat = 0; seat < players.size(); seat++) {
+      if (players.get(seat) == player) {
+        return seat;
+      }
+    }
+    return NO_OWNER;
+  }
+
+  /**
+   * Creates an independent copy of this state.
+   *
+   * @return the copy
+   */
+  public MonopolyState copy() {
+    return new MonopolyState(this);
+  }
+
+  /**
+   * Overwrites this state with another state of the same game, without allocating.
+   *
+   * @param other the state to copy
+   */
+  void copyFrom(MonopolyState other) {
+    System.arraycopy(other.positions, 0, positions, 0, positions.length);
+    System.arraycopy(other.balances, 0, balances, 0, balances.length);
+    System.arraycopy(other.ownedProperties, 0, ownedProperties, 0, ownedProperties.length);
+    System.arraycopy(other.bankrupt, 0, bankrupt, 0, bankrupt.length);
+    System.arraycopy(other.skipNextTurn, 0, skipNextTurn, 0, skipNextTurn.length);
+    System.arraycopy(other.owners, 0, owners, 0, owners.length);
+    activeCount = other.activeCount;
+    currentSeat = other.currentSeat;
+    round = other.round;
+  }
+
+  /** Resets the state to the start of a new game. */
+  void reset() {
+    Arrays.fill(positions, table.getCompiledBoard().getStartTileId());
+    Arrays.fill(balances, STARTING_MONEY);
+    Arrays.fill(ownedProperties, 0);
+    Arrays.fill(bankrupt, false);
+    Arrays.fill(skipNextTurn, false);
+    Arrays.fill(owners, NO_OWNER);
+    activeCount = positions.length;
+    currentSeat = 0;
+    round = 1;
+  }
+
+  /**
+   * Plays the turn of the current seat and passes the turn to the next seat.
+   *
+   * <p>A bankrupt seat passes, and a seat that landed on a skip turn tile passes once. Otherwise
+   * the seat rolls two dice, collects the start bonus when passing the start tile, pays rent or tax
+   * and, if the game goes on, is offered the property it landed on when it is unowned and
+   * affordable.
+   *
+   * @param random the random source for the dice
+   * @param strategies the purchase strategy of every seat
+   * @return true if the game is over after the turn, in which case the turn does not pass if the
+   *     game was already over
+   */
+  boolean playTurn(SplittableRandom random, PurchaseStrategy[] strategies) {
+    if (activeCount <= 1) {
+      return true;
+    }
+
+    int seat = currentSeat;
+    int turnRound = round;
+    currentSeat = (seat + 1) % positions.length;
+    if (currentSeat == 0) {
+      round++;
+    }
+
+    if (bankrupt[seat]) {
+      return false;
+    }
+    if (skipNextTurn[seat]) {
+      skipNextTurn[seat] = false;
+      return false;
+    }
+
+    int fromTileId = positions[seat];
+    int toTileId = table.getCompiledBoard().advance(fromTileId, roll(random));
+    if (toTileId < fromTileId && toTileId != 0) {
+      balances[seat] += START_BONUS;
+    }
+    positions[seat] = toTileId;
+
+    int slot = table.getPropertySlot(toTileId);
+    switch (table.getCompiledBoard().getActionKind(toTileId)) {
+      case PROPERTY -> {
+        int owner = owners[slot];
+        if (owner != NO_OWNER && owner != seat) {
+          balances[owner] += pay(seat, table.getRent(toTileId));
+        }
+      }
+      case TAX -> pay(seat, table.getValue(toTileId));
+      case START -> balances[seat] += Math.max(0, table.getValue(toTileId));
+      case SKIP_TURN -> skipNextTurn[seat] = true;
+      default -> {
+      }
+    }
+
+    if (activeCount <= 1) {
+      return true;
+    }
+
+    if (slot != MonopolyBoardTable.NO_PROPERTY && canBuy(seat, toTileId)) {
+      PurchaseOffer offer = new PurchaseOffer(table.getValue(toTileId), table.getRent(toTileId),
+          balances[seat], ownedProperties[seat], activeCount - 1,
+          table.getCompiledBoard().getTileCount(), turnRound);
+      if (strategies[seat].shouldBuy(offer)) {
+        buy(seat, toTileId);
+      }
+    }
+    return false;
+  }
+
+  private int roll(SplittableRandom random) {
+    int total = 0;
+    for (int i = 0; i < MonopolyBoardTable.NUMBER_OF_DICE; i++) {
+      total += random.nextInt(1, Die.SIDES + 1);
+    }
+    return total;
+  }
+
+  /**
+   * Withdraws as much of an amount as a seat has, marking it bankrupt when its balance reaches
+   * zero, the same way {@link MonopolyGame} does.
+   *
+   * @param seat the paying seat
+   * @param amount the amount to pay
+   * @return the amount actually paid
+   */
+  private int pay(int seat, int amount) {
+    if (amount <= 0) {
+      return 0;
+    }
+    int payment = Math.min(balances[seat], amount);
+    balances[seat] -= payment;
+    if (balances[seat] <= 0 && !bankrupt[seat]) {
+      bankrupt[seat] = true;
+      activeCount--;
+    }
+    return payment;
+  }
+
+  /**
+   * Checks whether a seat can buy the property on a tile.
+   *
+   * @param seat the seat
+   * @param tileId the tile ID
+   * @return true if the tile is an unowned property the seat can afford and the seat is not
+   *     bankrupt
+   */
+  boolean canBuy(int seat, int tileId) {
+    int slot = table.getPropertySlot(tileId);
+    return slot != MonopolyBoardTable.NO_PROPERTY
+        && owners[slot] == NO_OWNER
+        && !bankrupt[seat]
+        && balances[seat] >= table.getValue(tileId);
+  }
+
+  /**
+   * Buys the property on a tile for a seat, without checking whether it can.
+   *
+   * @param seat the seat
+   * @param tileId the tile ID of the property
+   */
+  void buy(int seat, int tileId) {
+    balances[seat] -= table.getValue(tileId);
+    owners[table.getPropertySlot(tileId)] = seat;
+    ownedProperties[seat]++;
+  }
+
+  public int getSeatCount() {
+    return positions.length;
+  }
+
+  public int getCurrentSeat() {
+    return currentSeat;
+  }
+
+  /**
+   * Gets the number of the round the next turn belongs to, where a round is a full cycle through
+   * every seat.
+   *
+   * @return the round, starting at 1
+   */
+  public int getRound() {
+    return round;
+  }
+
+  public int getPosition(int seat) {
+    return positions[seat];
+  }
+
+  public int getBalance(int seat) {
+    return balances[seat];
+  }
+
+  public boolean isBankrupt(int seat) {
+    return bankrupt[seat];
+  }
+
+  /**
+   * Gets the owner of the property on a tile.
+   *
+   * @param tileId the tile ID
+   * @return the seat of the owner, or -1 if the tile is not an owned property
+   */
+  public int getOwner(int tileId) {
+    int slot = table.getPropertySlot(tileId);
+    return slot == MonopolyBoardTable.NO_PROPERTY ? NO_OWNER : owners[slot];
+  }
+
+  /**
+   * Gets the net worth of a seat: its balance plus the price of the properties it owns.
+   *
+   * @param seat the seat
+   * @return the net worth, or 0 if the seat is bankrupt
+   */
+  public int getNetWorth(int seat) {
+    if (bankrupt[seat]) {
+      return 0;
+    }
+    int worth = balances[seat];
+    for (int tileId = 0; tileId < table.getCompiledBoard().size(); tileId++) {
+      int slot = table.getPropertySlot(tileId);
+      if (slot != MonopolyBoardTable.NO_PROPERTY && owners[slot] == seat) {
+        worth += table.getValue(tileId);
+      }
+    }
+    return worth;
+  }
+
+  /**
+   * Checks whether the game is over.
+   *
+   * @return true if at most one seat is not bankrupt
+   */
+  public boolean isGameOver() {
+    return activeCount <= 1;
+  }
+
+  /**
+   * Gets the seat that won the game.
+   *
+   * @return the only seat that is not bankrupt, or -1 if the game is not over or every seat is
+   *     bankrupt
+   */
+  public int getWinner() {
+    if (activeCount != 1) {
+      return NO_OWNER;
+    }
+    for (int seat = 0; seat < bankrupt.length; seat++) {
+      if (!bankrupt[seat]) {
+        return seat;
+      }
+    }
+    return NO_OWNER;
+  }
+
+  MonopolyBoardTable getTable() {
+    return table;
+  }
+}
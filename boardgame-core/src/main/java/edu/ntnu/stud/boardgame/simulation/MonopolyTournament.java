@@ -0,0 +1,290 @@
+package edu.ntnu.stud.boardgame.simulation;
+
+import edu.ntnu.stud.boardgame.factory.MonopolyBoardFactory;
+import edu.ntnu.stud.boardgame.model.Board;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Headless round-robin tournament between Monopoly {@link PurchaseStrategy purchase strategies}.
+ *
+ * <p>Every pair of strategies plays a match of two-player games on every board, taking turns moving
+ * first. The games follow the same rules as {@link edu.ntnu.stud.boardgame.model.game.MonopolyGame}:
+ * players start with $1500, collect $50 for passing the start tile, pay a fifth of the price as
+ * rent to the owner of a property and go bankrupt when their balance reaches zero. Where the game
+ * leaves buying to the user interface, the tournament asks the strategy of the player whenever
+ * they land on an unowned property they can afford.
+ *
+ * <p>Like {@link SimulationEngine}, the tournament keeps the per-game state in the primitive arrays
+ * of a {@link MonopolyState} and does not create players, events or log records, so the games of
+ * all matches can be split across all cores with fork/join. Games that last longer than the round
+ * limit are stopped and counted as unfinished.
+ *
+ * <p>The boards are compiled when the tournament is created, so later changes to the boards do not
+ * affect the tournament.
+ *
+ * @see TournamentResult
+ */
+public class MonopolyTournament {
+
+  private static final int DEFAULT_MAX_ROUNDS = 1_000;
+  private static final int GAMES_PER_TASK = 1_024;
+  private static final int SEATS = 2;
+
+  private final List<MonopolyBoardTable> boards;
+  private final List<PurchaseStrategy> strategies;
+  private final int[][] matches;
+  private final int maxRounds;
+  private final ForkJoinPool pool;
+
+  /**
+   * Creates a tournament on the common fork/join pool with the default round limit.
+   *
+   * @param boards the boards every match is played on
+   * @param strategies the strategies that play against each other
+   * @throws IllegalArgumentException if a list is null or contains null, there are no boards, there
+   *     are fewer than two strategies, or a board has no start tile
+   */
+  public MonopolyTournament(List<Board> boards, List<PurchaseStrategy> strategies) {
+    this(boards, strategies, DEFAULT_MAX_ROUNDS, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Creates a tournament.
+   *
+   * @param boards the boards every match is played on
+   * @param strategies the strategies that play against each other
+   * @param maxRounds the number of rounds after which a game is stopped without a winner
+   * @param pool the pool the games are played on
+   * @throws IllegalArgumentException if any argument is invalid, or a board has no start tile
+   */
+  public MonopolyTournament(List<Board> boards, List<PurchaseStrategy> strategies, int maxRounds,
+      ForkJoinPool pool) {
+    if (boards == null || boards.isEmpty()) {
+      throw new IllegalArgumentException("Boards cannot be null or empty.");
+    }
+    if (strategies == null || strategies.size() < 2) {
+      throw new IllegalArgumentException("At least two strategies are required.");
+    }
+    for (PurchaseStrategy strategy : strategies) {
+      if (strategy == null) {
+        throw new IllegalArgumentException("Strategies cannot contain null.");
+      }
+    }
+    if (maxRounds <= 0) {
+      throw new IllegalArgumentException("Max rounds must be positive.");
+    }
+    if (pool == null) {
+      throw new IllegalArgumentException("ForkJoinPool cannot be null.");
+    }
+
+    List<MonopolyBoardTable> tables = new ArrayList<>();
+    for (Board board : boards) {
+      if (board == null) {
+        throw new IllegalArgumentException("Boards cannot contain null.");
+      }
+      tables.add(new MonopolyBoardTable(board));
+    }
+
+    List<int[]> pairings = new ArrayList<>();
+    for (int board = 0; board < tables.size(); board++) {
+      for (int first = 0; first < strategies.size(); first++) {
+        for (int second = first + 1; second < strategies.size(); second++) {
+          pairings.add(new int[]{board, first, second});
+        }
+      }
+    }
+
+    this.boards = List.copyOf(tables);
+    this.strategies = List.copyOf(strategies);
+    this.matches = pairings.toArray(new int[0][]);
+    this.maxRounds = maxRounds;
+    this.pool = pool;
+  }
+
+  /**
+   * Creates a tournament on every predefined board of the {@link MonopolyBoardFactory}.
+   *
+   * @param strategies the strategies that play against each other
+   * @return the tournament
+   * @throws IllegalArgumentException if strategies is null, contains null or has fewer than two
+   *     strategies
+   */
+  public static MonopolyTournament onPredefinedBoards(List<PurchaseStrategy> strategies) {
+    List<Board> boards = MonopolyBoardFactory.getAvailableBoards().stream()
+        .map(MonopolyBoardFactory::createBoard)
+        .toList();
+    return new MonopolyTournament(boards, strategies);
+  }
+
+  /**
+   * Gets the number of matches, which is the number of strategy pairs times the number of boards.
+   *
+   * @return the number of matches
+   */
+  public int getMatchCount() {
+    return matches.length;
+  }
+
+  /**
+   * Plays the tournament with an unseeded random generator.
+   *
+   * @param gamesPerMatch the number of games each pair of strategies plays on each board
+   * @return the tournament result
+   * @throws IllegalArgumentException if gamesPerMatch is not positive
+   */
+  public TournamentResult run(int gamesPerMatch) {
+    return run(gamesPerMatch, new SplittableRandom());
+  }
+
+  /**
+   * Plays the tournament.
+   *
+   * <p>The games are split into tasks by index range, and every task gets its own generator split
+   * off the seeded one. The same seed therefore gives the same result no matter how many threads
+   * the pool has, as long as the strategies are deterministic.
+   *
+   * @param gamesPerMatch the number of games each pair of strategies plays on each board
+   * @param seed the seed for the dice
+   * @return the tournament result
+   * @throws IllegalArgumentException if gamesPerMatch is not positive
+   */
+  public TournamentResult run(int gamesPerMatch, long seed) {
+    return run(gamesPerMatch, new SplittableRandom(seed));
+  }
+
+  private TournamentResult run(int gamesPerMatch, SplittableRandom random) {
+    if (gamesPerMatch <= 0) {
+      throw new IllegalArgumentException("Number of games per match must be positive.");
+    }
+
+    long totalGames = (long) gamesPerMatch * matches.length;
+    Tally tally = pool.invoke(new TournamentTask(0, totalGames, gamesPerMatch, random));
+
+    List<String> names = strategies.stream().map(PurchaseStrategy::getName).toList();
+    long[] gamesByStrategy = new long[strategies.size()];
+    long[] winsByStrategy = new long[strategies.size()];
+    List<MatchResult> results = new ArrayList<>();
+    for (int match = 0; match < matches.length; match++) {
+      int first = matches[match][1];
+      int second = matches[match][2];
+      gamesByStrategy[first] += gamesPerMatch;
+      gamesByStrategy[second] += gamesPerMatch;
+      winsByStrategy[first] += tally.firstWins[match];
+      winsByStrategy[second] += tally.secondWins[match];
+
+      long[] histogram =
+          tally.gameLengths[match] != null ? tally.gameLengths[match] : new long[0];
+      long finished = tally.firstWins[match] + tally.secondWins[match];
+      results.add(new MatchResult(boards.get(matches[match][0]).getName(), names.get(first),
+          names.get(second), gamesPerMatch, tally.firstWins[match], tally.secondWins[match],
+          new GameLengthDistribution(histogram, gamesPerMatch - finished)));
+    }
+
+    return new TournamentResult(names, results, gamesByStrategy, winsByStrategy);
+  }
+
+  /**
+   * Plays a single game and records it in the tally.
+   *
+   * @param tally the tally to record the game in
+   * @param match the index of the match the game belongs to
+   * @param swapped whether the second strategy of the match moves first
+   * @param random the random source for the dice
+   * @param states scratch state for each board
+   * @param seatStrategies scratch array for the strategy of each seat
+   */
+  private void playGame(Tally tally, int match, boolean swapped, SplittableRandom random,
+      MonopolyState[] states, PurchaseStrategy[] seatStrategies) {
+    MonopolyState state = states[matches[match][0]];
+    seatStrategies[0] = strategies.get(matches[match][swapped ? 2 : 1]);
+    seatStrategies[1] = strategies.get(matches[match][swapped ? 1 : 2]);
+    state.reset();
+
+    while (state.getRound() <= maxRounds) {
+      int round = state.getRound();
+      if (state.playTurn(random, seatStrategies)) {
+        if (swapped == (state.getWinner() == 0)) {
+          tally.secondWins[match]++;
+        } else {
+          tally.firstWins[match]++;
+        }
+        tally.histogram(match)[round]++;
+        return;
+      }
+    }
+  }
+
+  /** Mutable per-task accumulator that is merged up the fork/join tree. */
+  private final class Tally {
+
+    private final long[][] gameLengths = new long[matches.length][];
+    private final long[] firstWins = new long[matches.length];
+    private final long[] secondWins = new long[matches.length];
+
+    private long[] histogram(int match) {
+      if (gameLengths[match] == null) {
+        gameLengths[match] = new long[maxRounds + 1];
+      }
+      return gameLengths[match];
+    }
+
+    private Tally merge(Tally other) {
+      for (int match = 0; match < matches.length; match++) {
+        firstWins[match] += other.firstWins[match];
+        secondWins[match] += other.secondWins[match];
+        if (other.gameLengths[match] != null) {
+          long[] histogram = histogram(match);
+          for (int i = 0; i < histogram.length; i++) {
+            histogram[i] += other.gameLengths[match][i];
+          }
+        }
+      }
+      return this;
+    }
+  }
+
+  /** Plays the games in a range, splitting it in half until it is small enough. */
+  private final class TournamentTask extends RecursiveTask<Tally> {
+
+    private final long from;
+    private final long to;
+    private final int gamesPerMatch;
+    private final SplittableRandom random;
+
+    private TournamentTask(long from, long to, int gamesPerMatch, SplittableRandom random) {
+      this.from = from;
+      this.to = to;
+      this.gamesPerMatch = gamesPerMatch;
+      this.random = random;
+    }
+
+    @Override
+    protected Tally compute() {
+      if (to - from <= GAMES_PER_TASK) {
+        Tally tally = new Tally();
+        MonopolyState[] states = new MonopolyState[boards.size()];
+        for (int board = 0; board < states.length; board++) {
+          states[board] = new MonopolyState(boards.get(board), SEATS);
+        }
+        PurchaseStrategy[] seatStrategies = new PurchaseStrategy[SEATS];
+        for (long game = from; game < to; game++) {
+          int match = (int) (game / gamesPerMatch);
+          boolean swapped = (game % gamesPerMatch) % 2 == 1;
+          playGame(tally, match, swapped, random, states, seatStrategies);
+        }
+        return tally;
+      }
+
+      long middle = (from + to) >>> 1;
+      TournamentTask left = new TournamentTask(from, middle, gamesPerMatch, random.split());
+      TournamentTask right = new TournamentTask(middle, to, gamesPerMatch, random);
+      left.fork();
+      Tally rightTally = right.compute();
+      return left.join().merge(rightTally);
+    }
+  }
+}
@@ -0,0 +1,292 @@
+package edu.ntnu.stud.boardgame.simulation;
+
+import edu.ntnu.stud.boardgame.model.Player;
+import edu.ntnu.stud.boardgame.model.Tile;
+import edu.ntnu.stud.boardgame.model.game.MonopolyGame;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Computer opponent that decides whether to buy a Monopoly property by playing random rollouts.
+ *
+ * <p>For every decision the bot takes a {@link MonopolyState} snapshot, and plays the rest of the
+ * game from it many times, once after buying and once after passing with the same dice, so the
+ * difference between the two choices is not drowned in the noise of the dice. In the rollouts
+ * every player buys according to the rollout policy. A rollout ends when the game is over or the
+ * horizon is reached, and the choice with the better average score is taken.
+ *
+ * <p>The rollouts are split across the work-stealing {@link ForkJoinPool}, one task per worker, and
+ * every task keeps playing rollouts on its own copy of the state until the time budget of the
+ * decision is spent.
+ *
+ * @see PurchaseDecision
+ */
+public class MonteCarloBot {
+
+  /** Default time budget of a decision. */
+  public static final Duration DEFAULT_BUDGET = Duration.ofMillis(50);
+
+  private static final int DEFAULT_HORIZON_ROUNDS = 100;
+  private static final int DEFAULT_ROLLOUT_RESERVE = 200;
+
+  private final ForkJoinPool pool;
+  private final long budgetNanos;
+  private final PurchaseStrategy rolloutPolicy;
+  private final int horizonRounds;
+
+  /**
+   * Creates a bot on the common fork/join pool with the default time budget, a rollout policy that
+   * keeps $200 in reserve, and a horizon of 100 rounds.
+   */
+  public MonteCarloBot() {
+    this(
+        ForkJoinPool.commonPool(),
+        DEFAULT_BUDGET,
+        PurchaseStrategies.cashThreshold(DEFAULT_ROLLOUT_RESERVE),
+        DEFAULT_HORIZON_ROUNDS);
+  }
+
+  /**
+   * Creates a bot.
+   *
+   * @param pool the pool the rollouts are played on
+   * @param budget the time spent on each decision
+   * @param rolloutPolicy the purchase strategy of every player in the rollouts
+   * @param horizonRounds the number of rounds after which a rollout is stopped and scored by net
+   *     worth
+   * @throws IllegalArgumentException if any argument is null, or budget or horizonRounds is not
+   *     positive
+   */
+  public MonteCarloBot(ForkJoinPool pool, Duration budget, PurchaseStrategy rolloutPolicy,
+      int horizonRounds) {
+    if (pool == null) {
+      throw new IllegalArgumentException("ForkJoinPool cannot be null.");
+    }
+    if (budget == null || budget.isNegative() || budget.isZero()) {
+      throw new IllegalArgumentException("Budget must be positive.");
+    }
+    if (rolloutPolicy == null) {
+      throw new IllegalArgumentException("Rollout policy cannot be null.");
+    }
+    if (horizonRounds <= 0) {
+      throw new IllegalArgumentException("Horizon rounds must be positive.");
+    }
+
+    this.pool = pool;
+    this.budgetNanos = budget.toNanos();
+    this.rolloutPolicy = rolloutPolicy;
+    this.horizonRounds = horizonRounds;
+  }
+
+  /**
+   * Decides whether a player should buy the property on the tile they are standing on.
+   *
+   * @param game the running game
+   * @param player the player that is offered the property
+   * @param tile the property tile
+   * @return true if the player should buy, false if they should pass or cannot buy the property
+   * @throws IllegalArgumentException if game is null or cannot be snapshotted
+   */
+  public boolean shouldBuy(MonopolyGame game, Player player, Tile tile) {
+    return prepareDecision(game, player, tile).getAsBoolean();
+  }
+
+  /**
+   * Takes the snapshot for a purchase decision now, and plays the rollouts when the returned
+   * supplier is called.
+   *
+   * <p>The snapshot is the only part that reads the game, so the supplier can be called on another
+   * thread while the game is left alone on the thread that owns it.
+   *
+   * @param game the running game
+   * @param player the player that is offered the property
+   * @param tile the property tile
+   * @return a supplier of the decision, true if the player should buy, false if they should pass or
+   *     cannot buy the property
+   * @throws IllegalArgumentException if game is null or cannot be snapshotted
+   */
+  public BooleanSupplier prepareDecision(MonopolyGame game, Player player, Tile tile) {
+    MonopolyState state = MonopolyState.of(game);
+    if (player == null || tile == null) {
+      return () -> false;
+    }
+
+    int seat = MonopolyState.seatOf(game.getPlayers(), player);
+    int tileId = tile.getTileId();
+    if (seat < 0 || !state.canBuy(seat, tileId)) {
+      return () -> false;
+    }
+    return () -> decide(state, seat, tileId).shouldBuy();
+  }
+
+  /**
+   * Decides whether a seat should buy a property, with an unseeded random generator.
+   *
+   * @param state the state of the game after the seat moved onto the property
+   * @param seat the seat that is offered the property
+   * @param tileId the tile ID of the property
+   * @return the decision
+   * @throws IllegalArgumentException if state is null, seat is invalid or the seat cannot buy the
+   *     property
+   */
+  public PurchaseDecision decide(MonopolyState state, int seat, int tileId) {
+    return decide(state, seat, tileId, new SplittableRandom());
+  }
+
+  /**
+   * Decides whether a seat should buy a property.
+   *
+   * <p>Every task gets its own generator split off the seeded one. The number of rollouts depends
+   * on how many fit in the time budget, so the same seed only gives the same scores when the
+   * rollouts run on the same number of workers at the same speed.
+   *
+   * @param state the state of the game after the seat moved onto the property
+   * @param seat the seat that is offered the property
+   * @param tileId the tile ID of the property
+   * @param seed the seed for the dice of the rollouts
+   * @return the decision
+   * @throws IllegalArgumentException if state is null, seat is invalid or the seat cannot buy the
+   *     property
+   */
+  public PurchaseDecision decide(MonopolyState state, int seat, int tileId, long seed) {
+    return decide(state, seat, tileId, new SplittableRandom(seed));
+  }
+
+  private PurchaseDecision decide(MonopolyState state, int seat, int tileId,
+      SplittableRandom random) {
+    if (state == null) {
+      throw new IllegalArgumentException("State cannot be null.");
+    }
+    if (seat < 0 || seat >= state.getSeatCount()) {
+      throw new IllegalArgumentException("Seat out of bounds: " + seat);
+    }
+    if (!state.canBuy(seat, tileId)) {
+      throw new IllegalArgumentException(
+          "Seat " + seat + " cannot buy the property on tile " + tileId + ".");
+    }
+
+    MonopolyState root = state.copy();
+    long deadline = System.nanoTime() + budgetNanos;
+    int tasks = Math.max(1, pool.getParallelism());
+    Scores scores = pool.invoke(new RolloutTask(root, seat, tileId, deadline, tasks, random));
+    return new PurchaseDecision(scores.buy / scores.rollouts, scores.pass / scores.rollouts,
+        scores.rollouts);
+  }
+
+  /**
+   * Plays the rest of the game from the current state of a scratch copy.
+   *
+   * @param state the scratch state, which is played to the end
+   * @param random the random source for the dice
+   * @param policies the purchase strategy of every seat
+   * @param seat the seat to score
+   * @return the score of the seat
+   */
+  private double rollout(MonopolyState state, SplittableRandom random,
+      PurchaseStrategy[] policies, int seat) {
+    int lastRound = state.getRound() + horizonRounds;
+    while (state.getRound() <= lastRound) {
+      if (state.playTurn(random, policies)) {
+        break;
+      }
+    }
+    return score(state, seat);
+  }
+
+  /**
+   * Scores the outcome of a rollout for a seat.
+   *
+   * @param state the state at the end of the rollout
+   * @param seat the seat
+   * @return 1 if the seat won, 0 if it is bankrupt, and otherwise its share of the total net worth
+   */
+  private static double score(MonopolyState state, int seat) {
+    if (state.isBankrupt(seat)) {
+      return 0.0;
+    }
+    if (state.isGameOver()) {
+      return 1.0;
+    }
+
+    long total = 0;
+    for (int other = 0; other < state.getSeatCount(); other++) {
+      total += state.getNetWorth(other);
+    }
+    return total > 0 ? (double) state.getNetWorth(seat) / total : 0.0;
+  }
+
+  /** Summed scores of a number of rollout pairs. */
+  private static final class Scores {
+
+    private double buy;
+    private double pass;
+    private long rollouts;
+
+    private Scores merge(Scores other) {
+      buy += other.buy;
+      pass += other.pass;
+      rollouts += other.rollouts;
+      return this;
+    }
+  }
+
+  /** Splits itself into one leaf per worker, each playing rollout pairs until the deadline. */
+  private final class RolloutTask extends RecursiveTask<Scores> {
+
+    private final MonopolyState root;
+    private final int seat;
+    private final int tileId;
+    private final long deadline;
+    private final int leaves;
+    private final SplittableRandom random;
+
+    private RolloutTask(MonopolyState root, int seat, int tileId, long deadline, int leaves,
+        SplittableRandom random) {
+      this.root = root;
+      this.seat = seat;
+      this.tileId = tileId;
+      this.deadline = deadline;
+      this.leaves = leaves;
+      this.random = random;
+    }
+
+    @Override
+    protected Scores compute() {
+      if (leaves <= 1) {
+        return playUntilDeadline();
+      }
+
+      int half = leaves / 2;
+      RolloutTask left = new RolloutTask(root, seat, tileId, deadline, half, random.split());
+      RolloutTask right =
+          new RolloutTask(root, seat, tileId, deadline, leaves - half, random);
+      left.fork();
+      Scores rightScores = right.compute();
+      return left.join().merge(rightScores);
+    }
+
+    private Scores playUntilDeadline() {
+      PurchaseStrategy[] policies = new PurchaseStrategy[root.getSeatCount()];
+      Arrays.fill(policies, rolloutPolicy);
+      MonopolyState scratch = root.copy();
+      Scores scores = new Scores();
+      do {
+        long rolloutSeed = random.nextLong();
+
+        scratch.copyFrom(root);
+        scratch.buy(seat, tileId);
+        scores.buy += rollout(scratch, new SplittableRandom(rolloutSeed), policies, seat);
+
+        scratch.copyFrom(root);
+        scores.pass += rollout(scratch, new SplittableRandom(rolloutSeed), policies, seat);
+
+        scores.rollouts++;
+      } while (System.nanoTime() - deadline < 0);
+      return scores;
+    }
+  }
+}
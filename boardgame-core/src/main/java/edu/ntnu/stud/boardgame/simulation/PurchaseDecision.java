@@ -0,0 +1,60 @@
+package edu.ntnu.stud.boardgame.simulation;
+
+/**
+ * Outcome of a {@link MonteCarloBot} deciding whether to buy a property.
+ *
+ * <p>The scores are the average outcome of the rollouts played after buying and after passing,
+ * where a won game counts as 1, a lost game as 0 and a game that is still going at the horizon as
+ * the share of the total net worth the deciding player holds.
+ */
+public final class PurchaseDecision {
+
+  private final double buyScore;
+  private final double passScore;
+  private final long rollouts;
+
+  /**
+   * Creates a purchase decision.
+   *
+   * @param buyScore the average score of the rollouts after buying
+   * @param passScore the average score of the rollouts after passing
+   * @param rollouts the number of rollouts played for each choice
+   */
+  PurchaseDecision(double buyScore, double passScore, long rollouts) {
+    this.buyScore = buyScore;
+    this.passScore = passScore;
+    this.rollouts = rollouts;
+  }
+
+  /**
+   * Checks whether the bot should buy the property.
+   *
+   * @return true if buying scored better than passing
+   */
+  public boolean shouldBuy() {
+    return buyScore > passScore;
+  }
+
+  public double getBuyScore() {
+    return buyScore;
+  }
+
+  public double getPassScore() {
+    return passScore;
+  }
+
+  /**
+   * Gets the number of rollouts played for each choice.
+   *
+   * @return the number of rollouts, which is the same for buying and passing
+   */
+  public long getRollouts() {
+    return rollouts;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s (buy %.3f, pass %.3f, %d rollouts)", shouldBuy() ? "Buy" : "Pass",
+        buyScore, passScore, rollouts);
+  }
+}
@@ -0,0 +1,78 @@
+package edu.ntnu.stud.boardgame.simulation;
+
+/**
+ * The situation a {@link PurchaseStrategy} decides on: an unowned property a player has landed on
+ * and can afford.
+ */
+public final class PurchaseOffer {
+
+  private final int price;
+  private final int rent;
+  private final int balance;
+  private final int ownedProperties;
+  private final int opponentCount;
+  private final int tileCount;
+  private final int round;
+
+  /**
+   * Creates a purchase offer.
+   *
+   * @param price the price of the property
+   * @param rent the rent other players pay when landing on the property
+   * @param balance the balance of the player before buying
+   * @param ownedProperties the number of properties the player already owns
+   * @param opponentCount the number of opponents that are not bankrupt
+   * @param tileCount the number of tiles on the board
+   * @param round the current round, starting at 1
+   */
+  public PurchaseOffer(int price, int rent, int balance, int ownedProperties, int opponentCount,
+      int tileCount, int round) {
+    this.price = price;
+    this.rent = rent;
+    this.balance = balance;
+    this.ownedProperties = ownedProperties;
+    this.opponentCount = opponentCount;
+    this.tileCount = tileCount;
+    this.round = round;
+  }
+
+  public int getPrice() {
+    return price;
+  }
+
+  public int getRent() {
+    return rent;
+  }
+
+  public int getBalance() {
+    return balance;
+  }
+
+  public int getOwnedProperties() {
+    return ownedProperties;
+  }
+
+  public int getOpponentCount() {
+    return opponentCount;
+  }
+
+  public int getTileCount() {
+    return tileCount;
+  }
+
+  public int getRound() {
+    return round;
+  }
+
+  /**
+   * Estimates the rent the property earns per round.
+   *
+   * <p>On a circular board every tile is landed on equally often in the long run, so each opponent
+   * lands on the property about once every {@code tileCount} turns.
+   *
+   * @return the expected rent per round, or 0 if the board has no tiles
+   */
+  public double getExpectedRentPerRound() {
+    return tileCount == 0 ? 0 : (double) rent * opponentCount / tileCount;
+  }
+}
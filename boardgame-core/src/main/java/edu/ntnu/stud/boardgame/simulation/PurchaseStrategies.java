@@ -0,0 +1,121 @@
+package edu.ntnu.stud.boardgame.simulation;
+
+/**
+ * Factory for the built-in {@link PurchaseStrategy} implementations.
+ */
+public final class PurchaseStrategies {
+
+  private PurchaseStrategies() {}
+
+  /**
+   * Creates a strategy that buys every property it can afford.
+   *
+   * @return the strategy
+   */
+  public static PurchaseStrategy alwaysBuy() {
+    return new AlwaysBuy();
+  }
+
+  /**
+   * Creates a strategy that never buys.
+   *
+   * @return the strategy
+   */
+  public static PurchaseStrategy neverBuy() {
+    return new NeverBuy();
+  }
+
+  /**
+   * Creates a strategy that buys only when it keeps a cash reserve afterwards.
+   *
+   * @param reserve the balance that must remain after buying
+   * @return the strategy
+   * @throws IllegalArgumentException if reserve is negative
+   */
+  public static PurchaseStrategy cashThreshold(int reserve) {
+    if (reserve < 0) {
+      throw new IllegalArgumentException("Reserve cannot be negative.");
+    }
+    return new CashThreshold(reserve);
+  }
+
+  /**
+   * Creates a strategy that buys when the expected rent pays the price back within a number of
+   * rounds.
+   *
+   * @param maxPaybackRounds the largest number of rounds the property may take to pay for itself
+   * @return the strategy
+   * @throws IllegalArgumentException if maxPaybackRounds is not positive
+   * @see PurchaseOffer#getExpectedRentPerRound()
+   */
+  public static PurchaseStrategy returnOnInvestment(double maxPaybackRounds) {
+    if (!(maxPaybackRounds > 0)) {
+      throw new IllegalArgumentException("Payback rounds must be positive.");
+    }
+    return new ReturnOnInvestment(maxPaybackRounds);
+  }
+
+  private static final class AlwaysBuy implements PurchaseStrategy {
+
+    @Override
+    public String getName() {
+      return "Always buy";
+    }
+
+    @Override
+    public boolean shouldBuy(PurchaseOffer offer) {
+      return true;
+    }
+  }
+
+  private static final class NeverBuy implements PurchaseStrategy {
+
+    @Override
+    public String getName() {
+      return "Never buy";
+    }
+
+    @Override
+    public boolean shouldBuy(PurchaseOffer offer) {
+      return false;
+    }
+  }
+
+  private static final class CashThreshold implements PurchaseStrategy {
+
+    private final int reserve;
+
+    private CashThreshold(int reserve) {
+      this.reserve = reserve;
+    }
+
+    @Override
+    public String getName() {
+      return "Keep $" + reserve;
+    }
+
+    @Override
+    public boolean shouldBuy(PurchaseOffer offer) {
+      return offer.getBalance() - offer.getPrice() >= reserve;
+    }
+  }
+
+  private static final class ReturnOnInvestment implements PurchaseStrategy {
+
+    private final double maxPaybackRounds;
+
+    private ReturnOnInvestment(double maxPaybackRounds) {
+      this.maxPaybackRounds = maxPaybackRounds;
+    }
+
+    @Override
+    public String getName() {
+      return "Payback within " + maxPaybackRounds + " rounds";
+    }
+
+    @Override
+    public boolean shouldBuy(PurchaseOffer offer) {
+      return offer.getPrice() <= offer.getExpectedRentPerRound() * maxPaybackRounds;
+    }
+  }
+}
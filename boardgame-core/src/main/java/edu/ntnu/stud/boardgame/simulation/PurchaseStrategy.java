@@ -0,0 +1,28 @@
+package edu.ntnu.stud.boardgame.simulation;
+
+/**
+ * Decides whether a simulated Monopoly player buys the property they landed on.
+ *
+ * <p>A strategy is asked once for every unowned property a player lands on and can afford. The
+ * {@link MonopolyTournament} calls strategies from several threads at once, so implementations must
+ * be stateless or thread-safe.
+ *
+ * @see PurchaseStrategies
+ */
+public interface PurchaseStrategy {
+
+  /**
+   * Gets the name the strategy is reported under.
+   *
+   * @return the name of the strategy
+   */
+  String getName();
+
+  /**
+   * Decides whether to buy a property.
+   *
+   * @param offer the property and the situation of the player
+   * @return true to buy the property
+   */
+  boolean shouldBuy(PurchaseOffer offer);
+}
@@ -0,0 +1,268 @@
+package edu.ntnu.stud.boardgame.simulation;
+
+import edu.ntnu.stud.boardgame.exception.InvalidGameStateException;
+import edu.ntnu.stud.boardgame.model.Board;
+import edu.ntnu.stud.boardgame.model.CompiledBoard;
+import edu.ntnu.stud.boardgame.model.CompiledBoard.ActionKind;
+import edu.ntnu.stud.boardgame.model.Die;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Headless engine that plays large batches of Snakes and Ladders games in parallel.
+ *
+ * <p>The engine follows the same rules as {@link edu.ntnu.stud.boardgame.model.game.LadderGame}:
+ * players roll the dice in seat order, bounce back when overshooting the end tile, follow ladders
+ * and snakes, and miss their next turn after landing on a skip turn tile. It keeps the per-game
+ * state in primitive arrays and does not create players, events or log records, so a batch of
+ * millions of games can be split across all cores with fork/join.
+ *
+ * <p>The board is compiled into a {@link CompiledBoard} when the engine is created, so later changes
+ * to the board do not affect the engine.
+ *
+ * @see SimulationResult
+ */
+public class SimulationEngine {
+
+  private static final int DEFAULT_NUMBER_OF_DICE = 2;
+  private static final int MAX_ROUNDS = 10_000;
+  private static final int GAMES_PER_TASK = 4_096;
+
+  private final CompiledBoard compiledBoard;
+  private final int playerCount;
+  private final int numberOfDice;
+  private final ForkJoinPool pool;
+
+  /**
+   * Creates a new engine that plays with two dice on the common fork/join pool.
+   *
+   * @param board the board to play on
+   * @param playerCount the number of players in each game
+   * @throws IllegalArgumentException if board is null, playerCount is not positive, or the board
+   *     has no start or end tile
+   * @throws InvalidGameStateException if ladders and snakes on the board form a cycle
+   */
+  public SimulationEngine(Board board, int playerCount) {
+    this(board, playerCount, DEFAULT_NUMBER_OF_DICE, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Creates a new engine.
+   *
+   * @param board the board to play on
+   * @param playerCount the number of players in each game
+   * @param numberOfDice the number of dice rolled each turn
+   * @param pool the pool the games are played on
+   * @throws IllegalArgumentException if any argument is invalid, or the board has no start or end
+   *     tile
+   * @throws InvalidGameStateException if ladders and snakes on the board form a cycle
+   */
+  public SimulationEngine(Board board, int playerCount, int numberOfDice, ForkJoinPool pool) {
+    if (board == null) {
+      throw new IllegalArgumentException("Board cannot be null.");
+    }
+    if (playerCount <= 0) {
+      throw new IllegalArgumentException("Player count must be positive.");
+    }
+    if (numberOfDice <= 0) {
+      throw new IllegalArgumentException("Number of dice must be positive.");
+    }
+    if (pool == null) {
+      throw new IllegalArgumentException("ForkJoinPool cannot be null.");
+    }
+    if (board.getTile(board.getStartTileId()) == null) {
+      throw new IllegalArgumentException(
+          "Start tile (ID: " + board.getStartTileId() + ") not found on the board.");
+    }
+    if (board.getTile(board.getEndTileId()) == null) {
+      throw new IllegalArgumentException(
+          "End tile (ID: " + board.getEndTileId() + ") not found on the board.");
+    }
+
+    this.compiledBoard = new CompiledBoard(board, numberOfDice * Die.SIDES);
+    this.playerCount = playerCount;
+    this.numberOfDice = numberOfDice;
+    this.pool = pool;
+  }
+
+  /**
+   * Plays a batch of games with an unseeded random generator and aggregates the results.
+   *
+   * @param games the number of games to play
+   * @return the aggregated result
+   * @throws IllegalArgumentException if games is not positive
+   * @throws InvalidGameStateException if the board bounces a player to a tile that does not exist
+   */
+  public SimulationResult run(int games) {
+    return run(games, new SplittableRandom());
+  }
+
+  /**
+   * Plays a batch of games and aggregates the results.
+   *
+   * <p>The games are split into tasks by index range, and every task gets its own generator split
+   * off the seeded one. The same seed and number of games therefore give the same result no matter
+   * how many threads the pool has or how the tasks are scheduled.
+   *
+   * @param games the number of games to play
+   * @param seed the seed for the dice
+   * @return the aggregated result
+   * @throws IllegalArgumentException if games is not positive
+   * @throws InvalidGameStateException if the board bounces a player to a tile that does not exist
+   */
+  public SimulationResult run(int games, long seed) {
+    return run(games, new SplittableRandom(seed));
+  }
+
+  private SimulationResult run(int games, SplittableRandom random) {
+    if (games <= 0) {
+      throw new IllegalArgumentException("Number of games must be positive.");
+    }
+
+    Tally tally = pool.invoke(new SimulationTask(0, games, random));
+
+    return new SimulationResult(
+        games, tally.gameLengths, tally.winsBySeat, tally.ladderHits, tally.snakeHits);
+  }
+
+  /**
+   * Plays a single game and records it in the tally.
+   *
+   * @param tally the tally to record the game in
+   * @param random the random source for the dice
+   * @param positions scratch array holding the tile ID of each seat
+   * @param skipNextTurn scratch array holding the skip flag of each seat
+   */
+  private void playGame(
+      Tally tally, SplittableRandom random, int[] positions, boolean[] skipNextTurn) {
+    int startTileId = compiledBoard.getStartTileId();
+    int endTileId = compiledBoard.getEndTileId();
+
+    for (int seat = 0; seat < playerCount; seat++) {
+      positions[seat] = startTileId;
+      skipNextTurn[seat] = false;
+    }
+
+    for (int round = 1; round <= MAX_ROUNDS; round++) {
+      for (int seat = 0; seat < playerCount; seat++) {
+        if (skipNextTurn[seat]) {
+          skipNextTurn[seat] = false;
+          continue;
+        }
+
+        int steps = roll(random);
+        int targetTileId = positions[seat] + steps;
+
+        int landingTileId;
+        if (targetTileId > endTileId) {
+          landingTileId = endTileId - (targetTileId - endTileId);
+          if (!compiledBoard.contains(landingTileId)) {
+            throw new InvalidGameStateException(
+                "Bounced to a non-existent tile ID: " + landingTileId + ". Board may be invalid.");
+          }
+        } else {
+          landingTileId = compiledBoard.advance(positions[seat], steps);
+        }
+
+        landingTileId = land(tally, landingTileId, seat, skipNextTurn);
+        positions[seat] = landingTileId;
+
+        if (landingTileId == endTileId) {
+          tally.gameLengths[round]++;
+          tally.winsBySeat[seat]++;
+          return;
+        }
+      }
+    }
+  }
+
+  private int roll(SplittableRandom random) {
+    int total = 0;
+    for (int i = 0; i < numberOfDice; i++) {
+      total += random.nextInt(1, Die.SIDES + 1);
+    }
+    return total;
+  }
+
+  /**
+   * Applies the land action of a tile, following chained ladders and snakes the same way {@link
+   * edu.ntnu.stud.boardgame.model.Player#placeOnTile(edu.ntnu.stud.boardgame.model.Tile)} does.
+   *
+   * @param tally the tally to count ladder and snake hits in
+   * @param tileId the ID of the tile the player landed on
+   * @param seat the seat of the player
+   * @param skipNextTurn the skip flags of all seats
+   * @return the ID of the tile the player ends up on
+   */
+  private int land(Tally tally, int tileId, int seat, boolean[] skipNextTurn) {
+    for (int jump = compiledBoard.getJumpCount(tileId); jump > 0; jump--) {
+      if (compiledBoard.getActionKind(tileId) == ActionKind.LADDER) {
+        tally.ladderHits++;
+      } else {
+        tally.snakeHits++;
+      }
+      tileId = compiledBoard.getDestinationTileId(tileId);
+    }
+
+    if (compiledBoard.getActionKind(tileId) == ActionKind.SKIP_TURN) {
+      skipNextTurn[seat] = true;
+    }
+    return tileId;
+  }
+
+  /** Mutable per-task accumulator that is merged up the fork/join tree. */
+  private final class Tally {
+
+    private final long[] gameLengths = new long[MAX_ROUNDS + 1];
+    private final long[] winsBySeat = new long[playerCount];
+    private long ladderHits;
+    private long snakeHits;
+
+    private Tally merge(Tally other) {
+      for (int i = 0; i < gameLengths.length; i++) {
+        gameLengths[i] += other.gameLengths[i];
+      }
+      for (int i = 0; i < winsBySeat.length; i++) {
+        winsBySeat[i] += other.winsBySeat[i];
+      }
+      ladderHits += other.ladderHits;
+      snakeHits += other.snakeHits;
+      return this;
+    }
+  }
+
+  /** Plays the games in a range, splitting it in half until it is small enough. */
+  private final class SimulationTask extends RecursiveTask<Tally> {
+
+    private final int from;
+    private final int to;
+    private final SplittableRandom random;
+
+    private SimulationTask(int from, int to, SplittableRandom random) {
+      this.from = from;
+      this.to = to;
+      this.random = random;
+    }
+
+    @Override
+    protected Tally compute() {
+      if (to - from <= GAMES_PER_TASK) {
+        Tally tally = new Tally();
+        int[] positions = new int[playerCount];
+        boolean[] skipNextTurn = new boolean[playerCount];
+        for (int game = from; game < to; game++) {
+          playGame(tally, random, positions, skipNextTurn);
+        }
+        return tally;
+      }
+
+      int middle = (from + to) >>> 1;
+      SimulationTask left = new SimulationTask(from, middle, random.split());
+      SimulationTask right = new SimulationTask(middle, to, random);
+      left.fork();
+      Tally rightTally = right.compute();
+      return left.join().merge(rightTally);
+    }
+  }
+}
@@ -0,0 +1,144 @@
+package edu.ntnu.stud.boardgame.simulation;
+
+import java.util.Arrays;
+
+/**
+ * Aggregated statistics from a batch of headless Snakes and Ladders playthroughs.
+ *
+ * <p>Game length is measured in rounds, where one round is a full cycle through every seat. Games
+ * that did not finish within the round limit of the engine are counted as unfinished and are not
+ * part of the histogram or the win counts.
+ *
+ * @see SimulationEngine
+ */
+public class SimulationResult {
+
+  private final long gamesPlayed;
+  private final long[] gameLengthHistogram;
+  private final long[] winsBySeat;
+  private final long ladderHits;
+  private final long snakeHits;
+
+  /**
+   * Creates a new simulation result.
+   *
+   * @param gamesPlayed the number of games that were played
+   * @param gameLengthHistogram number of finished games per game length in rounds
+   * @param winsBySeat number of wins per seat
+   * @param ladderHits total number of ladders climbed across all games
+   * @param snakeHits total number of snakes encountered across all games
+   */
+  SimulationResult(
+      long gamesPlayed,
+      long[] gameLengthHistogram,
+      long[] winsBySeat,
+      long ladderHits,
+      long snakeHits) {
+    this.gamesPlayed = gamesPlayed;
+    this.gameLengthHistogram = trimTrailingZeros(gameLengthHistogram);
+    this.winsBySeat = winsBySeat.clone();
+    this.ladderHits = ladderHits;
+    this.snakeHits = snakeHits;
+  }
+
+  private static long[] trimTrailingZeros(long[] histogram) {
+    int length = histogram.length;
+    while (length > 0 && histogram[length - 1] == 0) {
+      length--;
+    }
+    return Arrays.copyOf(histogram, length);
+  }
+
+  public long getGamesPlayed() {
+    return gamesPlayed;
+  }
+
+  /**
+   * Gets the number of games that ended with a winner.
+   *
+   * @return the number of finished games
+   */
+  public long getFinishedGames() {
+    long finished = 0;
+    for (long count : gameLengthHistogram) {
+      finished += count;
+    }
+    return finished;
+  }
+
+  /**
+   * Gets the number of games that hit the round limit without a winner.
+   *
+   * @return the number of unfinished games
+   */
+  public long getUnfinishedGames() {
+    return gamesPlayed - getFinishedGames();
+  }
+
+  /**
+   * Gets the game length histogram.
+   *
+   * @return a copy of the histogram, where index {@code n} holds the number of games that ended in
+   *     round {@code n}
+   */
+  public long[] getGameLengthHistogram() {
+    return gameLengthHistogram.clone();
+  }
+
+  /**
+   * Gets the mean game length of all finished games.
+   *
+   * @return the average number of rounds, or 0 if no game finished
+   */
+  public double getAverageGameLength() {
+    long finished = 0;
+    long totalRounds = 0;
+    for (int rounds = 0; rounds < gameLengthHistogram.length; rounds++) {
+      finished += gameLengthHistogram[rounds];
+      totalRounds += rounds * gameLengthHistogram[rounds];
+    }
+    return finished == 0 ? 0 : (double) totalRounds / finished;
+  }
+
+  /**
+   * Gets the number of players each game was played with.
+   *
+   * @return the player count
+   */
+  public int getPlayerCount() {
+    return winsBySeat.length;
+  }
+
+  /**
+   * Gets the number of games won from a seat.
+   *
+   * @param seat the zero-based seat index, where seat 0 moves first
+   * @return the number of wins
+   * @throws IndexOutOfBoundsException if seat is invalid
+   */
+  public long getWins(int seat) {
+    if (seat < 0 || seat >= winsBySeat.length) {
+      throw new IndexOutOfBoundsException("Seat out of bounds: " + seat);
+    }
+    return winsBySeat[seat];
+  }
+
+  /**
+   * Gets the share of all played games won from a seat.
+   *
+   * @param seat the zero-based seat index, where seat 0 moves first
+   * @return the win rate between 0.0 and 1.0
+   * @throws IndexOutOfBoundsException if seat is invalid
+   */
+  public double getWinRate(int seat) {
+    return gamesPlayed == 0 ? 0 : (double) getWins(seat) / gamesPlayed;
+  }
+
+  public long getLadderHits() {
+    return ladderHits;
+  }
+
+  public long getSnakeHits() {
+    return snakeHits;
+  }
+}
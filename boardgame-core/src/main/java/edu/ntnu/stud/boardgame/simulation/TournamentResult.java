@@ -0,0 +1,138 @@
+package edu.ntnu.stud.boardgame.simulation;
+
+import java.util.List;
+
+/**
+ * Aggregated result of a round-robin {@link MonopolyTournament}.
+ *
+ * <p>Strategies are identified by their index in the list the tournament was created with. Win
+ * rates count games that hit the round limit as not won, so the win rates of the two strategies in
+ * a match do not always add up to one.
+ */
+public final class TournamentResult {
+
+  private final List<String> strategyNames;
+  private final List<MatchResult> matches;
+  private final long[] gamesByStrategy;
+  private final long[] winsByStrategy;
+  private final GameLengthDistribution gameLengths;
+
+  /**
+   * Creates a tournament result.
+   *
+   * @param strategyNames the names of the strategies, in tournament order
+   * @param matches the result of every match
+   * @param gamesByStrategy the number of games each strategy played
+   * @param winsByStrategy the number of games each strategy won
+   */
+  TournamentResult(List<String> strategyNames, List<MatchResult> matches, long[] gamesByStrategy,
+      long[] winsByStrategy) {
+    this.strategyNames = List.copyOf(strategyNames);
+    this.matches = List.copyOf(matches);
+    this.gamesByStrategy = gamesByStrategy.clone();
+    this.winsByStrategy = winsByStrategy.clone();
+    this.gameLengths =
+        GameLengthDistribution.merge(this.matches.stream().map(MatchResult::getGameLengths)
+            .toList());
+  }
+
+  public List<String> getStrategyNames() {
+    return strategyNames;
+  }
+
+  public List<MatchResult> getMatches() {
+    return matches;
+  }
+
+  /**
+   * Gets the total number of games played in the tournament.
+   *
+   * @return the number of games
+   */
+  public long getGamesPlayed() {
+    long games = 0;
+    for (MatchResult match : matches) {
+      games += match.getGamesPlayed();
+    }
+    return games;
+  }
+
+  /**
+   * Gets the number of games a strategy played.
+   *
+   * @param strategy the index of the strategy
+   * @return the number of games
+   * @throws IndexOutOfBoundsException if strategy is invalid
+   */
+  public long getGames(int strategy) {
+    checkStrategy(strategy);
+    return gamesByStrategy[strategy];
+  }
+
+  /**
+   * Gets the number of games a strategy won.
+   *
+   * @param strategy the index of the strategy
+   * @return the number of wins
+   * @throws IndexOutOfBoundsException if strategy is invalid
+   */
+  public long getWins(int strategy) {
+    checkStrategy(strategy);
+    return winsByStrategy[strategy];
+  }
+
+  /**
+   * Gets the share of its games a strategy won, with its 95% confidence interval.
+   *
+   * @param strategy the index of the strategy
+   * @return the win rate
+   * @throws IndexOutOfBoundsException if strategy is invalid
+   */
+  public ConfidenceInterval getWinRate(int strategy) {
+    checkStrategy(strategy);
+    return ConfidenceInterval.forProportion(winsByStrategy[strategy], gamesByStrategy[strategy]);
+  }
+
+  /**
+   * Gets the lengths of all games in the tournament.
+   *
+   * @return the game length distribution over every match
+   */
+  public GameLengthDistribution getGameLengths() {
+    return gameLengths;
+  }
+
+  /**
+   * Formats the win rates and game lengths as a plain text table.
+   *
+   * @return the report
+   */
+  public String formatReport() {
+    StringBuilder report = new StringBuilder();
+    report.append(String.format("%-32s %8s %8s  %s%n", "Strategy", "Games", "Wins",
+        "Win rate [95% CI]"));
+    for (int strategy = 0; strategy < strategyNames.size(); strategy++) {
+      report.append(String.format("%-32s %8d %8d  %s%n", strategyNames.get(strategy),
+          gamesByStrategy[strategy], winsByStrategy[strategy], getWinRate(strategy)));
+    }
+
+    report.append(String.format("%n%-20s %-32s %-32s %10s %10s  %s%n", "Board", "First",
+        "Second", "First win", "Second win", "Rounds [95% CI]"));
+    for (MatchResult match : matches) {
+      report.append(String.format("%-20s %-32s %-32s %10.3f %10.3f  %s%n", match.getBoardName(),
+          match.getFirstStrategy(), match.getSecondStrategy(),
+          match.getFirstWinRate().getEstimate(), match.getSecondWinRate().getEstimate(),
+          match.getGameLengths().getAverageInterval()));
+    }
+
+    report.append(String.format("%nGames: %d, unfinished: %d, median length: %d rounds%n",
+        getGamesPlayed(), gameLengths.getUnfinishedGames(), gameLengths.getPercentile(0.5)));
+    return report.toString();
+  }
+
+  private void checkStrategy(int strategy) {
+    if (strategy < 0 || strategy >= strategyNames.size()) {
+      throw new IndexOutOfBoundsException("Strategy out of bounds: " + strategy);
+    }
+  }
+}
@@ -0,0 +1,59 @@
+package edu.ntnu.stud.boardgame.analysis;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class BoardAnalysisTest {
+
+  private BoardAnalysis analysis;
+
+  @BeforeEach
+  void setUp() {
+    analysis =
+        new BoardAnalysis(
+            new double[] {0, 0.25, 0.5, 0.25}, new double[] {0.5, 1.0, 0.5, 1.0}, 0, 4);
+  }
+
+  @Test
+  void getExpectedTurns_weightsByDistribution() {
+    assertEquals(2.0, analysis.getExpectedTurns(), 1e-12);
+  }
+
+  @Test
+  void getFinishProbability_returnsCumulativeProbability() {
+    assertEquals(0, analysis.getFinishProbability(-1), 1e-12);
+    assertEquals(0.25, analysis.getFinishProbability(1), 1e-12);
+    assertEquals(0.75, analysis.getFinishProbability(2), 1e-12);
+    assertEquals(1.0, analysis.getFinishProbability(100), 1e-12);
+  }
+
+  @Test
+  void getTurnsToFinish_returnsSmallestTurnReachingProbability() {
+    assertEquals(0, analysis.getTurnsToFinish(0));
+    assertEquals(2, analysis.getTurnsToFinish(0.5));
+    assertEquals(3, analysis.getTurnsToFinish(1.0));
+  }
+
+  @Test
+  void getTurnsToFinish_invalidProbability_throwsIllegalArgumentException() {
+    assertThrows(IllegalArgumentException.class, () -> analysis.getTurnsToFinish(1.5));
+  }
+
+  @Test
+  void getVisitProbability_dividesByTotalVisits() {
+    assertEquals(1.0, analysis.getExpectedVisits(1), 1e-12);
+    assertEquals(1.0 / 3, analysis.getVisitProbability(1), 1e-12);
+    assertEquals(0, analysis.getVisitProbability(42), 1e-12);
+  }
+
+  @Test
+  void getFinishProbabilities_returnsCopy() {
+    double[] probabilities = analysis.getFinishProbabilities();
+    probabilities[0] = 1;
+    assertArrayEquals(new double[] {0, 0.25, 0.5, 0.25}, analysis.getFinishProbabilities());
+  }
+}
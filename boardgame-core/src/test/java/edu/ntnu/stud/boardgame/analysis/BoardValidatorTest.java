@@ -0,0 +1,128 @@
+package edu.ntnu.stud.boardgame.analysis;
+
+import static edu.ntnu.stud.boardgame.model.TestBoards.createLinearBoard;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.ntnu.stud.boardgame.analysis.BoardValidationReport.Issue;
+import edu.ntnu.stud.boardgame.analysis.BoardValidationReport.IssueType;
+import edu.ntnu.stud.boardgame.factory.LadderGameBoardFactory;
+import edu.ntnu.stud.boardgame.factory.MonopolyBoardFactory;
+import edu.ntnu.stud.boardgame.model.Board;
+import edu.ntnu.stud.boardgame.model.Tile;
+import edu.ntnu.stud.boardgame.model.action.LadderAction;
+import edu.ntnu.stud.boardgame.model.action.SnakeAction;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class BoardValidatorTest {
+
+  private BoardValidator validator;
+
+  private static List<IssueType> types(List<Issue> issues) {
+    return issues.stream().map(Issue::getType).toList();
+  }
+
+  @BeforeEach
+  void setUp() {
+    validator = BoardValidator.getInstance();
+  }
+
+  @Test
+  void validate_nullBoard_throwsIllegalArgumentException() {
+    assertThrows(IllegalArgumentException.class, () -> validator.validate(null));
+  }
+
+  @Test
+  void validate_predefinedBoards_areValid() {
+    for (String name : LadderGameBoardFactory.getAvailableBoards()) {
+      BoardValidationReport report = validator.validate(LadderGameBoardFactory.createBoard(name));
+      assertEquals(List.of(), report.getIssues(), name);
+    }
+    for (String name : MonopolyBoardFactory.getAvailableBoards()) {
+      BoardValidationReport report = validator.validate(MonopolyBoardFactory.createBoard(name));
+      assertEquals(List.of(), report.getIssues(), name);
+      assertEquals(report.getTileCount(), report.getReachableTileCount(), name);
+    }
+  }
+
+  @Test
+  void validate_brokenNextChain_reportsEndNotReached() {
+    Board board = createLinearBoard(10);
+    board.getTile(4).setNextTile(new Tile(42));
+
+    BoardValidationReport report = validator.validate(board);
+
+    assertFalse(report.isValid());
+    assertEquals(List.of(IssueType.MISSING_NEXT_TILE, IssueType.END_NOT_REACHED),
+        types(report.getErrors()));
+    assertEquals(4, report.getErrors().getFirst().getTileId());
+    assertEquals(5, report.getReachableTileCount());
+    assertEquals(6, report.getWarnings().size());
+    assertTrue(report.getErrorSummary().endsWith("(and 1 more)"));
+  }
+
+  @Test
+  void validate_missingStartTile_reportsError() {
+    Board board = createLinearBoard(5);
+    Board noStart = new Board("No start", "Start tile missing", 1, 6, 9, 5);
+    board.getTiles().values().forEach(noStart::addTile);
+
+    BoardValidationReport report = validator.validate(noStart);
+
+    assertEquals(List.of(IssueType.MISSING_START_TILE), types(report.getErrors()));
+    assertEquals(0, report.getReachableTileCount());
+  }
+
+  @Test
+  void validate_backwardLadderAndForwardSnake_reportsWarnings() {
+    Board board = createLinearBoard(10);
+    board.getTile(6).setLandAction(new LadderAction(board.getTile(2)));
+    board.getTile(3).setLandAction(new SnakeAction(board.getTile(8)));
+
+    BoardValidationReport report = validator.validate(board);
+
+    assertTrue(report.isValid());
+    assertEquals(List.of(IssueType.SNAKE_LEADS_UP, IssueType.LADDER_LEADS_DOWN),
+        types(report.getWarnings()));
+  }
+
+  @Test
+  void validate_jumpCycle_reportsErrorOnce() {
+    Board board = createLinearBoard(10);
+    board.getTile(2).setLandAction(new LadderAction(board.getTile(7)));
+    board.getTile(7).setLandAction(new SnakeAction(board.getTile(2)));
+    board.getTile(1).setLandAction(new LadderAction(board.getTile(2)));
+
+    BoardValidationReport report = validator.validate(board);
+
+    assertFalse(report.isValid());
+    assertEquals(1, report.getErrors().size());
+    assertEquals(IssueType.JUMP_CYCLE, report.getErrors().getFirst().getType());
+  }
+
+  @Test
+  void validate_tileWithoutIncomingLinks_reportsUnreachable() {
+    Board board = createLinearBoard(5);
+    board.addTile(new Tile(8));
+
+    BoardValidationReport report = validator.validate(board);
+
+    assertTrue(report.isValid());
+    assertEquals(List.of(IssueType.UNREACHABLE_TILE), types(report.getWarnings()));
+    assertEquals(8, report.getWarnings().getFirst().getTileId());
+    assertEquals(7, report.getTileCount());
+    assertEquals(6, report.getReachableTileCount());
+  }
+
+  @Test
+  void validate_linearBoard_reportsEveryTileReachable() {
+    BoardValidationReport report = validator.validate(createLinearBoard(12));
+
+    assertTrue(report.isValid());
+    assertTrue(report.formatReport().startsWith("13 tiles, 13 reachable, 0 errors, 0 warnings"));
+  }
+}
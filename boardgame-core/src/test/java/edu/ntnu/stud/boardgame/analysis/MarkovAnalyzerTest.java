@@ -0,0 +1,172 @@
+package edu.ntnu.stud.boardgame.analysis;
+
+import static edu.ntnu.stud.boardgame.model.TestBoards.createLinearBoard;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.ntnu.stud.boardgame.exception.InvalidGameStateException;
+import edu.ntnu.stud.boardgame.factory.LadderGameBoardFactory;
+import edu.ntnu.stud.boardgame.model.Board;
+import edu.ntnu.stud.boardgame.model.Tile;
+import edu.ntnu.stud.boardgame.model.action.LadderAction;
+import edu.ntnu.stud.boardgame.model.action.SkipTurnAction;
+import edu.ntnu.stud.boardgame.model.action.SnakeAction;
+import edu.ntnu.stud.boardgame.simulation.SimulationEngine;
+import edu.ntnu.stud.boardgame.simulation.SimulationResult;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MarkovAnalyzerTest {
+
+  private MarkovAnalyzer analyzer;
+
+  @BeforeEach
+  void setUp() {
+    analyzer = MarkovAnalyzer.getInstance();
+    analyzer.clearCache();
+  }
+
+  @Test
+  void getInstance_returnsSameInstance() {
+    assertSame(analyzer, MarkovAnalyzer.getInstance());
+  }
+
+  @Test
+  void analyze_invalidArguments_throwsIllegalArgumentException() {
+    assertThrows(IllegalArgumentException.class, () -> analyzer.analyze(null));
+    assertThrows(IllegalArgumentException.class, () -> analyzer.analyze(createLinearBoard(5), 0));
+
+    Board noEnd = new Board("Broken", "No end tile", 1, 1, 0, 5);
+    noEnd.addTile(new Tile(0));
+    assertThrows(IllegalArgumentException.class, () -> analyzer.analyze(noEnd));
+  }
+
+  @Test
+  void diceSumProbabilities_twoDice_matchesKnownDistribution() {
+    double[] sums = MarkovAnalyzer.diceSumProbabilities(2);
+
+    assertEquals(13, sums.length);
+    assertEquals(0, sums[1], 1e-12);
+    assertEquals(1.0 / 36, sums[2], 1e-12);
+    assertEquals(6.0 / 36, sums[7], 1e-12);
+    assertEquals(1.0 / 36, sums[12], 1e-12);
+  }
+
+  @Test
+  void analyze_singleDieOnSixTiles_givesGeometricDistribution() {
+    BoardAnalysis analysis = analyzer.analyze(createLinearBoard(6), 1);
+
+    assertEquals(6.0, analysis.getExpectedTurns(), 1e-9);
+    assertEquals(1.0 / 6, analysis.getFinishProbability(1), 1e-12);
+    assertEquals(1 - Math.pow(5.0 / 6, 3), analysis.getFinishProbability(3), 1e-12);
+    assertTrue(analysis.getUnfinishedProbability() < 1e-9);
+  }
+
+  @Test
+  void analyze_ladderToEnd_finishesInOneTurn() {
+    Board board = createLinearBoard(20);
+    for (int i = 2; i <= 12; i++) {
+      board.getTile(i).setLandAction(new LadderAction(board.getTile(20)));
+    }
+
+    BoardAnalysis analysis = analyzer.analyze(board);
+
+    assertEquals(1.0, analysis.getExpectedTurns(), 1e-12);
+    assertEquals(1, analysis.getTurnsToFinish(1.0));
+    assertEquals(0, analysis.getVisitProbability(5), 1e-12);
+    assertEquals(1.0, analysis.getVisitProbability(20), 1e-12);
+  }
+
+  @Test
+  void analyze_skipTurnTile_addsSkippedTurn() {
+    Board board = createLinearBoard(6);
+    board.getTile(3).setLandAction(new SkipTurnAction());
+
+    BoardAnalysis withSkip = analyzer.analyze(board, 1);
+    BoardAnalysis withoutSkip = analyzer.analyze(createLinearBoard(6), 1);
+
+    assertTrue(withSkip.getExpectedTurns() > withoutSkip.getExpectedTurns());
+    assertEquals(withSkip.getExpectedTurns(), sumOfVisits(withSkip, board), 1e-6);
+  }
+
+  @Test
+  void analyze_sameLayout_returnsCachedAnalysis() {
+    BoardAnalysis first = analyzer.analyze(LadderGameBoardFactory.createBoard("Classic"));
+    BoardAnalysis second = analyzer.analyze(LadderGameBoardFactory.createBoard("Classic"));
+
+    assertSame(first, second);
+  }
+
+  @Test
+  void analyze_moreLayoutsThanCapacity_evictsLeastRecentlyUsed() {
+    Board firstBoard = createLinearBoard(20);
+    BoardAnalysis first = analyzer.analyze(firstBoard);
+    for (int endTileId = 21; endTileId < 21 + MarkovAnalyzer.CACHE_CAPACITY; endTileId++) {
+      analyzer.analyze(createLinearBoard(endTileId));
+    }
+
+    assertNotSame(first, analyzer.analyze(firstBoard));
+  }
+
+  @Test
+  void analyze_classicBoard_matchesSimulation() {
+    Board board = LadderGameBoardFactory.createBoard("Classic");
+    BoardAnalysis analysis = analyzer.analyze(board);
+    SimulationResult result =
+        new SimulationEngine(board, 1, 2, ForkJoinPool.commonPool()).run(200_000, 1L);
+
+    assertEquals(analysis.getExpectedTurns(), result.getAverageGameLength(), 0.2);
+    assertEquals(1.0, analysis.getFinishProbability(10_000), 1e-9);
+  }
+
+  @Test
+  void analyze_visitProbabilities_sumToOne() {
+    Board board = LadderGameBoardFactory.createBoard("Classic");
+    BoardAnalysis analysis = analyzer.analyze(board);
+
+    double total = 0;
+    for (int tileId = 0; tileId <= board.getEndTileId(); tileId++) {
+      total += analysis.getVisitProbability(tileId);
+    }
+    assertEquals(1.0, total, 1e-9);
+    assertEquals(analysis.getExpectedTurns(), sumOfVisits(analysis, board), 1e-6);
+  }
+
+  @Test
+  void analyze_reachableCycle_throwsInvalidGameStateException() {
+    Board board = createLinearBoard(6);
+    board.getTile(1).setLandAction(new LadderAction(board.getTile(3)));
+    board.getTile(3).setLandAction(new SnakeAction(board.getTile(1)));
+
+    assertThrows(InvalidGameStateException.class, () -> analyzer.analyze(board, 1));
+  }
+
+  @Test
+  void analyze_unreachableEnd_reportsUnfinishedProbability() {
+    Board board = createLinearBoard(12);
+    for (int i = 1; i < 12; i++) {
+      board.getTile(i).setLandAction(new SnakeAction(board.getTile(0)));
+    }
+
+    BoardAnalysis analysis = analyzer.analyze(board, 1);
+
+    assertEquals(1.0, analysis.getUnfinishedProbability(), 1e-12);
+    assertEquals(Double.POSITIVE_INFINITY, analysis.getExpectedTurns());
+    assertEquals(-1, analysis.getTurnsToFinish(0.5));
+    assertArrayEquals(
+        new double[analysis.getFinishProbabilities().length], analysis.getFinishProbabilities());
+  }
+
+  private static double sumOfVisits(BoardAnalysis analysis, Board board) {
+    double total = 0;
+    for (int tileId = 0; tileId <= board.getEndTileId(); tileId++) {
+      total += analysis.getExpectedVisits(tileId);
+    }
+    return total;
+  }
+}
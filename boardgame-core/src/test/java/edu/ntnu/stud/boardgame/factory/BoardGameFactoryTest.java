@@ -11,6 +11,8 @@ import edu.ntnu.stud.boardgame.model.game.LadderGame;
 import edu.ntnu.stud.boardgame.model.game.MonopolyGame;
 import edu.ntnu.stud.boardgame.service.BoardFileService;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -139,4 +141,69 @@ class BoardGameFactoryTest {
     assertThrows(
         IllegalArgumentException.class, () -> boardGameFactory.getAvailableGameBoards(null));
   }
+
+  @Test
+  void loadBoard_fromFile_returnsBoardWithoutCreatingGame() throws BoardFileException {
+    Board mockBoard = mock(Board.class);
+    when(mockBoardFileService.loadBoard(BoardGameType.LADDER, "MyBoard")).thenReturn(mockBoard);
+
+    assertEquals(mockBoard, boardGameFactory.loadBoard(BoardGameType.LADDER, "MyBoard"));
+  }
+
+  @Test
+  void loadBoard_emptyName_throwsIllegalArgumentException() {
+    assertThrows(
+        IllegalArgumentException.class, () -> boardGameFactory.loadBoard(BoardGameType.LADDER, " "));
+  }
+
+  @Test
+  void getPredefinedBoardDescriptors_monopoly_returnsDescriptorsWithoutFileAccess() {
+    List<BoardDescriptor> descriptors =
+        boardGameFactory.getPredefinedBoardDescriptors(BoardGameType.MONOPOLY);
+
+    assertEquals(
+        MonopolyBoardFactory.getAvailableBoards(),
+        descriptors.stream().map(BoardDescriptor::getName).toList());
+    verifyNoInteractions(mockBoardFileService);
+  }
+
+  @Test
+  void createGameAsync_savedBoard_loadsBoardInBackgroundAndCreatesGame() throws Exception {
+    Board mockBoard = mock(Board.class);
+    CompletableFuture<Board> loading = new CompletableFuture<>();
+    when(mockBoardFileService.loadBoardAsync(eq(BoardGameType.LADDER), eq("Saved"), any()))
+        .thenReturn(loading);
+
+    CompletableFuture<BoardGame> game =
+        boardGameFactory.createGameAsync(BoardGameType.LADDER, "Saved", tiles -> {});
+    assertFalse(game.isDone());
+    loading.complete(mockBoard);
+
+    assertInstanceOf(LadderGame.class, game.get());
+    assertEquals(mockBoard, game.get().getBoard());
+  }
+
+  @Test
+  void createGameAsync_cancelled_cancelsBoardLoading() {
+    CompletableFuture<Board> loading = new CompletableFuture<>();
+    when(mockBoardFileService.loadBoardAsync(eq(BoardGameType.LADDER), eq("Saved"), any()))
+        .thenReturn(loading);
+
+    boardGameFactory.createGameAsync(BoardGameType.LADDER, "Saved", tiles -> {}).cancel(true);
+
+    assertTrue(loading.isCancelled());
+  }
+
+  @Test
+  void createGameAsync_predefinedBoard_completesWithAllTilesReported() throws Exception {
+    AtomicInteger reported = new AtomicInteger();
+
+    CompletableFuture<BoardGame> game =
+        boardGameFactory.createGameAsync(
+            BoardGameType.LADDER, "Predefined:Classic", reported::set);
+
+    assertTrue(game.isDone());
+    assertEquals(game.get().getBoard().getTiles().size(), reported.get());
+    verifyNoInteractions(mockBoardFileService);
+  }
 }
@@ -87,4 +87,39 @@ class LadderGameBoardFactoryTest {
             });
     assertEquals("Board name cannot be null or empty.", exception.getMessage());
   }
+
+  @Test
+  void getBoardDescriptors_matchBuiltBoards() {
+    List<BoardDescriptor> descriptors = LadderGameBoardFactory.getBoardDescriptors();
+    assertEquals(LadderGameBoardFactory.getAvailableBoards().size(), descriptors.size());
+
+    for (BoardDescriptor descriptor : descriptors) {
+      Board board = LadderGameBoardFactory.createBoard(descriptor.getName());
+      assertEquals(descriptor.getTitle(), board.getName());
+      assertEquals(descriptor.getDescription(), board.getDescription());
+      assertEquals(descriptor.getRows(), board.getRows());
+      assertEquals(descriptor.getColumns(), board.getColumns());
+      assertEquals(descriptor.getEndTileId(), board.getEndTileId());
+    }
+  }
+
+  @Test
+  void getBoardDescriptors_doesNotBuildBoards() {
+    boolean builtBefore = LadderGameBoardFactory.isBoardBuilt("Classic");
+
+    LadderGameBoardFactory.getBoardDescriptors();
+    LadderGameBoardFactory.getAvailableBoards();
+
+    assertEquals(builtBefore, LadderGameBoardFactory.isBoardBuilt("Classic"));
+  }
+
+  @Test
+  void createBoard_calledTwice_returnsSameFrozenBoard() {
+    Board first = LadderGameBoardFactory.createBoard("Classic");
+    Board second = LadderGameBoardFactory.createBoard("Classic");
+
+    assertSame(first, second);
+    assertTrue(first.isFrozen());
+    assertTrue(LadderGameBoardFactory.isBoardBuilt("Classic"));
+  }
 }
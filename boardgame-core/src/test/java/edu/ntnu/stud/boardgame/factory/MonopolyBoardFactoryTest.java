@@ -90,4 +90,39 @@ class MonopolyBoardFactoryTest {
             });
     assertEquals("Board name cannot be null or empty.", exception.getMessage());
   }
+
+  @Test
+  void getBoardDescriptors_matchBuiltBoards() {
+    List<BoardDescriptor> descriptors = MonopolyBoardFactory.getBoardDescriptors();
+    assertEquals(MonopolyBoardFactory.getAvailableBoards().size(), descriptors.size());
+
+    for (BoardDescriptor descriptor : descriptors) {
+      Board board = MonopolyBoardFactory.createBoard(descriptor.getName());
+      assertEquals(descriptor.getTitle(), board.getName());
+      assertEquals(descriptor.getDescription(), board.getDescription());
+      assertEquals(descriptor.getRows(), board.getRows());
+      assertEquals(descriptor.getColumns(), board.getColumns());
+      assertEquals(descriptor.getEndTileId(), board.getEndTileId());
+    }
+  }
+
+  @Test
+  void getBoardDescriptors_doesNotBuildBoards() {
+    boolean builtBefore = MonopolyBoardFactory.isBoardBuilt("Standard");
+
+    MonopolyBoardFactory.getBoardDescriptors();
+    MonopolyBoardFactory.getAvailableBoards();
+
+    assertEquals(builtBefore, MonopolyBoardFactory.isBoardBuilt("Standard"));
+  }
+
+  @Test
+  void createBoard_calledTwice_returnsSameFrozenBoard() {
+    Board first = MonopolyBoardFactory.createBoard("Standard");
+    Board second = MonopolyBoardFactory.createBoard("Standard");
+
+    assertSame(first, second);
+    assertTrue(first.isFrozen());
+    assertTrue(MonopolyBoardFactory.isBoardBuilt("Standard"));
+  }
 }
@@ -0,0 +1,69 @@
+package edu.ntnu.stud.boardgame.factory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.ntnu.stud.boardgame.model.Board;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class PredefinedBoardTest {
+
+  private static final BoardDescriptor DESCRIPTOR =
+      new BoardDescriptor("Test", "Test Board", "A test board", 2, 2, 0, 3);
+
+  @Test
+  void getBoard_buildsOnceAndFreezes() {
+    AtomicInteger builds = new AtomicInteger();
+    PredefinedBoard predefinedBoard =
+        new PredefinedBoard(
+            DESCRIPTOR,
+            descriptor -> {
+              builds.incrementAndGet();
+              return descriptor.createEmptyBoard();
+            });
+    assertFalse(predefinedBoard.isBuilt());
+
+    Board first = predefinedBoard.getBoard();
+    Board second = predefinedBoard.getBoard();
+
+    assertSame(first, second);
+    assertTrue(first.isFrozen());
+    assertTrue(predefinedBoard.isBuilt());
+    assertEquals(1, builds.get());
+    assertEquals("Test Board", first.getName());
+  }
+
+  @Test
+  void getBoard_concurrentFirstRequests_buildOnce() throws Exception {
+    AtomicInteger builds = new AtomicInteger();
+    PredefinedBoard predefinedBoard =
+        new PredefinedBoard(
+            DESCRIPTOR,
+            descriptor -> {
+              builds.incrementAndGet();
+              return descriptor.createEmptyBoard();
+            });
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<Board>> results = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        results.add(executor.submit(predefinedBoard::getBoard));
+      }
+      for (Future<Board> result : results) {
+        assertSame(predefinedBoard.getBoard(), result.get());
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertEquals(1, builds.get());
+  }
+}
@@ -0,0 +1,287 @@
+package edu.ntnu.stud.boardgame.io.board;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.ntnu.stud.boardgame.exception.files.BoardParsingException;
+import edu.ntnu.stud.boardgame.exception.files.BoardWritingException;
+import edu.ntnu.stud.boardgame.model.Board;
+import edu.ntnu.stud.boardgame.model.Tile;
+import edu.ntnu.stud.boardgame.model.action.LadderAction;
+import edu.ntnu.stud.boardgame.model.action.PropertyAction;
+import edu.ntnu.stud.boardgame.model.action.SkipTurnAction;
+import edu.ntnu.stud.boardgame.model.action.SnakeAction;
+import edu.ntnu.stud.boardgame.model.action.StartAction;
+import edu.ntnu.stud.boardgame.model.action.TaxAction;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for the binary board format written by {@link BoardFileWriterBinary} and read by
+ * {@link BoardFileReaderBinary}.
+ */
+class BoardFileBinaryReaderWriterTest {
+
+  private BoardFileReaderBinary reader;
+  private BoardFileWriterBinary writer;
+
+  @BeforeEach
+  void setUp() {
+    reader = new BoardFileReaderBinary();
+    writer = new BoardFileWriterBinary();
+  }
+
+  private static Board createBoardWithAllActions() {
+    Board board = new Board("Binary Board", "Every action type", 2, 4, 1, 8);
+    Tile[] tiles = new Tile[9];
+    for (int id = 8; id >= 1; id--) {
+      Tile tile = new Tile(id);
+      tile.setRow((id - 1) / 4);
+      tile.setColumn((id - 1) % 4);
+      tile.setNextTile(tiles[id + 1 > 8 ? 0 : id + 1]);
+      tiles[id] = tile;
+      board.addTile(tile);
+    }
+    tiles[1].setName("Start");
+    tiles[1].setLandAction(new StartAction(200));
+    tiles[2].setLandAction(new LadderAction(tiles[7]));
+    tiles[3].setLandAction(new PropertyAction(150));
+    tiles[4].setName("Tårnet");
+    tiles[4].setLandAction(new TaxAction(75));
+    tiles[5].setLandAction(new SkipTurnAction());
+    tiles[6].setLandAction(new SnakeAction(tiles[3]));
+    tiles[8].setRow(null);
+    return board;
+  }
+
+  @Test
+  @DisplayName("Should read back every tile property and action")
+  void shouldRoundTripAllActions() throws BoardWritingException, BoardParsingException {
+    // Arrange
+    Board original = createBoardWithAllActions();
+
+    // Act
+    Board board = reader.parseBoard(writer.serializeBoard(original));
+
+    // Assert
+    assertEquals("Binary Board", board.getName());
+    assertEquals("Every action type", board.getDescription());
+    assertEquals(2, board.getRows());
+    assertEquals(4, board.getColumns());
+    assertEquals(1, board.getStartTileId());
+    assertEquals(8, board.getEndTileId());
+    assertEquals(8, board.getTiles().size());
+
+    assertEquals("Start", board.getTile(1).getName());
+    assertEquals("Tårnet", board.getTile(4).getName());
+    assertNull(board.getTile(2).getName());
+    assertEquals(1, board.getTile(6).getRow());
+    assertEquals(1, board.getTile(6).getColumn());
+    assertNull(board.getTile(8).getRow());
+    assertSame(board.getTile(2), board.getTile(1).getNextTile());
+    assertNull(board.getTile(8).getNextTile());
+
+    assertEquals(200, assertInstanceOf(StartAction.class, board.getTile(1).getLandAction())
+        .getAmount());
+    assertSame(board.getTile(7), assertInstanceOf(LadderAction.class,
+        board.getTile(2).getLandAction()).getDestinationTile());
+    assertEquals(150, assertInstanceOf(PropertyAction.class, board.getTile(3).getLandAction())
+        .getPrice());
+    assertEquals(75, assertInstanceOf(TaxAction.class, board.getTile(4).getLandAction())
+        .getAmount());
+    assertInstanceOf(SkipTurnAction.class, board.getTile(5).getLandAction());
+    assertSame(board.getTile(3), assertInstanceOf(SnakeAction.class,
+        board.getTile(6).getLandAction()).getDestinationTile());
+    assertNull(board.getTile(7).getLandAction());
+  }
+
+  @Test
+  @DisplayName("Should write and memory-map a board file")
+  void shouldWriteAndReadFile(@TempDir Path directory)
+      throws BoardWritingException, BoardParsingException {
+    // Arrange
+    Path path = directory.resolve("board.board");
+
+    // Act
+    writer.writeBoard(path, createBoardWithAllActions());
+    Board board = reader.readBoard(path);
+
+    // Assert
+    assertEquals("Binary Board", board.getName());
+    assertEquals(8, board.getTiles().size());
+    assertInstanceOf(LadderAction.class, board.getTile(2).getLandAction());
+  }
+
+  @Test
+  @DisplayName("Should keep tiles added to a mapped board")
+  void shouldKeepAddedTiles() throws BoardWritingException, BoardParsingException {
+    // Arrange
+    Board board = reader.parseBoard(writer.serializeBoard(createBoardWithAllActions()));
+
+    // Act
+    board.addTile(new Tile(9));
+
+    // Assert
+    assertEquals(9, board.getTiles().size());
+    assertTrue(board.getTiles().containsKey(1));
+  }
+
+  @Test
+  @DisplayName("Should reject data without the binary board magic number")
+  void shouldRejectWrongMagic() throws BoardWritingException {
+    // Arrange
+    ByteBuffer buffer = writer.serializeBoard(createBoardWithAllActions());
+    buffer.putInt(0, 0x7B0A2020);
+
+    // Act & Assert
+    BoardParsingException exception =
+        assertThrows(BoardParsingException.class, () -> reader.parseBoard(buffer));
+    assertTrue(exception.getMessage().contains("not a binary board"));
+  }
+
+  @Test
+  @DisplayName("Should reject unsupported format versions")
+  void shouldRejectUnsupportedVersion() throws BoardWritingException {
+    // Arrange
+    ByteBuffer buffer = writer.serializeBoard(createBoardWithAllActions());
+    buffer.putShort(4, (short) 99);
+
+    // Act & Assert
+    BoardParsingException exception =
+        assertThrows(BoardParsingException.class, () -> reader.parseBoard(buffer));
+    assertTrue(exception.getMessage().contains("Unsupported binary board version: 99"));
+  }
+
+  @Test
+  @DisplayName("Should reject truncated data")
+  void shouldRejectTruncatedData() throws BoardWritingException {
+    // Arrange
+    ByteBuffer buffer = writer.serializeBoard(createBoardWithAllActions());
+    buffer.limit(64);
+
+    // Act & Assert
+    assertThrows(BoardParsingException.class, () -> reader.parseBoard(buffer));
+    assertThrows(BoardParsingException.class, () -> reader.parseBoard(ByteBuffer.allocate(8)));
+  }
+
+  @Test
+  @DisplayName("Should report a missing destination tile when tiles are first read")
+  void shouldReportMissingDestinationOnFirstAccess()
+      throws BoardWritingException, BoardParsingException {
+    // Arrange
+    ByteBuffer buffer = writer.serializeBoard(createBoardWithAllActions());
+    int tileCount = 8;
+    int ladderIndex = 1;
+    buffer.putInt(BinaryBoardFormat.columnOffset(BinaryBoardFormat.ACTION_VALUE_COLUMN,
+        tileCount, ladderIndex), 42);
+    Board board = reader.parseBoard(buffer);
+
+    // Act & Assert
+    IllegalStateException exception = assertThrows(IllegalStateException.class,
+        board::getTiles);
+    assertTrue(exception.getMessage().contains("Destination tile not found for LadderAction"));
+  }
+
+  @Test
+  @DisplayName("Should read the header without decoding the tiles")
+  void shouldReadHeaderWithoutDecodingTiles()
+      throws BoardWritingException, BoardParsingException {
+    // Arrange - a broken ladder would fail as soon as the tiles are decoded
+    Board original = createBoardWithAllActions();
+    ByteBuffer buffer = writer.serializeBoard(original);
+    int tileCount = 8;
+    buffer.putInt(BinaryBoardFormat.columnOffset(BinaryBoardFormat.ACTION_VALUE_COLUMN,
+        tileCount, 1), 42);
+
+    // Act
+    BoardHeader header = reader.parseBoardHeader(buffer);
+
+    // Assert
+    assertEquals(original.getName(), header.getName());
+    assertEquals(original.getDescription(), header.getDescription());
+    assertEquals(original.getRows(), header.getRows());
+    assertEquals(original.getColumns(), header.getColumns());
+    assertEquals(original.getEndTileId(), header.getEndTileId());
+    assertEquals(tileCount, header.getTileCount());
+  }
+
+  @Test
+  @DisplayName("Should read the header of a file without mapping it")
+  void shouldReadHeaderFromFile(@TempDir Path directory) throws Exception {
+    // Arrange
+    Path path = directory.resolve("board.board");
+    Board original = createBoardWithAllActions();
+    writer.writeBoard(path, original);
+
+    // Act
+    BoardHeader header = reader.readBoardHeader(path);
+
+    // Assert
+    assertEquals(original.getName(), header.getName());
+    assertEquals(original.getDescription(), header.getDescription());
+    assertEquals(original.getStartTileId(), header.getStartTileId());
+    assertEquals(8, header.getTileCount());
+  }
+
+  @Test
+  @DisplayName("Should reject the header of a truncated file")
+  void shouldRejectHeaderOfTruncatedFile(@TempDir Path directory) throws Exception {
+    // Arrange
+    Path path = directory.resolve("board.board");
+    writer.writeBoard(path, createBoardWithAllActions());
+    byte[] bytes = Files.readAllBytes(path);
+    Files.write(path, Arrays.copyOf(bytes, BinaryBoardFormat.HEADER_SIZE + 10));
+
+    // Act & Assert
+    assertThrows(BoardParsingException.class, () -> reader.readBoardHeader(path));
+  }
+
+  @Test
+  @DisplayName("Should keep decoded tiles after the file is replaced")
+  void shouldKeepDecodedTilesAfterFileIsReplaced(@TempDir Path directory) throws Exception {
+    // Arrange
+    Path path = directory.resolve("board.board");
+    writer.writeBoard(path, createBoardWithAllActions());
+    Board board = reader.readBoard(path);
+    board.getTiles();
+
+    // Act
+    Files.write(path, new byte[0]);
+
+    // Assert
+    assertEquals(8, board.getTiles().size());
+    assertEquals("Tårnet", board.getTile(4).getName());
+  }
+
+  @Test
+  @DisplayName("Should read a large generated board")
+  void shouldReadLargeGeneratedBoard() throws BoardWritingException, BoardParsingException {
+    // Arrange
+    int tileCount = 50_000;
+    Board original = new Board("Large", "Generated", 250, 200, 1, tileCount);
+    Tile next = null;
+    for (int id = tileCount; id >= 1; id--) {
+      Tile tile = new Tile(id);
+      tile.setNextTile(next);
+      original.addTile(tile);
+      next = tile;
+    }
+
+    // Act
+    Board board = reader.parseBoard(writer.serializeBoard(original));
+
+    // Assert
+    assertEquals(tileCount, board.getTiles().size());
+    assertSame(board.getTile(tileCount), board.getTile(tileCount - 1).getNextTile());
+  }
+}
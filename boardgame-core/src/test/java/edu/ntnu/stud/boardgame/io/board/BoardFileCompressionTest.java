@@ -0,0 +1,99 @@
+package edu.ntnu.stud.boardgame.io.board;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.ntnu.stud.boardgame.exception.files.BoardParsingException;
+import edu.ntnu.stud.boardgame.exception.files.BoardWritingException;
+import edu.ntnu.stud.boardgame.model.Board;
+import edu.ntnu.stud.boardgame.model.Tile;
+import edu.ntnu.stud.boardgame.model.action.LadderAction;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for reading and writing gzip-compressed board files.
+ */
+class BoardFileCompressionTest {
+
+  @TempDir Path directory;
+
+  private static Board createBoard() {
+    Board board = new Board("Compressed", "A gzip-compressed board", 1, 3, 1, 3);
+    Tile first = new Tile(1);
+    Tile second = new Tile(2);
+    Tile third = new Tile(3);
+    first.setNextTile(second);
+    second.setNextTile(third);
+    first.setLandAction(new LadderAction(third));
+    board.addTile(first);
+    board.addTile(second);
+    board.addTile(third);
+    return board;
+  }
+
+  private static boolean startsWithGzipMagic(Path path) throws IOException {
+    return BoardFileCompression.isCompressed(ByteBuffer.wrap(Files.readAllBytes(path)));
+  }
+
+  private static void assertSameBoard(Board board) {
+    assertEquals("Compressed", board.getName());
+    assertEquals(3, board.getTiles().size());
+    assertSame(board.getTile(2), board.getTile(1).getNextTile());
+    LadderAction ladder = assertInstanceOf(LadderAction.class, board.getTile(1).getLandAction());
+    assertSame(board.getTile(3), ladder.getDestinationTile());
+  }
+
+  @Test
+  @DisplayName("JSON boards named .json.gz should be compressed and read back")
+  void jsonBoard_gzipName_roundTrips() throws BoardWritingException, BoardParsingException,
+      IOException {
+    Path path = directory.resolve("board.json.gz");
+
+    new BoardFileWriterGson().writeBoard(path, createBoard());
+
+    assertTrue(startsWithGzipMagic(path));
+    assertSameBoard(new BoardFileReaderGson().readBoard(path));
+    BoardHeader header = new BoardFileReaderGson().readBoardHeader(path);
+    assertEquals("Compressed", header.getName());
+    assertEquals(3, header.getTileCount());
+  }
+
+  @Test
+  @DisplayName("binary boards named .board.gz should be compressed and read back")
+  void binaryBoard_gzipName_roundTrips() throws BoardWritingException, BoardParsingException,
+      IOException {
+    Path path = directory.resolve("board.board.gz");
+
+    new BoardFileWriterBinary().writeBoard(path, createBoard());
+
+    assertTrue(startsWithGzipMagic(path));
+    assertSameBoard(new BoardFileReaderBinary().readBoard(path));
+    assertEquals(3, new BoardFileReaderBinary().readBoardHeader(path).getTileCount());
+  }
+
+  @Test
+  @DisplayName("compression should be detected from the contents, not the file name")
+  void compressionDetectedByMagicBytes() throws BoardWritingException, BoardParsingException,
+      IOException {
+    Path compressed = directory.resolve("board.json.gz");
+    Path misnamed = directory.resolve("misnamed.json");
+    Path plain = directory.resolve("plain.json");
+    BoardFileWriterGson writer = new BoardFileWriterGson();
+    writer.writeBoard(compressed, createBoard());
+    writer.writeBoard(plain, createBoard());
+    Files.copy(compressed, misnamed);
+
+    assertFalse(startsWithGzipMagic(plain));
+    assertSameBoard(new BoardFileReaderGson().readBoard(misnamed));
+    assertSameBoard(new BoardFileReaderGson().readBoard(plain));
+  }
+}
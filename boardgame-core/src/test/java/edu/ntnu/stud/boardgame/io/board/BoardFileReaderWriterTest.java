@@ -20,6 +20,9 @@ import edu.ntnu.stud.boardgame.model.action.StartAction;
 import edu.ntnu.stud.boardgame.model.action.TaxAction;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -408,6 +411,122 @@ class BoardFileReaderWriterTest {
     assertTrue(exception.getMessage().contains("Unknown action type: UnknownAction"));
   }
 
+  @Test
+  @DisplayName("Should resolve references to tiles that appear later in the file")
+  void shouldResolveForwardReferences() throws BoardParsingException {
+    // Arrange
+    String json = """
+        {
+            "tiles": [
+                {
+                    "id": 1,
+                    "nextTileId": 2,
+                    "action": {
+                        "destinationTileId": 3,
+                        "type": "LadderAction"
+                    }
+                },
+                {
+                    "id": 2,
+                    "nextTileId": 3,
+                    "unknownField": { "nested": [1, 2, 3] }
+                },
+                {
+                    "id": 3
+                }
+            ],
+            "name": "Forward Board",
+            "description": "Tiles before board properties",
+            "rows": 1,
+            "columns": 3,
+            "startTileId": 1,
+            "endTileId": 3
+        }
+        """;
+
+    // Act
+    Board board = reader.parseBoard(json);
+
+    // Assert
+    assertEquals("Forward Board", board.getName());
+    assertEquals(board.getTile(2), board.getTile(1).getNextTile());
+    assertEquals(board.getTile(3), board.getTile(2).getNextTile());
+    LadderAction ladder = (LadderAction) board.getTile(1).getLandAction();
+    assertEquals(board.getTile(3), ladder.getDestinationTile());
+  }
+
+  @Test
+  @DisplayName("Should throw exception for missing ladder destination")
+  void shouldThrowExceptionForMissingDestinationTile() {
+    // Arrange
+    String invalidJson = """
+        {
+            "name": "Broken Ladder",
+            "description": "Ladder to nowhere",
+            "rows": 1,
+            "columns": 1,
+            "startTileId": 1,
+            "endTileId": 1,
+            "tiles": [
+                { "id": 1, "action": { "type": "LadderAction", "destinationTileId": 42 } }
+            ]
+        }
+        """;
+
+    // Act & Assert
+    BoardParsingException exception = assertThrows(
+        BoardParsingException.class,
+        () -> reader.parseBoard(invalidJson)
+    );
+
+    assertTrue(exception.getMessage().contains("Destination tile not found for LadderAction"));
+  }
+
+  @Test
+  @DisplayName("Should throw exception for malformed JSON")
+  void shouldThrowExceptionForMalformedJson() {
+    // Arrange
+    String invalidJson = "{ \"name\": \"Truncated\", \"tiles\": [ { \"id\": 1 ";
+
+    // Act & Assert
+    BoardParsingException exception = assertThrows(
+        BoardParsingException.class,
+        () -> reader.parseBoard(invalidJson)
+    );
+
+    assertTrue(exception.getMessage().contains("Invalid JSON syntax"));
+  }
+
+  @Test
+  @DisplayName("Should parse a large generated board")
+  void shouldParseLargeGeneratedBoard() throws BoardParsingException {
+    // Arrange
+    int tileCount = 50_000;
+    StringBuilder json = new StringBuilder();
+    json.append("{\"name\":\"Large\",\"description\":\"Generated\",\"rows\":1,")
+        .append("\"columns\":").append(tileCount)
+        .append(",\"startTileId\":0,\"endTileId\":").append(tileCount - 1)
+        .append(",\"tiles\":[");
+    for (int id = tileCount - 1; id >= 0; id--) {
+      json.append("{\"id\":").append(id);
+      if (id < tileCount - 1) {
+        json.append(",\"nextTileId\":").append(id + 1);
+      }
+      json.append('}');
+      if (id > 0) {
+        json.append(',');
+      }
+    }
+    json.append("]}");
+
+    // Act
+    Board board = reader.parseBoard(json.toString());
+
+    // Assert
+    assertEquals(tileCount, board.getTiles().size());
+    assertEquals(board.getTile(tileCount - 1), board.getTile(tileCount - 2).getNextTile());
+  }
+
   @Test
   @DisplayName("Should serialize board to valid JSON")
   void shouldSerializeBoardToValidJson() throws BoardWritingException {
@@ -528,4 +647,196 @@ class BoardFileReaderWriterTest {
     assertFalse(json.trim().isEmpty());
     assertTrue(json.contains("Writer Test"));
   }
-}
\ No newline at end of file
+
+  @Test
+  @DisplayName("Should read the header of a written board including its tile count")
+  void shouldReadHeaderOfWrittenBoard() throws BoardWritingException, BoardParsingException {
+    // Arrange
+    Board board = new Board("Header Board", "Header test", 2, 3, 1, 2);
+    board.addTile(new Tile(1));
+    board.addTile(new Tile(2));
+    String json = writer.serializeBoardToString(board);
+
+    // Act
+    BoardHeader header = reader.parseBoardHeader(new StringReader(json));
+
+    // Assert
+    assertEquals("Header Board", header.getName());
+    assertEquals("Header test", header.getDescription());
+    assertEquals(2, header.getRows());
+    assertEquals(3, header.getColumns());
+    assertEquals(1, header.getStartTileId());
+    assertEquals(2, header.getEndTileId());
+    assertEquals(2, header.getTileCount());
+  }
+
+  @Test
+  @DisplayName("Should stop reading the header before the tiles")
+  void shouldStopReadingHeaderBeforeTiles() throws BoardParsingException {
+    // Arrange - the tiles are not valid JSON, so reading them would fail
+    String json = """
+        {
+            "name": "Partial",
+            "description": "Tiles are never read",
+            "rows": 1,
+            "columns": 2,
+            "startTileId": 1,
+            "endTileId": 2,
+            "tiles": [ { "id": 1, "row": oops
+        """;
+
+    // Act
+    BoardHeader header = reader.parseBoardHeader(new StringReader(json));
+
+    // Assert
+    assertEquals("Partial", header.getName());
+    assertEquals(BoardHeader.UNKNOWN_TILE_COUNT, header.getTileCount());
+  }
+
+  @Test
+  @DisplayName("Should skip tiles that come before the board properties when reading the header")
+  void shouldSkipTilesBeforeHeaderProperties() throws BoardParsingException {
+    // Arrange
+    String json = """
+        {
+            "tiles": [ { "id": 1 }, { "id": 2 } ],
+            "name": "Tiles First",
+            "description": "Properties after tiles",
+            "rows": 1,
+            "columns": 2,
+            "startTileId": 1,
+            "endTileId": 2
+        }
+        """;
+
+    // Act
+    BoardHeader header = reader.parseBoardHeader(new StringReader(json));
+
+    // Assert
+    assertEquals("Tiles First", header.getName());
+    assertEquals(2, header.getEndTileId());
+  }
+
+  @Test
+  @DisplayName("Should reject a header without the board properties")
+  void shouldRejectIncompleteHeader() {
+    // Arrange
+    String json = """
+        { "name": "Incomplete", "tiles": [] }
+        """;
+
+    // Act & Assert
+    assertThrows(BoardParsingException.class,
+        () -> reader.parseBoardHeader(new StringReader(json)));
+  }
+
+  private static String createChainJson(int tileCount) {
+    StringBuilder json = new StringBuilder()
+        .append("{\"name\":\"Chain\",\"description\":\"Generated\",\"rows\":1,")
+        .append("\"columns\":").append(tileCount)
+        .append(",\"startTileId\":1,\"endTileId\":").append(tileCount)
+        .append(",\"tiles\":[");
+    for (int id = 1; id <= tileCount; id++) {
+      if (id > 1) {
+        json.append(',');
+      }
+      json.append("{\"id\":").append(id).append('}');
+    }
+    return json.append("]}").toString();
+  }
+
+  @Test
+  @DisplayName("Should report the number of tiles parsed while parsing")
+  void shouldReportTilesParsed() throws BoardParsingException {
+    // Arrange
+    List<Integer> reports = new ArrayList<>();
+    BoardReadMonitor monitor = new BoardReadMonitor() {
+      @Override
+      public void tilesParsed(int tilesParsed) {
+        reports.add(tilesParsed);
+      }
+
+      @Override
+      public boolean isCancelled() {
+        return false;
+      }
+    };
+
+    // Act
+    Board board = reader.parseBoard(new StringReader(createChainJson(600)), monitor);
+
+    // Assert
+    assertEquals(600, board.getTiles().size());
+    assertEquals(List.of(256, 512, 600), reports);
+  }
+
+  @Test
+  @DisplayName("Should stop parsing when the monitor is cancelled")
+  void shouldStopParsingWhenCancelled() {
+    // Arrange
+    List<Integer> reports = new ArrayList<>();
+    BoardReadMonitor monitor = new BoardReadMonitor() {
+      @Override
+      public void tilesParsed(int tilesParsed) {
+        reports.add(tilesParsed);
+      }
+
+      @Override
+      public boolean isCancelled() {
+        return !reports.isEmpty();
+      }
+    };
+
+    // Act & Assert
+    assertThrows(CancellationException.class,
+        () -> reader.parseBoard(new StringReader(createChainJson(1000)), monitor));
+    assertEquals(List.of(256), reports);
+  }
+
+  @Test
+  @DisplayName("Should write tiles in id order")
+  void shouldWriteTilesInIdOrder() throws BoardWritingException {
+    // Arrange
+    Board board = new Board("Order", "Tiles added out of order", 1, 3, 1, 3);
+    board.addTile(new Tile(3));
+    board.addTile(new Tile(1));
+    board.addTile(new Tile(2));
+
+    // Act
+    JsonObject parsed = JsonParser.parseString(writer.serializeBoardToString(board))
+        .getAsJsonObject();
+
+    // Assert
+    List<Integer> ids = new ArrayList<>();
+    parsed.getAsJsonArray("tiles").forEach(tile -> ids.add(tile.getAsJsonObject()
+        .get("id").getAsInt()));
+    assertEquals(List.of(1, 2, 3), ids);
+    assertEquals(3, parsed.get("tileCount").getAsInt());
+  }
+
+  @Test
+  @DisplayName("Should pretty-print by default and write compact JSON in compact mode")
+  void shouldWriteCompactJsonInCompactMode() throws BoardWritingException, BoardParsingException {
+    // Arrange
+    Board board = new Board("Compact", "Compact mode", 1, 2, 1, 2);
+    Tile tile = new Tile(1);
+    tile.setLandAction(new TaxAction(25));
+    board.addTile(tile);
+    board.addTile(new Tile(2));
+    BoardFileWriterGson compactWriter = new BoardFileWriterGson(true);
+
+    // Act
+    String pretty = writer.serializeBoardToString(board);
+    String compact = compactWriter.serializeBoardToString(board);
+
+    // Assert
+    assertFalse(writer.isCompact());
+    assertTrue(compactWriter.isCompact());
+    assertTrue(pretty.contains("\n  \"name\": \"Compact\""));
+    assertFalse(compact.contains("\n"));
+    assertTrue(compact.startsWith("{\"name\":\"Compact\","));
+    assertEquals(JsonParser.parseString(pretty), JsonParser.parseString(compact));
+    assertEquals(25, ((TaxAction) reader.parseBoard(compact).getTile(1).getLandAction())
+        .getAmount());
+  }
+}
@@ -7,6 +7,7 @@ import static org.mockito.Mockito.verify;
 import edu.ntnu.stud.boardgame.model.action.LadderAction;
 import edu.ntnu.stud.boardgame.model.action.SkipTurnAction;
 import edu.ntnu.stud.boardgame.model.action.SnakeAction;
+import edu.ntnu.stud.boardgame.model.action.TileActionContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -38,7 +39,7 @@ class ActionTests {
     void perform_validPlayer_placesPlayerOnDestinationTile() {
       ladderAction.perform(mockPlayer);
 
-      verify(mockPlayer).placeOnTile(destinationTile);
+      verify(mockPlayer).placeOnTile(destinationTile, TileActionContext.NONE);
     }
 
     @Test
@@ -83,7 +84,7 @@ class ActionTests {
     void perform_validPlayer_placesPlayerOnDestinationTile() {
       snakeAction.perform(mockPlayer);
 
-      verify(mockPlayer).placeOnTile(destinationTile);
+      verify(mockPlayer).placeOnTile(destinationTile, TileActionContext.NONE);
     }
 
     @Test
@@ -0,0 +1,357 @@
+package edu.ntnu.stud.boardgame.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import edu.ntnu.stud.boardgame.exception.BoardGameException;
+import edu.ntnu.stud.boardgame.exception.InvalidGameStateException;
+import edu.ntnu.stud.boardgame.factory.BoardGameFactory;
+import edu.ntnu.stud.boardgame.model.enums.BoardGameType;
+import edu.ntnu.stud.boardgame.model.enums.PieceType;
+import edu.ntnu.stud.boardgame.model.game.BoardGame;
+import edu.ntnu.stud.boardgame.model.game.LadderGame;
+import edu.ntnu.stud.boardgame.observer.BoardGameObserver;
+import edu.ntnu.stud.boardgame.observer.GameEvent;
+import edu.ntnu.stud.boardgame.observer.GameEvent.EventType;
+import edu.ntnu.stud.boardgame.observer.event.MovesSummaryEvent;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+@DisplayName("BoardGameFacade Tests")
+class BoardGameFacadeTest {
+
+  private BoardGameFacade facade;
+
+  @Mock private BoardGameFactory mockFactory;
+
+  @Mock private BoardGame mockGame;
+
+  @Mock private BoardGameObserver mockObserver;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    MockitoAnnotations.openMocks(this);
+
+    facade = new BoardGameFacade();
+    java.lang.reflect.Field factoryField = BoardGameFacade.class.getDeclaredField("factory");
+    factoryField.setAccessible(true);
+    factoryField.set(facade, mockFactory);
+
+    when(mockFactory.createGame(any(), any())).thenReturn(mockGame);
+    when(mockFactory.getAvailableGameBoards(any())).thenReturn(List.of("Default", "Custom"));
+  }
+
+  @Test
+  @DisplayName("registerObserver should register observer with game")
+  void registerObserver_anyObserver_registersWithGame() throws Exception {
+    facade.setCurrentGameType(BoardGameType.LADDER);
+    facade.createGame("TestBoard");
+
+    facade.registerObserver(mockObserver);
+
+    verify(mockGame).registerObserver(mockObserver);
+  }
+
+  @Nested
+  @DisplayName("Game Creation Tests")
+  class GameCreationTests {
+
+    @Test
+    @DisplayName("createGame without game type should throw exception")
+    void createGame_noGameType_throwsException() {
+      assertThrows(
+          InvalidGameStateException.class,
+          () -> {
+            facade.createGame("TestBoard");
+          });
+    }
+
+    @Test
+    @DisplayName("createGame with valid parameters should create game")
+    void createGame_validParameters_createsGame() throws Exception {
+      facade.setCurrentGameType(BoardGameType.LADDER);
+
+      facade.createGame("TestBoard");
+
+      verify(mockFactory).createGame(BoardGameType.LADDER, "TestBoard");
+      assertEquals(mockGame, facade.getCurrentGame());
+    }
+
+    @Test
+    @DisplayName("createGameAsync should make the game current once it has loaded")
+    void createGameAsync_loaded_makesGameCurrent() {
+      CompletableFuture<BoardGame> loading = new CompletableFuture<>();
+      when(mockFactory.createGameAsync(eq(BoardGameType.LADDER), eq("TestBoard"), any()))
+          .thenReturn(loading);
+      facade.setCurrentGameType(BoardGameType.LADDER);
+
+      CompletableFuture<Void> created =
+          facade.createGameAsync("TestBoard", tiles -> {}, Runnable::run);
+      assertNull(facade.getCurrentGame());
+      loading.complete(mockGame);
+
+      assertTrue(created.isDone());
+      assertEquals(mockGame, facade.getCurrentGame());
+      verify(mockGame).notifyGameCreated();
+    }
+
+    @Test
+    @DisplayName("cancelling createGameAsync should cancel loading and keep the current game")
+    void createGameAsync_cancelled_cancelsLoading() {
+      CompletableFuture<BoardGame> loading = new CompletableFuture<>();
+      when(mockFactory.createGameAsync(eq(BoardGameType.LADDER), eq("TestBoard"), any()))
+          .thenReturn(loading);
+      facade.setCurrentGameType(BoardGameType.LADDER);
+
+      facade.createGameAsync("TestBoard", tiles -> {}, Runnable::run).cancel(true);
+
+      assertTrue(loading.isCancelled());
+      assertNull(facade.getCurrentGame());
+    }
+
+    @Test
+    @DisplayName("analyzeBoardAsync should only analyse ladder game boards")
+    void analyzeBoardAsync_notLadderGame_throwsException() {
+      facade.setCurrentGameType(BoardGameType.MONOPOLY);
+
+      assertThrows(InvalidGameStateException.class, () -> facade.analyzeBoardAsync("TestBoard"));
+    }
+
+    @Test
+    @DisplayName("cancelling analyzeBoardAsync should cancel loading the board")
+    void analyzeBoardAsync_cancelled_cancelsLoading() {
+      CompletableFuture<Board> loading = new CompletableFuture<>();
+      when(mockFactory.loadBoardAsync(eq(BoardGameType.LADDER), eq("TestBoard"), any()))
+          .thenReturn(loading);
+      facade.setCurrentGameType(BoardGameType.LADDER);
+
+      facade.analyzeBoardAsync("TestBoard").cancel(true);
+
+      assertTrue(loading.isCancelled());
+    }
+  }
+
+  @Nested
+  @DisplayName("Game Operation Tests")
+  class GameOperationTests {
+
+    @Test
+    @DisplayName("startGame without created game should throw exception")
+    void startGame_noCreatedGame_throwsException() {
+      assertThrows(
+          BoardGameException.class,
+          () -> {
+            facade.startGame();
+          });
+    }
+
+    @Test
+    @DisplayName("startGame with created game should start game")
+    void startGame_withCreatedGame_startsGame() throws Exception {
+      facade.setCurrentGameType(BoardGameType.LADDER);
+      facade.createGame("TestBoard");
+
+      facade.startGame();
+
+      verify(mockGame).startGame();
+    }
+
+    @Test
+    @DisplayName("addPlayer without created game should throw exception")
+    void addPlayer_noCreatedGame_throwsException() {
+      assertThrows(
+          BoardGameException.class,
+          () -> {
+            facade.addPlayer("Player", PieceType.RED);
+          });
+    }
+
+    @Test
+    @DisplayName("addPlayer with created game should add player")
+    void addPlayer_withCreatedGame_addsPlayer() throws Exception {
+      facade.setCurrentGameType(BoardGameType.LADDER);
+      facade.createGame("TestBoard");
+
+      facade.addPlayer("Player", PieceType.RED);
+
+      verify(mockGame).addPlayer(any(Player.class));
+    }
+  }
+
+  @Nested
+  @DisplayName("Turn Management Tests")
+  class TurnManagementTests {
+
+    @Test
+    @DisplayName("playTurn without created game should throw exception")
+    void playTurn_noCreatedGame_throwsException() {
+      assertThrows(
+          BoardGameException.class,
+          () -> {
+            facade.playTurn();
+          });
+    }
+
+    @Test
+    @DisplayName("playTurn with game over should throw exception")
+    void playTurn_gameOver_throwsException() throws Exception {
+      facade.setCurrentGameType(BoardGameType.LADDER);
+      facade.createGame("TestBoard");
+      when(mockGame.isGameOver()).thenReturn(true);
+
+      assertThrows(
+          BoardGameException.class,
+          () -> {
+            facade.playTurn();
+          });
+    }
+
+    @Test
+    @DisplayName("playTurn with active game should play turn and advance")
+    void playTurn_activeGame_playsTurnAndAdvances() throws Exception {
+      facade.setCurrentGameType(BoardGameType.LADDER);
+      facade.createGame("TestBoard");
+      when(mockGame.isGameOver()).thenReturn(false);
+
+      facade.playTurn();
+
+      verify(mockGame).playTurn();
+      verify(mockGame).nextTurn();
+    }
+
+    @Test
+    @DisplayName("playTurn should publish the events of the turn as one batch")
+    void playTurn_activeGame_batchesEvents() throws Exception {
+      facade.setCurrentGameType(BoardGameType.LADDER);
+      facade.createGame("TestBoard");
+      when(mockGame.isGameOver()).thenReturn(false);
+
+      facade.playTurn();
+
+      InOrder inOrder = inOrder(mockGame);
+      inOrder.verify(mockGame).beginEventBatch();
+      inOrder.verify(mockGame).playTurn();
+      inOrder.verify(mockGame).nextTurn();
+      inOrder.verify(mockGame).flushEvents();
+    }
+
+    @Test
+    @DisplayName("playTurns should play the turns as one coalesced batch")
+    void playTurns_activeGame_playsTurnsInOneCoalescedBatch() throws Exception {
+      facade.setCurrentGameType(BoardGameType.LADDER);
+      facade.createGame("TestBoard");
+      when(mockGame.isGameOver()).thenReturn(false);
+
+      assertEquals(5, facade.playTurns(5));
+
+      InOrder inOrder = inOrder(mockGame);
+      inOrder.verify(mockGame).beginEventBatch();
+      inOrder.verify(mockGame, times(5)).playTurn();
+      inOrder.verify(mockGame).flushEvents(true);
+      verify(mockGame, times(5)).nextTurn();
+    }
+
+    @Test
+    @DisplayName("playTurns should create moves for observers of move summaries only")
+    void playTurns_summaryObserverOnly_receivesMoveSummaries() throws Exception {
+      LadderGame game = new LadderGame();
+      game.setBoard(TestBoards.createLinearBoard(200));
+      game.createDice(1);
+      when(mockFactory.createGame(any(), any())).thenReturn(game);
+      facade.setCurrentGameType(BoardGameType.LADDER);
+      facade.createGame("TestBoard");
+      List<GameEvent> events = new ArrayList<>();
+      facade.registerObserver(events::add, EnumSet.of(EventType.MOVES_SUMMARY));
+      facade.addPlayer("Alice", PieceType.RED);
+      facade.addPlayer("Bob", PieceType.BLUE);
+      facade.startGame();
+
+      assertEquals(6, facade.playTurns(6));
+
+      assertEquals(2, events.size());
+      for (GameEvent event : events) {
+        MovesSummaryEvent summary = assertInstanceOf(MovesSummaryEvent.class, event);
+        assertEquals(3, summary.getMoves());
+        assertSame(game.getBoard().getTile(0), summary.getFromTile());
+        assertSame(summary.getPlayer().getCurrentTile(), summary.getToTile());
+      }
+    }
+
+    @Test
+    @DisplayName("playTurns should stop when the game ends")
+    void playTurns_gameEnds_stopsEarly() throws Exception {
+      facade.setCurrentGameType(BoardGameType.LADDER);
+      facade.createGame("TestBoard");
+      when(mockGame.isGameOver()).thenReturn(false, false, false, false, true);
+
+      assertEquals(2, facade.playTurns(10));
+
+      verify(mockGame, times(2)).playTurn();
+      verify(mockGame, times(1)).nextTurn();
+    }
+
+    @Test
+    @DisplayName("playTurns with a negative count should throw exception")
+    void playTurns_negativeTurns_throwsException() {
+      assertThrows(IllegalArgumentException.class, () -> facade.playTurns(-1));
+    }
+
+    @Test
+    @DisplayName("playUntilGameOver should play until the game ends")
+    void playUntilGameOver_playsUntilGameEnds() throws Exception {
+      facade.setCurrentGameType(BoardGameType.LADDER);
+      facade.createGame("TestBoard");
+      when(mockGame.isGameOver()).thenReturn(false, false, false, false, false, false, true);
+
+      assertEquals(3, facade.playUntilGameOver());
+      verify(mockGame).flushEvents(true);
+    }
+  }
+
+  @Nested
+  @DisplayName("Board Management Tests")
+  class BoardManagementTests {
+
+    @Test
+    @DisplayName("getAvailableGameBoards without game type should throw exception")
+    void getAvailableGameBoards_noGameType_throwsException() {
+      assertThrows(
+          InvalidGameStateException.class,
+          () -> {
+            facade.getAvailableGameBoards();
+          });
+    }
+
+    @Test
+    @DisplayName("getAvailableGameBoards with game type should return boards list")
+    void getAvailableGameBoards_withGameType_returnsBoardsList() {
+      facade.setCurrentGameType(BoardGameType.LADDER);
+
+      List<String> boards = facade.getAvailableGameBoards();
+
+      assertEquals(2, boards.size());
+      assertTrue(boards.contains("Default"));
+      assertTrue(boards.contains("Custom"));
+      verify(mockFactory).getAvailableGameBoards(BoardGameType.LADDER);
+    }
+  }
+}
@@ -0,0 +1,183 @@
+package edu.ntnu.stud.boardgame.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import edu.ntnu.stud.boardgame.exception.InvalidGameStateException;
+import edu.ntnu.stud.boardgame.model.action.LadderAction;
+import edu.ntnu.stud.boardgame.model.action.PropertyAction;
+import edu.ntnu.stud.boardgame.model.action.TaxAction;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+@DisplayName("Board Tests")
+class BoardTest {
+
+  private Board board;
+
+  @Mock private Tile mockTile1;
+
+  @Mock private Tile mockTile2;
+
+  @BeforeEach
+  void setUp() {
+    MockitoAnnotations.openMocks(this);
+    board = new Board("Test Board", "A test board", 10, 9, 0, 90);
+
+    when(mockTile1.getTileId()).thenReturn(1);
+    when(mockTile2.getTileId()).thenReturn(2);
+  }
+
+  @Nested
+  @DisplayName("Tile Management Tests")
+  class TileManagementTests {
+
+    @Test
+    @DisplayName("addTile should add tile to the board")
+    void addTile_validTile_addsTileToBoard() {
+      board.addTile(mockTile1);
+
+      assertEquals(mockTile1, board.getTile(1));
+    }
+
+    @Test
+    @DisplayName("getTile with non-existent ID should return null")
+    void getTile_nonExistentId_returnsNull() {
+      assertNull(board.getTile(1));
+    }
+
+    @Test
+    @DisplayName("getTiles should return all tiles")
+    void getTiles_boardWithTiles_returnsAllTiles() {
+      board.addTile(mockTile1);
+      board.addTile(mockTile2);
+
+      Map<Integer, Tile> tiles = board.getTiles();
+
+      assertEquals(2, tiles.size());
+      assertTrue(tiles.containsKey(1));
+      assertTrue(tiles.containsKey(2));
+      assertEquals(mockTile1, tiles.get(1));
+      assertEquals(mockTile2, tiles.get(2));
+    }
+  }
+
+  @Nested
+  @DisplayName("Board Properties Tests")
+  class BoardPropertiesTests {
+
+    @Test
+    @DisplayName("Board properties should be set correctly")
+    void getProperties_newBoard_returnsCorrectValues() {
+      assertEquals("Test Board", board.getName());
+      assertEquals("A test board", board.getDescription());
+      assertEquals(10, board.getRows());
+      assertEquals(9, board.getColumns());
+      assertEquals(0, board.getStartTileId());
+      assertEquals(90, board.getEndTileId());
+    }
+  }
+
+  @Nested
+  @DisplayName("Copy Tests")
+  class CopyTests {
+
+    private Board original;
+
+    @BeforeEach
+    void setUpOriginal() {
+      original = new Board("Original", "Board to copy", 1, 3, 1, 3);
+      Tile first = new Tile(1);
+      Tile second = new Tile(2);
+      Tile third = new Tile(3);
+      first.setRow(0);
+      first.setColumn(0);
+      first.setName("Start");
+      first.setNextTile(second);
+      second.setNextTile(third);
+      first.setLandAction(new LadderAction(third));
+      second.setLandAction(new PropertyAction(100));
+      third.setLandAction(new TaxAction(50));
+      original.addTile(first);
+      original.addTile(second);
+      original.addTile(third);
+    }
+
+    @Test
+    @DisplayName("copy should recreate tiles and links within the copy")
+    void copy_linksTilesWithinCopy() {
+      Board copy = original.copy();
+
+      assertEquals("Original", copy.getName());
+      assertEquals(3, copy.getTiles().size());
+      assertNotSame(original.getTile(1), copy.getTile(1));
+      assertEquals("Start", copy.getTile(1).getName());
+      assertEquals(0, copy.getTile(1).getRow());
+      assertSame(copy.getTile(2), copy.getTile(1).getNextTile());
+      assertSame(copy.getTile(3), assertInstanceOf(LadderAction.class,
+          copy.getTile(1).getLandAction()).getDestinationTile());
+    }
+
+    @Test
+    @DisplayName("copy should share stateless actions")
+    void copy_sharesStatelessActions() {
+      Board copy = original.copy();
+
+      assertSame(original.getTile(2).getLandAction(), copy.getTile(2).getLandAction());
+      assertSame(original.getTile(3).getLandAction(), copy.getTile(3).getLandAction());
+    }
+
+    @Test
+    @DisplayName("copy of a frozen board should be editable")
+    void copy_frozenBoard_returnsEditableBoard() {
+      original.freeze();
+
+      Board copy = original.copy();
+      copy.addTile(new Tile(4));
+      copy.getTile(1).setName("Renamed");
+
+      assertFalse(copy.isFrozen());
+      assertEquals(4, copy.getTiles().size());
+      assertEquals("Start", original.getTile(1).getName());
+    }
+  }
+
+  @Nested
+  @DisplayName("Freeze Tests")
+  class FreezeTests {
+
+    @Test
+    @DisplayName("freeze should reject new tiles and changes to tiles")
+    void freeze_rejectsChanges() {
+      Tile tile = new Tile(1);
+      board.addTile(tile);
+
+      board.freeze();
+
+      assertTrue(board.isFrozen());
+      assertThrows(InvalidGameStateException.class, () -> board.addTile(new Tile(2)));
+      assertThrows(InvalidGameStateException.class, () -> tile.setName("Changed"));
+      assertThrows(InvalidGameStateException.class, () -> tile.setNextTile(null));
+      assertThrows(InvalidGameStateException.class, () -> tile.setLandAction(null));
+      assertThrows(UnsupportedOperationException.class, () -> board.getTiles().remove(1));
+    }
+
+    @Test
+    @DisplayName("a new board should not be frozen")
+    void newBoard_isNotFrozen() {
+      assertFalse(board.isFrozen());
+    }
+  }
+}
@@ -0,0 +1,203 @@
+package edu.ntnu.stud.boardgame.model;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.ntnu.stud.boardgame.exception.InvalidGameStateException;
+import edu.ntnu.stud.boardgame.model.CompiledBoard.ActionKind;
+import edu.ntnu.stud.boardgame.model.action.LadderAction;
+import edu.ntnu.stud.boardgame.model.action.SkipTurnAction;
+import edu.ntnu.stud.boardgame.model.action.SnakeAction;
+import edu.ntnu.stud.boardgame.model.enums.PieceType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CompiledBoardTest {
+
+  private Board board;
+
+  @BeforeEach
+  void setUp() {
+    board = new Board("Test", "Test board", 1, 11, 0, 10);
+    for (int i = 0; i <= 10; i++) {
+      board.addTile(new Tile(i));
+    }
+    for (int i = 0; i < 10; i++) {
+      board.getTile(i).setNextTile(board.getTile(i + 1));
+    }
+    board.getTile(2).setLandAction(new LadderAction(board.getTile(7)));
+    board.getTile(9).setLandAction(new SnakeAction(board.getTile(4)));
+    board.getTile(5).setLandAction(new SkipTurnAction());
+  }
+
+  @Test
+  void constructor_nullBoard_throwsIllegalArgumentException() {
+    assertThrows(IllegalArgumentException.class, () -> new CompiledBoard(null, 6));
+  }
+
+  @Test
+  void constructor_negativeMaxSteps_throwsIllegalArgumentException() {
+    assertThrows(IllegalArgumentException.class, () -> new CompiledBoard(board, -1));
+  }
+
+  @Test
+  void constructor_copiesBoardProperties() {
+    CompiledBoard compiled = new CompiledBoard(board, 6);
+
+    assertEquals(11, compiled.size());
+    assertEquals(11, compiled.getTileCount());
+    assertEquals(6, compiled.getMaxSteps());
+    assertEquals(0, compiled.getStartTileId());
+    assertEquals(10, compiled.getEndTileId());
+    assertSame(board.getTile(3), compiled.getTile(3));
+  }
+
+  @Test
+  void advance_matchesPlayerDestinationTile() {
+    CompiledBoard compiled = new CompiledBoard(board, 6);
+    Player player = new Player("Test", PieceType.RED);
+
+    for (int from = 0; from <= 10; from++) {
+      player.setCurrentTile(board.getTile(from));
+      for (int steps = 0; steps <= 6; steps++) {
+        assertEquals(
+            player.getDestinationTile(steps).getTileId(), compiled.advance(from, steps));
+      }
+    }
+  }
+
+  @Test
+  void advance_beyondMaxSteps_walksRemainingSteps() {
+    CompiledBoard compiled = new CompiledBoard(board, 2);
+
+    assertEquals(5, compiled.advance(0, 5));
+    assertEquals(10, compiled.advance(8, 5));
+  }
+
+  @Test
+  void advance_invalidArguments_throwsIllegalArgumentException() {
+    CompiledBoard compiled = new CompiledBoard(board, 6);
+
+    assertThrows(IllegalArgumentException.class, () -> compiled.advance(11, 1));
+    assertThrows(IllegalArgumentException.class, () -> compiled.advance(0, -1));
+  }
+
+  @Test
+  void getActionKind_returnsKindForEachTile() {
+    CompiledBoard compiled = new CompiledBoard(board, 6);
+
+    assertEquals(ActionKind.LADDER, compiled.getActionKind(2));
+    assertEquals(ActionKind.SNAKE, compiled.getActionKind(9));
+    assertEquals(ActionKind.SKIP_TURN, compiled.getActionKind(5));
+    assertEquals(ActionKind.NONE, compiled.getActionKind(3));
+    assertEquals(ActionKind.NONE, compiled.getActionKind(42));
+  }
+
+  @Test
+  void getDestinationTileId_followsLaddersAndSnakes() {
+    CompiledBoard compiled = new CompiledBoard(board, 6);
+
+    assertEquals(7, compiled.getDestinationTileId(2));
+    assertEquals(4, compiled.getDestinationTileId(9));
+    assertEquals(3, compiled.getDestinationTileId(3));
+    assertEquals(CompiledBoard.NO_TILE, compiled.getDestinationTileId(42));
+  }
+
+  @Test
+  void getRestingTileId_chainedJumps_followsWholeChain() {
+    board.getTile(7).setLandAction(new SnakeAction(board.getTile(3)));
+    board.getTile(3).setLandAction(new LadderAction(board.getTile(8)));
+
+    CompiledBoard compiled = new CompiledBoard(board, 6);
+
+    assertEquals(8, compiled.getRestingTileId(2));
+    assertEquals(3, compiled.getJumpCount(2));
+    assertArrayEquals(new int[]{7, 3, 8}, compiled.getJumpPath(2));
+    assertEquals(8, compiled.getRestingTileId(7));
+    assertEquals(2, compiled.getJumpCount(7));
+    assertEquals(4, compiled.getRestingTileId(9));
+    assertEquals(6, compiled.getRestingTileId(6));
+    assertEquals(0, compiled.getJumpCount(6));
+    assertEquals(0, compiled.getJumpPath(6).length);
+    assertEquals(CompiledBoard.NO_TILE, compiled.getRestingTileId(42));
+  }
+
+  @Test
+  void constructor_ladderSnakeCycle_throwsInvalidGameStateException() {
+    board.getTile(7).setLandAction(new SnakeAction(board.getTile(2)));
+
+    assertThrows(InvalidGameStateException.class, () -> new CompiledBoard(board, 6));
+  }
+
+  @Test
+  void constructor_ladderToItself_throwsInvalidGameStateException() {
+    board.getTile(3).setLandAction(new LadderAction(board.getTile(3)));
+
+    assertThrows(InvalidGameStateException.class, () -> new CompiledBoard(board, 6));
+  }
+
+  @Test
+  void gapsInTileIds_areReportedAsMissing() {
+    Board sparse = new Board("Sparse", "Sparse board", 1, 3, 0, 4);
+    sparse.addTile(new Tile(0));
+    sparse.addTile(new Tile(4));
+    sparse.getTile(0).setNextTile(sparse.getTile(4));
+
+    CompiledBoard compiled = new CompiledBoard(sparse, 3);
+
+    assertTrue(compiled.contains(4));
+    assertFalse(compiled.contains(2));
+    assertNull(compiled.getTile(2));
+    assertEquals(4, compiled.getNextTileId(0));
+    assertEquals(CompiledBoard.NO_TILE, compiled.getNextTileId(4));
+    assertEquals(4, compiled.advance(0, 3));
+  }
+
+  @Test
+  void getContentHash_sameLayout_sameHash() {
+    Board copy = new Board("Other", "Other name", 1, 11, 0, 10);
+    for (int i = 0; i <= 10; i++) {
+      copy.addTile(new Tile(i));
+    }
+    for (int i = 0; i < 10; i++) {
+      copy.getTile(i).setNextTile(copy.getTile(i + 1));
+    }
+    copy.getTile(2).setLandAction(new LadderAction(copy.getTile(7)));
+    copy.getTile(9).setLandAction(new SnakeAction(copy.getTile(4)));
+    copy.getTile(5).setLandAction(new SkipTurnAction());
+
+    assertEquals(
+        new CompiledBoard(board, 6).getContentHash(), new CompiledBoard(copy, 12).getContentHash());
+
+    copy.getTile(2).setLandAction(new LadderAction(copy.getTile(8)));
+    assertNotEquals(
+        new CompiledBoard(board, 6).getContentHash(), new CompiledBoard(copy, 6).getContentHash());
+  }
+
+  @Test
+  void hasSameContent_comparesLayoutNotIdentity() {
+    Board copy = new Board("Other", "Other name", 1, 11, 0, 10);
+    for (int i = 0; i <= 10; i++) {
+      copy.addTile(new Tile(i));
+    }
+    for (int i = 0; i < 10; i++) {
+      copy.getTile(i).setNextTile(copy.getTile(i + 1));
+    }
+    copy.getTile(2).setLandAction(new LadderAction(copy.getTile(7)));
+    copy.getTile(9).setLandAction(new SnakeAction(copy.getTile(4)));
+    copy.getTile(5).setLandAction(new SkipTurnAction());
+
+    CompiledBoard compiled = new CompiledBoard(board, 6);
+    assertTrue(compiled.hasSameContent(new CompiledBoard(copy, 12)));
+    assertFalse(compiled.hasSameContent(null));
+
+    copy.getTile(5).setLandAction(null);
+    assertFalse(compiled.hasSameContent(new CompiledBoard(copy, 6)));
+  }
+}
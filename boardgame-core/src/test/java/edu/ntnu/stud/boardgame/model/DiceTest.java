@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.random.RandomGenerator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -79,4 +80,25 @@ class DiceTest {
   void getDie_dieNumberTooHigh_throwsIndexOutOfBoundsException() {
     assertThrows(IndexOutOfBoundsException.class, () -> dice.getDie(2));
   }
+
+  @Test
+  void getMaxRoll_returnsNumberOfDiceTimesSides() {
+    assertEquals(12, dice.getMaxRoll());
+    assertEquals(18, new Dice(3).getMaxRoll());
+  }
+
+  @Test
+  void constructor_nullRandom_throwsIllegalArgumentException() {
+    assertThrows(IllegalArgumentException.class, () -> new Dice(2, (RandomGenerator) null));
+  }
+
+  @Test
+  void roll_sameSeed_returnsSameSequence() {
+    Dice first = new Dice(2, 123L);
+    Dice second = new Dice(2, 123L);
+    for (int i = 0; i < 100; i++) {
+      assertEquals(first.roll(), second.roll());
+      assertEquals(first.getDie(0), second.getDie(0));
+    }
+  }
 }
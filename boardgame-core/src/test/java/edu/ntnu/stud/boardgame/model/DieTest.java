@@ -1,8 +1,10 @@
 package edu.ntnu.stud.boardgame.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.SplittableRandom;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.RepeatedTest;
@@ -37,4 +39,20 @@ class DieTest {
     int rolledValue = die.roll();
     assertEquals(rolledValue, die.getValue());
   }
+
+  @Test
+  @DisplayName("Constructor should reject a null random generator")
+  void constructor_nullRandom_throwsIllegalArgumentException() {
+    assertThrows(IllegalArgumentException.class, () -> new Die(null));
+  }
+
+  @Test
+  @DisplayName("Dice with the same seed should roll the same values")
+  void roll_sameSeed_returnsSameSequence() {
+    Die first = new Die(new SplittableRandom(7));
+    Die second = new Die(new SplittableRandom(7));
+    for (int i = 0; i < 100; i++) {
+      assertEquals(first.roll(), second.roll());
+    }
+  }
 }
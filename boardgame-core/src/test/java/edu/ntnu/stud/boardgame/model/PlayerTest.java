@@ -7,6 +7,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import edu.ntnu.stud.boardgame.model.action.TileActionContext;
 import edu.ntnu.stud.boardgame.model.enums.PieceType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -57,7 +58,7 @@ class PlayerTest {
       player.placeOnTile(mockTile);
 
       assertEquals(mockTile, player.getCurrentTile());
-      verify(mockTile).landPlayer(player);
+      verify(mockTile).landPlayer(player, TileActionContext.NONE);
     }
 
     @Test
@@ -99,7 +100,7 @@ class PlayerTest {
       player.move(1);
 
       assertEquals(mockNextTile, player.getCurrentTile());
-      verify(mockNextTile).landPlayer(player);
+      verify(mockNextTile).landPlayer(player, TileActionContext.NONE);
     }
   }
 
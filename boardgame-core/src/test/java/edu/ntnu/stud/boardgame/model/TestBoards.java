@@ -0,0 +1,42 @@
+package edu.ntnu.stud.boardgame.model;
+
+/** Board fixtures shared by the tests. */
+public final class TestBoards {
+
+  private TestBoards() {
+  }
+
+  /**
+   * Creates a board without actions where every tile leads to the next, for ladder game tests.
+   *
+   * @param endTileId the ID of the last tile, starting from 0
+   * @return a board from tile 0 to the end tile
+   */
+  public static Board createLinearBoard(int endTileId) {
+    Board board = new Board("Linear", "A board without actions", 1, endTileId + 1, 0, endTileId);
+    for (int i = 0; i <= endTileId; i++) {
+      board.addTile(new Tile(i));
+    }
+    for (int i = 0; i < endTileId; i++) {
+      board.getTile(i).setNextTile(board.getTile(i + 1));
+    }
+    return board;
+  }
+
+  /**
+   * Creates a board without actions whose tiles form a loop, for Monopoly tests.
+   *
+   * @param tileCount the number of tiles
+   * @return a board where the last tile leads back to the first
+   */
+  public static Board createCircularBoard(int tileCount) {
+    Board board = new Board("Circle", "A circular board", 1, tileCount, 0, tileCount - 1);
+    for (int i = 0; i < tileCount; i++) {
+      board.addTile(new Tile(i));
+    }
+    for (int i = 0; i < tileCount; i++) {
+      board.getTile(i).setNextTile(board.getTile((i + 1) % tileCount));
+    }
+    return board;
+  }
+}
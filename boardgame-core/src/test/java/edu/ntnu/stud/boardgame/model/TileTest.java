@@ -5,6 +5,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
 import edu.ntnu.stud.boardgame.model.action.TileAction;
+import edu.ntnu.stud.boardgame.model.action.TileActionContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -70,7 +71,7 @@ class TileTest {
 
       tile.landPlayer(mockPlayer);
 
-      verify(mockAction).perform(mockPlayer);
+      verify(mockAction).perform(mockPlayer, TileActionContext.NONE);
     }
 
     @Test
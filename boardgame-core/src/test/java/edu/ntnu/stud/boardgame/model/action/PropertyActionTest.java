@@ -8,11 +8,9 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import edu.ntnu.stud.boardgame.model.Player;
-import edu.ntnu.stud.boardgame.model.action.registry.MonopolyActionRegistry;
-import edu.ntnu.stud.boardgame.model.game.MonopolyGame;
-import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -20,30 +18,18 @@ class PropertyActionTest {
 
   private final int validPrice = 100;
   private PropertyAction propertyAction;
-  private MonopolyGame mockGame;
-  private MonopolyActionRegistry registry;
+  private TileActionContext mockContext;
 
   @BeforeEach
   void setUp() {
     propertyAction = new PropertyAction(validPrice);
-    mockGame = mock(MonopolyGame.class);
-
-    registry = MonopolyActionRegistry.getInstance();
-    registry.registerGame(mockGame);
-  }
-
-  @AfterEach
-  void tearDown() {
-    if (registry != null) {
-      registry.clearGame();
-    }
+    mockContext = mock(TileActionContext.class);
   }
 
   @Test
   void constructor_withValidPrice_shouldCreateInstance() {
     assertNotNull(propertyAction);
     assertEquals(validPrice, propertyAction.getPrice());
-    assertNull(propertyAction.getOwner(), "Owner should be null initially.");
   }
 
   @Test
@@ -63,23 +49,8 @@ class PropertyActionTest {
   }
 
   @Test
-  void getOwner_initially_shouldReturnNull() {
-    assertNull(propertyAction.getOwner());
-  }
-
-  @Test
-  void setOwner_shouldUpdateOwner() {
-    Player mockPlayer = mock(Player.class);
-    propertyAction.setOwner(mockPlayer);
-    assertEquals(mockPlayer, propertyAction.getOwner());
-  }
-
-  @Test
-  void setOwner_withNull_shouldSetOwnerToNull() {
-    Player mockPlayer = mock(Player.class);
-    propertyAction.setOwner(mockPlayer);
-    propertyAction.setOwner(null);
-    assertNull(propertyAction.getOwner());
+  void getPropertyOwner_withDefaultContext_shouldReturnNull() {
+    assertNull(TileActionContext.NONE.getPropertyOwner(propertyAction));
   }
 
   @Test
@@ -88,41 +59,52 @@ class PropertyActionTest {
         assertThrows(
             IllegalArgumentException.class,
             () -> {
-              propertyAction.perform(null);
+              propertyAction.perform(null, mockContext);
             });
     assertEquals("Player cannot be null for PropertyAction.", exception.getMessage());
-    verify(mockGame, never()).payRent(null, null, 0);
+    verify(mockContext, never()).payRent(null, null, 0);
   }
 
   @Test
-  void perform_withValidPlayer_shouldDelegateToMonopolyActionRegistry() {
+  void perform_withValidPlayer_shouldReportToContext() {
     Player mockPlayer = mock(Player.class);
     Player mockOwner = mock(Player.class);
-    propertyAction.setOwner(mockOwner);
+    when(mockContext.getPropertyOwner(propertyAction)).thenReturn(mockOwner);
 
-    propertyAction.perform(mockPlayer);
+    propertyAction.perform(mockPlayer, mockContext);
 
     int expectedRent = validPrice / 5;
-    verify(mockGame, times(1)).payRent(mockPlayer, mockOwner, expectedRent);
+    verify(mockContext, times(1)).payRent(mockPlayer, mockOwner, expectedRent);
   }
 
   @Test
-  void perform_whenPropertyHasNoOwner_shouldDelegateAndNotCallPayRent() {
+  void perform_whenPropertyHasNoOwner_shouldNotCallPayRent() {
     Player mockPlayer = mock(Player.class);
-    propertyAction.setOwner(null);
+    when(mockContext.getPropertyOwner(propertyAction)).thenReturn(null);
 
-    propertyAction.perform(mockPlayer);
+    propertyAction.perform(mockPlayer, mockContext);
 
-    verify(mockGame, never()).payRent(mockPlayer, null, 0);
+    verify(mockContext, never()).payRent(mockPlayer, null, 0);
   }
 
   @Test
-  void perform_whenPlayerIsOwner_shouldDelegateAndNotCallPayRent() {
+  void perform_whenPlayerIsOwner_shouldNotCallPayRent() {
     Player mockPlayer = mock(Player.class);
-    propertyAction.setOwner(mockPlayer);
+    when(mockContext.getPropertyOwner(propertyAction)).thenReturn(mockPlayer);
 
-    propertyAction.perform(mockPlayer);
+    propertyAction.perform(mockPlayer, mockContext);
 
-    verify(mockGame, never()).payRent(mockPlayer, mockPlayer, 0);
+    verify(mockContext, never()).payRent(mockPlayer, mockPlayer, 0);
+  }
+
+  @Test
+  void perform_withNullContext_shouldThrowIllegalArgumentException() {
+    Player mockPlayer = mock(Player.class);
+    assertThrows(IllegalArgumentException.class, () -> propertyAction.perform(mockPlayer, null));
+  }
+
+  @Test
+  void getRent_shouldReturnFifthOfPrice() {
+    assertEquals(validPrice / 5, propertyAction.getRent());
   }
 }
@@ -9,9 +9,6 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import edu.ntnu.stud.boardgame.model.Player;
-import edu.ntnu.stud.boardgame.model.action.registry.MonopolyActionRegistry;
-import edu.ntnu.stud.boardgame.model.game.MonopolyGame;
-import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -19,23 +16,12 @@ class StartActionTest {
 
   private final int validAmount = 200;
   private StartAction startAction;
-  private MonopolyGame mockGame;
-  private MonopolyActionRegistry registry;
+  private TileActionContext mockContext;
 
   @BeforeEach
   void setUp() {
     startAction = new StartAction(validAmount);
-    mockGame = mock(MonopolyGame.class);
-
-    registry = MonopolyActionRegistry.getInstance();
-    registry.registerGame(mockGame);
-  }
-
-  @AfterEach
-  void tearDown() {
-    if (registry != null) {
-      registry.clearGame();
-    }
+    mockContext = mock(TileActionContext.class);
   }
 
   @Test
@@ -62,38 +48,37 @@ class StartActionTest {
         assertThrows(
             IllegalArgumentException.class,
             () -> {
-              startAction.perform(null);
+              startAction.perform(null, mockContext);
             });
     assertEquals("Player cannot be null for StartAction.", exception.getMessage());
-    verify(mockGame, never()).receiveStartMoney(null, validAmount);
+    verify(mockContext, never()).receiveStartMoney(null, validAmount);
   }
 
   @Test
-  void perform_withValidPlayer_shouldDelegateToMonopolyActionRegistry() {
+  void perform_withValidPlayer_shouldReportToContext() {
     Player mockPlayer = mock(Player.class);
 
-    startAction.perform(mockPlayer);
+    startAction.perform(mockPlayer, mockContext);
 
-    verify(mockGame, times(1)).receiveStartMoney(mockPlayer, validAmount);
+    verify(mockContext, times(1)).receiveStartMoney(mockPlayer, validAmount);
   }
 
   @Test
-  void perform_withNegativeAmountInAction_shouldDelegateAndRegistryHandlesNegative() {
+  void perform_withNegativeAmountInAction_shouldNotReportToContext() {
     Player mockPlayer = mock(Player.class);
     int negativeAmount = -100;
     StartAction negativeStartAction = new StartAction(negativeAmount);
 
-    negativeStartAction.perform(mockPlayer);
+    negativeStartAction.perform(mockPlayer, mockContext);
 
-    verify(mockGame, never()).receiveStartMoney(mockPlayer, negativeAmount);
+    verify(mockContext, never()).receiveStartMoney(mockPlayer, negativeAmount);
   }
 
   @Test
-  void perform_whenNoGameRegisteredInRegistry_shouldStillAttemptCallButRegistryHandlesIt() {
-    registry.clearGame();
+  void perform_withoutContext_shouldNotReportToAnyGame() {
     Player mockPlayer = mock(Player.class);
 
     startAction.perform(mockPlayer);
-    verify(mockGame, never()).receiveStartMoney(mockPlayer, validAmount);
+    verify(mockContext, never()).receiveStartMoney(mockPlayer, validAmount);
   }
 }
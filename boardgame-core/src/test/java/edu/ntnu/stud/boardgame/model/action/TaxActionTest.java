@@ -9,9 +9,6 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import edu.ntnu.stud.boardgame.model.Player;
-import edu.ntnu.stud.boardgame.model.action.registry.MonopolyActionRegistry;
-import edu.ntnu.stud.boardgame.model.game.MonopolyGame;
-import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -19,23 +16,12 @@ class TaxActionTest {
 
   private final int validAmount = 50;
   private TaxAction taxAction;
-  private MonopolyGame mockGame;
-  private MonopolyActionRegistry registry;
+  private TileActionContext mockContext;
 
   @BeforeEach
   void setUp() {
     taxAction = new TaxAction(validAmount);
-    mockGame = mock(MonopolyGame.class);
-
-    registry = MonopolyActionRegistry.getInstance();
-    registry.registerGame(mockGame);
-  }
-
-  @AfterEach
-  void tearDown() {
-    if (registry != null) {
-      registry.clearGame();
-    }
+    mockContext = mock(TileActionContext.class);
   }
 
   @Test
@@ -66,28 +52,27 @@ class TaxActionTest {
         assertThrows(
             IllegalArgumentException.class,
             () -> {
-              taxAction.perform(null);
+              taxAction.perform(null, mockContext);
             });
     assertEquals("Player cannot be null for TaxAction.", exception.getMessage());
-    verify(mockGame, never()).payTax(null, validAmount);
+    verify(mockContext, never()).payTax(null, validAmount);
   }
 
   @Test
-  void perform_withValidPlayer_shouldDelegateToMonopolyActionRegistry() {
+  void perform_withValidPlayer_shouldReportToContext() {
     Player mockPlayer = mock(Player.class);
 
-    taxAction.perform(mockPlayer);
+    taxAction.perform(mockPlayer, mockContext);
 
-    verify(mockGame, times(1)).payTax(mockPlayer, validAmount);
+    verify(mockContext, times(1)).payTax(mockPlayer, validAmount);
   }
 
   @Test
-  void perform_whenNoGameRegisteredInRegistry_shouldStillAttemptCallButRegistryHandlesIt() {
-    registry.clearGame();
+  void perform_withoutContext_shouldNotReportToAnyGame() {
     Player mockPlayer = mock(Player.class);
 
     taxAction.perform(mockPlayer);
 
-    verify(mockGame, never()).payTax(mockPlayer, validAmount);
+    verify(mockContext, never()).payTax(mockPlayer, validAmount);
   }
 }
@@ -47,6 +47,24 @@ class PieceTypeTest {
     }
   }
 
+  @Nested
+  @DisplayName("Color Tests")
+  class ColorTests {
+
+    @ParameterizedTest
+    @CsvSource({
+      "RED, #FF0000",
+      "BLUE, #0000FF",
+      "GREEN, #008000",
+      "YELLOW, #FFFF00",
+      "BLACK, #000000"
+    })
+    @DisplayName("getColorHex should return the web color of the piece")
+    void getColorHex_specificPieceType_returnsWebColor(PieceType pieceType, String expected) {
+      assertEquals(expected, pieceType.getColorHex());
+    }
+  }
+
   @Nested
   @DisplayName("FromDisplayName Tests")
   class FromDisplayNameTests {
@@ -15,9 +15,11 @@ import static org.mockito.Mockito.when;
 
 import edu.ntnu.stud.boardgame.exception.InvalidGameStateException;
 import edu.ntnu.stud.boardgame.model.Board;
+import edu.ntnu.stud.boardgame.model.Dice;
 import edu.ntnu.stud.boardgame.model.Player;
 import edu.ntnu.stud.boardgame.model.Tile;
 import edu.ntnu.stud.boardgame.observer.BoardGameObserver;
+import edu.ntnu.stud.boardgame.observer.GameEvent.EventType;
 import edu.ntnu.stud.boardgame.observer.event.GameCreatedEvent;
 import edu.ntnu.stud.boardgame.observer.event.GameEndedEvent;
 import edu.ntnu.stud.boardgame.observer.event.GameStartedEvent;
@@ -26,6 +28,7 @@ import edu.ntnu.stud.boardgame.observer.event.PlayerWonEvent;
 import edu.ntnu.stud.boardgame.observer.event.TurnChangedEvent;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -73,6 +76,15 @@ class BoardGameTest {
     assertNotNull(game.getDice());
   }
 
+  @Test
+  void createDice_withSeed_shouldRollReproducibly() {
+    game.createDice(2, 99L);
+    Dice expected = new Dice(2, 99L);
+    for (int i = 0; i < 20; i++) {
+      assertEquals(expected.roll(), game.getDice().roll());
+    }
+  }
+
   @Test
   void addPlayer_withValidPlayer_shouldAddPlayerAndNotify() {
     game.registerObserver(mockObserver);
@@ -292,6 +304,32 @@ class BoardGameTest {
     verify(mockObserver2, times(1)).onGameEvent(event);
   }
 
+  @Test
+  void notifyObservers_duringEventBatch_shouldDeliverOnFlush() {
+    game.registerObserver(mockObserver);
+    GameCreatedEvent event = new GameCreatedEvent(mockBoard, Collections.emptyList());
+
+    game.beginEventBatch();
+    game.notifyObservers(event);
+    verify(mockObserver, never()).onGameEvent(any());
+
+    game.flushEvents();
+    verify(mockObserver, times(1)).onGameEvent(event);
+
+    game.flushEvents();
+    verify(mockObserver, times(1)).onGameEvent(event);
+  }
+
+  @Test
+  void hasObservers_shouldReflectRegisteredEventTypes() {
+    assertFalse(game.hasObservers(EventType.TURN_CHANGED));
+
+    game.registerObserver(mockObserver, EnumSet.of(EventType.TURN_CHANGED));
+
+    assertTrue(game.hasObservers(EventType.TURN_CHANGED));
+    assertFalse(game.hasObservers(EventType.PLAYER_MOVED));
+  }
+
   @Test
   void notifyGameCreated_shouldNotifyWithGameCreatedEvent() {
     game.registerObserver(mockObserver);
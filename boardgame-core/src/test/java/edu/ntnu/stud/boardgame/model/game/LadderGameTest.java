@@ -22,7 +22,9 @@ import edu.ntnu.stud.boardgame.model.Player;
 import edu.ntnu.stud.boardgame.model.Tile;
 import edu.ntnu.stud.boardgame.model.action.LadderAction;
 import edu.ntnu.stud.boardgame.model.action.SnakeAction;
+import edu.ntnu.stud.boardgame.model.enums.PieceType;
 import edu.ntnu.stud.boardgame.observer.BoardGameObserver;
+import edu.ntnu.stud.boardgame.observer.GameEvent.EventType;
 import edu.ntnu.stud.boardgame.observer.event.BounceBackEvent;
 import edu.ntnu.stud.boardgame.observer.event.DiceRolledEvent;
 import edu.ntnu.stud.boardgame.observer.event.GameEndedEvent;
@@ -30,6 +32,7 @@ import edu.ntnu.stud.boardgame.observer.event.LadderClimbedEvent;
 import edu.ntnu.stud.boardgame.observer.event.PlayerMovedEvent;
 import edu.ntnu.stud.boardgame.observer.event.PlayerWonEvent;
 import edu.ntnu.stud.boardgame.observer.event.SnakeEncounteredEvent;
+import java.util.EnumSet;
 import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -137,6 +140,20 @@ class LadderGameTest {
     assertFalse(game.isGameOver());
   }
 
+  @Test
+  void playTurn_filteredObserver_shouldOnlyReceiveSubscribedEvents() {
+    BoardGameObserver moveObserver = mock(BoardGameObserver.class);
+    game.registerObserver(moveObserver, EnumSet.of(EventType.PLAYER_MOVED));
+    when(mockDice.roll()).thenReturn(3);
+    when(mockPlayer.getDestinationTile(3)).thenReturn(mockLadderTile);
+    when(mockLadderTile.getLandAction()).thenReturn(null);
+
+    game.playTurn();
+
+    verify(moveObserver).onGameEvent(any(PlayerMovedEvent.class));
+    verify(moveObserver, never()).onGameEvent(any(DiceRolledEvent.class));
+  }
+
   @Test
   void playTurn_landOnEndTile_shouldEndGameAndNotify() {
     when(mockDice.roll()).thenReturn(10);
@@ -240,6 +257,57 @@ class LadderGameTest {
     assertFalse(game.isGameOver());
   }
 
+  @Test
+  void playTurn_chainedLadders_reportsEveryHopAndRestsAtEnd() {
+    Board board = new Board("Chain", "Chained ladders", 1, 10, 0, 9);
+    for (int i = 0; i <= 9; i++) {
+      board.addTile(new Tile(i));
+    }
+    for (int i = 0; i < 9; i++) {
+      board.getTile(i).setNextTile(board.getTile(i + 1));
+    }
+    board.getTile(1).setLandAction(new LadderAction(board.getTile(3)));
+    board.getTile(3).setLandAction(new LadderAction(board.getTile(6)));
+    Player player = new Player("Chained", PieceType.RED);
+    LadderGame chainGame = new LadderGame();
+    chainGame.setBoard(board);
+    chainGame.dice = mockDice;
+    chainGame.addPlayer(player);
+    BoardGameObserver observer = mock(BoardGameObserver.class);
+    chainGame.registerObserver(observer, EnumSet.of(EventType.LADDER_CLIMBED));
+    chainGame.startGame();
+    when(mockDice.roll()).thenReturn(1);
+
+    chainGame.playTurn();
+
+    ArgumentCaptor<LadderClimbedEvent> captor = ArgumentCaptor.forClass(LadderClimbedEvent.class);
+    verify(observer, times(2)).onGameEvent(captor.capture());
+    assertEquals(1, captor.getAllValues().get(0).getFromTile().getTileId());
+    assertEquals(3, captor.getAllValues().get(0).getToTile().getTileId());
+    assertEquals(3, captor.getAllValues().get(1).getFromTile().getTileId());
+    assertEquals(6, captor.getAllValues().get(1).getToTile().getTileId());
+    assertEquals(6, player.getCurrentTile().getTileId());
+  }
+
+  @Test
+  void startGame_ladderSnakeCycle_throwsInvalidGameStateException() {
+    Board board = new Board("Cycle", "Cyclic board", 1, 6, 0, 5);
+    for (int i = 0; i <= 5; i++) {
+      board.addTile(new Tile(i));
+    }
+    for (int i = 0; i < 5; i++) {
+      board.getTile(i).setNextTile(board.getTile(i + 1));
+    }
+    board.getTile(1).setLandAction(new LadderAction(board.getTile(3)));
+    board.getTile(3).setLandAction(new SnakeAction(board.getTile(1)));
+    LadderGame cycleGame = new LadderGame();
+    cycleGame.setBoard(board);
+    cycleGame.dice = mockDice;
+    cycleGame.addPlayer(new Player("Cyclic", PieceType.BLUE));
+
+    assertThrows(InvalidGameStateException.class, cycleGame::startGame);
+  }
+
   @Test
   void playTurn_playerSkipsTurn_shouldNotMovePlayer() {
     when(mockPlayer.shouldSkipNextTurn()).thenReturn(true);
@@ -0,0 +1,71 @@
+package edu.ntnu.stud.boardgame.model.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MoneyLedgerTest {
+
+  private MoneyLedger ledger;
+
+  @BeforeEach
+  void setUp() {
+    ledger = new MoneyLedger(3, 100);
+  }
+
+  @Test
+  void constructor_negativeSeats_throwsIllegalArgumentException() {
+    assertThrows(IllegalArgumentException.class, () -> new MoneyLedger(-1, 100));
+  }
+
+  @Test
+  void constructor_everySeatHasStartingBalance() {
+    assertEquals(3, ledger.size());
+    for (int seat = 0; seat < 3; seat++) {
+      assertEquals(100, ledger.getBalance(seat));
+    }
+    assertEquals(3, ledger.getActiveCount());
+  }
+
+  @Test
+  void withdraw_moreThanBalance_takesOnlyBalance() {
+    assertEquals(100, ledger.withdraw(1, 250));
+    assertEquals(0, ledger.getBalance(1));
+  }
+
+  @Test
+  void deposit_addsToBalance() {
+    ledger.deposit(2, 50);
+    assertEquals(150, ledger.getBalance(2));
+  }
+
+  @Test
+  void markBankrupt_onlyCountsOnce() {
+    assertTrue(ledger.markBankrupt(0));
+    assertFalse(ledger.markBankrupt(0));
+
+    assertTrue(ledger.isBankrupt(0));
+    assertEquals(2, ledger.getActiveCount());
+    assertEquals(1, ledger.firstActiveSeat());
+  }
+
+  @Test
+  void isBankrupt_unknownSeat_returnsFalse() {
+    assertFalse(ledger.isBankrupt(-1));
+    assertFalse(ledger.isBankrupt(42));
+    assertFalse(ledger.contains(3));
+  }
+
+  @Test
+  void firstActiveSeat_allBankrupt_returnsMinusOne() {
+    ledger.markBankrupt(0);
+    ledger.markBankrupt(1);
+    ledger.markBankrupt(2);
+    assertEquals(0, ledger.getActiveCount());
+    assertEquals(-1, ledger.firstActiveSeat());
+  }
+}
@@ -0,0 +1,123 @@
+package edu.ntnu.stud.boardgame.model.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.ntnu.stud.boardgame.factory.MonopolyBoardFactory;
+import edu.ntnu.stud.boardgame.model.Board;
+import edu.ntnu.stud.boardgame.model.Player;
+import edu.ntnu.stud.boardgame.model.Tile;
+import edu.ntnu.stud.boardgame.model.action.PropertyAction;
+import edu.ntnu.stud.boardgame.model.action.TaxAction;
+import edu.ntnu.stud.boardgame.model.enums.PieceType;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class MonopolyGameTest {
+
+  private static MonopolyGame createStartedGame(Board board, Player first, Player second) {
+    MonopolyGame game = new MonopolyGame();
+    game.setBoard(board);
+    game.createDice(2);
+    game.addPlayer(first);
+    game.addPlayer(second);
+    game.startGame();
+    return game;
+  }
+
+  private static Tile findTaxTile(Board board) {
+    for (Tile tile : board.getTiles().values()) {
+      if (tile.getLandAction() instanceof TaxAction) {
+        return tile;
+      }
+    }
+    return null;
+  }
+
+  private static Tile findPropertyTile(Board board) {
+    for (Tile tile : board.getTiles().values()) {
+      if (tile.getLandAction() instanceof PropertyAction) {
+        return tile;
+      }
+    }
+    return null;
+  }
+
+  @Test
+  void landing_withGameAsContext_onlyAffectsThatGame() {
+    Board board = MonopolyBoardFactory.createBoard("Standard");
+    Player alice = new Player("Alice", PieceType.RED);
+    Player bob = new Player("Bob", PieceType.BLUE);
+    Player carol = new Player("Carol", PieceType.RED);
+    Player dave = new Player("Dave", PieceType.BLUE);
+    MonopolyGame firstGame = createStartedGame(board, alice, bob);
+    MonopolyGame secondGame = createStartedGame(board, carol, dave);
+    Tile taxTile = findTaxTile(board);
+    assertNotNull(taxTile);
+    int tax = ((TaxAction) taxTile.getLandAction()).getAmount();
+
+    alice.placeOnTile(taxTile, firstGame);
+    carol.placeOnTile(taxTile, secondGame);
+    carol.placeOnTile(taxTile, secondGame);
+
+    assertEquals(1500 - tax, firstGame.getPlayerMoney(alice));
+    assertEquals(1500 - 2 * tax, secondGame.getPlayerMoney(carol));
+    assertEquals(0, firstGame.getPlayerMoney(carol));
+  }
+
+  @Test
+  void buyProperty_onSharedBoard_onlyOwnedInThatGame() {
+    Board board = MonopolyBoardFactory.createBoard("Standard");
+    Player alice = new Player("Alice", PieceType.RED);
+    Player bob = new Player("Bob", PieceType.BLUE);
+    Player carol = new Player("Carol", PieceType.RED);
+    Player dave = new Player("Dave", PieceType.BLUE);
+    MonopolyGame firstGame = createStartedGame(board, alice, bob);
+    MonopolyGame secondGame = createStartedGame(board, carol, dave);
+    Tile property = findPropertyTile(board);
+    int rent = ((PropertyAction) property.getLandAction()).getRent();
+
+    assertTrue(firstGame.buyProperty(alice, property));
+    assertFalse(firstGame.buyProperty(bob, property));
+    bob.placeOnTile(property, firstGame);
+    dave.placeOnTile(property, secondGame);
+
+    assertEquals(alice, firstGame.getPropertyOwner(property));
+    assertNull(secondGame.getPropertyOwner(property));
+    assertEquals(1500 - rent, firstGame.getPlayerMoney(bob));
+    assertEquals(1500, secondGame.getPlayerMoney(dave));
+    assertTrue(secondGame.buyProperty(dave, property));
+    assertEquals(dave, secondGame.getPropertyOwner(property));
+  }
+
+  @Test
+  void landing_withoutContext_doesNotChangeMoney() {
+    Board board = MonopolyBoardFactory.createBoard("Standard");
+    Player alice = new Player("Alice", PieceType.RED);
+    MonopolyGame game = createStartedGame(board, alice, new Player("Bob", PieceType.BLUE));
+
+    alice.placeOnTile(findTaxTile(board));
+
+    assertEquals(1500, game.getPlayerMoney(alice));
+  }
+
+  @Test
+  void payRent_tenantRunsOutOfMoney_endsGameWithOwnerAsWinner() {
+    Board board = MonopolyBoardFactory.createBoard("Standard");
+    Player alice = new Player("Alice", PieceType.RED);
+    Player bob = new Player("Bob", PieceType.BLUE);
+    MonopolyGame game = createStartedGame(board, alice, bob);
+
+    game.payRent(alice, bob, 2000);
+
+    assertEquals(0, game.getPlayerMoney(alice));
+    assertEquals(3000, game.getPlayerMoney(bob));
+    assertTrue(game.isBankrupt(alice));
+    assertEquals(List.of(alice), game.getBankruptPlayers());
+    assertTrue(game.isGameOver());
+    assertEquals(bob, game.getWinner());
+  }
+}
@@ -0,0 +1,329 @@
+package edu.ntnu.stud.boardgame.observer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import edu.ntnu.stud.boardgame.model.Player;
+import edu.ntnu.stud.boardgame.observer.GameEvent.EventType;
+import edu.ntnu.stud.boardgame.observer.GameEventBus.OverflowPolicy;
+import edu.ntnu.stud.boardgame.observer.event.PlayerWonEvent;
+import edu.ntnu.stud.boardgame.observer.event.TurnChangedEvent;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class GameEventBusTest {
+
+  private GameEventBus bus;
+  private GameEvent first;
+  private GameEvent second;
+
+  @BeforeEach
+  void setUp() {
+    bus = new GameEventBus();
+    Player player = mock(Player.class);
+    first = new TurnChangedEvent(player);
+    second = new PlayerWonEvent(player);
+  }
+
+  @Test
+  void subscribe_invalidArguments_throwsIllegalArgumentException() {
+    BoardGameObserver observer = mock(BoardGameObserver.class);
+    assertThrows(IllegalArgumentException.class, () -> bus.subscribe(null));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> bus.subscribe(observer, null, 1, OverflowPolicy.BLOCK));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> bus.subscribe(observer, Runnable::run, 0, OverflowPolicy.BLOCK));
+    assertThrows(
+        IllegalArgumentException.class, () -> bus.subscribe(observer, Runnable::run, 1, null));
+  }
+
+  @Test
+  void subscribe_sameObserverTwice_subscribesOnce() {
+    BoardGameObserver observer = mock(BoardGameObserver.class);
+
+    assertTrue(bus.subscribe(observer));
+    assertFalse(bus.subscribe(observer));
+    assertEquals(1, bus.getSubscriberCount());
+  }
+
+  @Test
+  void publish_directExecutor_deliversEachEventInOrder() {
+    List<GameEvent> received = new ArrayList<>();
+    bus.subscribe(received::add);
+
+    bus.publish(List.of(first, second));
+
+    assertEquals(List.of(first, second), received);
+  }
+
+  @Test
+  void publish_batchObserver_receivesWholeBatchOnce() {
+    List<List<GameEvent>> batches = new ArrayList<>();
+    BoardGameBatchObserver observer = batches::add;
+    bus.subscribe(observer);
+
+    bus.publish(List.of(first, second));
+
+    assertEquals(List.of(List.of(first, second)), batches);
+  }
+
+  @Test
+  void publish_emptyBatch_notifiesNobody() {
+    BoardGameObserver observer = mock(BoardGameObserver.class);
+    bus.subscribe(observer);
+
+    bus.publish(List.of());
+
+    verify(observer, never()).onGameEvent(first);
+  }
+
+  @Test
+  void publish_deferredExecutor_deliversWhenExecutorRuns() {
+    Queue<Runnable> tasks = new ArrayDeque<>();
+    List<GameEvent> received = new ArrayList<>();
+    bus.subscribe(received::add, tasks::add, 4, OverflowPolicy.BLOCK);
+
+    bus.publish(List.of(first));
+    bus.publish(List.of(second));
+
+    assertTrue(received.isEmpty());
+    assertEquals(1, tasks.size());
+    tasks.poll().run();
+    assertEquals(List.of(first, second), received);
+  }
+
+  @Test
+  void publish_dropOldestWhenFull_keepsNewestBatches() {
+    Queue<Runnable> tasks = new ArrayDeque<>();
+    List<GameEvent> received = new ArrayList<>();
+    BoardGameObserver observer = received::add;
+    bus.subscribe(observer, tasks::add, 1, OverflowPolicy.DROP_OLDEST);
+
+    bus.publish(List.of(first));
+    bus.publish(List.of(second));
+    tasks.poll().run();
+
+    assertEquals(List.of(second), received);
+    assertEquals(1, bus.getDroppedBatchCount(observer));
+  }
+
+  @Test
+  void publish_growWhenFull_keepsEveryBatchInOrder() {
+    Queue<Runnable> tasks = new ArrayDeque<>();
+    List<GameEvent> received = new ArrayList<>();
+    BoardGameObserver observer = received::add;
+    bus.subscribe(observer, tasks::add, 2, OverflowPolicy.GROW);
+
+    List<GameEvent> published = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      GameEvent event = i % 2 == 0 ? first : second;
+      bus.publish(List.of(event));
+      published.add(event);
+    }
+    tasks.poll().run();
+
+    assertEquals(published, received);
+    assertEquals(0, bus.getDroppedBatchCount(observer));
+  }
+
+  @Test
+  void publish_dropNewestWhenFull_keepsBufferedBatches() {
+    Queue<Runnable> tasks = new ArrayDeque<>();
+    List<GameEvent> received = new ArrayList<>();
+    BoardGameObserver observer = received::add;
+    bus.subscribe(observer, tasks::add, 1, OverflowPolicy.DROP_NEWEST);
+
+    bus.publish(List.of(first));
+    bus.publish(List.of(second));
+    tasks.poll().run();
+
+    assertEquals(List.of(first), received);
+    assertEquals(1, bus.getDroppedBatchCount(observer));
+  }
+
+  @Test
+  void publish_blockWhenFull_waitsForSlowConsumer() throws InterruptedException {
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    CountDownLatch release = new CountDownLatch(1);
+    List<GameEvent> received = new ArrayList<>();
+    CountDownLatch done = new CountDownLatch(3);
+    BoardGameObserver observer =
+        event -> {
+          try {
+            release.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          synchronized (received) {
+            received.add(event);
+          }
+          done.countDown();
+        };
+    bus.subscribe(observer, executor, 1, OverflowPolicy.BLOCK);
+
+    try {
+      Thread publisher =
+          new Thread(
+              () -> {
+                bus.publish(List.of(first));
+                bus.publish(List.of(second));
+                bus.publish(List.of(first));
+              });
+      publisher.start();
+      publisher.join(200);
+      assertTrue(publisher.isAlive());
+
+      release.countDown();
+      publisher.join(5_000);
+      assertFalse(publisher.isAlive());
+      assertTrue(done.await(5, TimeUnit.SECONDS));
+      assertEquals(List.of(first, second, first), received);
+      assertEquals(0, bus.getDroppedBatchCount(observer));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void publish_failingDirectObserver_propagatesException() {
+    BoardGameObserver failing = mock(BoardGameObserver.class);
+    doThrow(new IllegalStateException("boom")).when(failing).onGameEvent(first);
+    List<GameEvent> received = new ArrayList<>();
+    bus.subscribe(failing);
+    bus.subscribe(received::add);
+
+    assertThrows(IllegalStateException.class, () -> bus.publish(List.of(first)));
+    assertTrue(received.isEmpty());
+
+    bus.publish(List.of(second));
+
+    verify(failing).onGameEvent(second);
+    assertEquals(List.of(second), received);
+  }
+
+  @Test
+  void publish_failingDeferredObserver_isDrainedAgainOnNextPublish() {
+    Queue<Runnable> tasks = new ArrayDeque<>();
+    List<GameEvent> received = new ArrayList<>();
+    BoardGameObserver observer =
+        event -> {
+          if (event == first) {
+            throw new IllegalStateException("boom");
+          }
+          received.add(event);
+        };
+    bus.subscribe(observer, tasks::add, 4, OverflowPolicy.BLOCK);
+
+    bus.publish(List.of(first));
+    bus.publish(List.of(second));
+    assertThrows(IllegalStateException.class, () -> tasks.poll().run());
+    assertTrue(tasks.isEmpty());
+
+    bus.publish(List.of(first, second));
+    assertEquals(1, tasks.size());
+    assertThrows(IllegalStateException.class, () -> tasks.poll().run());
+    bus.publish(List.of(second));
+    tasks.poll().run();
+
+    assertEquals(List.of(second, second), received);
+  }
+
+  @Test
+  void publish_fromDirectObserverCallback_deliversAfterCurrentBatch() {
+    List<GameEvent> received = new ArrayList<>();
+    bus.subscribe(
+        event -> {
+          received.add(event);
+          if (event == first) {
+            bus.publish(List.of(second));
+            received.add(null);
+          }
+        });
+
+    bus.publish(List.of(first));
+
+    assertEquals(Arrays.asList(first, null, second), received);
+  }
+
+  @Test
+  void unsubscribe_discardsBufferedBatches() {
+    Queue<Runnable> tasks = new ArrayDeque<>();
+    List<GameEvent> received = new ArrayList<>();
+    BoardGameObserver observer = received::add;
+    bus.subscribe(observer, tasks::add, 4, OverflowPolicy.BLOCK);
+    bus.publish(List.of(first));
+
+    assertTrue(bus.unsubscribe(observer));
+    tasks.poll().run();
+
+    assertTrue(received.isEmpty());
+    assertEquals(0, bus.getSubscriberCount());
+    assertFalse(bus.unsubscribe(observer));
+  }
+
+  @Test
+  void subscribe_emptyEventTypes_throwsIllegalArgumentException() {
+    BoardGameObserver observer = mock(BoardGameObserver.class);
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> bus.subscribe(observer, EnumSet.noneOf(EventType.class)));
+  }
+
+  @Test
+  void publish_filteredObserver_receivesOnlySubscribedTypes() {
+    List<GameEvent> received = new ArrayList<>();
+    bus.subscribe(received::add, EnumSet.of(EventType.PLAYER_WON));
+
+    bus.publish(List.of(first));
+    bus.publish(List.of(first, second));
+
+    assertEquals(List.of(second), received);
+  }
+
+  @Test
+  void publish_filteredBatchObserver_skipsBatchWithoutSubscribedTypes() {
+    List<List<GameEvent>> batches = new ArrayList<>();
+    BoardGameBatchObserver observer = batches::add;
+    bus.subscribe(observer, EnumSet.of(EventType.GAME_ENDED));
+
+    bus.publish(List.of(first, second));
+
+    assertTrue(batches.isEmpty());
+  }
+
+  @Test
+  void hasSubscribers_reflectsSubscribedTypes() {
+    BoardGameObserver observer = mock(BoardGameObserver.class);
+    assertFalse(bus.hasSubscribers(EventType.TURN_CHANGED));
+
+    bus.subscribe(observer, EnumSet.of(EventType.TURN_CHANGED));
+    assertTrue(bus.hasSubscribers(EventType.TURN_CHANGED));
+    assertFalse(bus.hasSubscribers(EventType.PLAYER_MOVED));
+
+    bus.unsubscribe(observer);
+    assertFalse(bus.hasSubscribers(EventType.TURN_CHANGED));
+  }
+
+  @Test
+  void publish_nullEvents_throwsIllegalArgumentException() {
+    assertThrows(IllegalArgumentException.class, () -> bus.publish(null));
+  }
+}
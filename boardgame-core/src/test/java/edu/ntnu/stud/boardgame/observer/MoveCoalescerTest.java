@@ -0,0 +1,98 @@
+package edu.ntnu.stud.boardgame.observer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+import edu.ntnu.stud.boardgame.model.Board;
+import edu.ntnu.stud.boardgame.model.Player;
+import edu.ntnu.stud.boardgame.model.Tile;
+import edu.ntnu.stud.boardgame.observer.event.DiceRolledEvent;
+import edu.ntnu.stud.boardgame.observer.event.LadderClimbedEvent;
+import edu.ntnu.stud.boardgame.observer.event.MoneyTransferEvent;
+import edu.ntnu.stud.boardgame.observer.event.MovesSummaryEvent;
+import edu.ntnu.stud.boardgame.observer.event.PlayerMovedEvent;
+import edu.ntnu.stud.boardgame.observer.event.PlayerWonEvent;
+import edu.ntnu.stud.boardgame.observer.event.TurnChangedEvent;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MoveCoalescerTest {
+
+  private Player alice;
+  private Player bob;
+  private Board board;
+  private Tile[] tiles;
+
+  @BeforeEach
+  void setUp() {
+    alice = mock(Player.class);
+    bob = mock(Player.class);
+    board = mock(Board.class);
+    tiles = new Tile[10];
+    for (int i = 0; i < tiles.length; i++) {
+      tiles[i] = new Tile(i);
+    }
+  }
+
+  private PlayerMovedEvent move(Player player, int from, int to) {
+    return new PlayerMovedEvent(player, tiles[from], tiles[to], to - from, board);
+  }
+
+  @Test
+  void coalesce_nullEvents_throwsIllegalArgumentException() {
+    assertThrows(IllegalArgumentException.class, () -> MoveCoalescer.coalesce(null));
+  }
+
+  @Test
+  void coalesce_singleTurn_returnsEventsUnchanged() {
+    List<GameEvent> events =
+        List.of(new DiceRolledEvent(3, alice), move(alice, 0, 3), new TurnChangedEvent(bob));
+
+    assertSame(events, MoveCoalescer.coalesce(events));
+  }
+
+  @Test
+  void coalesce_severalTurns_mergesMovesPerPlayer() {
+    List<GameEvent> events =
+        List.of(
+            new DiceRolledEvent(2, alice),
+            move(alice, 0, 2),
+            new TurnChangedEvent(bob),
+            new DiceRolledEvent(4, bob),
+            move(bob, 0, 4),
+            new MoneyTransferEvent(bob, alice, 10, "rent"),
+            new TurnChangedEvent(alice),
+            new DiceRolledEvent(3, alice),
+            move(alice, 2, 5),
+            new LadderClimbedEvent(alice, tiles[5], tiles[9], 0, board),
+            new PlayerWonEvent(alice));
+
+    List<GameEvent> coalesced = MoveCoalescer.coalesce(events);
+
+    assertEquals(6, coalesced.size());
+    assertSame(events.get(3), coalesced.get(0));
+    assertSame(events.get(4), coalesced.get(1));
+    assertSame(events.get(5), coalesced.get(2));
+    assertSame(events.get(6), coalesced.get(3));
+    MovesSummaryEvent summary = assertInstanceOf(MovesSummaryEvent.class, coalesced.get(4));
+    assertSame(alice, summary.getPlayer());
+    assertSame(tiles[0], summary.getFromTile());
+    assertSame(tiles[9], summary.getToTile());
+    assertEquals(5, summary.getSteps());
+    assertEquals(2, summary.getMoves());
+    assertSame(events.get(10), coalesced.get(5));
+  }
+
+  @Test
+  void coalesce_severalTurnChanges_keepsOnlyTheLast() {
+    List<GameEvent> events =
+        List.of(
+            new TurnChangedEvent(bob), new TurnChangedEvent(alice), new TurnChangedEvent(bob));
+
+    assertEquals(List.of(events.get(2)), MoveCoalescer.coalesce(events));
+  }
+}
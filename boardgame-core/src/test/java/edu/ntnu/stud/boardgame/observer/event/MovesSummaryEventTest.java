@@ -0,0 +1,32 @@
+package edu.ntnu.stud.boardgame.observer.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+import edu.ntnu.stud.boardgame.model.Board;
+import edu.ntnu.stud.boardgame.model.Player;
+import edu.ntnu.stud.boardgame.model.Tile;
+import edu.ntnu.stud.boardgame.observer.GameEvent.EventType;
+import org.junit.jupiter.api.Test;
+
+class MovesSummaryEventTest {
+
+  @Test
+  void constructor_shouldSetCorrectEventTypeAndPassArgumentsToSuper() {
+    Player mockPlayer = mock(Player.class);
+    Tile mockFromTile = mock(Tile.class);
+    Tile mockToTile = mock(Tile.class);
+    Board mockBoard = mock(Board.class);
+
+    MovesSummaryEvent event =
+        new MovesSummaryEvent(mockPlayer, mockFromTile, mockToTile, 42, 6, mockBoard);
+
+    assertEquals(EventType.MOVES_SUMMARY, event.getEventType());
+    assertEquals(mockPlayer, event.getPlayer());
+    assertEquals(mockFromTile, event.getFromTile());
+    assertEquals(mockToTile, event.getToTile());
+    assertEquals(42, event.getSteps());
+    assertEquals(6, event.getMoves());
+    assertEquals(mockBoard, event.getBoard());
+  }
+}
@@ -0,0 +1,114 @@
+package edu.ntnu.stud.boardgame.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import edu.ntnu.stud.boardgame.model.Board;
+import edu.ntnu.stud.boardgame.model.Tile;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("BoardCache Tests")
+class BoardCacheTest {
+
+  private static final FileTime MODIFIED = FileTime.fromMillis(1_000);
+  private static final long ONE_TILE_BOARD_BYTES =
+      BoardCache.ESTIMATED_BYTES_PER_BOARD + BoardCache.ESTIMATED_BYTES_PER_TILE;
+
+  private BoardCache cache;
+
+  @BeforeEach
+  void setUp() {
+    cache = new BoardCache(3 * ONE_TILE_BOARD_BYTES);
+  }
+
+  private static Board createBoard(String name) {
+    Board board = new Board(name, "Cached board", 1, 1, 1, 1);
+    board.addTile(new Tile(1));
+    return board;
+  }
+
+  @Test
+  @DisplayName("get should return the cached board while the file is unchanged")
+  void get_unchangedFile_returnsCachedBoard() {
+    Board board = createBoard("A");
+    cache.put(Path.of("a.json"), 100, MODIFIED, board);
+
+    assertSame(board, cache.get(Path.of("a.json"), 100, MODIFIED));
+    assertSame(board, cache.get(Path.of("./a.json").toAbsolutePath(), 100, MODIFIED));
+  }
+
+  @Test
+  @DisplayName("get should drop the entry when the file size or modification time changes")
+  void get_changedFile_invalidatesEntry() {
+    cache.put(Path.of("a.json"), 100, MODIFIED, createBoard("A"));
+    cache.put(Path.of("b.json"), 100, MODIFIED, createBoard("B"));
+
+    assertNull(cache.get(Path.of("a.json"), 101, MODIFIED));
+    assertNull(cache.get(Path.of("b.json"), 100, FileTime.fromMillis(2_000)));
+    assertEquals(0, cache.size());
+    assertEquals(0, cache.getUsedBytes());
+  }
+
+  @Test
+  @DisplayName("put should evict the least recently used board when over budget")
+  void put_overBudget_evictsLeastRecentlyUsed() {
+    cache.put(Path.of("a.json"), 1, MODIFIED, createBoard("A"));
+    cache.put(Path.of("b.json"), 1, MODIFIED, createBoard("B"));
+    cache.put(Path.of("c.json"), 1, MODIFIED, createBoard("C"));
+    cache.get(Path.of("a.json"), 1, MODIFIED);
+
+    cache.put(Path.of("d.json"), 1, MODIFIED, createBoard("D"));
+
+    assertEquals(3, cache.size());
+    assertNull(cache.get(Path.of("b.json"), 1, MODIFIED));
+    assertEquals("A", cache.get(Path.of("a.json"), 1, MODIFIED).getName());
+    assertEquals(3 * ONE_TILE_BOARD_BYTES, cache.getUsedBytes());
+  }
+
+  @Test
+  @DisplayName("put should not cache boards larger than the budget")
+  void put_boardLargerThanBudget_isNotCached() {
+    Board large = createBoard("Large");
+    for (int id = 2; id <= 100; id++) {
+      large.addTile(new Tile(id));
+    }
+
+    cache.put(Path.of("large.json"), 1, MODIFIED, large);
+
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  @DisplayName("setMemoryBudget should evict boards until the cache fits")
+  void setMemoryBudget_lowerBudget_evictsBoards() {
+    cache.put(Path.of("a.json"), 1, MODIFIED, createBoard("A"));
+    cache.put(Path.of("b.json"), 1, MODIFIED, createBoard("B"));
+
+    cache.setMemoryBudget(ONE_TILE_BOARD_BYTES);
+
+    assertEquals(1, cache.size());
+    assertEquals("B", cache.get(Path.of("b.json"), 1, MODIFIED).getName());
+    assertThrows(IllegalArgumentException.class, () -> cache.setMemoryBudget(-1));
+  }
+
+  @Test
+  @DisplayName("invalidate and clear should remove boards")
+  void invalidateAndClear_removeBoards() {
+    cache.put(Path.of("a.json"), 1, MODIFIED, createBoard("A"));
+    cache.put(Path.of("b.json"), 1, MODIFIED, createBoard("B"));
+
+    cache.invalidate(Path.of("a.json"));
+    assertNull(cache.get(Path.of("a.json"), 1, MODIFIED));
+    assertEquals(1, cache.size());
+
+    cache.clear();
+    assertEquals(0, cache.size());
+    assertEquals(0, cache.getUsedBytes());
+  }
+}
@@ -0,0 +1,179 @@
+package edu.ntnu.stud.boardgame.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.ntnu.stud.boardgame.exception.files.BoardParsingException;
+import edu.ntnu.stud.boardgame.model.enums.BoardGameType;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("BoardDirectoryIndex Tests")
+class BoardDirectoryIndexTest {
+
+  @TempDir Path baseDirectory;
+
+  private Path ladderDirectory;
+  private AtomicInteger reads;
+  private BoardDirectoryIndex index;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    ladderDirectory = Files.createDirectories(baseDirectory.resolve("ladder"));
+    reads = new AtomicInteger();
+    index =
+        new BoardDirectoryIndex(
+            baseDirectory,
+            (path, fileName, attributes) -> {
+              reads.incrementAndGet();
+              String content = readContent(path);
+              if (content.isEmpty()) {
+                throw new BoardParsingException("Empty board file");
+              }
+              return new BoardSummary(fileName, content, "Description", 10, 9, 90,
+                  attributes.size(), attributes.lastModifiedTime());
+            });
+  }
+
+  @AfterEach
+  void tearDown() {
+    index.close();
+  }
+
+  private static String readContent(Path path) {
+    try {
+      return Files.readString(path);
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static void awaitCondition(BooleanSupplier condition) throws InterruptedException {
+    long deadline = System.nanoTime() + 10_000_000_000L;
+    while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+      Thread.sleep(20);
+    }
+    assertTrue(condition.getAsBoolean(), "Condition was not met in time");
+  }
+
+  private static List<String> titles(List<BoardSummary> summaries) {
+    return summaries.stream().map(BoardSummary::getTitle).toList();
+  }
+
+  @Test
+  @DisplayName("getBoards should list board files sorted by name")
+  void getBoards_listsBoardFilesSortedByName() throws IOException {
+    Files.writeString(ladderDirectory.resolve("beta.json"), "Beta");
+    Files.writeString(ladderDirectory.resolve("Alpha.json"), "Alpha");
+    Files.writeString(ladderDirectory.resolve("notes.txt"), "Not a board");
+
+    List<BoardSummary> boards = index.getBoards(BoardGameType.LADDER);
+
+    assertEquals(List.of("Alpha", "beta"),
+        boards.stream().map(BoardSummary::getFileName).toList());
+    assertEquals(90, boards.getFirst().getTileCount());
+    assertTrue(index.getBoards(BoardGameType.MONOPOLY).isEmpty());
+  }
+
+  @Test
+  @DisplayName("getBoards should prefer the binary file when a board exists in both formats")
+  void getBoards_bothFormats_listsBinaryOnce() throws IOException {
+    Files.writeString(ladderDirectory.resolve("board.json"), "From JSON");
+    Files.writeString(ladderDirectory.resolve("board.board"), "From binary");
+
+    assertEquals(List.of("From binary"), titles(index.getBoards(BoardGameType.LADDER)));
+  }
+
+  @Test
+  @DisplayName("getBoards should list a board from the file its name resolves to")
+  void getBoards_severalFormats_listsFileWithLowestFormatRank() throws IOException {
+    Files.writeString(ladderDirectory.resolve("board.json.gz"), "From packed JSON");
+    Files.writeString(ladderDirectory.resolve("board.json"), "From JSON");
+    Files.writeString(ladderDirectory.resolve("board.board.gz"), "From packed binary");
+
+    assertEquals(List.of("From packed binary"), titles(index.getBoards(BoardGameType.LADDER)));
+
+    Files.delete(ladderDirectory.resolve("board.board.gz"));
+    assertEquals(List.of("From JSON"), titles(index.getBoards(BoardGameType.LADDER)));
+  }
+
+  @Test
+  @DisplayName("rescanning should only read new and changed files")
+  void getBoards_withoutWatching_readsOnlyChangedFiles() throws IOException {
+    Files.writeString(ladderDirectory.resolve("first.json"), "First");
+    Files.writeString(ladderDirectory.resolve("second.json"), "Second");
+    index.getBoards(BoardGameType.LADDER);
+    assertEquals(2, reads.get());
+
+    Files.writeString(ladderDirectory.resolve("second.json"), "Second, edited");
+    Files.delete(ladderDirectory.resolve("first.json"));
+    List<BoardSummary> boards = index.getBoards(BoardGameType.LADDER);
+
+    assertEquals(3, reads.get());
+    assertEquals(List.of("Second, edited"), titles(boards));
+  }
+
+  @Test
+  @DisplayName("getBoards should list compressed board files by their name without extension")
+  void getBoards_compressedFiles_listedWithoutExtension() throws IOException {
+    Files.writeString(ladderDirectory.resolve("packed.json.gz"), "Packed JSON");
+    Files.writeString(ladderDirectory.resolve("mapped.board.gz"), "Packed binary");
+
+    assertEquals(List.of("mapped", "packed"),
+        index.getBoards(BoardGameType.LADDER).stream().map(BoardSummary::getFileName).toList());
+  }
+
+  @Test
+  @DisplayName("unreadable board files should be skipped")
+  void getBoards_unreadableFile_isSkipped() throws IOException {
+    Files.writeString(ladderDirectory.resolve("broken.json"), "");
+    Files.writeString(ladderDirectory.resolve("valid.json"), "Valid");
+
+    assertEquals(List.of("Valid"), titles(index.getBoards(BoardGameType.LADDER)));
+  }
+
+  @Test
+  @DisplayName("start should scan the directories in the background and notify listeners")
+  void start_scansInBackgroundAndNotifiesListeners() throws IOException, InterruptedException {
+    Files.writeString(ladderDirectory.resolve("existing.json"), "Existing");
+    Set<BoardGameType> notified = ConcurrentHashMap.newKeySet();
+    index.addListener(notified::add);
+
+    index.start();
+    awaitCondition(() -> notified.contains(BoardGameType.LADDER));
+
+    assertTrue(index.isScanned(BoardGameType.LADDER));
+    assertEquals(List.of("Existing"), titles(index.getBoards(BoardGameType.LADDER)));
+    assertEquals(1, reads.get());
+  }
+
+  @Test
+  @DisplayName("the watcher should pick up created, changed and deleted files")
+  void start_watchesDirectoryChanges() throws IOException, InterruptedException {
+    index.start();
+    assertTrue(index.isWatching());
+    assertTrue(index.getBoards(BoardGameType.LADDER).isEmpty());
+
+    Path board = ladderDirectory.resolve("watched.json");
+    Files.writeString(board, "Created");
+    awaitCondition(() -> titles(index.getBoards(BoardGameType.LADDER)).equals(List.of("Created")));
+
+    Files.writeString(board, "Changed contents");
+    awaitCondition(
+        () -> titles(index.getBoards(BoardGameType.LADDER)).equals(List.of("Changed contents")));
+
+    Files.delete(board);
+    awaitCondition(() -> index.getBoards(BoardGameType.LADDER).isEmpty());
+  }
+}
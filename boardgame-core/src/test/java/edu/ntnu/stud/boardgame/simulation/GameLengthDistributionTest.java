@@ -0,0 +1,66 @@
+package edu.ntnu.stud.boardgame.simulation;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class GameLengthDistributionTest {
+
+  private final GameLengthDistribution distribution =
+      new GameLengthDistribution(new long[] {0, 2, 4, 2, 0, 0}, 3);
+
+  @Test
+  void getHistogram_trimsTrailingZeros() {
+    assertArrayEquals(new long[] {0, 2, 4, 2}, distribution.getHistogram());
+    assertEquals(8, distribution.getFinishedGames());
+    assertEquals(3, distribution.getUnfinishedGames());
+  }
+
+  @Test
+  void getAverageAndStandardDeviation_weightByHistogram() {
+    assertEquals(2.0, distribution.getAverage(), 1e-9);
+    assertEquals(Math.sqrt(4.0 / 7), distribution.getStandardDeviation(), 1e-9);
+  }
+
+  @Test
+  void getAverageInterval_isCenteredOnTheMean() {
+    ConfidenceInterval interval = distribution.getAverageInterval();
+    double halfWidth = ConfidenceInterval.Z_95 * Math.sqrt(4.0 / 7 / 8);
+
+    assertEquals(2.0 - halfWidth, interval.getLower(), 1e-9);
+    assertEquals(2.0 + halfWidth, interval.getUpper(), 1e-9);
+  }
+
+  @Test
+  void getPercentile_returnsSmallestLengthCoveringTheShare() {
+    assertEquals(1, distribution.getPercentile(0.25));
+    assertEquals(2, distribution.getPercentile(0.5));
+    assertEquals(3, distribution.getPercentile(1.0));
+    assertThrows(IllegalArgumentException.class, () -> distribution.getPercentile(1.5));
+  }
+
+  @Test
+  void merge_addsHistogramsAndUnfinishedGames() {
+    GameLengthDistribution merged = GameLengthDistribution.merge(
+        List.of(distribution, new GameLengthDistribution(new long[] {0, 0, 0, 0, 1}, 1)));
+
+    assertArrayEquals(new long[] {0, 2, 4, 2, 1}, merged.getHistogram());
+    assertEquals(4, merged.getUnfinishedGames());
+  }
+
+  @Test
+  void forProportion_staysWithinBoundsAtTheExtremes() {
+    ConfidenceInterval none = ConfidenceInterval.forProportion(0, 50);
+    ConfidenceInterval all = ConfidenceInterval.forProportion(50, 50);
+
+    assertEquals(0.0, none.getLower(), 1e-9);
+    assertTrue(none.getUpper() > 0);
+    assertEquals(1.0, all.getUpper(), 1e-9);
+    assertTrue(all.getLower() < 1);
+    assertTrue(ConfidenceInterval.forProportion(30, 100).contains(0.3));
+  }
+}
@@ -0,0 +1,107 @@
+package edu.ntnu.stud.boardgame.simulation;
+
+import static edu.ntnu.stud.boardgame.model.TestBoards.createCircularBoard;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.ntnu.stud.boardgame.factory.MonopolyBoardFactory;
+import edu.ntnu.stud.boardgame.model.Board;
+import edu.ntnu.stud.boardgame.model.Player;
+import edu.ntnu.stud.boardgame.model.Tile;
+import edu.ntnu.stud.boardgame.model.action.PropertyAction;
+import edu.ntnu.stud.boardgame.model.action.TaxAction;
+import edu.ntnu.stud.boardgame.model.enums.PieceType;
+import edu.ntnu.stud.boardgame.model.game.MonopolyGame;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class MonopolyStateTest {
+
+  private static final PurchaseStrategy[] ALWAYS_BUY = {
+      PurchaseStrategies.alwaysBuy(), PurchaseStrategies.alwaysBuy()
+  };
+
+  private static Tile findPropertyTile(Board board) {
+    for (Tile tile : board.getTiles().values()) {
+      if (tile.getLandAction() instanceof PropertyAction) {
+        return tile;
+      }
+    }
+    return null;
+  }
+
+  @Test
+  void of_runningGame_copiesBalancesPositionsAndOwners() {
+    Board board = MonopolyBoardFactory.createBoard("Standard");
+    Player alice = new Player("Alice", PieceType.RED);
+    Player bob = new Player("Bob", PieceType.BLUE);
+    MonopolyGame game = new MonopolyGame();
+    game.setBoard(board);
+    game.createDice(2);
+    game.addPlayer(alice);
+    game.addPlayer(bob);
+    game.startGame();
+    Tile property = findPropertyTile(board);
+    int price = ((PropertyAction) property.getLandAction()).getPrice();
+    alice.placeOnTile(property, game);
+    game.buyProperty(alice, property);
+
+    MonopolyState state = MonopolyState.of(game);
+
+    assertEquals(2, state.getSeatCount());
+    assertEquals(property.getTileId(), state.getPosition(0));
+    assertEquals(1500 - price, state.getBalance(0));
+    assertEquals(1500, state.getBalance(1));
+    assertEquals(0, state.getOwner(property.getTileId()));
+    assertEquals(1500, state.getNetWorth(0));
+    assertFalse(state.isGameOver());
+  }
+
+  @Test
+  void of_nullGame_throwsIllegalArgumentException() {
+    assertThrows(IllegalArgumentException.class, () -> MonopolyState.of(null));
+  }
+
+  @Test
+  void copy_isIndependentOfOriginal() {
+    Board board = createCircularBoard(12);
+    for (int i = 1; i < 12; i++) {
+      board.getTile(i).setLandAction(new PropertyAction(100));
+    }
+    MonopolyState state = new MonopolyState(new MonopolyBoardTable(board), 2);
+    MonopolyState copy = state.copy();
+
+    copy.buy(0, 5);
+    copy.playTurn(new SplittableRandom(1L), ALWAYS_BUY);
+
+    assertEquals(-1, state.getOwner(5));
+    assertEquals(1500, state.getBalance(0));
+    assertEquals(0, state.getCurrentSeat());
+    assertEquals(0, copy.getOwner(5));
+    assertEquals(1, copy.getCurrentSeat());
+  }
+
+  @Test
+  void playTurn_taxBoard_endsWithOneWinner() {
+    Board board = createCircularBoard(12);
+    for (int i = 1; i < 12; i++) {
+      board.getTile(i).setLandAction(new TaxAction(100));
+    }
+    MonopolyState state = new MonopolyState(new MonopolyBoardTable(board), 2);
+    SplittableRandom random = new SplittableRandom(5L);
+
+    int turns = 0;
+    while (!state.playTurn(random, ALWAYS_BUY)) {
+      turns++;
+    }
+
+    assertTrue(turns > 0);
+    assertTrue(state.isGameOver());
+    int winner = state.getWinner();
+    assertTrue(winner == 0 || winner == 1);
+    assertTrue(state.isBankrupt(1 - winner));
+    assertEquals(0, state.getNetWorth(1 - winner));
+  }
+}
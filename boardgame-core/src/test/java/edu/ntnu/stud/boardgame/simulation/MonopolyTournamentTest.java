@@ -0,0 +1,145 @@
+package edu.ntnu.stud.boardgame.simulation;
+
+import static edu.ntnu.stud.boardgame.model.TestBoards.createCircularBoard;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.ntnu.stud.boardgame.factory.MonopolyBoardFactory;
+import edu.ntnu.stud.boardgame.model.Board;
+import edu.ntnu.stud.boardgame.model.action.PropertyAction;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class MonopolyTournamentTest {
+
+  private static final List<PurchaseStrategy> STRATEGIES =
+      List.of(
+          PurchaseStrategies.alwaysBuy(),
+          PurchaseStrategies.neverBuy(),
+          PurchaseStrategies.cashThreshold(500));
+
+  @Test
+  void constructor_singleStrategy_throwsIllegalArgumentException() {
+    List<Board> boards = List.of(createCircularBoard(10));
+    List<PurchaseStrategy> strategies = List.of(PurchaseStrategies.alwaysBuy());
+
+    assertThrows(IllegalArgumentException.class, () -> new MonopolyTournament(boards, strategies));
+  }
+
+  @Test
+  void constructor_noBoards_throwsIllegalArgumentException() {
+    assertThrows(IllegalArgumentException.class, () -> new MonopolyTournament(List.of(),
+        STRATEGIES));
+  }
+
+  @Test
+  void run_nonPositiveGames_throwsIllegalArgumentException() {
+    MonopolyTournament tournament =
+        new MonopolyTournament(List.of(createCircularBoard(10)), STRATEGIES);
+
+    assertThrows(IllegalArgumentException.class, () -> tournament.run(0));
+  }
+
+  @Test
+  void run_boardWithoutActions_everyGameHitsRoundLimit() {
+    AtomicInteger offers = new AtomicInteger();
+    PurchaseStrategy counting =
+        new PurchaseStrategy() {
+          @Override
+          public String getName() {
+            return "Counting";
+          }
+
+          @Override
+          public boolean shouldBuy(PurchaseOffer offer) {
+            offers.incrementAndGet();
+            return true;
+          }
+        };
+    MonopolyTournament tournament =
+        new MonopolyTournament(List.of(createCircularBoard(12)),
+            List.of(counting, PurchaseStrategies.alwaysBuy()), 50, ForkJoinPool.commonPool());
+
+    TournamentResult result = tournament.run(100, 1L);
+
+    assertEquals(1, result.getMatches().size());
+    assertEquals(0, result.getWins(0) + result.getWins(1));
+    assertEquals(100, result.getGameLengths().getUnfinishedGames());
+    assertEquals(0, offers.get());
+  }
+
+  @Test
+  void run_propertyBoard_strategyIsOfferedProperties() {
+    Board board = createCircularBoard(12);
+    for (int i = 1; i < 12; i++) {
+      board.getTile(i).setLandAction(new PropertyAction(200));
+    }
+    AtomicInteger offers = new AtomicInteger();
+    PurchaseStrategy counting =
+        new PurchaseStrategy() {
+          @Override
+          public String getName() {
+            return "Counting";
+          }
+
+          @Override
+          public boolean shouldBuy(PurchaseOffer offer) {
+            offers.incrementAndGet();
+            assertEquals(40, offer.getRent());
+            assertTrue(offer.getBalance() >= offer.getPrice());
+            return false;
+          }
+        };
+    MonopolyTournament tournament =
+        new MonopolyTournament(List.of(board), List.of(counting, PurchaseStrategies.alwaysBuy()));
+
+    TournamentResult result = tournament.run(200, 3L);
+
+    assertTrue(offers.get() > 0);
+    assertEquals(200, result.getWins(1) + result.getGameLengths().getUnfinishedGames());
+    assertEquals(0, result.getWins(0));
+  }
+
+  @Test
+  void run_predefinedBoards_playsRoundRobinOnEveryBoard() {
+    MonopolyTournament tournament = MonopolyTournament.onPredefinedBoards(STRATEGIES);
+    int boards = MonopolyBoardFactory.getAvailableBoards().size();
+
+    TournamentResult result = tournament.run(1_000, 7L);
+
+    assertEquals(boards * 3, tournament.getMatchCount());
+    assertEquals(boards * 3 * 1_000L, result.getGamesPlayed());
+    assertEquals(boards * 2 * 1_000L, result.getGames(0));
+    for (MatchResult match : result.getMatches()) {
+      assertEquals(match.getGamesPlayed(), match.getFirstWins() + match.getSecondWins()
+          + match.getGameLengths().getUnfinishedGames());
+    }
+    assertTrue(result.getWinRate(2).getLower() > result.getWinRate(0).getUpper());
+    assertTrue(result.getGameLengths().getAverageInterval().contains(
+        result.getGameLengths().getAverage()));
+    assertTrue(result.formatReport().contains("Always buy"));
+  }
+
+  @Test
+  void run_sameSeed_givesSameResultOnAnyPool() {
+    ForkJoinPool singleThreadPool = new ForkJoinPool(1);
+    try {
+      List<Board> boards = List.of(MonopolyBoardFactory.createBoard("Standard"));
+      TournamentResult parallel = new MonopolyTournament(boards, STRATEGIES).run(3_000, 42L);
+      TournamentResult sequential =
+          new MonopolyTournament(boards, STRATEGIES, 1_000, singleThreadPool).run(3_000, 42L);
+
+      for (int strategy = 0; strategy < STRATEGIES.size(); strategy++) {
+        assertEquals(parallel.getWins(strategy), sequential.getWins(strategy));
+      }
+      assertArrayEquals(parallel.getGameLengths().getHistogram(),
+          sequential.getGameLengths().getHistogram());
+    } finally {
+      singleThreadPool.shutdown();
+    }
+  }
+}
@@ -0,0 +1,114 @@
+package edu.ntnu.stud.boardgame.simulation;
+
+import static edu.ntnu.stud.boardgame.model.TestBoards.createCircularBoard;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.ntnu.stud.boardgame.model.Board;
+import edu.ntnu.stud.boardgame.model.Player;
+import edu.ntnu.stud.boardgame.model.Tile;
+import edu.ntnu.stud.boardgame.model.action.PropertyAction;
+import edu.ntnu.stud.boardgame.model.action.TaxAction;
+import edu.ntnu.stud.boardgame.model.enums.PieceType;
+import edu.ntnu.stud.boardgame.model.game.MonopolyGame;
+import java.time.Duration;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+
+class MonteCarloBotTest {
+
+  private static final MonteCarloBot BOT = new MonteCarloBot(ForkJoinPool.commonPool(),
+      Duration.ofMillis(20), PurchaseStrategies.cashThreshold(200), 100);
+
+  private static MonopolyState createState(Board board) {
+    return new MonopolyState(new MonopolyBoardTable(board), 2);
+  }
+
+  @Test
+  void constructor_invalidArguments_throwIllegalArgumentException() {
+    ForkJoinPool pool = ForkJoinPool.commonPool();
+    PurchaseStrategy policy = PurchaseStrategies.alwaysBuy();
+    Duration budget = Duration.ofMillis(10);
+
+    assertThrows(IllegalArgumentException.class, () -> new MonteCarloBot(null, budget, policy, 10));
+    assertThrows(IllegalArgumentException.class,
+        () -> new MonteCarloBot(pool, Duration.ZERO, policy, 10));
+    assertThrows(IllegalArgumentException.class, () -> new MonteCarloBot(pool, budget, null, 10));
+    assertThrows(IllegalArgumentException.class, () -> new MonteCarloBot(pool, budget, policy, 0));
+  }
+
+  @Test
+  void decide_notAProperty_throwsIllegalArgumentException() {
+    MonopolyState state = createState(createCircularBoard(12));
+
+    assertThrows(IllegalArgumentException.class, () -> BOT.decide(state, 0, 3));
+    assertThrows(IllegalArgumentException.class, () -> BOT.decide(null, 0, 3));
+  }
+
+  @Test
+  void decide_doesNotChangeState() {
+    Board board = createCircularBoard(12);
+    for (int i = 1; i < 12; i++) {
+      board.getTile(i).setLandAction(new PropertyAction(100));
+    }
+    MonopolyState state = createState(board);
+
+    PurchaseDecision decision = BOT.decide(state, 0, 4, 11L);
+
+    assertTrue(decision.getRollouts() > 0);
+    assertTrue(decision.getBuyScore() >= 0.0 && decision.getBuyScore() <= 1.0);
+    assertTrue(decision.getPassScore() >= 0.0 && decision.getPassScore() <= 1.0);
+    assertEquals(-1, state.getOwner(4));
+    assertEquals(1500, state.getBalance(0));
+    assertEquals(1, state.getRound());
+  }
+
+  @Test
+  void decide_cheapPropertyOnRentBoard_buys() {
+    Board board = createCircularBoard(12);
+    for (int i = 1; i < 12; i++) {
+      board.getTile(i).setLandAction(new PropertyAction(100));
+    }
+
+    PurchaseDecision decision = BOT.decide(createState(board), 0, 1, 3L);
+
+    assertTrue(decision.shouldBuy(), decision.toString());
+  }
+
+  @Test
+  void decide_purchaseLeavesNoCashBeforeTaxes_passes() {
+    Board board = createCircularBoard(40);
+    board.getTile(1).setLandAction(new PropertyAction(1500));
+    for (int i = 2; i < 40; i++) {
+      board.getTile(i).setLandAction(new TaxAction(10));
+    }
+
+    PurchaseDecision decision = BOT.decide(createState(board), 0, 1, 3L);
+
+    assertFalse(decision.shouldBuy(), decision.toString());
+    assertTrue(decision.getBuyScore() < 0.1);
+  }
+
+  @Test
+  void prepareDecision_cannotBuy_decidesToPass() {
+    Board board = createCircularBoard(12);
+    board.getTile(1).setLandAction(new PropertyAction(100));
+    Player alice = new Player("Alice", PieceType.RED);
+    Player bob = new Player("Bob", PieceType.BLUE);
+    MonopolyGame game = new MonopolyGame();
+    game.setBoard(board);
+    game.createDice(2);
+    game.addPlayer(alice);
+    game.addPlayer(bob);
+    game.startGame();
+    Tile property = board.getTile(1);
+    alice.placeOnTile(property, game);
+    game.buyProperty(alice, property);
+
+    assertFalse(BOT.prepareDecision(game, bob, property).getAsBoolean());
+    assertFalse(BOT.prepareDecision(game, null, property).getAsBoolean());
+    assertThrows(IllegalArgumentException.class, () -> BOT.prepareDecision(null, bob, property));
+  }
+}
@@ -0,0 +1,48 @@
+package edu.ntnu.stud.boardgame.simulation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class PurchaseStrategiesTest {
+
+  private static PurchaseOffer offer(int price, int rent, int balance) {
+    return new PurchaseOffer(price, rent, balance, 0, 1, 40, 1);
+  }
+
+  @Test
+  void alwaysBuyAndNeverBuy_ignoreTheOffer() {
+    assertTrue(PurchaseStrategies.alwaysBuy().shouldBuy(offer(400, 80, 400)));
+    assertFalse(PurchaseStrategies.neverBuy().shouldBuy(offer(10, 2, 1500)));
+  }
+
+  @Test
+  void cashThreshold_buysOnlyWhileKeepingReserve() {
+    PurchaseStrategy strategy = PurchaseStrategies.cashThreshold(500);
+
+    assertTrue(strategy.shouldBuy(offer(500, 100, 1000)));
+    assertFalse(strategy.shouldBuy(offer(501, 100, 1000)));
+  }
+
+  @Test
+  void cashThreshold_negativeReserve_throwsIllegalArgumentException() {
+    assertThrows(IllegalArgumentException.class, () -> PurchaseStrategies.cashThreshold(-1));
+  }
+
+  @Test
+  void returnOnInvestment_buysWhenRentPaysBackInTime() {
+    PurchaseOffer offer = offer(200, 40, 1500);
+    assertEquals(1.0, offer.getExpectedRentPerRound(), 1e-9);
+
+    assertTrue(PurchaseStrategies.returnOnInvestment(200).shouldBuy(offer));
+    assertFalse(PurchaseStrategies.returnOnInvestment(199).shouldBuy(offer));
+  }
+
+  @Test
+  void returnOnInvestment_nonPositiveRounds_throwsIllegalArgumentException() {
+    assertThrows(IllegalArgumentException.class, () -> PurchaseStrategies.returnOnInvestment(0));
+  }
+}
@@ -0,0 +1,113 @@
+package edu.ntnu.stud.boardgame.simulation;
+
+import static edu.ntnu.stud.boardgame.model.TestBoards.createLinearBoard;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.ntnu.stud.boardgame.exception.InvalidGameStateException;
+import edu.ntnu.stud.boardgame.factory.LadderGameBoardFactory;
+import edu.ntnu.stud.boardgame.model.Board;
+import edu.ntnu.stud.boardgame.model.Tile;
+import edu.ntnu.stud.boardgame.model.action.LadderAction;
+import edu.ntnu.stud.boardgame.model.action.SnakeAction;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+
+class SimulationEngineTest {
+
+  @Test
+  void constructor_nullBoard_throwsIllegalArgumentException() {
+    assertThrows(IllegalArgumentException.class, () -> new SimulationEngine(null, 2));
+  }
+
+  @Test
+  void constructor_nonPositivePlayerCount_throwsIllegalArgumentException() {
+    Board board = createLinearBoard(10);
+    assertThrows(IllegalArgumentException.class, () -> new SimulationEngine(board, 0));
+  }
+
+  @Test
+  void constructor_missingEndTile_throwsIllegalArgumentException() {
+    Board board = new Board("Broken", "No tiles", 1, 1, 0, 5);
+    board.addTile(new Tile(0));
+    assertThrows(IllegalArgumentException.class, () -> new SimulationEngine(board, 2));
+  }
+
+  @Test
+  void run_nonPositiveGames_throwsIllegalArgumentException() {
+    SimulationEngine engine = new SimulationEngine(createLinearBoard(10), 2);
+    assertThrows(IllegalArgumentException.class, () -> engine.run(0));
+  }
+
+  @Test
+  void run_linearBoard_everyGameFinishesWithoutHits() {
+    SimulationEngine engine = new SimulationEngine(createLinearBoard(20), 3);
+
+    SimulationResult result = engine.run(10_000);
+
+    assertEquals(10_000, result.getGamesPlayed());
+    assertEquals(10_000, result.getFinishedGames());
+    assertEquals(0, result.getUnfinishedGames());
+    assertEquals(0, result.getLadderHits());
+    assertEquals(0, result.getSnakeHits());
+    assertEquals(
+        result.getGamesPlayed(), result.getWins(0) + result.getWins(1) + result.getWins(2));
+    assertTrue(result.getAverageGameLength() >= 2);
+  }
+
+  @Test
+  void run_singleDieOnShortBoard_neverFinishesInFirstRound() {
+    SimulationEngine engine =
+        new SimulationEngine(createLinearBoard(7), 1, 1, ForkJoinPool.commonPool());
+
+    SimulationResult result = engine.run(1_000);
+
+    long[] histogram = result.getGameLengthHistogram();
+    assertEquals(0, histogram[0]);
+    assertEquals(0, histogram[1]);
+    assertEquals(1_000, result.getWins(0));
+  }
+
+  @Test
+  void run_classicBoard_countsLaddersAndSnakes() {
+    Board board = LadderGameBoardFactory.createBoard("Classic");
+    SimulationEngine engine = new SimulationEngine(board, 4);
+
+    SimulationResult result = engine.run(20_000);
+
+    assertEquals(20_000, result.getFinishedGames());
+    assertTrue(result.getLadderHits() > 0);
+    assertTrue(result.getSnakeHits() > 0);
+    assertTrue(result.getWinRate(0) > result.getWinRate(3));
+  }
+
+  @Test
+  void constructor_ladderSnakeCycle_throwsInvalidGameStateException() {
+    Board board = createLinearBoard(6);
+    board.getTile(1).setLandAction(new LadderAction(board.getTile(3)));
+    board.getTile(3).setLandAction(new SnakeAction(board.getTile(1)));
+
+    assertThrows(InvalidGameStateException.class,
+        () -> new SimulationEngine(board, 1, 1, ForkJoinPool.commonPool()));
+  }
+
+  @Test
+  void run_sameSeed_givesSameResultOnAnyPool() {
+    Board board = LadderGameBoardFactory.createBoard("Classic");
+    ForkJoinPool singleThreadPool = new ForkJoinPool(1);
+    try {
+      SimulationResult parallel = new SimulationEngine(board, 3).run(20_000, 42L);
+      SimulationResult sequential =
+          new SimulationEngine(board, 3, 2, singleThreadPool).run(20_000, 42L);
+
+      assertArrayEquals(parallel.getGameLengthHistogram(), sequential.getGameLengthHistogram());
+      assertEquals(parallel.getLadderHits(), sequential.getLadderHits());
+      assertEquals(parallel.getSnakeHits(), sequential.getSnakeHits());
+      assertEquals(parallel.getWins(0), sequential.getWins(0));
+    } finally {
+      singleThreadPool.shutdown();
+    }
+  }
+}
@@ -0,0 +1,52 @@
+package edu.ntnu.stud.boardgame.simulation;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SimulationResultTest {
+
+  private SimulationResult result;
+
+  @BeforeEach
+  void setUp() {
+    result = new SimulationResult(10, new long[] {0, 2, 4, 2, 0, 0}, new long[] {5, 3}, 7, 11);
+  }
+
+  @Test
+  void getGameLengthHistogram_trimsTrailingZeros() {
+    assertArrayEquals(new long[] {0, 2, 4, 2}, result.getGameLengthHistogram());
+  }
+
+  @Test
+  void getFinishedAndUnfinishedGames_derivedFromHistogram() {
+    assertEquals(8, result.getFinishedGames());
+    assertEquals(2, result.getUnfinishedGames());
+  }
+
+  @Test
+  void getAverageGameLength_weightsByHistogram() {
+    assertEquals(2.0, result.getAverageGameLength(), 1e-9);
+  }
+
+  @Test
+  void getWinRate_dividesByGamesPlayed() {
+    assertEquals(2, result.getPlayerCount());
+    assertEquals(0.5, result.getWinRate(0), 1e-9);
+    assertEquals(0.3, result.getWinRate(1), 1e-9);
+  }
+
+  @Test
+  void getWins_invalidSeat_throwsIndexOutOfBoundsException() {
+    assertThrows(IndexOutOfBoundsException.class, () -> result.getWins(2));
+  }
+
+  @Test
+  void getHits_returnsTotals() {
+    assertEquals(7, result.getLadderHits());
+    assertEquals(11, result.getSnakeHits());
+  }
+}
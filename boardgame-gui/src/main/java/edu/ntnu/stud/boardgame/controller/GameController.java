@@ -1,5 +1,6 @@
 package edu.ntnu.stud.boardgame.controller;
 
+import edu.ntnu.stud.boardgame.analysis.BoardAnalysis;
 import edu.ntnu.stud.boardgame.exception.BoardGameException;
 import edu.ntnu.stud.boardgame.model.BoardGameFacade;
 import edu.ntnu.stud.boardgame.model.Player;
@@ -7,9 +8,19 @@ import edu.ntnu.stud.boardgame.model.enums.BoardGameType;
 import edu.ntnu.stud.boardgame.model.enums.PieceType;
 import edu.ntnu.stud.boardgame.model.game.BoardGame;
 import edu.ntnu.stud.boardgame.observer.BoardGameObserver;
+import edu.ntnu.stud.boardgame.observer.GameEvent.EventType;
+import edu.ntnu.stud.boardgame.observer.GameEventBus.OverflowPolicy;
+import edu.ntnu.stud.boardgame.service.BoardSummary;
 import edu.ntnu.stud.boardgame.service.PlayerFileService;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.IntConsumer;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -39,6 +50,7 @@ public class GameController {
   private final MainController mainController;
   private final BoardGameFacade gameFacade;
   private final PlayerFileService playerFileService;
+  private final EnumSet<PieceType> computerPieces = EnumSet.noneOf(PieceType.class);
 
   /**
    * Creates a new game controller.
@@ -88,6 +100,40 @@ public class GameController {
     }
   }
 
+  /**
+   * Retrieves the metadata of the saved boards for the current game type.
+   *
+   * @return summaries of the saved boards, or an empty list if they cannot be listed
+   */
+  public List<BoardSummary> getSavedBoardSummaries() {
+    try {
+      return gameFacade.getSavedBoardSummaries();
+    } catch (Exception e) {
+      LOGGER.log(Level.WARNING, "Failed to get saved board summaries: {0}", e.getMessage());
+      return List.of();
+    }
+  }
+
+  /**
+   * Runs a listener whenever the saved boards of the current game type have been indexed or have
+   * changed on disk.
+   *
+   * @param listener the listener to run
+   * @param uiExecutor the executor the listener is run on
+   */
+  public void addSavedBoardsListener(Runnable listener, Executor uiExecutor) {
+    try {
+      gameFacade.addSavedBoardListener(
+          gameType -> {
+            if (gameType == gameFacade.getCurrentGameType()) {
+              uiExecutor.execute(listener);
+            }
+          });
+    } catch (Exception e) {
+      LOGGER.log(Level.WARNING, "Failed to watch saved boards: {0}", e.getMessage());
+    }
+  }
+
   /**
    * Saves a copy of the selected board with a new name.
    *
@@ -144,13 +190,115 @@ public class GameController {
   }
 
   /**
-   * Adds a new player to the current game with the specified piece type.
+   * Loads the selected board on a background thread and shows the player setup once it is loaded.
+   *
+   * <p>Progress, the player setup view and any error dialog are all delivered through
+   * {@code uiExecutor}. A cancelled load shows nothing.
+   *
+   * @param boardName the name of the board to load
+   * @param progress receives the number of tiles parsed so far
+   * @param uiExecutor executor for the UI thread
+   * @return a future completed once the game has been created; cancel it to stop loading
+   */
+  public CompletableFuture<Void> selectBoardAsync(
+      String boardName, IntConsumer progress, Executor uiExecutor) {
+    if (boardName == null || boardName.trim().isEmpty()) {
+      showError("Board Selection Error", "Board name cannot be empty.");
+      return CompletableFuture.failedFuture(
+          new IllegalArgumentException("Board name cannot be empty."));
+    }
+
+    CompletableFuture<Void> loading;
+    try {
+      loading =
+          gameFacade.createGameAsync(
+              boardName,
+              tilesParsed -> uiExecutor.execute(() -> progress.accept(tilesParsed)),
+              uiExecutor);
+    } catch (Exception e) {
+      showError("Board Selection Error", "Failed to load board: " + e.getMessage());
+      return CompletableFuture.failedFuture(e);
+    }
+
+    loading.whenCompleteAsync(
+        (result, error) -> {
+          if (error == null) {
+            mainController.showPlayerSetupView();
+          } else if (!(error instanceof CancellationException)) {
+            Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+            showError("Board Selection Error", "Failed to load board: " + cause.getMessage());
+          }
+        },
+        uiExecutor);
+    return loading;
+  }
+
+  /**
+   * Gets the difficulty metrics of a board for the current game type in the background.
+   *
+   * <p>Only ladder game boards can be analysed. Failures are logged instead of shown, since the
+   * metrics are informational. Cancelling the returned future stops loading the board.
+   *
+   * @param boardName the name of the board to analyse
+   * @param uiExecutor the executor the returned future is completed on
+   * @return a future completed with the analysis, or with {@code null} if the board cannot be
+   *     analysed
+   */
+  public CompletableFuture<BoardAnalysis> getBoardAnalysisAsync(
+      String boardName, Executor uiExecutor) {
+    if (boardName == null || gameFacade.getCurrentGameType() != BoardGameType.LADDER) {
+      return CompletableFuture.completedFuture(null);
+    }
+
+    CompletableFuture<BoardAnalysis> analysis;
+    try {
+      analysis = gameFacade.analyzeBoardAsync(boardName);
+    } catch (Exception e) {
+      LOGGER.warning("Failed to analyse board " + boardName + ": " + e.getMessage());
+      return CompletableFuture.completedFuture(null);
+    }
+
+    CompletableFuture<BoardAnalysis> result =
+        analysis.handleAsync(
+            (value, error) -> {
+              if (error != null && !(error instanceof CancellationException)) {
+                Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                LOGGER.warning("Failed to analyse board " + boardName + ": " + cause.getMessage());
+              }
+              return value;
+            },
+            uiExecutor);
+    result.whenComplete(
+        (value, error) -> {
+          if (result.isCancelled()) {
+            analysis.cancel(false);
+          }
+        });
+    return result;
+  }
+
+  /**
+   * Adds a new human player to the current game with the specified piece type.
    *
    * @param name the name of the player to add
    * @param pieceType the piece type chosen by the player
    * @return {@code true} if the player was added successfully, {@code false} otherwise
    */
   public boolean addPlayer(String name, PieceType pieceType) {
+    return addPlayer(name, pieceType, false);
+  }
+
+  /**
+   * Adds a new player to the current game with the specified piece type.
+   *
+   * <p>Computer opponents are remembered by their piece, which is unique within a game.
+   *
+   * @param name the name of the player to add
+   * @param pieceType the piece type chosen by the player
+   * @param computer {@code true} if the player is a computer opponent
+   * @return {@code true} if the player was added successfully, {@code false} otherwise
+   */
+  public boolean addPlayer(String name, PieceType pieceType, boolean computer) {
     try {
       if (name == null || name.trim().isEmpty()) {
         showError(INPUT_ERROR, "Player name cannot be empty.");
@@ -168,6 +316,11 @@ public class GameController {
         }
       }
 
+      if (computer) {
+        computerPieces.add(pieceType);
+      } else {
+        computerPieces.remove(pieceType);
+      }
       gameFacade.addPlayer(name, pieceType);
       return true;
     } catch (Exception e) {
@@ -176,6 +329,16 @@ public class GameController {
     }
   }
 
+  /**
+   * Checks if a player was added as a computer opponent.
+   *
+   * @param player the player to check
+   * @return {@code true} if the player is a computer opponent, {@code false} otherwise
+   */
+  public boolean isComputerPlayer(Player player) {
+    return player != null && computerPieces.contains(player.getPiece());
+  }
+
   /**
    * Saves the current list of players to a file.
    *
@@ -270,6 +433,43 @@ public class GameController {
     }
   }
 
+  /**
+   * Fast-forwards the game by a number of turns, with the moves of each player shown once.
+   *
+   * @param turns the number of turns to play
+   * @return {@code true} if the turns were played successfully, {@code false} otherwise
+   */
+  public boolean playTurns(int turns) {
+    try {
+      gameFacade.playTurns(turns);
+      return true;
+    } catch (BoardGameException e) {
+      showError(GAME_ERROR, "Failed to play turns: " + e.getMessage());
+      return false;
+    } catch (Exception e) {
+      showError(GAME_ERROR, "An unexpected error occurred during the turns: " + e.getMessage());
+      return false;
+    }
+  }
+
+  /**
+   * Fast-forwards the game until it is over, with the moves of each player shown once.
+   *
+   * @return {@code true} if the turns were played successfully, {@code false} otherwise
+   */
+  public boolean playUntilGameOver() {
+    try {
+      gameFacade.playUntilGameOver();
+      return true;
+    } catch (BoardGameException e) {
+      showError(GAME_ERROR, "Failed to play turns: " + e.getMessage());
+      return false;
+    } catch (Exception e) {
+      showError(GAME_ERROR, "An unexpected error occurred during the turns: " + e.getMessage());
+      return false;
+    }
+  }
+
   /**
    * Registers an observer to receive notifications about game events.
    *
@@ -283,6 +483,38 @@ public class GameController {
     gameFacade.registerObserver(observer);
   }
 
+  /**
+   * Registers an observer to receive notifications about game events of some types.
+   *
+   * @param observer the observer to register
+   * @param eventTypes the event types the observer receives
+   */
+  public void registerObserver(BoardGameObserver observer, EnumSet<EventType> eventTypes) {
+    if (observer == null) {
+      LOGGER.warning("Attempted to register a null observer.");
+      return;
+    }
+    gameFacade.registerObserver(observer, eventTypes);
+  }
+
+  /**
+   * Registers an observer that receives batches of game events on its own executor, so handling
+   * the events does not hold up the game.
+   *
+   * @param observer the observer to register
+   * @param executor the executor the observer is notified on
+   * @param capacity the number of event batches buffered for the observer
+   * @param policy what to do when the observer falls behind and its buffer is full
+   */
+  public void registerObserver(
+      BoardGameObserver observer, Executor executor, int capacity, OverflowPolicy policy) {
+    if (observer == null) {
+      LOGGER.warning("Attempted to register a null observer.");
+      return;
+    }
+    gameFacade.registerObserver(observer, executor, capacity, policy);
+  }
+
   /**
    * Gets the current board game.
    *
@@ -1,9 +1,18 @@
 package edu.ntnu.stud.boardgame.controller;
 
+import edu.ntnu.stud.boardgame.model.BoardGameFacade;
 import edu.ntnu.stud.boardgame.model.Player;
 import edu.ntnu.stud.boardgame.model.Tile;
 import edu.ntnu.stud.boardgame.model.action.PropertyAction;
 import edu.ntnu.stud.boardgame.model.game.MonopolyGame;
+import edu.ntnu.stud.boardgame.simulation.MonteCarloBot;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BooleanSupplier;
 
 /**
  * Controller class that handles Monopoly-specific game logic and operations.
@@ -13,13 +22,22 @@ import edu.ntnu.stud.boardgame.model.game.MonopolyGame;
  * management. It provides methods to validate and perform player actions while maintaining game
  * rules and state.
  *
+ * <p>Players can be marked as computer opponents. Their turns go through the same dice roll as
+ * the turns of human players, after which a {@link MonteCarloBot} decides whether they buy the
+ * property they landed on. The game is only changed on the UI thread; the bot's rollouts run on a
+ * background executor, so the decision does not block the UI thread.
+ *
  * <p>The controller contains several inner result classes that encapsulate the outcome of
  * operations with success indicators and descriptive messages.
  */
 public class MonopolyController {
 
   private final GameController gameController;
+  private final MonteCarloBot bot;
+  private final Executor botExecutor;
+  private final Set<Player> bots = Collections.newSetFromMap(new IdentityHashMap<>());
   private MonopolyGame monopolyGame;
+  private boolean playingBotTurns;
 
   /**
    * Constructs a MonopolyController with a reference to the parent GameController.
@@ -27,7 +45,32 @@ public class MonopolyController {
    * @param gameController the parent game controller that manages the overall game flow
    */
   public MonopolyController(GameController gameController) {
+    this(gameController, new MonteCarloBot());
+  }
+
+  /**
+   * Constructs a MonopolyController whose computer opponents decide with the given bot.
+   *
+   * @param gameController the parent game controller that manages the overall game flow
+   * @param bot the bot that makes the purchase decisions of computer opponents
+   */
+  public MonopolyController(GameController gameController, MonteCarloBot bot) {
+    this(gameController, bot, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Constructs a MonopolyController whose computer opponents decide with the given bot and play
+   * their rollouts on the given executor.
+   *
+   * @param gameController the parent game controller that manages the overall game flow
+   * @param bot the bot that makes the purchase decisions of computer opponents
+   * @param botExecutor the executor the rollouts of computer opponents are played on
+   */
+  public MonopolyController(
+      GameController gameController, MonteCarloBot bot, Executor botExecutor) {
     this.gameController = gameController;
+    this.bot = bot;
+    this.botExecutor = botExecutor;
     updateGameReference();
   }
 
@@ -104,10 +147,127 @@ public class MonopolyController {
       return new DiceRollResult(false, "Current player is bankrupt and cannot roll");
     }
 
+    if (playingBotTurns || isBot(currentPlayer)) {
+      return new DiceRollResult(false, "Computer opponents are playing");
+    }
+
     boolean success = gameController.playTurn();
     return new DiceRollResult(success, success ? "Turn completed successfully" : "Turn failed");
   }
 
+  /**
+   * Plays the turns of computer opponents until it is a human player's turn, no human player is
+   * left in the game, or the game is over.
+   *
+   * <p>Must be called on the UI thread. The dice roll and the purchase of every turn are applied to
+   * the game on the UI thread; only the bot's rollouts are played on the background executor, on a
+   * snapshot of the game. The next turn is scheduled on {@code uiExecutor}, so game events of a turn
+   * are delivered before the next turn starts. Human players cannot roll while the computer
+   * opponents are playing. Cancelling the returned future stops after the turn in progress.
+   *
+   * @param uiExecutor the executor the game is updated on, e.g. {@code Platform::runLater}
+   * @return a future that completes with the number of turns played
+   */
+  public CompletableFuture<Integer> playBotTurnsAsync(Executor uiExecutor) {
+    if (playingBotTurns) {
+      return CompletableFuture.completedFuture(0);
+    }
+    CompletableFuture<Integer> turns = new CompletableFuture<>();
+    playNextBotTurn(turns, 0, uiExecutor);
+    return turns;
+  }
+
+  private void playNextBotTurn(CompletableFuture<Integer> turns, int played, Executor uiExecutor) {
+    if (turns.isDone() || !canPlayBotTurn(played)) {
+      finishBotTurns(turns, played);
+      return;
+    }
+
+    playingBotTurns = true;
+    MonopolyGame game = monopolyGame;
+    Player player = game.getCurrentPlayer();
+    if (!gameController.playTurn()) {
+      finishBotTurns(turns, played);
+      return;
+    }
+
+    Tile tile = player.getCurrentTile();
+    BooleanSupplier decision =
+        canBuyProperty(player, tile) ? bot.prepareDecision(game, player, tile) : () -> false;
+    CompletableFuture.supplyAsync(decision::getAsBoolean, botExecutor)
+        .whenCompleteAsync(
+            (buy, error) -> {
+              if (error != null) {
+                playingBotTurns = false;
+                turns.completeExceptionally(error);
+                return;
+              }
+              if (buy && game == monopolyGame && canBuyProperty(player, tile)) {
+                game.buyProperty(player, tile);
+              }
+              playNextBotTurn(turns, played + 1, uiExecutor);
+            },
+            uiExecutor);
+  }
+
+  private void finishBotTurns(CompletableFuture<Integer> turns, int played) {
+    playingBotTurns = false;
+    turns.complete(played);
+  }
+
+  private boolean canPlayBotTurn(int played) {
+    return monopolyGame != null
+        && !monopolyGame.isGameOver()
+        && isBot(monopolyGame.getCurrentPlayer())
+        && hasActiveHuman()
+        && played < BoardGameFacade.MAX_AUTOPLAY_TURNS;
+  }
+
+  private boolean hasActiveHuman() {
+    for (Player player : monopolyGame.getPlayers()) {
+      if (!isBot(player) && !isPlayerBankrupt(player)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Checks if computer opponents are currently playing their turns.
+   *
+   * @return {@code true} while bot turns are being played, {@code false} otherwise
+   */
+  public boolean isPlayingBotTurns() {
+    return playingBotTurns;
+  }
+
+  /**
+   * Marks a player as a computer opponent or as a human player.
+   *
+   * @param player the player
+   * @param bot {@code true} to let the bot play for the player, {@code false} for a human player
+   */
+  public void setBot(Player player, boolean bot) {
+    if (player == null) {
+      return;
+    }
+    if (bot) {
+      bots.add(player);
+    } else {
+      bots.remove(player);
+    }
+  }
+
+  /**
+   * Checks if the specified player is a computer opponent.
+   *
+   * @param player the player to check
+   * @return {@code true} if the bot plays for the player, {@code false} otherwise
+   */
+  public boolean isBot(Player player) {
+    return player != null && bots.contains(player);
+  }
+
   /**
    * Attempts to restart the game.
    *
@@ -140,6 +300,10 @@ public class MonopolyController {
       return new PlayerActionState(false, false, "Player is bankrupt");
     }
 
+    if (playingBotTurns || isBot(currentPlayer)) {
+      return new PlayerActionState(false, false, "Computer opponents are playing");
+    }
+
     Tile currentTile = currentPlayer.getCurrentTile();
     boolean canBuy = canBuyProperty(currentTile);
 
@@ -157,17 +321,20 @@ public class MonopolyController {
       return false;
     }
 
-    Player currentPlayer = monopolyGame.getCurrentPlayer();
-    if (currentPlayer == null) {
+    return canBuyProperty(monopolyGame.getCurrentPlayer(), property);
+  }
+
+  private boolean canBuyProperty(Player player, Tile property) {
+    if (monopolyGame == null || player == null || property == null) {
       return false;
     }
 
-    if (!(property.getLandAction() instanceof PropertyAction propertyAction)) {
+    if (!(property.getLandAction() instanceof PropertyAction)) {
       return false;
     }
 
-    return propertyAction.getOwner() == null
-        && monopolyGame.getPlayerMoney(currentPlayer) >= getPropertyPrice(property);
+    return monopolyGame.getPropertyOwner(property) == null
+        && monopolyGame.getPlayerMoney(player) >= getPropertyPrice(property);
   }
 
   /**
@@ -191,10 +358,10 @@ public class MonopolyController {
    *     property tile
    */
   public Player getPropertyOwner(Tile property) {
-    if (property == null || !(property.getLandAction() instanceof PropertyAction propertyAction)) {
+    if (monopolyGame == null) {
       return null;
     }
-    return propertyAction.getOwner();
+    return monopolyGame.getPropertyOwner(property);
   }
 
   /**
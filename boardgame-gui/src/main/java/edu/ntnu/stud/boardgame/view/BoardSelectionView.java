@@ -1,12 +1,18 @@
 package edu.ntnu.stud.boardgame.view;
 
+import edu.ntnu.stud.boardgame.analysis.BoardAnalysis;
 import edu.ntnu.stud.boardgame.controller.GameController;
 import edu.ntnu.stud.boardgame.controller.MainController;
 import edu.ntnu.stud.boardgame.observer.BoardGameObserver;
 import edu.ntnu.stud.boardgame.observer.GameEvent;
+import edu.ntnu.stud.boardgame.service.BoardSummary;
 import edu.ntnu.stud.boardgame.view.components.builder.ButtonBuilder;
 import edu.ntnu.stud.boardgame.view.components.builder.LabelBuilder;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import javafx.application.Platform;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.geometry.Insets;
@@ -14,6 +20,7 @@ import javafx.geometry.Pos;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.control.ListView;
+import javafx.scene.control.ProgressBar;
 import javafx.scene.control.TextField;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.HBox;
@@ -37,6 +44,7 @@ public class BoardSelectionView extends BorderPane implements BoardGameObserver
 
   private final ObservableList<String> predefinedBoardItems = FXCollections.observableArrayList();
   private final ObservableList<String> savedBoardItems = FXCollections.observableArrayList();
+  private final Map<String, BoardSummary> savedBoardSummaries = new HashMap<>();
 
   private ListView<String> predefinedBoardListView;
   private ListView<String> savedBoardListView;
@@ -45,6 +53,13 @@ public class BoardSelectionView extends BorderPane implements BoardGameObserver
   private Button saveButton;
   private TextField saveNameField;
   private VBox saveActionsSubContainer;
+  private Label analysisLabel;
+  private Label summaryLabel;
+  private HBox loadProgressBox;
+  private ProgressBar loadProgressBar;
+  private CompletableFuture<Void> currentLoad;
+  private CompletableFuture<BoardAnalysis> currentAnalysis;
+  private boolean refreshing;
 
   /**
    * Creates a new board selection view.
@@ -68,6 +83,7 @@ public class BoardSelectionView extends BorderPane implements BoardGameObserver
     getStyleClass().add("board-selection-view");
 
     initializeUi();
+    gameController.addSavedBoardsListener(this::refreshBoardList, Platform::runLater);
   }
 
   private void initializeUi() {
@@ -122,6 +138,11 @@ public class BoardSelectionView extends BorderPane implements BoardGameObserver
     HBox.setHgrow(predefinedSection, Priority.ALWAYS);
     HBox.setHgrow(savedSection, Priority.ALWAYS);
 
+    analysisLabel = new LabelBuilder().text("").styleClass("text-body").build();
+    analysisLabel.setWrapText(true);
+    summaryLabel = new LabelBuilder().text("").styleClass("text-body").build();
+    summaryLabel.setWrapText(true);
+
     loadBoardButton =
         new ButtonBuilder()
             .text("Load Selected Board")
@@ -142,6 +163,19 @@ public class BoardSelectionView extends BorderPane implements BoardGameObserver
             .disabled(true)
             .build();
 
+    loadProgressBar = new ProgressBar(ProgressBar.INDETERMINATE_PROGRESS);
+    loadProgressBar.setPrefWidth(300);
+    Button cancelLoadButton =
+        new ButtonBuilder()
+            .text("Cancel")
+            .styleClass("secondary-button")
+            .onClick(event -> cancelLoading())
+            .build();
+    loadProgressBox = new HBox(10, loadProgressBar, cancelLoadButton);
+    loadProgressBox.setAlignment(Pos.CENTER);
+    loadProgressBox.setVisible(false);
+    loadProgressBox.setManaged(false);
+
     HBox saveEntryBox = new HBox(10, saveNameField, saveButton);
     saveEntryBox.setAlignment(Pos.CENTER_LEFT);
     HBox.setHgrow(saveNameField, Priority.ALWAYS);
@@ -153,7 +187,14 @@ public class BoardSelectionView extends BorderPane implements BoardGameObserver
 
     VBox mainActionsContainer = new VBox(15);
     mainActionsContainer.setAlignment(Pos.CENTER);
-    mainActionsContainer.getChildren().addAll(loadBoardButton, saveActionsSubContainer);
+    mainActionsContainer
+        .getChildren()
+        .addAll(
+            summaryLabel,
+            analysisLabel,
+            loadBoardButton,
+            loadProgressBox,
+            saveActionsSubContainer);
     mainActionsContainer.setPadding(new Insets(25, 0, 25, 0));
 
     VBox contentBox = new VBox(25);
@@ -168,12 +209,17 @@ public class BoardSelectionView extends BorderPane implements BoardGameObserver
         .selectedItemProperty()
         .addListener(
             (obs, oldVal, newVal) -> {
+              if (refreshing) {
+                return;
+              }
               if (newVal != null) {
                 savedBoardListView.getSelectionModel().clearSelection();
                 String displayName = getDisplayNameFromPredefined(newVal);
                 saveNameField.setText(displayName);
                 saveNameField.setPromptText("Confirm or change name: '" + displayName + "'");
                 enableActions(true);
+                showSummary(null);
+                showAnalysis(newVal);
               } else if (savedBoardListView.getSelectionModel().getSelectedItem() == null) {
                 enableActions(false);
               }
@@ -184,11 +230,16 @@ public class BoardSelectionView extends BorderPane implements BoardGameObserver
         .selectedItemProperty()
         .addListener(
             (obs, oldVal, newVal) -> {
+              if (refreshing) {
+                return;
+              }
               if (newVal != null) {
                 predefinedBoardListView.getSelectionModel().clearSelection();
                 saveNameField.setText(newVal);
                 saveNameField.setPromptText("Confirm or change name: '" + newVal + "'");
                 enableActions(true);
+                showSummary(newVal);
+                showAnalysis(newVal);
               } else if (predefinedBoardListView.getSelectionModel().getSelectedItem() == null) {
                 enableActions(false);
               }
@@ -210,17 +261,97 @@ public class BoardSelectionView extends BorderPane implements BoardGameObserver
     if (!enable) {
       saveNameField.clear();
       saveNameField.setPromptText("Enter name for saving selected board");
+      showSummary(null);
+      showAnalysis(null);
+    }
+  }
+
+  /**
+   * Shows the title, description and size of a saved board, or hides them if none is known.
+   *
+   * @param boardName the name of the selected saved board, or null to hide the summary
+   */
+  private void showSummary(String boardName) {
+    BoardSummary summary = boardName != null ? savedBoardSummaries.get(boardName) : null;
+    boolean visible = summary != null;
+
+    summaryLabel.setVisible(visible);
+    summaryLabel.setManaged(visible);
+    if (visible) {
+      String title = summary.getTitle() != null ? summary.getTitle() : summary.getFileName();
+      String description = summary.getDescription() != null ? summary.getDescription() : "";
+      String size = String.format("%d x %d", summary.getRows(), summary.getColumns());
+      if (summary.getTileCount() >= 0) {
+        size += String.format(", %d tiles", summary.getTileCount());
+      }
+      summaryLabel.setText(String.format("%s  |  %s%n%s", title, size, description).trim());
+    }
+  }
+
+  /**
+   * Starts analysing a board in the background and shows its difficulty metrics once they are
+   * computed. The analysis of the previously selected board is cancelled.
+   *
+   * @param boardName the name of the selected board, or null to hide the metrics
+   */
+  private void showAnalysis(String boardName) {
+    if (currentAnalysis != null) {
+      currentAnalysis.cancel(false);
+      currentAnalysis = null;
+    }
+    displayAnalysis(null);
+    if (boardName == null) {
+      return;
+    }
+
+    CompletableFuture<BoardAnalysis> analysis =
+        gameController.getBoardAnalysisAsync(boardName, Platform::runLater);
+    currentAnalysis = analysis;
+    analysis.thenAccept(
+        result -> {
+          if (currentAnalysis == analysis) {
+            currentAnalysis = null;
+            displayAnalysis(result);
+          }
+        });
+  }
+
+  /**
+   * Shows the difficulty metrics of a board, or hides them if there are none.
+   *
+   * @param analysis the analysis of the selected board, or null to hide the metrics
+   */
+  private void displayAnalysis(BoardAnalysis analysis) {
+    boolean visible = analysis != null && analysis.getTurnsToFinish(0.9) >= 0;
+
+    analysisLabel.setVisible(visible);
+    analysisLabel.setManaged(visible);
+    if (visible) {
+      analysisLabel.setText(
+          String.format(
+              "Expected turns to finish: %.1f  |  Half of games within %d turns  |  "
+                  + "90%% within %d turns",
+              analysis.getExpectedTurns(),
+              analysis.getTurnsToFinish(0.5),
+              analysis.getTurnsToFinish(0.9)));
     }
   }
 
   /**
    * Refreshes the list of available board configurations.
    *
-   * <p>Updates both predefined and saved board lists from the game controller.
+   * <p>Updates both predefined and saved board lists from the game controller, keeping the
+   * selected board selected if it is still listed. Does nothing while a board is loading.
    */
   public void refreshBoardList() {
+    if (currentLoad != null) {
+      return;
+    }
+    String selectedPredefined = predefinedBoardListView.getSelectionModel().getSelectedItem();
+    String selectedSaved = savedBoardListView.getSelectionModel().getSelectedItem();
     List<String> availableBoards = gameController.getAvailableBoards();
 
+    refreshing = true;
     predefinedBoardItems.clear();
     savedBoardItems.clear();
 
@@ -236,6 +367,21 @@ public class BoardSelectionView extends BorderPane implements BoardGameObserver
 
     FXCollections.sort(predefinedBoardItems);
     FXCollections.sort(savedBoardItems);
+
+    savedBoardSummaries.clear();
+    for (BoardSummary summary : gameController.getSavedBoardSummaries()) {
+      savedBoardSummaries.put(summary.getFileName(), summary);
+    }
+
+    if (selectedPredefined != null && predefinedBoardItems.contains(selectedPredefined)) {
+      predefinedBoardListView.getSelectionModel().select(selectedPredefined);
+    } else if (selectedSaved != null && savedBoardItems.contains(selectedSaved)) {
+      savedBoardListView.getSelectionModel().select(selectedSaved);
+      showSummary(selectedSaved);
+    } else if (selectedPredefined != null || selectedSaved != null) {
+      enableActions(false);
+    }
+    refreshing = false;
   }
 
   private void loadSelectedBoard() {
@@ -245,15 +391,58 @@ public class BoardSelectionView extends BorderPane implements BoardGameObserver
     }
 
     if (selectedBoard != null && !selectedBoard.isEmpty()) {
-      String boardKeyToLoad = selectedBoard;
-      if (selectedBoard.startsWith("Predefined:")) {}
-
-      gameController.selectBoard(boardKeyToLoad);
+      BoardSummary summary = savedBoardSummaries.get(selectedBoard);
+      int expectedTiles = summary != null ? summary.getTileCount() : -1;
+
+      showLoading(true);
+      currentLoad =
+          gameController.selectBoardAsync(
+              selectedBoard,
+              tilesParsed -> showProgress(tilesParsed, expectedTiles),
+              Platform::runLater);
+      currentLoad.whenComplete((result, error) -> Platform.runLater(() -> showLoading(false)));
     } else {
       controller.showErrorDialog("Selection Error", "Please select a board to load.");
     }
   }
 
+  private void cancelLoading() {
+    if (currentLoad != null) {
+      currentLoad.cancel(false);
+    }
+  }
+
+  /**
+   * Shows the progress bar while a board is loading and keeps the board lists from changing the
+   * selection until it is done.
+   *
+   * @param loading true while a board is loading
+   */
+  private void showLoading(boolean loading) {
+    loadProgressBox.setVisible(loading);
+    loadProgressBox.setManaged(loading);
+    loadProgressBar.setProgress(ProgressBar.INDETERMINATE_PROGRESS);
+    loadBoardButton.setDisable(loading);
+    predefinedBoardListView.setDisable(loading);
+    savedBoardListView.setDisable(loading);
+    if (!loading) {
+      currentLoad = null;
+    }
+  }
+
+  /**
+   * Updates the progress bar with the number of tiles parsed. The bar stays indeterminate when the
+   * number of tiles of the board is not known.
+   *
+   * @param tilesParsed the number of tiles parsed so far
+   * @param expectedTiles the number of tiles of the board, or a negative value if unknown
+   */
+  private void showProgress(int tilesParsed, int expectedTiles) {
+    if (expectedTiles > 0) {
+      loadProgressBar.setProgress(Math.min(1.0, (double) tilesParsed / expectedTiles));
+    }
+  }
+
   private String getDisplayNameFromPredefined(String predefinedId) {
     if (predefinedId != null && predefinedId.startsWith("Predefined:")) {
       return predefinedId.substring("Predefined:".length()).trim();
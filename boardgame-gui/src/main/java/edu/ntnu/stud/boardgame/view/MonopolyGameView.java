@@ -21,6 +21,7 @@ import edu.ntnu.stud.boardgame.view.components.builder.ButtonBuilder;
 import edu.ntnu.stud.boardgame.view.components.builder.LabelBuilder;
 import edu.ntnu.stud.boardgame.view.components.monopoly.MonopolyGameBoard;
 import edu.ntnu.stud.boardgame.view.components.monopoly.MonopolyPlayerScoreboard;
+import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
@@ -125,8 +126,14 @@ public class MonopolyGameView extends AbstractGameView {
 
     if (!result.isSuccess()) {
       statusLabel.setText(result.getMessage());
+      return;
     }
     // Success handling happens through game events
+    playBotTurns();
+  }
+
+  private void playBotTurns() {
+    monopolyController.playBotTurnsAsync(Platform::runLater).thenRun(this::updateUiState);
   }
 
   private void handlePropertyPurchaseRequest() {
@@ -163,6 +170,9 @@ public class MonopolyGameView extends AbstractGameView {
     gameBoard.clearPlayerPieces();
     gameBoard.setBoard(event.getBoard());
     playerScoreboard.updatePlayers(event.getPlayers());
+    for (Player player : event.getPlayers()) {
+      monopolyController.setBot(player, gameController.isComputerPlayer(player));
+    }
 
     statusLabel.setText("Game Started - Roll the Dice");
     playerScoreboard.highlightCurrentPlayer(event.getCurrentPlayer());
@@ -176,6 +186,8 @@ public class MonopolyGameView extends AbstractGameView {
         gameBoard.updatePlayerPosition(player, player.getCurrentTile());
       }
     }
+
+    playBotTurns();
   }
 
   private void handleDiceRolled(DiceRolledEvent event) {
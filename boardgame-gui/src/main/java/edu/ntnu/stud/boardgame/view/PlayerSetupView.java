@@ -6,6 +6,7 @@ import edu.ntnu.stud.boardgame.model.Player;
 import edu.ntnu.stud.boardgame.model.enums.PieceType;
 import edu.ntnu.stud.boardgame.observer.BoardGameObserver;
 import edu.ntnu.stud.boardgame.observer.GameEvent;
+import edu.ntnu.stud.boardgame.observer.GameEvent.EventType;
 import edu.ntnu.stud.boardgame.observer.event.GameCreatedEvent;
 import edu.ntnu.stud.boardgame.observer.event.PlayerAddedEvent;
 import edu.ntnu.stud.boardgame.view.components.builder.ButtonBuilder;
@@ -13,6 +14,7 @@ import edu.ntnu.stud.boardgame.view.components.builder.LabelBuilder;
 import edu.ntnu.stud.boardgame.view.components.builder.TextFieldBuilder;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
 import javafx.application.Platform;
 import javafx.collections.FXCollections;
@@ -20,6 +22,7 @@ import javafx.collections.ObservableList;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.control.Button;
+import javafx.scene.control.CheckBox;
 import javafx.scene.control.ComboBox;
 import javafx.scene.control.Label;
 import javafx.scene.control.ListView;
@@ -34,7 +37,7 @@ import javafx.scene.layout.VBox;
 
 /**
  * A view for setting up players before starting a game. Allows users to add players, select their
- * pieces, and manage player lists. Extends {@link BorderPane} to organize player setup components.
+ * pieces, mark computer opponents, and manage player lists. Extends {@link BorderPane} to organize player setup components.
  *
  * @see MainController
  * @see GameController
@@ -51,6 +54,7 @@ public class PlayerSetupView extends BorderPane implements BoardGameObserver {
       FXCollections.observableArrayList();
   private TextField playerNameField;
   private ComboBox<PieceType> pieceTypeComboBox;
+  private CheckBox computerCheckBox;
   private TextField newPlayerListNameField;
   private Button savePlayersButton;
   private ListView<String> savedPlayerListsView;
@@ -67,7 +71,8 @@ public class PlayerSetupView extends BorderPane implements BoardGameObserver {
   public PlayerSetupView(MainController controller, GameController gameController) {
     this.controller = controller;
     this.gameController = gameController;
-    gameController.registerObserver(this);
+    gameController.registerObserver(
+        this, EnumSet.of(EventType.PLAYER_ADDED, EventType.GAME_CREATED));
 
     getStyleClass().add("player-setup-view");
 
@@ -147,6 +152,8 @@ public class PlayerSetupView extends BorderPane implements BoardGameObserver {
     Label pieceLabel = new LabelBuilder().text("Select Piece:").build();
     inputGrid.add(pieceLabel, 0, 1);
     inputGrid.add(pieceTypeComboBox, 1, 1);
+    computerCheckBox = new CheckBox("Computer opponent (Monopoly)");
+    inputGrid.add(computerCheckBox, 1, 2);
 
     Button addPlayerButton =
         new ButtonBuilder()
@@ -267,8 +274,9 @@ public class PlayerSetupView extends BorderPane implements BoardGameObserver {
       return;
     }
 
-    if (gameController.addPlayer(playerName, selectedPiece)) {
+    if (gameController.addPlayer(playerName, selectedPiece, computerCheckBox.isSelected())) {
       playerNameField.clear();
+      computerCheckBox.setSelected(false);
     } else {
       Platform.runLater(this::refreshAvailablePiecesFromModelState);
     }
@@ -377,8 +385,12 @@ public class PlayerSetupView extends BorderPane implements BoardGameObserver {
       Player player = playerAddedEvent.getPlayer();
       Platform.runLater(
           () -> {
-            if (!playersList.contains(player.getName() + " (" + player.getPiece() + ")")) {
-              playersList.add(player.getName() + " (" + player.getPiece() + ")");
+            String entry = player.getName() + " (" + player.getPiece() + ")";
+            if (gameController.isComputerPlayer(player)) {
+              entry += " - Computer";
+            }
+            if (!playersList.contains(entry)) {
+              playersList.add(entry);
             }
             availablePieceTypesObservableList.remove(player.getPiece());
             updateSavePlayersButtonState();
@@ -3,11 +3,13 @@ package edu.ntnu.stud.boardgame.view.components;
 import edu.ntnu.stud.boardgame.controller.GameController;
 import edu.ntnu.stud.boardgame.controller.MainController;
 import edu.ntnu.stud.boardgame.model.Player;
-import edu.ntnu.stud.boardgame.observer.BoardGameObserver;
+import edu.ntnu.stud.boardgame.observer.BoardGameBatchObserver;
 import edu.ntnu.stud.boardgame.observer.GameEvent;
+import edu.ntnu.stud.boardgame.observer.GameEventBus.OverflowPolicy;
 import edu.ntnu.stud.boardgame.observer.event.GameEndedEvent;
-import edu.ntnu.stud.boardgame.service.SoundManagerService;
+import edu.ntnu.stud.boardgame.view.sound.SoundManagerService;
 import edu.ntnu.stud.boardgame.view.components.builder.ButtonBuilder;
+import java.util.List;
 import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.scene.control.Button;
@@ -26,9 +28,18 @@ import javafx.scene.layout.VBox;
  *
  * @see MainController
  * @see GameController
- * @see BoardGameObserver
+ * @see BoardGameBatchObserver
  */
-public abstract class AbstractGameView extends BorderPane implements BoardGameObserver {
+public abstract class AbstractGameView extends BorderPane implements BoardGameBatchObserver {
+
+  /**
+   * Initial number of turns buffered for the view. Events are published from the JavaFX
+   * Application Thread, the turns of computer opponents included, since only their rollouts run in
+   * the background. The game cannot wait for the view to catch up on that thread, and the view is
+   * the only consumer of the game state, so it cannot skip any turn either. The buffer grows
+   * instead.
+   */
+  private static final int EVENT_BUFFER_CAPACITY = 256;
 
   protected final MainController mainController;
   protected final GameController gameController;
@@ -40,7 +51,7 @@ public abstract class AbstractGameView extends BorderPane implements BoardGameOb
    * Creates a new game view with basic layout and controls.
    *
    * <p>Initializes the view with a toolbar, game area, and victory screen. Registers as an observer
-   * for game events.
+   * that receives game events in batches on the JavaFX Application Thread.
    *
    * @param mainController The main application controller
    * @param gameController The game-specific controller
@@ -48,7 +59,8 @@ public abstract class AbstractGameView extends BorderPane implements BoardGameOb
   protected AbstractGameView(MainController mainController, GameController gameController) {
     this.mainController = mainController;
     this.gameController = gameController;
-    this.gameController.registerObserver(this);
+    this.gameController.registerObserver(
+        this, Platform::runLater, EVENT_BUFFER_CAPACITY, OverflowPolicy.GROW);
     this.soundManager = SoundManagerService.getInstance();
     this.victoryScreen = new VictoryScreen(gameController);
     this.gameArea = new StackPane();
@@ -124,22 +136,21 @@ public abstract class AbstractGameView extends BorderPane implements BoardGameOb
   }
 
   /**
-   * Handles game events from the observed game controller.
+   * Handles a batch of game events from the observed game controller.
    *
-   * <p>Processes events on the JavaFX Application Thread.
+   * <p>Called on the JavaFX Application Thread.
    *
-   * @param event The game event to handle
+   * @param events The game events to handle
    */
   @Override
-  public void onGameEvent(GameEvent event) {
-    Platform.runLater(
-        () -> {
-          if (event instanceof GameEndedEvent endedEvent) {
-            handleGameEnded(endedEvent);
-          } else {
-            handleGameEvent(event);
-          }
-        });
+  public void onGameEvents(List<GameEvent> events) {
+    for (GameEvent event : events) {
+      if (event instanceof GameEndedEvent endedEvent) {
+        handleGameEnded(endedEvent);
+      } else {
+        handleGameEvent(event);
+      }
+    }
   }
 
   /**
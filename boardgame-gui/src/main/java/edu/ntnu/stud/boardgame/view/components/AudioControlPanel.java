@@ -1,6 +1,6 @@
 package edu.ntnu.stud.boardgame.view.components;
 
-import edu.ntnu.stud.boardgame.service.SoundManagerService;
+import edu.ntnu.stud.boardgame.view.sound.SoundManagerService;
 import edu.ntnu.stud.boardgame.view.components.builder.ButtonBuilder;
 import edu.ntnu.stud.boardgame.view.components.builder.LabelBuilder;
 import edu.ntnu.stud.boardgame.view.components.builder.SliderBuilder;
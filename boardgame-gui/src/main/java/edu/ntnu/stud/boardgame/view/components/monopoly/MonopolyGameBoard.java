@@ -150,7 +150,7 @@ public class MonopolyGameBoard extends AbstractGameBoard {
       return tileColors.get(TileType.PROPERTY);
     }
 
-    return owner.getPiece().getColor();
+    return Color.web(owner.getPiece().getColorHex());
   }
 
   private void drawTileBackground(GraphicsContext gc, double x, double y, Color color) {
@@ -137,7 +137,7 @@ public class MonopolyPlayerScoreboard extends VBox {
 
     Circle playerIndicator = new Circle(8);
     playerIndicator.getStyleClass().add("player-indicator");
-    playerIndicator.setFill(player.getPiece().getColor());
+    playerIndicator.setFill(Color.web(player.getPiece().getColorHex()));
 
     Label nameLabel =
         new LabelBuilder().text(player.getName()).styleClass("text-body-bold").build();
@@ -1,4 +1,4 @@
-package edu.ntnu.stud.boardgame.service;
+package edu.ntnu.stud.boardgame.view.sound;
 
 import java.net.URL;
 import java.util.HashMap;
@@ -0,0 +1,17 @@
+module edu.ntnu.stud.boardgame {
+  requires transitive edu.ntnu.stud.boardgame.core;
+  requires javafx.controls;
+  requires javafx.media;
+  requires java.logging;
+
+  exports edu.ntnu.stud.boardgame;
+  exports edu.ntnu.stud.boardgame.controller;
+  exports edu.ntnu.stud.boardgame.view;
+  exports edu.ntnu.stud.boardgame.view.components;
+  exports edu.ntnu.stud.boardgame.view.components.builder;
+  exports edu.ntnu.stud.boardgame.view.components.laddergame;
+  exports edu.ntnu.stud.boardgame.view.components.piece;
+  exports edu.ntnu.stud.boardgame.view.sound;
+
+  opens edu.ntnu.stud.boardgame.view.sound;
+}
@@ -3,15 +3,19 @@ package edu.ntnu.stud.boardgame.controller;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import edu.ntnu.stud.boardgame.analysis.BoardAnalysis;
 import edu.ntnu.stud.boardgame.model.BoardGameFacade;
 import edu.ntnu.stud.boardgame.model.Player;
 import edu.ntnu.stud.boardgame.model.enums.BoardGameType;
 import edu.ntnu.stud.boardgame.model.enums.PieceType;
 import edu.ntnu.stud.boardgame.model.game.BoardGame;
 import edu.ntnu.stud.boardgame.observer.BoardGameObserver;
+import edu.ntnu.stud.boardgame.service.BoardSummary;
 import edu.ntnu.stud.boardgame.service.PlayerFileService;
+import java.nio.file.attribute.FileTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -70,6 +74,21 @@ class GameControllerTest {
     assertEquals(List.of("Default"), actualBoards);
   }
 
+  @Test
+  void getSavedBoardSummaries_facadeReturnsSummaries_returnsSummaries() {
+    List<BoardSummary> summaries =
+        List.of(
+            new BoardSummary("Saved", "Saved Board", "", 10, 9, 90, 100, FileTime.fromMillis(0)));
+    when(gameFacade.getSavedBoardSummaries()).thenReturn(summaries);
+    assertEquals(summaries, gameController.getSavedBoardSummaries());
+  }
+
+  @Test
+  void getSavedBoardSummaries_facadeThrowsException_returnsEmptyList() {
+    when(gameFacade.getSavedBoardSummaries()).thenThrow(new RuntimeException("Test Exception"));
+    assertTrue(gameController.getSavedBoardSummaries().isEmpty());
+  }
+
   @Test
   void saveSelectedBoardAs_validInput_createsAndSavesBoard()
       throws edu.ntnu.stud.boardgame.exception.BoardGameException {
@@ -117,6 +136,90 @@ class GameControllerTest {
     verify(mainController).showPlayerSetupView();
   }
 
+  @Test
+  void selectBoardAsync_loaded_showsPlayerSetup() {
+    CompletableFuture<Void> loading = new CompletableFuture<>();
+    when(gameFacade.createGameAsync(eq("TestBoard"), any(), any())).thenReturn(loading);
+
+    gameController.selectBoardAsync("TestBoard", tiles -> {}, Runnable::run);
+    verify(mainController, never()).showPlayerSetupView();
+    loading.complete(null);
+
+    verify(mainController).showPlayerSetupView();
+  }
+
+  @Test
+  void selectBoardAsync_failed_showsError() {
+    CompletableFuture<Void> loading = new CompletableFuture<>();
+    when(gameFacade.createGameAsync(eq("TestBoard"), any(), any())).thenReturn(loading);
+
+    gameController.selectBoardAsync("TestBoard", tiles -> {}, Runnable::run);
+    loading.completeExceptionally(new RuntimeException("Broken board"));
+
+    verify(mainController)
+        .showErrorDialog(eq("Board Selection Error"), eq("Failed to load board: Broken board"));
+    verify(mainController, never()).showPlayerSetupView();
+  }
+
+  @Test
+  void selectBoardAsync_cancelled_showsNothing() {
+    CompletableFuture<Void> loading = new CompletableFuture<>();
+    when(gameFacade.createGameAsync(eq("TestBoard"), any(), any())).thenReturn(loading);
+
+    gameController.selectBoardAsync("TestBoard", tiles -> {}, Runnable::run).cancel(true);
+
+    verify(mainController, never()).showErrorDialog(any(), any());
+    verify(mainController, never()).showPlayerSetupView();
+  }
+
+  @Test
+  void getBoardAnalysisAsync_analysed_completesWithAnalysis() {
+    BoardAnalysis analysis = mock(BoardAnalysis.class);
+    CompletableFuture<BoardAnalysis> analysing = new CompletableFuture<>();
+    when(gameFacade.getCurrentGameType()).thenReturn(BoardGameType.LADDER);
+    when(gameFacade.analyzeBoardAsync("TestBoard")).thenReturn(analysing);
+
+    CompletableFuture<BoardAnalysis> result =
+        gameController.getBoardAnalysisAsync("TestBoard", Runnable::run);
+    assertFalse(result.isDone());
+    analysing.complete(analysis);
+
+    assertSame(analysis, result.join());
+  }
+
+  @Test
+  void getBoardAnalysisAsync_failed_completesWithNullWithoutError() {
+    CompletableFuture<BoardAnalysis> analysing = new CompletableFuture<>();
+    when(gameFacade.getCurrentGameType()).thenReturn(BoardGameType.LADDER);
+    when(gameFacade.analyzeBoardAsync("TestBoard")).thenReturn(analysing);
+
+    CompletableFuture<BoardAnalysis> result =
+        gameController.getBoardAnalysisAsync("TestBoard", Runnable::run);
+    analysing.completeExceptionally(new RuntimeException("Broken board"));
+
+    assertNull(result.join());
+    verify(mainController, never()).showErrorDialog(any(), any());
+  }
+
+  @Test
+  void getBoardAnalysisAsync_notLadderGame_completesWithNull() {
+    when(gameFacade.getCurrentGameType()).thenReturn(BoardGameType.MONOPOLY);
+
+    assertNull(gameController.getBoardAnalysisAsync("TestBoard", Runnable::run).join());
+    verify(gameFacade, never()).analyzeBoardAsync(any());
+  }
+
+  @Test
+  void getBoardAnalysisAsync_cancelled_cancelsAnalysis() {
+    CompletableFuture<BoardAnalysis> analysing = new CompletableFuture<>();
+    when(gameFacade.getCurrentGameType()).thenReturn(BoardGameType.LADDER);
+    when(gameFacade.analyzeBoardAsync("TestBoard")).thenReturn(analysing);
+
+    gameController.getBoardAnalysisAsync("TestBoard", Runnable::run).cancel(true);
+
+    assertTrue(analysing.isCancelled());
+  }
+
   @Test
   void selectBoard_emptyName_showsError()
       throws edu.ntnu.stud.boardgame.exception.BoardGameException {
@@ -133,6 +236,22 @@ class GameControllerTest {
     verify(gameFacade).addPlayer("Player1", PieceType.RED);
   }
 
+  @Test
+  void addPlayer_computerPlayer_isRememberedByPiece()
+      throws edu.ntnu.stud.boardgame.exception.BoardGameException {
+    when(mockGame.getPlayers()).thenReturn(List.of());
+    assertTrue(gameController.addPlayer("Bot", PieceType.RED, true));
+    assertTrue(gameController.addPlayer("Alice", PieceType.BLUE));
+    verify(gameFacade).addPlayer("Bot", PieceType.RED);
+
+    assertTrue(gameController.isComputerPlayer(new Player("Bot", PieceType.RED)));
+    assertFalse(gameController.isComputerPlayer(new Player("Alice", PieceType.BLUE)));
+    assertFalse(gameController.isComputerPlayer(null));
+
+    assertTrue(gameController.addPlayer("Carol", PieceType.RED));
+    assertFalse(gameController.isComputerPlayer(new Player("Carol", PieceType.RED)));
+  }
+
   @Test
   void addPlayer_emptyName_showsError() {
     assertFalse(gameController.addPlayer("", PieceType.RED));
@@ -241,6 +360,24 @@ class GameControllerTest {
         .showErrorDialog(eq("Game Error"), eq("Failed to play turn: Facade Error"));
   }
 
+  @Test
+  void playTurns_facadePlaysTurns_returnsTrue() throws Exception {
+    when(gameFacade.playTurns(10)).thenReturn(10);
+    assertTrue(gameController.playTurns(10));
+    verify(gameFacade).playTurns(10);
+  }
+
+  @Test
+  void playUntilGameOver_facadeThrowsBoardGameException_returnsFalseAndShowsError()
+      throws Exception {
+    doThrow(new edu.ntnu.stud.boardgame.exception.BoardGameException("Game is already over"))
+        .when(gameFacade)
+        .playUntilGameOver();
+    assertFalse(gameController.playUntilGameOver());
+    verify(mainController)
+        .showErrorDialog(eq("Game Error"), eq("Failed to play turns: Game is already over"));
+  }
+
   @Test
   void registerObserver_validObserver_registersObserver() {
     BoardGameObserver observer = mock(BoardGameObserver.class);
@@ -5,7 +5,9 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -19,6 +21,10 @@ import edu.ntnu.stud.boardgame.model.action.PropertyAction;
 import edu.ntnu.stud.boardgame.model.action.TileAction;
 import edu.ntnu.stud.boardgame.model.game.BoardGame;
 import edu.ntnu.stud.boardgame.model.game.MonopolyGame;
+import edu.ntnu.stud.boardgame.simulation.MonteCarloBot;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -40,6 +46,8 @@ class MonopolyControllerTest {
 
   @Mock private TileAction mockNonPropertyAction;
 
+  @Mock private MonteCarloBot mockBot;
+
   private MonopolyController monopolyController;
 
   @BeforeEach
@@ -186,7 +194,7 @@ class MonopolyControllerTest {
     when(mockPlayer.getCurrentTile()).thenReturn(mockTile);
     when(mockMonopolyGame.isBankrupt(mockPlayer)).thenReturn(false);
     when(mockTile.getLandAction()).thenReturn(mockPropertyAction);
-    when(mockPropertyAction.getOwner()).thenReturn(mockPlayer); // Already owned
+    when(mockMonopolyGame.getPropertyOwner(mockTile)).thenReturn(mockPlayer); // Already owned
 
     // Act
     PropertyPurchaseResult result = monopolyController.attemptPropertyPurchase();
@@ -271,6 +279,150 @@ class MonopolyControllerTest {
     assertEquals("Current player is bankrupt and cannot roll", result.getMessage());
   }
 
+  // Bot Tests
+  @Test
+  void attemptDiceRoll_botPlayer_returnsFailureResult() {
+    // Arrange
+    monopolyController = new MonopolyController(gameController, mockBot);
+    setupValidGameState();
+    monopolyController.setBot(mockPlayer, true);
+
+    // Act
+    DiceRollResult result = monopolyController.attemptDiceRoll();
+
+    // Assert
+    assertFalse(result.isSuccess());
+    assertEquals("Computer opponents are playing", result.getMessage());
+    verify(gameController, never()).playTurn();
+  }
+
+  @Test
+  void attemptDiceRoll_humanPlayer_doesNotAskBot() {
+    // Arrange
+    monopolyController = new MonopolyController(gameController, mockBot);
+    setupSuccessfulPurchaseScenario();
+    when(gameController.playTurn()).thenReturn(true);
+
+    // Act
+    monopolyController.attemptDiceRoll();
+
+    // Assert
+    verify(mockBot, never()).prepareDecision(any(), any(), any());
+    verify(mockMonopolyGame, never()).buyProperty(any(), any());
+  }
+
+  @Test
+  void playBotTurnsAsync_botDecidesToBuy_buysProperty() {
+    // Arrange
+    monopolyController = new MonopolyController(gameController, mockBot, Runnable::run);
+    setupSuccessfulPurchaseScenario();
+    Player human = mock(Player.class);
+    monopolyController.setBot(mockPlayer, true);
+    when(mockMonopolyGame.getPlayers()).thenReturn(List.of(mockPlayer, human));
+    when(mockMonopolyGame.getCurrentPlayer()).thenReturn(mockPlayer, mockPlayer, human);
+    when(gameController.playTurn()).thenReturn(true);
+    when(mockBot.prepareDecision(mockMonopolyGame, mockPlayer, mockTile)).thenReturn(() -> true);
+
+    // Act
+    CompletableFuture<Integer> turns = monopolyController.playBotTurnsAsync(Runnable::run);
+
+    // Assert
+    assertEquals(1, turns.join());
+    verify(gameController).playTurn();
+    verify(mockMonopolyGame).buyProperty(mockPlayer, mockTile);
+    assertFalse(monopolyController.isPlayingBotTurns());
+  }
+
+  @Test
+  void playBotTurnsAsync_botDecidesToPass_doesNotBuy() {
+    // Arrange
+    monopolyController = new MonopolyController(gameController, mockBot, Runnable::run);
+    setupSuccessfulPurchaseScenario();
+    Player human = mock(Player.class);
+    monopolyController.setBot(mockPlayer, true);
+    when(mockMonopolyGame.getPlayers()).thenReturn(List.of(mockPlayer, human));
+    when(mockMonopolyGame.getCurrentPlayer()).thenReturn(mockPlayer, mockPlayer, human);
+    when(gameController.playTurn()).thenReturn(true);
+    when(mockBot.prepareDecision(mockMonopolyGame, mockPlayer, mockTile)).thenReturn(() -> false);
+
+    // Act
+    CompletableFuture<Integer> turns = monopolyController.playBotTurnsAsync(Runnable::run);
+
+    // Assert
+    assertEquals(1, turns.join());
+    verify(mockMonopolyGame, never()).buyProperty(any(), any());
+  }
+
+  @Test
+  void playBotTurnsAsync_gameOver_playsNoTurns() {
+    setupValidGameState();
+    monopolyController.setBot(mockPlayer, true);
+    when(mockMonopolyGame.isGameOver()).thenReturn(true);
+
+    assertEquals(0, monopolyController.playBotTurnsAsync(Runnable::run).join());
+    verify(gameController, never()).playTurn();
+  }
+
+  @Test
+  void playBotTurnsAsync_noActiveHuman_playsNoTurns() {
+    // Arrange
+    setupValidGameState();
+    Player human = mock(Player.class);
+    monopolyController.setBot(mockPlayer, true);
+    when(mockMonopolyGame.getPlayers()).thenReturn(List.of(mockPlayer, human));
+    when(mockMonopolyGame.isBankrupt(human)).thenReturn(true);
+
+    // Act
+    CompletableFuture<Integer> turns = monopolyController.playBotTurnsAsync(Runnable::run);
+
+    // Assert
+    assertEquals(0, turns.join());
+    verify(gameController, never()).playTurn();
+  }
+
+  @Test
+  void playBotTurnsAsync_appliesTurnOnUiThreadAndDecidesInBackground() {
+    // Arrange
+    List<Runnable> botTasks = new ArrayList<>();
+    List<Runnable> uiTasks = new ArrayList<>();
+    monopolyController = new MonopolyController(gameController, mockBot, botTasks::add);
+    setupSuccessfulPurchaseScenario();
+    monopolyController.setBot(mockPlayer, true);
+    when(mockMonopolyGame.getPlayers()).thenReturn(List.of(mockPlayer, mock(Player.class)));
+    when(gameController.playTurn()).thenReturn(true);
+    when(mockBot.prepareDecision(mockMonopolyGame, mockPlayer, mockTile)).thenReturn(() -> true);
+
+    // Act
+    CompletableFuture<Integer> turns = monopolyController.playBotTurnsAsync(uiTasks::add);
+
+    // Assert
+    verify(gameController).playTurn();
+    assertEquals(1, botTasks.size());
+    assertTrue(monopolyController.isPlayingBotTurns());
+    assertFalse(monopolyController.attemptDiceRoll().isSuccess());
+    assertFalse(monopolyController.getCurrentPlayerActionState().canRoll());
+
+    botTasks.get(0).run();
+    verify(mockMonopolyGame, never()).buyProperty(any(), any());
+    assertEquals(1, uiTasks.size());
+
+    turns.cancel(false);
+    uiTasks.get(0).run();
+    verify(mockMonopolyGame).buyProperty(mockPlayer, mockTile);
+    assertEquals(1, botTasks.size());
+    assertFalse(monopolyController.isPlayingBotTurns());
+  }
+
+  @Test
+  void setBot_togglesBotPlayer() {
+    monopolyController.setBot(mockPlayer, true);
+    assertTrue(monopolyController.isBot(mockPlayer));
+
+    monopolyController.setBot(mockPlayer, false);
+    assertFalse(monopolyController.isBot(mockPlayer));
+    assertFalse(monopolyController.isBot(null));
+  }
+
   // Game Restart Tests
   @Test
   void attemptGameRestart_successfulRestart_returnsSuccessResult() {
@@ -319,7 +471,7 @@ class MonopolyControllerTest {
     // Arrange
     setupValidGameState();
     when(mockTile.getLandAction()).thenReturn(mockPropertyAction);
-    when(mockPropertyAction.getOwner()).thenReturn(mockPlayer); // Already owned
+    when(mockMonopolyGame.getPropertyOwner(mockTile)).thenReturn(mockPlayer); // Already owned
 
     // Act
     PlayerActionState state = monopolyController.getCurrentPlayerActionState();
@@ -367,7 +519,7 @@ class MonopolyControllerTest {
   void canBuyProperty_canBuy_returnsTrue() {
     setupValidGameState();
     when(mockTile.getLandAction()).thenReturn(mockPropertyAction);
-    when(mockPropertyAction.getOwner()).thenReturn(null);
+    when(mockMonopolyGame.getPropertyOwner(mockTile)).thenReturn(null);
     when(mockPropertyAction.getPrice()).thenReturn(100);
     when(mockMonopolyGame.getPlayerMoney(mockPlayer)).thenReturn(200);
 
@@ -378,7 +530,7 @@ class MonopolyControllerTest {
   void canBuyProperty_alreadyOwned_returnsFalse() {
     setupValidGameState();
     when(mockTile.getLandAction()).thenReturn(mockPropertyAction);
-    when(mockPropertyAction.getOwner()).thenReturn(mock(Player.class));
+    when(mockMonopolyGame.getPropertyOwner(mockTile)).thenReturn(mock(Player.class));
 
     assertFalse(monopolyController.canBuyProperty(mockTile));
   }
@@ -387,7 +539,7 @@ class MonopolyControllerTest {
   void canBuyProperty_notEnoughMoney_returnsFalse() {
     setupValidGameState();
     when(mockTile.getLandAction()).thenReturn(mockPropertyAction);
-    when(mockPropertyAction.getOwner()).thenReturn(null);
+    when(mockMonopolyGame.getPropertyOwner(mockTile)).thenReturn(null);
     when(mockPropertyAction.getPrice()).thenReturn(200);
     when(mockMonopolyGame.getPlayerMoney(mockPlayer)).thenReturn(100);
 
@@ -434,8 +586,9 @@ class MonopolyControllerTest {
   @Test
   void getPropertyOwner_validProperty_returnsOwner() {
     Player owner = mock(Player.class);
+    setupValidGameState();
     when(mockTile.getLandAction()).thenReturn(mockPropertyAction);
-    when(mockPropertyAction.getOwner()).thenReturn(owner);
+    when(mockMonopolyGame.getPropertyOwner(mockTile)).thenReturn(owner);
     assertEquals(owner, monopolyController.getPropertyOwner(mockTile));
   }
 
@@ -509,7 +662,7 @@ class MonopolyControllerTest {
   private void setupSuccessfulPurchaseScenario() {
     setupValidGameState();
     when(mockTile.getLandAction()).thenReturn(mockPropertyAction);
-    when(mockPropertyAction.getOwner()).thenReturn(null);
+    when(mockMonopolyGame.getPropertyOwner(mockTile)).thenReturn(null);
     when(mockPropertyAction.getPrice()).thenReturn(100);
     when(mockMonopolyGame.getPlayerMoney(mockPlayer)).thenReturn(200);
   }